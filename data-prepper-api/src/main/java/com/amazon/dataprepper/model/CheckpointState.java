@@ -10,12 +10,27 @@ package com.amazon.dataprepper.model;
  */
 public class CheckpointState {
     private final int numRecordsToBeChecked;
+    private final long numBytesToBeChecked;
 
     public CheckpointState(final int numRecordsToBeChecked) {
+        this(numRecordsToBeChecked, 0L);
+    }
+
+    /**
+     * @param numRecordsToBeChecked number of records read
+     * @param numBytesToBeChecked   estimated size in bytes of the records read, for buffers which account for the
+     *                              size of their records
+     */
+    public CheckpointState(final int numRecordsToBeChecked, final long numBytesToBeChecked) {
         this.numRecordsToBeChecked = numRecordsToBeChecked;
+        this.numBytesToBeChecked = numBytesToBeChecked;
     }
 
     public int getNumRecordsToBeChecked() {
         return numRecordsToBeChecked;
     }
+
+    public long getNumBytesToBeChecked() {
+        return numBytesToBeChecked;
+    }
 }
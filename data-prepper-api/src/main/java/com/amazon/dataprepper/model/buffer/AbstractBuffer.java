@@ -15,6 +15,7 @@ import io.micrometer.core.instrument.Timer;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
@@ -23,16 +24,24 @@ import java.util.concurrent.atomic.AtomicLong;
  * Abstract implementation of the Buffer interface to record boilerplate metrics
  */
 public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
+    /**
+     * Each write moves the average write latency by 1/WRITE_LATENCY_SMOOTHING of the way to its own latency.
+     */
+    private static final int WRITE_LATENCY_SMOOTHING = 8;
+
     protected final PluginMetrics pluginMetrics;
     private final Counter recordsWrittenCounter;
     private final Counter recordsReadCounter;
     private final AtomicLong recordsInFlight;
     private final AtomicLong recordsInBuffer;
+    private final AtomicLong bytesInFlight;
+    private final AtomicLong bytesInBuffer;
     private final Counter recordsProcessedCounter;
     private final Counter writeTimeoutCounter;
     private final Timer writeTimer;
     private final Timer readTimer;
     private final Timer checkpointTimer;
+    private final AtomicLong writeLatencyInNanos = new AtomicLong();
 
     public AbstractBuffer(final PluginSetting pluginSetting) {
         this(PluginMetrics.fromPluginSetting(pluginSetting), pluginSetting.getPipelineName());
@@ -48,6 +57,8 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         this.recordsReadCounter = pluginMetrics.counter(MetricNames.RECORDS_READ);
         this.recordsInFlight = pluginMetrics.gauge(MetricNames.RECORDS_INFLIGHT, new AtomicLong());
         this.recordsInBuffer = pluginMetrics.gauge(MetricNames.RECORDS_IN_BUFFER, new AtomicLong());
+        this.bytesInFlight = pluginMetrics.gauge(MetricNames.BYTES_INFLIGHT, new AtomicLong());
+        this.bytesInBuffer = pluginMetrics.gauge(MetricNames.BYTES_IN_BUFFER, new AtomicLong());
         this.recordsProcessedCounter = pluginMetrics.counter(MetricNames.RECORDS_PROCESSED, pipelineName);
         this.writeTimeoutCounter = pluginMetrics.counter(MetricNames.WRITE_TIMEOUTS);
         this.writeTimer = pluginMetrics.timer(MetricNames.WRITE_TIME_ELAPSED);
@@ -67,15 +78,21 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
     public void write(T record, int timeoutInMillis) throws TimeoutException {
         long startTime = System.nanoTime();
 
+        // The record is counted before it can be read, and the count is taken back if the write fails.
+        recordsInBuffer.incrementAndGet();
+        boolean written = false;
         try {
             doWrite(record, timeoutInMillis);
+            written = true;
             recordsWrittenCounter.increment();
-            recordsInBuffer.incrementAndGet();
         } catch (TimeoutException e) {
             writeTimeoutCounter.increment();
             throw e;
         } finally {
-            writeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            if (!written) {
+                recordsInBuffer.decrementAndGet();
+            }
+            recordWriteLatency(System.nanoTime() - startTime);
         }
     }
 
@@ -91,21 +108,53 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
     public void writeAll(Collection<T> records, int timeoutInMillis) throws Exception {
         long startTime = System.nanoTime();
 
+        final int size = records.size();
+        recordsInBuffer.addAndGet(size);
         try {
-            final int size = records.size();
             doWriteAll(records, timeoutInMillis);
             recordsWrittenCounter.increment(size);
-            recordsInBuffer.addAndGet(size);
         } catch (Exception e) {
+            recordsInBuffer.addAndGet(-size);
             if (e instanceof TimeoutException) {
                 writeTimeoutCounter.increment();
             }
             throw e;
         } finally {
-            writeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            recordWriteLatency(System.nanoTime() - startTime);
         }
     }
 
+    /**
+     * Records metrics for ingress, time elapsed, and timeouts once the future of the doWriteAllAsync method completes.
+     * The records are counted in the buffer before they are written, since they may be read before the future
+     * completes.
+     *
+     * @param records          the collection of Record to add
+     * @param timeoutInMillis how long to wait before giving up
+     * @return a future which completes when the records have been written
+     */
+    @Override
+    public CompletableFuture<Void> writeAllAsync(final Collection<T> records, final int timeoutInMillis) {
+        final long startTime = System.nanoTime();
+        final int size = records.size();
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        recordsInBuffer.addAndGet(size);
+        doWriteAllAsync(records, timeoutInMillis).whenComplete((ignored, throwable) -> {
+            recordWriteLatency(System.nanoTime() - startTime);
+            if (throwable == null) {
+                recordsWrittenCounter.increment(size);
+                future.complete(null);
+            } else {
+                recordsInBuffer.addAndGet(-size);
+                if (throwable instanceof TimeoutException) {
+                    writeTimeoutCounter.increment();
+                }
+                future.completeExceptionally(throwable);
+            }
+        });
+        return future;
+    }
+
     /**
      * Records egress and time elapsed metrics, while calling the doRead function to
      * do the actual read
@@ -115,10 +164,29 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
      */
     @Override
     public Map.Entry<Collection<T>, CheckpointState> read(int timeoutInMillis) {
-        final Map.Entry<Collection<T>, CheckpointState> readResult = readTimer.record(() -> doRead(timeoutInMillis));
+        return recordRead(readTimer.record(() -> doRead(timeoutInMillis)));
+    }
+
+    /**
+     * Records egress and time elapsed metrics, while calling the doRead function to
+     * do the actual read of at most maxBatchSize records
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @param maxBatchSize the maximum number of records to return
+     * @return Records collection and checkpoint state read from the buffer
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> read(int timeoutInMillis, int maxBatchSize) {
+        return recordRead(readTimer.record(() -> doRead(timeoutInMillis, maxBatchSize)));
+    }
+
+    private Map.Entry<Collection<T>, CheckpointState> recordRead(
+            final Map.Entry<Collection<T>, CheckpointState> readResult) {
         recordsReadCounter.increment(readResult.getKey().size() * 1.0);
         recordsInFlight.addAndGet(readResult.getValue().getNumRecordsToBeChecked());
         recordsInBuffer.addAndGet(-1 * readResult.getValue().getNumRecordsToBeChecked());
+        bytesInFlight.addAndGet(readResult.getValue().getNumBytesToBeChecked());
+        bytesInBuffer.addAndGet(-1 * readResult.getValue().getNumBytesToBeChecked());
         return readResult;
     }
 
@@ -127,13 +195,51 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         checkpointTimer.record(() -> doCheckpoint(checkpointState));
         final int numRecordsToBeChecked = checkpointState.getNumRecordsToBeChecked();
         recordsInFlight.addAndGet(-numRecordsToBeChecked);
+        bytesInFlight.addAndGet(-checkpointState.getNumBytesToBeChecked());
         recordsProcessedCounter.increment(numRecordsToBeChecked);
     }
 
+    private void recordWriteLatency(final long latencyInNanos) {
+        writeTimer.record(latencyInNanos, TimeUnit.NANOSECONDS);
+        writeLatencyInNanos.accumulateAndGet(latencyInNanos,
+                (average, latency) -> average + (latency - average) / WRITE_LATENCY_SMOOTHING);
+    }
+
     protected int getRecordsInFlight() {
         return recordsInFlight.intValue();
     }
 
+    @Override
+    public long getRecordsInBuffer() {
+        return recordsInBuffer.get();
+    }
+
+    @Override
+    public long getWriteLatencyInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(writeLatencyInNanos.get());
+    }
+
+    /**
+     * Buffers which account for the size of their records call this method from {@link #doWrite(Record, int)} and
+     * {@link #doWriteAll(Collection, int)} with the estimated size of the written records, and return the size of the
+     * records read in {@link CheckpointState#getNumBytesToBeChecked()}.
+     *
+     * @param numBytes estimated size in bytes of the written records
+     */
+    protected void recordBytesWritten(final long numBytes) {
+        bytesInBuffer.addAndGet(numBytes);
+    }
+
+    /**
+     * Buffers which keep their records across restarts call this method when they are created with the number of
+     * records they recovered, so that {@link #getRecordsInBuffer()} counts them like written records.
+     *
+     * @param numRecords number of unread records recovered from a previous instance of the buffer
+     */
+    protected void recordRecordsRecovered(final long numRecords) {
+        recordsInBuffer.addAndGet(numRecords);
+    }
+
     /**
      * This method should implement the logic for writing to the buffer
      *
@@ -152,6 +258,27 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
      */
     public abstract void doWriteAll(Collection<T> records, int timeoutInMillis) throws Exception;
 
+    /**
+     * This method should implement the logic for writing to the buffer without blocking the calling thread while the
+     * buffer is full. The returned future is completed exceptionally with the exception itself, not wrapped in a
+     * {@link java.util.concurrent.CompletionException}. Buffers which do not override it write the records with
+     * {@link #doWriteAll(Collection, int)} in the calling thread.
+     *
+     * @param records          Collection of records to write to buffer
+     * @param timeoutInMillis Timeout for write operation in millis
+     * @return a future which completes when the records have been written
+     */
+    public CompletableFuture<Void> doWriteAllAsync(final Collection<T> records, final int timeoutInMillis) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            doWriteAll(records, timeoutInMillis);
+            future.complete(null);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     /**
      * This method should implement the logic for reading from the buffer
      *
@@ -160,6 +287,18 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
      */
     public abstract Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis);
 
+    /**
+     * This method should implement the logic for reading at most maxBatchSize records from the buffer. Buffers which
+     * cannot limit their batch size do not override it, and return the batch of {@link #doRead(int)}.
+     *
+     * @param timeoutInMillis Timeout in millis
+     * @param maxBatchSize the maximum number of records to return
+     * @return Records collection and checkpoint state read from the buffer
+     */
+    public Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis, int maxBatchSize) {
+        return doRead(timeoutInMillis);
+    }
+
     public abstract void doCheckpoint(CheckpointState checkpointState);
 
     public abstract boolean isEmpty();
@@ -10,6 +10,7 @@ import com.amazon.dataprepper.model.CheckpointState;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -37,6 +38,28 @@ public interface Buffer<T extends Record<?>> {
      */
     void writeAll(Collection<T> records, int timeoutInMillis) throws Exception;
 
+    /**
+     * Atomically writes collection of records into the buffer, as {@link #writeAll(Collection, int)} does, without
+     * blocking the calling thread while the buffer is full. Buffers which cannot wait for capacity asynchronously
+     * write the records in the calling thread and return a completed future.
+     *
+     * @param records the collection of records to add
+     * @param timeoutInMillis how long to wait before giving up
+     * @return a future which completes when the records have been written, or completes exceptionally with the
+     * exceptions of {@link #writeAll(Collection, int)}
+     * @since 1.3
+     */
+    default CompletableFuture<Void> writeAllAsync(Collection<T> records, int timeoutInMillis) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            writeAll(records, timeoutInMillis);
+            future.complete(null);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     /**
      * Retrieves and removes the batch of records from the head of the queue. The batch size is defined/determined by
      * the configuration attribute "batch_size" or the @param timeoutInMillis
@@ -45,6 +68,32 @@ public interface Buffer<T extends Record<?>> {
      */
     Map.Entry<Collection<T>, CheckpointState> read(int timeoutInMillis);
 
+    /**
+     * Retrieves and removes a batch of at most maxBatchSize records from the head of the queue. This allows the
+     * reader to pick a smaller batch than the configured "batch_size" at runtime. Buffers which do not support it
+     * return the batch of {@link #read(int)}.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @param maxBatchSize the maximum number of records to return
+     * @return The earliest batch of records in the buffer which are still not read and its corresponding checkpoint state.
+     * @since 1.3
+     */
+    default Map.Entry<Collection<T>, CheckpointState> read(int timeoutInMillis, int maxBatchSize) {
+        return read(timeoutInMillis);
+    }
+
+    /**
+     * Assigns the calling thread to a reader slot until it is assigned another one. Process workers call it with the
+     * index of their worker slot before they read, so that buffers which keep records for particular readers, such as
+     * partitioned buffers, serve a slot the same records whichever thread reads for it. Buffers which serve all
+     * readers alike ignore it.
+     *
+     * @param readerSlot the index of the reader slot, from 0
+     * @since 1.3
+     */
+    default void assignReaderSlot(int readerSlot) {
+    }
+
     /**
      * Check summary of records processed by data-prepper downstreams(preppers, sinks, pipelines).
      *
@@ -53,4 +102,38 @@ public interface Buffer<T extends Record<?>> {
     void checkpoint(CheckpointState checkpointState);
 
     boolean isEmpty();
+
+    /**
+     * @return the number of records written to the buffer and not yet read, or -1 if the buffer does not track it
+     * @since 1.3
+     */
+    default long getRecordsInBuffer() {
+        return -1;
+    }
+
+    /**
+     * @return the most records a single {@link #read(int)} returns, or -1 if the buffer does not have such a limit
+     * @since 1.3
+     */
+    default int getBatchSize() {
+        return -1;
+    }
+
+    /**
+     * @return the fraction of the capacity of the buffer taken by records which have not been checkpointed yet,
+     * between 0 and 1, or -1 if the buffer does not track it
+     * @since 1.3
+     */
+    default double getCapacityUsage() {
+        return -1;
+    }
+
+    /**
+     * @return a moving average of how long recent writes took, including the time they waited for capacity, in
+     * milliseconds, or -1 if the buffer does not track it
+     * @since 1.3
+     */
+    default long getWriteLatencyInMillis() {
+        return -1;
+    }
 }
@@ -21,4 +21,11 @@ public interface PipelineDescription {
      * @since 1.3
      */
     int getNumberOfProcessWorkers();
+
+    /**
+     * Returns the largest number of process workers the pipeline may run at once when it scales its workers with
+     * max_workers; this equals {@link #getNumberOfProcessWorkers()} for pipelines with a fixed number of workers
+     * @since 1.3
+     */
+    int getMaxNumberOfProcessWorkers();
 }
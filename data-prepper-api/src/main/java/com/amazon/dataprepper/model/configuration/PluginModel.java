@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.model.configuration;
 
+import com.amazon.dataprepper.model.json.ObjectMappers;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
@@ -78,7 +79,7 @@ public class PluginModel {
      */
     static class PluginModelDeserializer extends StdDeserializer<PluginModel> {
 
-        static final ObjectMapper mapper = new ObjectMapper();
+        static final ObjectMapper mapper = ObjectMappers.getJsonMapper();
 
         public PluginModelDeserializer() {
             this(null);
@@ -16,6 +16,7 @@ public class PluginSetting implements PipelineDescription {
     private final String name;
     private final Map<String, Object> settings;
     private int processWorkers;
+    private int maxProcessWorkers;
     private String pipelineName;
 
     public PluginSetting(final String name, final Map<String, Object> settings) {
@@ -50,6 +51,26 @@ public class PluginSetting implements PipelineDescription {
         this.processWorkers = processWorkers;
     }
 
+    /**
+     * Returns the largest number of process workers the pipeline may run at once. Pipelines with max_workers add
+     * workers above {@link #getNumberOfProcessWorkers()} under load and retire them again, so plugins which create an
+     * instance or size a structure per worker should use this count. Plugins which wait for all workers at once
+     * cannot wait on workers that come and go, and should reject a value above {@link #getNumberOfProcessWorkers()}.
+     * @return Largest number of process workers, which is the number of process workers unless max_workers is set
+     */
+    public int getMaxNumberOfProcessWorkers() {
+        return Math.max(maxProcessWorkers, processWorkers);
+    }
+
+    /**
+     * This method is solely for pipeline execution to set the largest number of process workers and it is
+     * recommended not to be used.
+     * @param maxProcessWorkers largest number of process workers
+     */
+    public void setMaxProcessWorkers(final int maxProcessWorkers) {
+        this.maxProcessWorkers = maxProcessWorkers;
+    }
+
     /**
      * Returns the name of the associated pipeline.
      * @return name of the associated pipeline
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.model.event;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,17 @@ public interface Event {
      */
     void put(String key, Object value);
 
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    default void put(EventKey key, Object value) {
+        put(key.getKey(), value);
+    }
+
     /**
      * Retrieves the given key from the Event
      *
@@ -40,6 +52,18 @@ public interface Event {
      */
     <T> T get(String key, Class<T> clazz);
 
+    /**
+     * Retrieves the given key from the Event
+     *
+     * @param key the value to retrieve from
+     * @param clazz the return type of the value
+     * @return T a clazz object from the key
+     * @since 1.3
+     */
+    default <T> T get(EventKey key, Class<T> clazz) {
+        return get(key.getKey(), clazz);
+    }
+
     /**
      * Retrieves the given key from the Event as a List
      *
@@ -50,6 +74,210 @@ public interface Event {
      */
     <T> List<T> getList(String key, Class<T> clazz);
 
+    /**
+     * Retrieves the given key from the Event as a List
+     *
+     * @param key the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return {@literal List<T>} a list of clazz elements
+     * @since 1.3
+     */
+    default <T> List<T> getList(EventKey key, Class<T> clazz) {
+        return getList(key.getKey(), clazz);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a String. Implementations may read a text value without converting it
+     * through {@link #get(String, Class)}.
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @since 1.3
+     */
+    default String getString(String key) {
+        return get(key, String.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a String. Implementations may read a text value without converting it
+     * through {@link #get(EventKey, Class)}.
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @since 1.3
+     */
+    default String getString(EventKey key) {
+        return getString(key.getKey());
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Long. Implementations may read an integral number without converting it
+     * through {@link #get(String, Class)}.
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @since 1.3
+     */
+    default Long getLong(String key) {
+        return get(key, Long.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Long. Implementations may read an integral number without converting it
+     * through {@link #get(EventKey, Class)}.
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @since 1.3
+     */
+    default Long getLong(EventKey key) {
+        return getLong(key.getKey());
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Double. Implementations may read a number without converting it
+     * through {@link #get(String, Class)}.
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @since 1.3
+     */
+    default Double getDouble(String key) {
+        return get(key, Double.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Double. Implementations may read a number without converting it
+     * through {@link #get(EventKey, Class)}.
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @since 1.3
+     */
+    default Double getDouble(EventKey key) {
+        return getDouble(key.getKey());
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Boolean. Implementations may read a boolean without converting it
+     * through {@link #get(String, Class)}.
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @since 1.3
+     */
+    default Boolean getBoolean(String key) {
+        return get(key, Boolean.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Boolean. Implementations may read a boolean without converting it
+     * through {@link #get(EventKey, Class)}.
+     *
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @since 1.3
+     */
+    default Boolean getBoolean(EventKey key) {
+        return getBoolean(key.getKey());
+    }
+
+    /**
+     * Adds or updates the key with a String value in the Event. Implementations may store the value without converting
+     * it through {@link #put(String, Object)}.
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    default void putString(String key, String value) {
+        put(key, value);
+    }
+
+    /**
+     * Adds or updates the key with a String value in the Event. Implementations may store the value without converting
+     * it through {@link #put(EventKey, Object)}.
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    default void putString(EventKey key, String value) {
+        putString(key.getKey(), value);
+    }
+
+    /**
+     * Adds or updates the key with a long value in the Event. Implementations may store the value without converting
+     * it through {@link #put(String, Object)}.
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    default void putLong(String key, long value) {
+        put(key, value);
+    }
+
+    /**
+     * Adds or updates the key with a long value in the Event. Implementations may store the value without converting
+     * it through {@link #put(EventKey, Object)}.
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    default void putLong(EventKey key, long value) {
+        putLong(key.getKey(), value);
+    }
+
+    /**
+     * Adds or updates the key with a double value in the Event. Implementations may store the value without converting
+     * it through {@link #put(String, Object)}.
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    default void putDouble(String key, double value) {
+        put(key, value);
+    }
+
+    /**
+     * Adds or updates the key with a double value in the Event. Implementations may store the value without converting
+     * it through {@link #put(EventKey, Object)}.
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    default void putDouble(EventKey key, double value) {
+        putDouble(key.getKey(), value);
+    }
+
+    /**
+     * Adds or updates the key with a boolean value in the Event. Implementations may store the value without converting
+     * it through {@link #put(String, Object)}.
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    default void putBoolean(String key, boolean value) {
+        put(key, value);
+    }
+
+    /**
+     * Adds or updates the key with a boolean value in the Event. Implementations may store the value without converting
+     * it through {@link #put(EventKey, Object)}.
+     *
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    default void putBoolean(EventKey key, boolean value) {
+        putBoolean(key.getKey(), value);
+    }
+
     /**
      * Deletes the given key from the Event
      * @param key the field to be deleted
@@ -57,6 +285,15 @@ public interface Event {
      */
     void delete(String key);
 
+    /**
+     * Deletes the given key from the Event
+     * @param key the field to be deleted
+     * @since 1.3
+     */
+    default void delete(EventKey key) {
+        delete(key.getKey());
+    }
+
     /**
      * Generates a serialized Json string of the entire Event
      * @return Json string of the event
@@ -64,6 +301,40 @@ public interface Event {
      */
     String toJsonString();
 
+    /**
+     * Generates the serialized UTF-8 Json of the entire Event, so that it can be written without an intermediate
+     * String. Implementations may return a cached array, so callers must not modify it.
+     * @return UTF-8 Json of the event
+     * @since 1.3
+     */
+    default byte[] toJsonBytes() {
+        return toJsonString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Estimates the size of the serialized Json of the entire Event, so that buffers and sinks can budget bytes without
+     * serializing it. Implementations may return an approximation which is cheaper to compute than the Json.
+     * @return the estimated size of the Json of the event in bytes
+     * @since 1.3
+     */
+    default long estimatedSizeInBytes() {
+        return toJsonBytes().length;
+    }
+
+    /**
+     * Creates a logical copy of the Event, so that several consumers can modify the same event independently. A
+     * modification of the snapshot is not visible in the Event and a modification of the Event is not visible in the
+     * snapshot. Implementations may share the data of both until either is modified.
+     * @return a snapshot of the event
+     * @since 1.3
+     */
+    default Event snapshot() {
+        return JacksonEvent.builder()
+                .withEventMetadata(getMetadata())
+                .withJsonData(toJsonBytes())
+                .build();
+    }
+
     /**
      * Retrieves the EventMetadata
      * @return EventMetadata for the event
@@ -79,6 +350,16 @@ public interface Event {
      */
     boolean containsKey(String key);
 
+    /**
+     * Checks if the key exists.
+     * @param key
+     * @return returns true if the key exists, otherwise false
+     * @since 1.3
+     */
+    default boolean containsKey(EventKey key) {
+        return containsKey(key.getKey());
+    }
+
     /**
      * Checks if the value stored for the key is list
      * @param key
@@ -87,6 +368,16 @@ public interface Event {
      */
     boolean isValueAList(String key);
 
+    /**
+     * Checks if the value stored for the key is list
+     * @param key
+     * @return returns true if the key is a list, otherwise false
+     * @since 1.3
+     */
+    default boolean isValueAList(EventKey key) {
+        return isValueAList(key.getKey());
+    }
+
     /**
      * @return a Map representation of the Event
      * @since 1.3
@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.amazon.dataprepper.model.json.ObjectMappers;
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.trace.JacksonSpan;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A versioned binary codec for {@link Event}s and their {@link EventMetadata}, for buffers and transports which would
+ * otherwise write events as JSON text.
+ * <p>
+ * Each event is written as a frame of a format version byte, the length of the body as an int and the body. The body
+ * is <a href="https://github.com/FasterXML/smile-format-specification">Smile</a>, the binary JSON format of Jackson,
+ * holding an array of the event type, the seconds and nanoseconds of the time received, the attributes and the data of
+ * the event. Each body is a Smile document of its own, so that any frame can be decoded without the frames before it.
+ * Smile refers back to a key repeated within an event instead of writing it again, but the back-references start over
+ * with each frame, so the keys shared by consecutive events are written once per event. Frames can be written one after
+ * another to the same stream and read back in order. A frame whose length is negative or above
+ * {@link #MAX_BODY_LENGTH} is rejected as corrupt before any memory is allocated for its body.
+ * <p>
+ * Events of type LOG are decoded as {@link JacksonLog}s, events of type TRACE as {@link JacksonSpan}s and all other
+ * events as {@link JacksonEvent}s.
+ *
+ * @since 1.3
+ */
+public class EventBinaryCodec {
+
+    static final byte FORMAT_VERSION = 1;
+
+    /**
+     * The largest body a frame may declare, 64 MiB.
+     */
+    static final int MAX_BODY_LENGTH = 64 * 1024 * 1024;
+
+    private static final ObjectMapper SMILE_MAPPER = ObjectMappers.newObjectMapper(new SmileFactory());
+
+    private static final ObjectMapper JSON_MAPPER = ObjectMappers.getJsonMapper();
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
+
+    /**
+     * Writes the frame of an event to the stream. The stream is neither flushed nor closed.
+     * @param event the event
+     * @param outputStream the stream to write to
+     * @throws IOException if the stream cannot be written
+     * @since 1.3
+     */
+    public void encode(final Event event, final OutputStream outputStream) throws IOException {
+        final byte[] body = encodeBody(event);
+        final DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeByte(FORMAT_VERSION);
+        output.writeInt(body.length);
+        output.write(body);
+    }
+
+    /**
+     * @param event the event
+     * @return the frame of the event
+     * @throws IOException if the event cannot be encoded
+     * @since 1.3
+     */
+    public byte[] encode(final Event event) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        encode(event, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Reads the next frame of the stream. Only the bytes of the frame are read, so that the next frame can be read from
+     * the same stream.
+     * @param inputStream the stream to read from
+     * @return the event
+     * @throws java.io.EOFException if the stream ends before the frame
+     * @throws IOException if the frame cannot be read, has an unsupported format version or an invalid length
+     * @since 1.3
+     */
+    public Event decode(final InputStream inputStream) throws IOException {
+        final DataInputStream input = new DataInputStream(inputStream);
+        final byte formatVersion = input.readByte();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported event format version " + formatVersion);
+        }
+        final int bodyLength = input.readInt();
+        if (bodyLength < 0 || bodyLength > MAX_BODY_LENGTH) {
+            throw new IOException("Invalid event body length " + bodyLength);
+        }
+        final byte[] body = new byte[bodyLength];
+        input.readFully(body);
+        return decodeBody(body);
+    }
+
+    /**
+     * @param bytes the frame of an event
+     * @return the event
+     * @throws IOException if the frame cannot be read, has an unsupported format version or an invalid length
+     * @since 1.3
+     */
+    public Event decode(final byte[] bytes) throws IOException {
+        return decode(new ByteArrayInputStream(bytes));
+    }
+
+    private byte[] encodeBody(final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (final JsonGenerator generator = SMILE_MAPPER.getFactory().createGenerator(body)) {
+            generator.writeStartArray();
+            generator.writeString(eventMetadata.getEventType());
+            generator.writeNumber(eventMetadata.getTimeReceived().getEpochSecond());
+            generator.writeNumber(eventMetadata.getTimeReceived().getNano());
+            generator.writeObject(eventMetadata.getAttributes());
+            generator.writeTree(getJsonNode(event));
+            generator.writeEndArray();
+        }
+        return body.toByteArray();
+    }
+
+    private JsonNode getJsonNode(final Event event) throws IOException {
+        if (event instanceof JacksonEvent) {
+            return ((JacksonEvent) event).getJsonNode();
+        }
+        return JSON_MAPPER.readTree(event.toJsonBytes());
+    }
+
+    private Event decodeBody(final byte[] body) throws IOException {
+        try (final JsonParser parser = SMILE_MAPPER.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Malformed event, expected an array");
+            }
+            final String eventType = parser.nextTextValue();
+            if (eventType == null) {
+                throw new IOException("Malformed event, expected the event type");
+            }
+            parser.nextToken();
+            final long epochSecond = parser.getLongValue();
+            parser.nextToken();
+            final int nanos = parser.getIntValue();
+            parser.nextToken();
+            final Map<String, Object> attributes = parser.readValueAs(MAP_TYPE_REFERENCE);
+            parser.nextToken();
+            final JsonNode data = parser.readValueAsTree();
+            if (parser.nextToken() != JsonToken.END_ARRAY) {
+                throw new IOException("Malformed event, expected the end of the array");
+            }
+
+            final JacksonEvent.Builder<?> builder;
+            if (EventType.LOG.toString().equals(eventType)) {
+                builder = JacksonLog.builder().withJsonNode(data);
+            } else if (EventType.TRACE.toString().equals(eventType)) {
+                // A span keeps its fields in its builder until it validates them, so it cannot take the tree as is
+                builder = JacksonSpan.builder().withSpanData(JSON_MAPPER.convertValue(data, MAP_TYPE_REFERENCE));
+            } else {
+                builder = JacksonEvent.builder().withEventType(eventType).withJsonNode(data);
+            }
+            return builder
+                    .withTimeReceived(Instant.ofEpochSecond(epochSecond, nanos))
+                    .withEventMetadataAttributes(attributes)
+                    .build();
+        }
+    }
+}
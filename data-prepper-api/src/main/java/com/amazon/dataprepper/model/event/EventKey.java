@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A key of an {@link Event} which is validated and compiled once, so that it can be used to access many events without
+ * parsing the key on every call. Processors should create their keys with {@link #of(String)} when they are
+ * constructed and pass them to the {@link Event} methods which accept an {@link EventKey}.
+ * <p>
+ * A key follows the same rules as the String keys of an {@link Event}: it must contain only alphanumeric chars with
+ * .-_ and must follow JsonPointer (ie. 'field/to/key').
+ *
+ * @since 1.3
+ */
+public final class EventKey {
+
+    private static final String SEPARATOR = "/";
+
+    static final int MAX_KEY_LENGTH = 2048;
+
+    static final int MAX_CACHED_KEYS = 10_000;
+
+    private static final Map<String, EventKey> CACHED_KEYS = new ConcurrentHashMap<>();
+
+    private final String key;
+
+    private final String[] keyParts;
+
+    private final JsonPointer jsonPointer;
+
+    private final JsonPointer parentJsonPointer;
+
+    private final String leafKey;
+
+    private EventKey(final String key) {
+        checkKey(key);
+        this.key = key;
+
+        final String trimmedKey = trimKey(key);
+        this.keyParts = trimmedKey.split(SEPARATOR);
+        this.jsonPointer = toJsonPointer(trimmedKey);
+
+        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        if (index != -1) {
+            this.parentJsonPointer = toJsonPointer(trimmedKey.substring(0, index));
+            this.leafKey = trimmedKey.substring(index + 1);
+        } else {
+            this.parentJsonPointer = null;
+            this.leafKey = trimmedKey;
+        }
+    }
+
+    /**
+     * Validates and compiles a key.
+     * @param key the key, for example "field/to/key"
+     * @return the compiled key
+     * @throws NullPointerException if the key is null
+     * @throws IllegalArgumentException if the key is not a valid key
+     * @since 1.3
+     */
+    public static EventKey of(final String key) {
+        return new EventKey(key);
+    }
+
+    /**
+     * Returns the compiled key for a String key which is passed to an {@link Event} method. The compiled keys are
+     * cached, and the cache is cleared once it holds {@link #MAX_CACHED_KEYS} keys so that events with many distinct
+     * keys cannot grow it without bound.
+     */
+    static EventKey fromCache(final String key) {
+        checkNotNull(key, "key cannot be null");
+        final EventKey eventKey = CACHED_KEYS.get(key);
+        if (eventKey != null) {
+            return eventKey;
+        }
+        if (CACHED_KEYS.size() >= MAX_CACHED_KEYS) {
+            CACHED_KEYS.clear();
+        }
+        return CACHED_KEYS.computeIfAbsent(key, EventKey::new);
+    }
+
+    static int getCachedKeysSize() {
+        return CACHED_KEYS.size();
+    }
+
+    /**
+     * @return the key as it was given to {@link #of(String)}
+     * @since 1.3
+     */
+    public String getKey() {
+        return key;
+    }
+
+    String[] getKeyParts() {
+        return keyParts;
+    }
+
+    JsonPointer getJsonPointer() {
+        return jsonPointer;
+    }
+
+    /**
+     * @return the pointer to the parent of the key, or null if the key is at the root of the event
+     */
+    JsonPointer getParentJsonPointer() {
+        return parentJsonPointer;
+    }
+
+    String getLeafKey() {
+        return leafKey;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return key.equals(((EventKey) other).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+
+    private static JsonPointer toJsonPointer(final String key) {
+        return JsonPointer.compile(SEPARATOR + key);
+    }
+
+    private static void checkKey(final String key) {
+        checkNotNull(key, "key cannot be null");
+        checkArgument(!key.isEmpty(), "key cannot be an empty string");
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
+        }
+    }
+
+    private static String trimKey(final String key) {
+
+        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
+        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
+    }
+
+    private static boolean isValidKey(final String key) {
+        char previous = ' ';
+        char next = ' ';
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (i < key.length() - 1) {
+                next = key.charAt(i + 1);
+            }
+
+            if ((i == 0 || i == key.length() - 1 || previous == '/' || next == '/') && (c == '_' || c == '.' || c == '-')) {
+                return false;
+            }
+
+            if (!(c >= 48 && c <= 57
+                    || c >= 65 && c <= 90
+                    || c >= 97 && c <= 122
+                    || c == '.'
+                    || c == '-'
+                    || c == '_'
+                    || c == '/')) {
+
+                return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
+}
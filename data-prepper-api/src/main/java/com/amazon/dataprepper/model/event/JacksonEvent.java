@@ -5,30 +5,34 @@
 
 package com.amazon.dataprepper.model.event;
 
-import com.fasterxml.jackson.core.JsonPointer;
+import com.amazon.dataprepper.model.json.ObjectMappers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-
-import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkNotNull;
+import java.util.Set;
+import java.util.function.LongSupplier;
 
 /**
  * A Jackson Implementation of {@link Event} interface. This implementation relies heavily on JsonNode to manage the keys of the event.
@@ -43,6 +47,23 @@ import static com.google.common.base.Preconditions.checkNotNull;
  *             "buzz": 42
  *         }
  *     }
+ * <p>
+ * Each method also accepts an {@link EventKey}, which is parsed only once. String keys are compiled to an
+ * {@link EventKey} through a bounded cache.
+ * <p>
+ * An event built with {@link Builder#withJsonData(byte[])} keeps the raw JSON and parses it only when the event is first
+ * read or modified. The serialized JSON is cached until the next modification, so an unmodified event is serialized at
+ * most once however many sinks write it, and an event which was never modified returns its raw JSON.
+ * <p>
+ * The {@link #estimatedSizeInBytes()} of an event is computed once and then updated by each modification. It counts the
+ * characters of the JSON without escaping, so it is exact for ASCII data, and for an event built from JSON data it is
+ * the length of that JSON until the first modification.
+ * <p>
+ * A {@link #snapshot()} shares the tree of the event instead of copying it. Once an event has been snapshot, it and its
+ * snapshots are copy-on-write: a modification copies only the objects and arrays on the path to the modified key, so
+ * the rest of the tree stays shared. Modifications and snapshots lock the event, so a snapshot taken while another
+ * thread modifies the event sees its tree either before or after the modification. Other access to an event is not
+ * thread safe.
  *
  * @since 1.2
  */
@@ -50,17 +71,59 @@ public class JacksonEvent implements Event {
 
     private static final Logger LOG = LoggerFactory.getLogger(JacksonEvent.class);
 
-    private static final String SEPARATOR = "/";
-
-    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectMapper mapper = ObjectMappers.getJsonMapper();
 
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
 
     private final EventMetadata eventMetadata;
 
-    private final JsonNode jsonNode;
+    private volatile JsonNode jsonNode;
+
+    /**
+     * The UTF-8 JSON of the event, or null if it was modified since it was last serialized. For an event built with
+     * {@link Builder#withJsonData(byte[])} this is the raw JSON until the first modification.
+     */
+    private volatile byte[] jsonData;
+
+    /**
+     * The String form of {@link #jsonData}, created on the first {@link #toJsonString()}.
+     */
+    private volatile String jsonString;
+
+    /**
+     * The estimated size of the JSON of the event, or {@link #UNKNOWN_SIZE} until it is first requested.
+     */
+    private volatile long estimatedSizeInBytes = UNKNOWN_SIZE;
+
+    private static final long UNKNOWN_SIZE = -1;
 
-    static final int MAX_KEY_LENGTH = 2048;
+    /**
+     * The objects and arrays which this event copied since it was snapshot and may therefore modify in place, or null
+     * if the event was never snapshot and owns its whole tree. Guarded by the monitor of this event.
+     */
+    private Set<JsonNode> ownedNodes;
+
+    /**
+     * Braces or brackets, less the separator counted for the last field or element.
+     */
+    private static final int CONTAINER_SIZE = 1;
+
+    /**
+     * Quotes of a field name, its colon and its separator.
+     */
+    private static final int FIELD_OVERHEAD = 4;
+
+    /**
+     * Separator of an array element.
+     */
+    private static final int ELEMENT_OVERHEAD = 1;
+
+    /**
+     * Quotes of a string value.
+     */
+    private static final int STRING_OVERHEAD = 2;
+
+    static final int MAX_KEY_LENGTH = EventKey.MAX_KEY_LENGTH;
 
     static final String MESSAGE_KEY = "message";
 
@@ -78,7 +141,37 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        if (builder.jsonData != null) {
+            this.jsonData = builder.jsonData;
+            this.estimatedSizeInBytes = builder.jsonData.length;
+        } else if (builder.jsonNode != null) {
+            this.jsonNode = builder.jsonNode;
+        } else {
+            this.jsonNode = getInitialJsonNode(builder.data);
+        }
+    }
+
+    /**
+     * Creates a snapshot which shares the tree of the source event.
+     * @param source the event to snapshot
+     * @since 1.3
+     */
+    protected JacksonEvent(final JacksonEvent source) {
+        this.eventMetadata = source.eventMetadata;
+        synchronized (source) {
+            this.jsonNode = source.jsonNode;
+            this.jsonData = source.jsonData;
+            this.jsonString = source.jsonString;
+            this.estimatedSizeInBytes = source.estimatedSizeInBytes;
+            if (this.jsonNode != null) {
+                source.ownedNodes = createOwnedNodes();
+                this.ownedNodes = createOwnedNodes();
+            }
+        }
+    }
+
+    private static Set<JsonNode> createOwnedNodes() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
     static Event fromMessage(String message) {
@@ -102,6 +195,80 @@ public class JacksonEvent implements Event {
         return mapper.valueToTree(data);
     }
 
+    JsonNode getJsonNode() {
+        JsonNode node = jsonNode;
+        if (node == null) {
+            synchronized (this) {
+                node = jsonNode;
+                if (node == null) {
+                    node = parseJsonData(jsonData);
+                    jsonNode = node;
+                }
+            }
+        }
+        return node;
+    }
+
+    private static JsonNode parseJsonData(final byte[] jsonData) {
+        try {
+            final JsonNode node = mapper.readTree(jsonData);
+            if (node == null || node.isMissingNode()) {
+                throw new IllegalArgumentException("Unable to convert data into an event");
+            }
+            return node;
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Unable to convert data into an event", e);
+        }
+    }
+
+    /**
+     * Returns a node which this event may modify: the node itself if the event owns it, otherwise a shallow copy
+     * which shares the children of the node.
+     */
+    private JsonNode own(final JsonNode node) {
+        if (ownedNodes == null || !node.isContainerNode() || ownedNodes.contains(node)) {
+            return node;
+        }
+        final JsonNode copy = node.isObject() ?
+                mapper.createObjectNode().setAll((ObjectNode) node) : mapper.createArrayNode().addAll((ArrayNode) node);
+        ownedNodes.add(copy);
+        return copy;
+    }
+
+    /**
+     * Returns the child of a node which this event may modify, replacing a shared child with its copy.
+     */
+    private JsonNode getChildForUpdate(final JsonNode node, final String key) {
+        final boolean isArrayIndex = node.isArray() && StringUtils.isNumeric(key);
+        final JsonNode childNode = isArrayIndex ? node.get(Integer.parseInt(key)) : node.get(key);
+        if (childNode == null) {
+            return null;
+        }
+        final JsonNode ownedChildNode = own(childNode);
+        if (ownedChildNode != childNode) {
+            if (isArrayIndex) {
+                ((ArrayNode) node).set(Integer.parseInt(key), ownedChildNode);
+            } else {
+                ((ObjectNode) node).set(key, ownedChildNode);
+            }
+        }
+        return ownedChildNode;
+    }
+
+    /**
+     * Returns the tree of the event for a modification, after which the serialized JSON no longer represents the event.
+     */
+    private JsonNode getJsonNodeForUpdate() {
+        JsonNode node = getJsonNode();
+        if (ownedNodes != null) {
+            node = own(node);
+            jsonNode = node;
+        }
+        jsonData = null;
+        jsonString = null;
+        return node;
+    }
+
     /**
      * Adds or updates the key with a given value in the Event.
      * @param key where the value will be set
@@ -110,43 +277,109 @@ public class JacksonEvent implements Event {
      */
     @Override
     public void put(final String key, final Object value) {
+        put(EventKey.fromCache(key), value);
+    }
+
+    /**
+     * Adds or updates the key with a given value in the Event.
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    @Override
+    public void put(final EventKey key, final Object value) {
+        if (value instanceof String) {
+            putString(key, (String) value);
+        } else {
+            putNode(key, mapper.valueToTree(value));
+        }
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
+    private synchronized void putNode(final EventKey key, final JsonNode valueNode) {
 
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR)));
+        final String[] keyParts = key.getKeyParts();
 
-        JsonNode parentNode = jsonNode;
+        JsonNode parentNode = getJsonNodeForUpdate();
 
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+        for (int i = 0; i < keyParts.length - 1; i++) {
+            if (!keyParts[i].isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, keyParts[i]);
             }
         }
+        setNode(parentNode, keyParts[keyParts.length - 1], valueNode);
     }
 
-    private void setNode(final JsonNode parentNode, final String leafKey, final Object value) {
-        final JsonNode valueNode = mapper.valueToTree(value);
+    private void setNode(final JsonNode parentNode, final String leafKey, final JsonNode valueNode) {
+        final JsonNode previousNode;
         if (StringUtils.isNumeric(leafKey)) {
-            ((ArrayNode) parentNode).set(Integer.parseInt(leafKey), valueNode);
+            previousNode = ((ArrayNode) parentNode).set(Integer.parseInt(leafKey), valueNode);
         } else {
-            ((ObjectNode) parentNode).set(leafKey, valueNode);
+            previousNode = ((ObjectNode) parentNode).replace(leafKey, valueNode);
         }
+        addToEstimatedSize(() -> estimateSizeInBytes(valueNode) -
+                (previousNode != null ? estimateSizeInBytes(previousNode) : -(leafKey.length() + FIELD_OVERHEAD)));
     }
 
     private JsonNode getOrCreateNode(final JsonNode node, final String key) {
-        JsonNode childNode = node.get(key);
+        JsonNode childNode = ownedNodes == null ? node.get(key) : getChildForUpdate(node, key);
         if (childNode == null) {
             childNode = mapper.createObjectNode();
             ((ObjectNode) node).set(key, childNode);
+            addToEstimatedSize(() -> key.length() + FIELD_OVERHEAD + CONTAINER_SIZE);
         }
         return childNode;
     }
 
+    @Override
+    public void putString(final String key, final String value) {
+        putString(EventKey.fromCache(key), value);
+    }
+
+    /**
+     * Adds or updates the key with a String value, which is stored as a text node without a databind conversion.
+     * @param key where the value will be set
+     * @param value value to set the key to
+     * @since 1.3
+     */
+    @Override
+    public void putString(final EventKey key, final String value) {
+        if (value == null) {
+            putNode(key, NullNode.getInstance());
+        } else {
+            putNode(key, TextNode.valueOf(value));
+        }
+    }
+
+    @Override
+    public void putLong(final String key, final long value) {
+        putLong(EventKey.fromCache(key), value);
+    }
+
+    @Override
+    public void putLong(final EventKey key, final long value) {
+        putNode(key, LongNode.valueOf(value));
+    }
+
+    @Override
+    public void putDouble(final String key, final double value) {
+        putDouble(EventKey.fromCache(key), value);
+    }
+
+    @Override
+    public void putDouble(final EventKey key, final double value) {
+        putNode(key, DoubleNode.valueOf(value));
+    }
+
+    @Override
+    public void putBoolean(final String key, final boolean value) {
+        putBoolean(EventKey.fromCache(key), value);
+    }
+
+    @Override
+    public void putBoolean(final EventKey key, final boolean value) {
+        putNode(key, BooleanNode.valueOf(value));
+    }
+
     /**
      * Retrieves the value of type clazz from the key.
      * @param key the value to retrieve from
@@ -157,20 +390,118 @@ public class JacksonEvent implements Event {
      */
     @Override
     public <T> T get(final String key, final Class<T> clazz) {
+        return get(EventKey.fromCache(key), clazz);
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
+    /**
+     * Retrieves the value of type clazz from the key.
+     * @param key the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 1.3
+     */
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
 
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(key);
         if (node.isMissingNode()) {
             return null;
         }
 
-        return mapNodeToObject(key, node, clazz);
+        return mapNodeToObject(key.getKey(), node, clazz);
     }
 
-    private JsonNode getNode(final String key) {
-        final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+    private JsonNode getNode(final EventKey key) {
+        return getJsonNode().at(key.getJsonPointer());
+    }
+
+    @Override
+    public String getString(final String key) {
+        return getString(EventKey.fromCache(key));
+    }
+
+    /**
+     * Retrieves the value of the key as a String. A text value is returned without a databind conversion, any other
+     * value is converted as {@link #get(EventKey, Class)} would convert it.
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @throws RuntimeException if it is unable to map the value to a String
+     * @since 1.3
+     */
+    @Override
+    public String getString(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        return node.isMissingNode() ? null : mapNodeToObject(key.getKey(), node, String.class);
+    }
+
+    @Override
+    public Long getLong(final String key) {
+        return getLong(EventKey.fromCache(key));
+    }
+
+    /**
+     * Retrieves the value of the key as a Long. An integral number which fits a long is returned without a databind
+     * conversion, any other value is converted as {@link #get(EventKey, Class)} would convert it.
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @throws RuntimeException if it is unable to map the value to a Long
+     * @since 1.3
+     */
+    @Override
+    public Long getLong(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+            return node.longValue();
+        }
+        return node.isMissingNode() ? null : mapNodeToObject(key.getKey(), node, Long.class);
+    }
+
+    @Override
+    public Double getDouble(final String key) {
+        return getDouble(EventKey.fromCache(key));
+    }
+
+    /**
+     * Retrieves the value of the key as a Double. A number is returned without a databind conversion, any other value
+     * is converted as {@link #get(EventKey, Class)} would convert it.
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @throws RuntimeException if it is unable to map the value to a Double
+     * @since 1.3
+     */
+    @Override
+    public Double getDouble(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isNumber()) {
+            return node.doubleValue();
+        }
+        return node.isMissingNode() ? null : mapNodeToObject(key.getKey(), node, Double.class);
+    }
+
+    @Override
+    public Boolean getBoolean(final String key) {
+        return getBoolean(EventKey.fromCache(key));
+    }
+
+    /**
+     * Retrieves the value of the key as a Boolean. A boolean is returned without a databind conversion, any other
+     * value is converted as {@link #get(EventKey, Class)} would convert it.
+     * @param key the value to retrieve from
+     * @return the value, or null if the key does not exist
+     * @throws RuntimeException if it is unable to map the value to a Boolean
+     * @since 1.3
+     */
+    @Override
+    public Boolean getBoolean(final EventKey key) {
+        final JsonNode node = getNode(key);
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        return node.isMissingNode() ? null : mapNodeToObject(key.getKey(), node, Boolean.class);
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
@@ -192,32 +523,37 @@ public class JacksonEvent implements Event {
      */
     @Override
     public <T> List<T> getList(final String key, final Class<T> clazz) {
+        return getList(EventKey.fromCache(key), clazz);
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
+    /**
+     * Retrieves the given key from the Event as a List
+     * @param key the value to retrieve from
+     * @param clazz the return type of elements in the list
+     * @return a List of clazz
+     * @throws RuntimeException if it is unable to map the elements in the list to the provided clazz
+     * @since 1.3
+     */
+    @Override
+    public <T> List<T> getList(final EventKey key, final Class<T> clazz) {
 
-        final JsonNode node = getNode(trimmedKey);
+        final JsonNode node = getNode(key);
         if (node.isMissingNode()) {
             return null;
         }
 
-        return mapNodeToList(key, node, clazz);
+        return mapNodeToList(key.getKey(), node, clazz);
     }
 
     private <T> List<T> mapNodeToList(final String key, final JsonNode node, final Class<T> clazz) {
         try {
-            final ObjectReader reader = mapper.readerFor(TypeFactory.defaultInstance().constructCollectionType(List.class, clazz));
-            return reader.readValue(node);
+            return ObjectMappers.getJsonListReader(clazz).readValue(node);
         } catch (final IOException e) {
             LOG.error("Unable to map {} to List of {}", key, clazz, e);
             throw new RuntimeException(String.format("Unable to map %s to %s", key, clazz), e);
         }
     }
 
-    private JsonPointer toJsonPointer(final String key) {
-        String jsonPointerExpression = SEPARATOR + key;
-        return JsonPointer.compile(jsonPointerExpression);
-    }
-
     /**
      * Deletes the key from the event.
      *
@@ -225,107 +561,165 @@ public class JacksonEvent implements Event {
      */
     @Override
     public void delete(final String key) {
+        delete(EventKey.fromCache(key));
+    }
 
-        final String trimmedKey = checkAndTrimKey(key);
-        final int index = trimmedKey.lastIndexOf(SEPARATOR);
-
-        JsonNode baseNode = jsonNode;
-        String leafKey = trimmedKey;
-
-        if (index != -1) {
-            final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
-            leafKey = trimmedKey.substring(index + 1);
+    /**
+     * Deletes the key from the event.
+     *
+     * @param key the field to be deleted
+     * @since 1.3
+     */
+    @Override
+    public synchronized void delete(final EventKey key) {
+
+        final JsonNode rootNode = getJsonNodeForUpdate();
+        final JsonNode baseNode;
+        if (key.getParentJsonPointer() == null) {
+            baseNode = rootNode;
+        } else if (ownedNodes == null) {
+            baseNode = rootNode.at(key.getParentJsonPointer());
+        } else {
+            baseNode = getParentNodeForUpdate(rootNode, key);
         }
 
         if (!baseNode.isMissingNode()) {
-            ((ObjectNode) baseNode).remove(leafKey);
+            final JsonNode removedNode = ((ObjectNode) baseNode).remove(key.getLeafKey());
+            if (removedNode != null) {
+                addToEstimatedSize(() -> -(key.getLeafKey().length() + FIELD_OVERHEAD + estimateSizeInBytes(removedNode)));
+            }
         }
     }
 
-    @Override
-    public String toJsonString() {
-        return jsonNode.toString();
+    private JsonNode getParentNodeForUpdate(final JsonNode rootNode, final EventKey key) {
+        final String[] keyParts = key.getKeyParts();
+        JsonNode node = rootNode;
+        for (int i = 0; i < keyParts.length - 1; i++) {
+            if (!keyParts[i].isEmpty()) {
+                node = getChildForUpdate(node, keyParts[i]);
+                if (node == null) {
+                    return MissingNode.getInstance();
+                }
+            }
+        }
+        return node;
     }
 
+    /**
+     * Returns a snapshot which shares the tree of this event until either of them is modified.
+     * @return a snapshot of the event
+     * @since 1.3
+     */
     @Override
-    public EventMetadata getMetadata() {
-        return eventMetadata;
+    public JacksonEvent snapshot() {
+        return new JacksonEvent(this);
     }
 
     @Override
-    public boolean containsKey(final String key) {
-
-        final String trimmedKey = checkAndTrimKey(key);
-
-        final JsonNode node = getNode(trimmedKey);
+    public String toJsonString() {
+        String json = jsonString;
+        if (json == null) {
+            final byte[] data = jsonData;
+            json = data != null ? new String(data, StandardCharsets.UTF_8) : getJsonNode().toString();
+            jsonString = json;
+        }
+        return json;
+    }
 
-        return !node.isMissingNode();
+    /**
+     * Returns the UTF-8 JSON of the event. The bytes are cached until the event is modified, and the returned array
+     * is shared, so it must not be modified.
+     * @return UTF-8 JSON of the event
+     * @since 1.3
+     */
+    @Override
+    public byte[] toJsonBytes() {
+        byte[] data = jsonData;
+        if (data == null) {
+            data = toJsonString().getBytes(StandardCharsets.UTF_8);
+            jsonData = data;
+        }
+        return data;
     }
 
+    /**
+     * Returns the estimated size of the JSON of the event, which is computed on the first call and then kept up to date
+     * by each modification.
+     * @return the estimated size of the JSON of the event in bytes
+     * @since 1.3
+     */
     @Override
-    public boolean isValueAList(final String key) {
-        final String trimmedKey = checkAndTrimKey(key);
+    public long estimatedSizeInBytes() {
+        long size = estimatedSizeInBytes;
+        if (size == UNKNOWN_SIZE) {
+            size = estimateSizeInBytes(getJsonNode());
+            estimatedSizeInBytes = size;
+        }
+        return size;
+    }
 
-        final JsonNode node = getNode(trimmedKey);
+    private void addToEstimatedSize(final LongSupplier delta) {
+        final long size = estimatedSizeInBytes;
+        if (size != UNKNOWN_SIZE) {
+            estimatedSizeInBytes = size + delta.getAsLong();
+        }
+    }
 
-        return node.isArray();
+    private static long estimateSizeInBytes(final JsonNode node) {
+        if (node.isObject()) {
+            long size = CONTAINER_SIZE;
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + FIELD_OVERHEAD + estimateSizeInBytes(field.getValue());
+            }
+            return size;
+        } else if (node.isArray()) {
+            long size = CONTAINER_SIZE;
+            for (final JsonNode element : node) {
+                size += ELEMENT_OVERHEAD + estimateSizeInBytes(element);
+            }
+            return size;
+        } else if (node.isTextual()) {
+            return node.textValue().length() + STRING_OVERHEAD;
+        }
+        return node.asText().length();
     }
 
     @Override
-    public Map<String, Object> toMap() {
-        return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
+    public EventMetadata getMetadata() {
+        return eventMetadata;
     }
 
-    private String checkAndTrimKey(final String key) {
-        checkKey(key);
-        return trimKey(key);
+    @Override
+    public boolean containsKey(final String key) {
+        return containsKey(EventKey.fromCache(key));
     }
 
-    private void checkKey(final String key) {
-        checkNotNull(key, "key cannot be null");
-        checkArgument(!key.isEmpty(), "key cannot be an empty string");
-        if (key.length() > MAX_KEY_LENGTH) {
-            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
-        }
-        if (!isValidKey(key)) {
-            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
-        }
-    }
+    @Override
+    public boolean containsKey(final EventKey key) {
 
-    private String trimKey(final String key) {
+        final JsonNode node = getNode(key);
 
-        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
-        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
+        return !node.isMissingNode();
     }
 
-    private boolean isValidKey(final String key) {
-        char previous = ' ';
-        char next = ' ';
-        for (int i = 0; i < key.length(); i++) {
-            char c = key.charAt(i);
+    @Override
+    public boolean isValueAList(final String key) {
+        return isValueAList(EventKey.fromCache(key));
+    }
 
-            if (i < key.length() - 1) {
-                next = key.charAt(i + 1);
-            }
+    @Override
+    public boolean isValueAList(final EventKey key) {
 
-            if ((i == 0 || i == key.length() - 1 || previous == '/' || next == '/') && (c == '_' || c == '.' || c == '-')) {
-                return false;
-            }
+        final JsonNode node = getNode(key);
 
-            if (!(c >= 48 && c <= 57
-                    || c >= 65 && c <= 90
-                    || c >= 97 && c <= 122
-                    || c == '.'
-                    || c == '-'
-                    || c == '_'
-                    || c == '/')) {
+        return node.isArray();
+    }
 
-                return false;
-            }
-            previous = c;
-        }
-        return true;
+    @Override
+    public Map<String, Object> toMap() {
+        return mapper.convertValue(getJsonNode(), MAP_TYPE_REFERENCE);
     }
 
     /**
@@ -349,6 +743,8 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         private Object data;
+        private byte[] jsonData;
+        private JsonNode jsonNode;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -402,6 +798,36 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.jsonData = null;
+            this.jsonNode = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event from its UTF-8 JSON, which must be a JSON object. The JSON is not parsed until
+         * the event is first read or modified, so an event which is only forwarded is never parsed. Invalid JSON fails
+         * on that first access rather than in {@link #build()}.
+         * @param jsonData the UTF-8 JSON of the data
+         * @since 1.3
+         */
+        public Builder<T> withJsonData(final byte[] jsonData) {
+            this.jsonData = jsonData;
+            this.data = null;
+            this.jsonNode = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event to a tree, which must be a JSON object. The event takes ownership of the tree
+         * without copying it, so the caller must not modify it afterwards. This lets a source which parses its input
+         * with Jackson build events without serializing and parsing each of them again.
+         * @param jsonNode the tree of the data
+         * @since 1.3
+         */
+        public Builder<T> withJsonNode(final JsonNode jsonNode) {
+            this.jsonNode = jsonNode;
+            this.data = null;
+            this.jsonData = null;
             return this;
         }
 
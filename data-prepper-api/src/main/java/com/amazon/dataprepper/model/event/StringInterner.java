@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe dictionary of strings which lets the data held on the heap share one instance of each field
+ * name and of the values of selected fields, instead of holding a copy of the same string per event.
+ * <p>
+ * Callers intern field names and, through {@link #internValue(String, Object)}, the values of the configured value
+ * keys, which should be fields with few distinct values such as service names or span kinds. The dictionary is split
+ * into segments by the hash of the strings, each with its own lock, and a segment which is full evicts its least
+ * recently used string. A field with unexpectedly many distinct values therefore cannot grow the dictionary beyond its
+ * maximum size, and it cannot keep the frequent strings out of it either.
+ *
+ * @since 1.3
+ */
+public class StringInterner {
+
+    private static final int MAXIMUM_SEGMENT_COUNT = 16;
+
+    private final Set<String> valueKeys;
+
+    private final Segment[] segments;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of strings to hold
+     * @param valueKeys the field names whose string values are interned
+     * @throws IllegalArgumentException if the maximum size is not positive
+     * @since 1.3
+     */
+    public StringInterner(final int maximumSize, final Collection<String> valueKeys) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive, but was " + maximumSize);
+        }
+        this.valueKeys = Collections.unmodifiableSet(new HashSet<>(valueKeys));
+        final int segmentCount = Math.min(MAXIMUM_SEGMENT_COUNT, maximumSize);
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * @param string the string to intern
+     * @return the instance held for an equal string, otherwise the string itself, which is then held
+     * @since 1.3
+     */
+    public String intern(final String string) {
+        if (string == null) {
+            return null;
+        }
+        final int hash = string.hashCode();
+        final Segment segment = segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+        synchronized (segment) {
+            final String interned = segment.get(string);
+            if (interned != null) {
+                hits.increment();
+                return interned;
+            }
+            segment.put(string, string);
+        }
+        misses.increment();
+        return string;
+    }
+
+    /**
+     * Interns the value of a field if the field is one of the value keys and the value is a string.
+     * @param key the field name
+     * @param value the value of the field
+     * @return the interned value, or the value itself if it is not interned
+     * @since 1.3
+     */
+    public Object internValue(final String key, final Object value) {
+        if (value instanceof String && isValueKey(key)) {
+            return intern((String) value);
+        }
+        return value;
+    }
+
+    /**
+     * @param key the field name
+     * @return true if the string values of the field are interned
+     * @since 1.3
+     */
+    public boolean isValueKey(final String key) {
+        return valueKeys.contains(key);
+    }
+
+    /**
+     * @return the number of strings held
+     * @since 1.3
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return the number of strings which were already held
+     * @since 1.3
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of strings which were not held yet
+     * @since 1.3
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the fraction of strings which were already held, or 0 if no string was interned
+     * @since 1.3
+     */
+    public double getHitRate() {
+        final long hitCount = getHits();
+        final long total = hitCount + getMisses();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * A segment of the dictionary, whose iteration order is the order of access so that the eldest entry is the least
+     * recently used string.
+     */
+    private static class Segment extends LinkedHashMap<String, String> {
+        private final int maximumSize;
+
+        private Segment(final int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+            return size() > maximumSize;
+        }
+    }
+}
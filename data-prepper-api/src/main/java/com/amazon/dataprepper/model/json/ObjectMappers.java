@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out the {@link ObjectMapper}s of Data Prepper, so that plugins and core share one configuration and one set of
+ * serializer and deserializer caches instead of each warming its own.
+ * <p>
+ * {@link #getJsonMapper()} returns the shared JSON mapper, which must not be reconfigured. Code which needs its own
+ * configuration, such as a naming strategy or a different data format, creates a mapper with
+ * {@link #newObjectMapper(JsonFactory)}, which applies the same tuning. The readers and writers returned here are
+ * immutable and cached, so they can be used from any thread without constructing one per call.
+ * <p>
+ * The factories of these mappers do not intern field names with {@link String#intern()}. Field names are still
+ * canonicalized per factory, which already shares the names of repeated keys without the cost of the JVM string table.
+ *
+ * @since 1.3
+ */
+public final class ObjectMappers {
+
+    private static final ObjectMapper JSON_MAPPER = newObjectMapper(new JsonFactory());
+
+    private static final ObjectWriter JSON_WRITER = JSON_MAPPER.writer();
+
+    private static final Map<JavaType, ObjectReader> JSON_READERS = new ConcurrentHashMap<>();
+
+    private ObjectMappers() {
+    }
+
+    /**
+     * Creates a mapper for the data format of a factory, tuned like the shared JSON mapper.
+     * @param jsonFactory the factory of the data format, which is configured by this method
+     * @return a new mapper which the caller may configure further
+     * @since 1.3
+     */
+    public static ObjectMapper newObjectMapper(final JsonFactory jsonFactory) {
+        jsonFactory.configure(JsonFactory.Feature.INTERN_FIELD_NAMES, false);
+        return new ObjectMapper(jsonFactory);
+    }
+
+    /**
+     * @return the shared JSON mapper, which must not be reconfigured
+     * @since 1.3
+     */
+    public static ObjectMapper getJsonMapper() {
+        return JSON_MAPPER;
+    }
+
+    /**
+     * @return the shared writer of the JSON mapper
+     * @since 1.3
+     */
+    public static ObjectWriter getJsonWriter() {
+        return JSON_WRITER;
+    }
+
+    /**
+     * @param valueType the type to read
+     * @return the cached reader of the JSON mapper for the type
+     * @since 1.3
+     */
+    public static ObjectReader getJsonReader(final Class<?> valueType) {
+        return getJsonReader(JSON_MAPPER.constructType(valueType));
+    }
+
+    /**
+     * @param valueTypeReference the type to read
+     * @return the cached reader of the JSON mapper for the type
+     * @since 1.3
+     */
+    public static ObjectReader getJsonReader(final TypeReference<?> valueTypeReference) {
+        return getJsonReader(JSON_MAPPER.getTypeFactory().constructType(valueTypeReference));
+    }
+
+    /**
+     * @param elementType the type of the elements of the list to read
+     * @return the cached reader of the JSON mapper for a list of the type
+     * @since 1.3
+     */
+    public static ObjectReader getJsonListReader(final Class<?> elementType) {
+        return getJsonReader(JSON_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    private static ObjectReader getJsonReader(final JavaType valueType) {
+        return JSON_READERS.computeIfAbsent(valueType, JSON_MAPPER::readerFor);
+    }
+}
@@ -21,6 +21,20 @@ public class JacksonLog extends JacksonEvent implements Log {
         checkArgument(this.getMetadata().getEventType().equals("LOG"), "eventType must be of type Log");
     }
 
+    private JacksonLog(final JacksonLog source) {
+        super(source);
+    }
+
+    /**
+     * Returns a snapshot which shares the tree of this log until either of them is modified.
+     * @return a snapshot of the log
+     * @since 1.3
+     */
+    @Override
+    public JacksonLog snapshot() {
+        return new JacksonLog(this);
+    }
+
     /**
      * Constructs an empty builder.
      * @return a builder
@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.processor;
+
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.record.RecordBatch;
+
+import java.util.Collection;
+
+/**
+ * An opt-in for {@link Processor}s of events which operate on whole columns of a batch instead of event by event.
+ * <p>
+ * The pipeline passes such a processor its records as a {@link RecordBatch} with the columns of
+ * {@link #getColumnKeys()} extracted. Consecutive vectorized processors share the batch, so a column is extracted only
+ * once. A processor should get the batch with {@link RecordBatch#of(Collection, Collection)}, which returns the batch
+ * it was given and still works when it is called with any other collection of records.
+ *
+ * @since 1.3
+ */
+public interface VectorizedProcessor {
+
+    /**
+     * @return the keys of the columns the processor reads
+     * @since 1.3
+     */
+    Collection<EventKey> getColumnKeys();
+}
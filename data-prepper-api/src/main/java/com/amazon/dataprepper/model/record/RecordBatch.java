@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.record;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.processor.VectorizedProcessor;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A batch of {@link Record}s of {@link Event}s with a columnar view of selected fields. A {@link Column} holds the
+ * values of one key for every event of the batch in an array, so that an operation on one field across the batch reads
+ * an array instead of the tree of every event. Columns are extracted once per batch, with all the columns requested
+ * together read in a single pass over the events.
+ * <p>
+ * A batch is also a {@link Collection} of its records, so it can be passed to any processor. The records of a batch
+ * cannot be added or removed. A column holds the values of its key at the time it was extracted and is not updated when
+ * an event is modified, so a processor which modifies the events of a batch should return a new collection rather than
+ * the batch itself.
+ * <p>
+ * A batch is not thread-safe; it is processed by one process worker at a time.
+ *
+ * @see VectorizedProcessor
+ * @since 1.3
+ */
+public class RecordBatch extends AbstractCollection<Record<Event>> {
+
+    private final List<Record<Event>> records;
+
+    private final Map<EventKey, Column> columns = new HashMap<>();
+
+    private RecordBatch(final Collection<Record<Event>> records) {
+        final List<Record<Event>> recordList = records instanceof List && records instanceof RandomAccess ?
+                (List<Record<Event>>) records : new ArrayList<>(records);
+        this.records = Collections.unmodifiableList(recordList);
+    }
+
+    /**
+     * @param records the records of the batch
+     * @return the records if they are a batch already, otherwise a new batch of the records
+     * @since 1.3
+     */
+    public static RecordBatch of(final Collection<Record<Event>> records) {
+        return records instanceof RecordBatch ? (RecordBatch) records : new RecordBatch(records);
+    }
+
+    /**
+     * Returns a batch of the records with the columns of the keys extracted.
+     * @param records the records of the batch
+     * @param columnKeys the keys of the columns to extract
+     * @return the records if they are a batch already, otherwise a new batch of the records
+     * @since 1.3
+     */
+    public static RecordBatch of(final Collection<Record<Event>> records, final Collection<EventKey> columnKeys) {
+        final RecordBatch recordBatch = of(records);
+        recordBatch.extractColumns(columnKeys);
+        return recordBatch;
+    }
+
+    /**
+     * @param row the row of the record
+     * @return the record at the row
+     * @since 1.3
+     */
+    public Record<Event> get(final int row) {
+        return records.get(row);
+    }
+
+    /**
+     * @param key the key of the column
+     * @return the column of the key, which is extracted if it was not requested before
+     * @since 1.3
+     */
+    public Column getColumn(final EventKey key) {
+        extractColumns(Collections.singletonList(key));
+        return columns.get(key);
+    }
+
+    @Override
+    public Iterator<Record<Event>> iterator() {
+        return records.iterator();
+    }
+
+    @Override
+    public int size() {
+        return records.size();
+    }
+
+    private void extractColumns(final Collection<EventKey> columnKeys) {
+        final List<EventKey> newColumnKeys = new ArrayList<>(columnKeys.size());
+        for (final EventKey columnKey : columnKeys) {
+            if (!columns.containsKey(columnKey) && !newColumnKeys.contains(columnKey)) {
+                newColumnKeys.add(columnKey);
+            }
+        }
+        if (newColumnKeys.isEmpty()) {
+            return;
+        }
+
+        final Object[][] values = new Object[newColumnKeys.size()][records.size()];
+        for (int row = 0; row < records.size(); row++) {
+            final Event event = records.get(row).getData();
+            for (int column = 0; column < newColumnKeys.size(); column++) {
+                values[column][row] = event.get(newColumnKeys.get(column), Object.class);
+            }
+        }
+        for (int column = 0; column < newColumnKeys.size(); column++) {
+            columns.put(newColumnKeys.get(column), new Column(newColumnKeys.get(column), values[column]));
+        }
+    }
+
+    /**
+     * The values of one key for every event of a {@link RecordBatch}, by row. The value of an event without the key is
+     * null.
+     *
+     * @since 1.3
+     */
+    public static final class Column {
+        private final EventKey key;
+        private final Object[] values;
+
+        private Column(final EventKey key, final Object[] values) {
+            this.key = key;
+            this.values = values;
+        }
+
+        /**
+         * @return the key of the column
+         * @since 1.3
+         */
+        public EventKey getKey() {
+            return key;
+        }
+
+        /**
+         * @param row the row of the event
+         * @return the value of the key in the event at the row
+         * @since 1.3
+         */
+        public Object get(final int row) {
+            return values[row];
+        }
+
+        /**
+         * @return the number of rows
+         * @since 1.3
+         */
+        public int size() {
+            return values.length;
+        }
+    }
+}
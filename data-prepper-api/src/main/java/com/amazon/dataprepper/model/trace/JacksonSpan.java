@@ -56,6 +56,20 @@ public class JacksonSpan extends JacksonEvent implements Span {
         checkAndSetDefaultValues();
     }
 
+    private JacksonSpan(final JacksonSpan source) {
+        super(source);
+    }
+
+    /**
+     * Returns a snapshot which shares the tree of this span until either of them is modified.
+     * @return a snapshot of the span
+     * @since 1.3
+     */
+    @Override
+    public JacksonSpan snapshot() {
+        return new JacksonSpan(this);
+    }
+
     @Override
     public String getTraceId() {
         return this.get(TRACE_ID_KEY, String.class);
@@ -400,6 +414,18 @@ public class JacksonSpan extends JacksonEvent implements Span {
             return this;
         }
 
+        /**
+         * Sets all the fields of the span at once from the data of a span which has been serialized, such as one
+         * decoded by {@link com.amazon.dataprepper.model.event.EventBinaryCodec}. The fields are validated like fields
+         * set one by one.
+         * @param spanData the fields of the span by their keys
+         * @since 1.3
+         */
+        public Builder withSpanData(final Map<String, Object> spanData) {
+            data.putAll(spanData);
+            return this;
+        }
+
         /**
          * Returns a newly created {@link JacksonSpan}
          * @return a JacksonSpan
@@ -23,6 +23,8 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import io.micrometer.core.instrument.Measurement;
 import io.micrometer.core.instrument.Statistic;
@@ -133,6 +135,58 @@ public class AbstractBufferTest {
                 0.25));
     }
 
+    @Test
+    public void testReadWithMaxBatchSizeDefaultsToRead() throws Exception {
+        // Given
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+        final Collection<Record<String>> testRecords = new ArrayList<>();
+        for(int i=0; i<5; i++) {
+            testRecords.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        abstractBuffer.writeAll(testRecords, 1000);
+
+        // When
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = abstractBuffer.read(1000, 2);
+
+        // Then
+        final List<Measurement> recordsReadMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.RECORDS_READ).toString());
+        Assert.assertEquals(5, readResult.getKey().size());
+        Assert.assertEquals(5.0, recordsReadMeasurements.get(0).getValue(), 0);
+        Assert.assertEquals(5, abstractBuffer.getRecordsInFlight());
+    }
+
+    @Test
+    public void testGetRecordsInBuffer() throws Exception {
+        // Given
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+        final Collection<Record<String>> testRecords = new ArrayList<>();
+        for(int i=0; i<7; i++) {
+            testRecords.add(new Record<>(UUID.randomUUID().toString()));
+        }
+
+        // When
+        abstractBuffer.writeAll(testRecords, 1000);
+
+        // Then
+        Assert.assertEquals(7, abstractBuffer.getRecordsInBuffer());
+        abstractBuffer.read(1000);
+        Assert.assertEquals(2, abstractBuffer.getRecordsInBuffer());
+    }
+
+    @Test
+    public void testGetRecordsInBufferCountsRecoveredRecords() throws Exception {
+        // Given
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+
+        // When
+        abstractBuffer.recordRecordsRecovered(4);
+        abstractBuffer.write(new Record<>(UUID.randomUUID().toString()), 1000);
+
+        // Then
+        Assert.assertEquals(5, abstractBuffer.getRecordsInBuffer());
+    }
+
     @Test
     public void testCheckpointMetrics() throws Exception {
         // Given
@@ -168,6 +222,34 @@ public class AbstractBufferTest {
                 0.001));
     }
 
+    @Test
+    public void testBytesMetrics() throws Exception {
+        // Given
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferBytesImpl(testPluginSetting);
+        final Collection<Record<String>> testRecords = new ArrayList<>();
+        for(int i=0; i<5; i++) {
+            testRecords.add(new Record<>("0123456789"));
+        }
+        final String bytesInBufferName = new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME)
+                .add(MetricNames.BYTES_IN_BUFFER).toString();
+        final String bytesInFlightName = new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME)
+                .add(MetricNames.BYTES_INFLIGHT).toString();
+
+        // When/Then
+        abstractBuffer.writeAll(testRecords, 1000);
+        abstractBuffer.write(new Record<>("01234"), 1000);
+        Assert.assertEquals(55.0, MetricsTestUtil.getMeasurementList(bytesInBufferName).get(0).getValue(), 0);
+        Assert.assertEquals(0.0, MetricsTestUtil.getMeasurementList(bytesInFlightName).get(0).getValue(), 0);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = abstractBuffer.read(1000);
+        Assert.assertEquals(5.0, MetricsTestUtil.getMeasurementList(bytesInBufferName).get(0).getValue(), 0);
+        Assert.assertEquals(50.0, MetricsTestUtil.getMeasurementList(bytesInFlightName).get(0).getValue(), 0);
+
+        abstractBuffer.checkpoint(readResult.getValue());
+        Assert.assertEquals(5.0, MetricsTestUtil.getMeasurementList(bytesInBufferName).get(0).getValue(), 0);
+        Assert.assertEquals(0.0, MetricsTestUtil.getMeasurementList(bytesInFlightName).get(0).getValue(), 0);
+    }
+
     @Test
     public void testWriteTimeoutMetric() throws TimeoutException {
         // Given
@@ -180,6 +262,7 @@ public class AbstractBufferTest {
                 new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.WRITE_TIMEOUTS).toString());
         Assert.assertEquals(1, timeoutMeasurements.size());
         Assert.assertEquals(1.0, timeoutMeasurements.get(0).getValue(), 0);
+        Assert.assertEquals(0, abstractBuffer.getRecordsInBuffer());
     }
 
     @Test
@@ -196,6 +279,7 @@ public class AbstractBufferTest {
                 new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.WRITE_TIMEOUTS).toString());
         Assert.assertEquals(1, timeoutMeasurements.size());
         Assert.assertEquals(1.0, timeoutMeasurements.get(0).getValue(), 0);
+        Assert.assertEquals(0, abstractBuffer.getRecordsInBuffer());
     }
 
     @Test
@@ -229,6 +313,113 @@ public class AbstractBufferTest {
         Assert.assertThrows(NullPointerException.class, () -> abstractBuffer.writeAll(testRecords, 1000));
     }
 
+    @Test
+    public void testWriteLatency() throws Exception {
+        // Given
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+        Assert.assertEquals(0, abstractBuffer.getWriteLatencyInMillis());
+
+        // When
+        abstractBuffer.writeAll(Collections.singletonList(new Record<>(UUID.randomUUID().toString())), 1000);
+        final long firstWriteLatency = abstractBuffer.getWriteLatencyInMillis();
+        abstractBuffer.write(new Record<>(UUID.randomUUID().toString()), 1000);
+
+        // Then
+        Assert.assertTrue(firstWriteLatency >= 12 && firstWriteLatency < 100);
+        Assert.assertTrue(abstractBuffer.getWriteLatencyInMillis() > firstWriteLatency);
+    }
+
+    @Test
+    public void testWriteAllAsyncMetrics() throws Exception {
+        // Given
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+        final Collection<Record<String>> testRecords = new ArrayList<>();
+        for(int i=0; i<5; i++) {
+            testRecords.add(new Record<>(UUID.randomUUID().toString()));
+        }
+
+        // When
+        abstractBuffer.writeAllAsync(testRecords, 1000).get();
+
+        // Then
+        final List<Measurement> recordsWrittenMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.RECORDS_WRITTEN).toString());
+        final List<Measurement> writeTimeMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.WRITE_TIME_ELAPSED).toString());
+        Assert.assertEquals(1, recordsWrittenMeasurements.size());
+        Assert.assertEquals(5.0, recordsWrittenMeasurements.get(0).getValue(), 0);
+        Assert.assertEquals(1.0, MetricsTestUtil.getMeasurementFromList(writeTimeMeasurements, Statistic.COUNT).getValue(), 0);
+        Assert.assertEquals(5, abstractBuffer.getRecordsInBuffer());
+    }
+
+    @Test
+    public void testWriteAllAsyncCountsRecordsReadBeforeTheWriteCompletes() throws Exception {
+        // Given
+        final CompletableFuture<Void> pendingWrite = new CompletableFuture<>();
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting) {
+            @Override
+            public CompletableFuture<Void> doWriteAllAsync(final Collection<Record<String>> records,
+                                                           final int timeoutInMillis) {
+                try {
+                    doWriteAll(records, timeoutInMillis);
+                } catch (final Exception e) {
+                    throw new RuntimeException(e);
+                }
+                return pendingWrite;
+            }
+        };
+        final Collection<Record<String>> testRecords = Arrays.asList(
+                new Record<>(UUID.randomUUID().toString()), new Record<>(UUID.randomUUID().toString()));
+
+        // When
+        final CompletableFuture<Void> future = abstractBuffer.writeAllAsync(testRecords, 1000);
+        abstractBuffer.read(1000);
+
+        // Then
+        Assert.assertEquals(0, abstractBuffer.getRecordsInBuffer());
+        pendingWrite.complete(null);
+        future.get();
+        Assert.assertEquals(0, abstractBuffer.getRecordsInBuffer());
+    }
+
+    @Test
+    public void testWriteAllAsyncTimeoutMetric() {
+        // Given
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferTimeoutImpl(testPluginSetting);
+        final Collection<Record<String>> testRecords = Arrays.asList(
+                new Record<>(UUID.randomUUID().toString()), new Record<>(UUID.randomUUID().toString()));
+
+        // When
+        final CompletableFuture<Void> future = abstractBuffer.writeAllAsync(testRecords, 1000);
+
+        // Then
+        final ExecutionException exception = Assert.assertThrows(ExecutionException.class, future::get);
+        Assert.assertTrue(exception.getCause() instanceof TimeoutException);
+        final List<Measurement> timeoutMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.WRITE_TIMEOUTS).toString());
+        Assert.assertEquals(1, timeoutMeasurements.size());
+        Assert.assertEquals(1.0, timeoutMeasurements.get(0).getValue(), 0);
+        Assert.assertEquals(0, abstractBuffer.getRecordsInBuffer());
+    }
+
+    @Test
+    public void testWriteAllAsyncRuntimeException() {
+        // Given
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferNpeImpl(BUFFER_NAME, PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = Arrays.asList(
+                new Record<>(UUID.randomUUID().toString()), new Record<>(UUID.randomUUID().toString()));
+
+        // When
+        final CompletableFuture<Void> future = abstractBuffer.writeAllAsync(testRecords, 1000);
+
+        // Then
+        final ExecutionException exception = Assert.assertThrows(ExecutionException.class, future::get);
+        Assert.assertTrue(exception.getCause() instanceof NullPointerException);
+        final List<Measurement> timeoutMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.WRITE_TIMEOUTS).toString());
+        Assert.assertEquals(0.0, timeoutMeasurements.get(0).getValue(), 0);
+    }
+
     public static class AbstractBufferImpl extends AbstractBuffer<Record<String>> {
         private final Queue<Record<String>> queue;
         public AbstractBufferImpl(PluginSetting pluginSetting) {
@@ -289,6 +480,49 @@ public class AbstractBufferTest {
         }
     }
 
+    public static class AbstractBufferBytesImpl extends AbstractBuffer<Record<String>> {
+        private final Queue<Record<String>> queue = new LinkedList<>();
+
+        public AbstractBufferBytesImpl(final PluginSetting pluginSetting) {
+            super(pluginSetting);
+        }
+
+        @Override
+        public void doWrite(final Record<String> record, final int timeoutInMillis) {
+            queue.add(record);
+            recordBytesWritten(record.getData().length());
+        }
+
+        @Override
+        public void doWriteAll(final Collection<Record<String>> records, final int timeoutInMillis) {
+            for (final Record<String> record : records) {
+                doWrite(record, timeoutInMillis);
+            }
+        }
+
+        @Override
+        public Map.Entry<Collection<Record<String>>, CheckpointState> doRead(final int timeoutInMillis) {
+            final Collection<Record<String>> records = new ArrayList<>();
+            long numBytes = 0;
+            for(int i=0; i<5 && !queue.isEmpty(); i++) {
+                final Record<String> record = queue.remove();
+                records.add(record);
+                numBytes += record.getData().length();
+            }
+            return new AbstractMap.SimpleEntry<>(records, new CheckpointState(records.size(), numBytes));
+        }
+
+        @Override
+        public void doCheckpoint(final CheckpointState checkpointState) {
+
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+    }
+
     public static class AbstractBufferTimeoutImpl extends AbstractBufferImpl {
         public AbstractBufferTimeoutImpl(PluginSetting pluginSetting) {
             super(pluginSetting);
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.buffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class BufferTest {
+    private Buffer<Record<String>> buffer;
+    private Collection<Record<String>> records;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        buffer = mock(Buffer.class, CALLS_REAL_METHODS);
+        records = Collections.singletonList(new Record<>(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void writeAllAsync_writes_records_and_returns_completed_future() throws Exception {
+        doNothing().when(buffer).writeAll(records, 100);
+
+        final CompletableFuture<Void> future = buffer.writeAllAsync(records, 100);
+
+        assertThat(future.isDone(), equalTo(true));
+        assertThat(future.get(), equalTo(null));
+        verify(buffer).writeAll(records, 100);
+    }
+
+    @Test
+    void writeAllAsync_returns_future_completed_with_exception_of_writeAll() throws Exception {
+        final TimeoutException timeoutException = new TimeoutException();
+        doThrow(timeoutException).when(buffer).writeAll(records, 100);
+
+        final CompletableFuture<Void> future = buffer.writeAllAsync(records, 100);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause(), sameInstance(timeoutException));
+    }
+
+    @Test
+    void read_with_maxBatchSize_returns_read() {
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult =
+                new AbstractMap.SimpleEntry<>(records, new CheckpointState(1));
+        when(buffer.read(100)).thenReturn(readResult);
+
+        assertThat(buffer.read(100, 5), sameInstance(readResult));
+    }
+
+    @Test
+    void assignReaderSlot_is_ignored() {
+        buffer.assignReaderSlot(1);
+
+        verify(buffer).assignReaderSlot(1);
+        verifyNoMoreInteractions(buffer);
+    }
+
+    @Test
+    void getRecordsInBuffer_returns_untracked() {
+        assertThat(buffer.getRecordsInBuffer(), equalTo(-1L));
+    }
+
+    @Test
+    void getBatchSize_returns_unlimited() {
+        assertThat(buffer.getBatchSize(), equalTo(-1));
+    }
+
+    @Test
+    void getCapacityUsage_returns_untracked() {
+        assertThat(buffer.getCapacityUsage(), equalTo(-1.0));
+    }
+
+    @Test
+    void getWriteLatencyInMillis_returns_untracked() {
+        assertThat(buffer.getWriteLatencyInMillis(), equalTo(-1L));
+    }
+}
@@ -107,6 +107,27 @@ public class PluginSettingsTests {
         assertThat(pluginSetting.getNumberOfProcessWorkers(), is(TEST_WORKERS));
     }
 
+    @Test
+    public void testPluginSetting_MaxNumberOfProcessWorkers_DefaultsToProcessWorkers() {
+        final int TEST_WORKERS = 2;
+        final PluginSetting pluginSetting = new PluginSetting(TEST_PLUGIN_NAME, ImmutableMap.of());
+        pluginSetting.setProcessWorkers(TEST_WORKERS);
+
+        assertThat(pluginSetting.getMaxNumberOfProcessWorkers(), is(TEST_WORKERS));
+    }
+
+    @Test
+    public void testPluginSetting_MaxNumberOfProcessWorkers() {
+        final int TEST_WORKERS = 2;
+        final int TEST_MAX_WORKERS = 4;
+        final PluginSetting pluginSetting = new PluginSetting(TEST_PLUGIN_NAME, ImmutableMap.of());
+        pluginSetting.setProcessWorkers(TEST_WORKERS);
+        pluginSetting.setMaxProcessWorkers(TEST_MAX_WORKERS);
+
+        assertThat(pluginSetting.getNumberOfProcessWorkers(), is(TEST_WORKERS));
+        assertThat(pluginSetting.getMaxNumberOfProcessWorkers(), is(TEST_MAX_WORKERS));
+    }
+
     @Test
     public void testGetAttributeFromSettings() {
         final Map<String, Object> TEST_SETTINGS = ImmutableMap.of(TEST_INT_ATTRIBUTE, TEST_INT_VALUE);
@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import com.amazon.dataprepper.model.json.ObjectMappers;
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.trace.JacksonSpan;
+import com.amazon.dataprepper.model.trace.Span;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventBinaryCodecTest {
+
+    private static final String TEST_JSON = "{\"foo\":{\"bar\":[1,2,{\"baz\":null}]},\"number\":1.5,\"flag\":true}";
+
+    private EventBinaryCodec eventBinaryCodec;
+
+    @BeforeEach
+    void setUp() {
+        eventBinaryCodec = new EventBinaryCodec();
+    }
+
+    private Event createEvent() {
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put("attribute1", "value");
+        attributes.put("attribute2", 42);
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withTimeReceived(Instant.ofEpochSecond(1_000, 123))
+                .withEventMetadataAttributes(attributes)
+                .withData(TEST_JSON)
+                .build();
+    }
+
+    @Test
+    void testEncodeAndDecode_restoresDataAndMetadata() throws IOException {
+        final Event event = createEvent();
+
+        final Event decodedEvent = eventBinaryCodec.decode(eventBinaryCodec.encode(event));
+
+        assertThat(decodedEvent, instanceOf(JacksonEvent.class));
+        assertThat(decodedEvent.toJsonString(), equalTo(TEST_JSON));
+        assertThat(decodedEvent.getMetadata().getEventType(), equalTo("event"));
+        assertThat(decodedEvent.getMetadata().getTimeReceived(), equalTo(Instant.ofEpochSecond(1_000, 123)));
+        assertThat(decodedEvent.getMetadata().getAttributes(), equalTo(event.getMetadata().getAttributes()));
+    }
+
+    @Test
+    void testEncodeAndDecode_withLog_decodesJacksonLog() throws IOException {
+        final Event log = JacksonLog.builder()
+                .withData(Collections.singletonMap("message", "hello"))
+                .build();
+
+        final Event decodedEvent = eventBinaryCodec.decode(eventBinaryCodec.encode(log));
+
+        assertThat(decodedEvent, instanceOf(JacksonLog.class));
+        assertThat(decodedEvent.get("message", String.class), equalTo("hello"));
+    }
+
+    @Test
+    void testEncodeAndDecode_withSpan_decodesJacksonSpan() throws IOException {
+        final Event span = JacksonSpan.builder()
+                .withSpanId("spanId")
+                .withTraceId("traceId")
+                .withTraceState("traceState")
+                .withParentSpanId("parentSpanId")
+                .withName("name")
+                .withKind("kind")
+                .withStartTime("2022-01-01T00:00:00Z")
+                .withEndTime("2022-01-01T00:00:01Z")
+                .withAttributes(Collections.singletonMap("key", "value"))
+                .withDurationInNanos(1_000_000_000L)
+                .withTimeReceived(Instant.ofEpochSecond(1_000, 123))
+                .build();
+
+        final Event decodedEvent = eventBinaryCodec.decode(eventBinaryCodec.encode(span));
+
+        assertThat(decodedEvent, instanceOf(JacksonSpan.class));
+        assertThat(((Span) decodedEvent).getTraceId(), equalTo("traceId"));
+        assertThat(((Span) decodedEvent).getAttributes(), equalTo(Collections.singletonMap("key", "value")));
+        assertThat(decodedEvent.getMetadata().getTimeReceived(), equalTo(Instant.ofEpochSecond(1_000, 123)));
+        assertThat(ObjectMappers.getJsonMapper().readTree(decodedEvent.toJsonString()),
+                equalTo(ObjectMappers.getJsonMapper().readTree(span.toJsonString())));
+    }
+
+    @Test
+    void testEncodeAndDecode_withOtherEventImplementation() throws IOException {
+        final Event event = mock(Event.class);
+        final EventMetadata eventMetadata = createEvent().getMetadata();
+        when(event.getMetadata()).thenReturn(eventMetadata);
+        when(event.toJsonBytes()).thenReturn(TEST_JSON.getBytes(StandardCharsets.UTF_8));
+
+        final Event decodedEvent = eventBinaryCodec.decode(eventBinaryCodec.encode(event));
+
+        assertThat(decodedEvent.toJsonString(), equalTo(TEST_JSON));
+        assertThat(decodedEvent.getMetadata().getEventType(), equalTo("event"));
+    }
+
+    @Test
+    void testDecode_readsFramesInOrder() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        eventBinaryCodec.encode(createEvent(), outputStream);
+        eventBinaryCodec.encode(JacksonEvent.fromMessage("second"), outputStream);
+
+        final ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
+
+        assertThat(eventBinaryCodec.decode(inputStream).toJsonString(), equalTo(TEST_JSON));
+        assertThat(eventBinaryCodec.decode(inputStream).get("message", String.class), equalTo("second"));
+        assertThrows(EOFException.class, () -> eventBinaryCodec.decode(inputStream));
+    }
+
+    @Test
+    void testDecode_decodedEventIsIndependentOfOriginal() throws IOException {
+        final Event event = createEvent();
+        final Event decodedEvent = eventBinaryCodec.decode(eventBinaryCodec.encode(event));
+
+        decodedEvent.put("foo", "changed");
+
+        assertThat(event.get("foo", Object.class), is(not(equalTo("changed"))));
+    }
+
+    @Test
+    void testDecode_withUnsupportedFormatVersion_throwsIOException() throws IOException {
+        final byte[] bytes = eventBinaryCodec.encode(createEvent());
+        bytes[0] = EventBinaryCodec.FORMAT_VERSION + 1;
+
+        assertThrows(IOException.class, () -> eventBinaryCodec.decode(bytes));
+    }
+
+    @Test
+    void testDecode_withMalformedBody_throwsIOException() {
+        final byte[] bytes = new byte[]{EventBinaryCodec.FORMAT_VERSION, 0, 0, 0, 0};
+
+        assertThrows(IOException.class, () -> eventBinaryCodec.decode(bytes));
+    }
+
+    private static byte[] frameOf(final Object... bodyValues) throws IOException {
+        final byte[] body = ObjectMappers.newObjectMapper(new SmileFactory()).writeValueAsBytes(Arrays.asList(bodyValues));
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeByte(EventBinaryCodec.FORMAT_VERSION);
+        output.writeInt(body.length);
+        output.write(body);
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    void testDecode_withoutEventType_throwsIOException() throws IOException {
+        final byte[] bytes = frameOf(1, 1_000, 123, Collections.emptyMap(), Collections.emptyMap());
+
+        final IOException exception = assertThrows(IOException.class, () -> eventBinaryCodec.decode(bytes));
+        assertThat(exception.getMessage(), equalTo("Malformed event, expected the event type"));
+    }
+
+    @Test
+    void testDecode_withTrailingValueInBody_throwsIOException() throws IOException {
+        final byte[] bytes = frameOf("event", 1_000, 123, Collections.emptyMap(), Collections.emptyMap(), "trailing");
+
+        final IOException exception = assertThrows(IOException.class, () -> eventBinaryCodec.decode(bytes));
+        assertThat(exception.getMessage(), equalTo("Malformed event, expected the end of the array"));
+    }
+
+    @Test
+    void testDecode_withNegativeBodyLength_throwsIOException() {
+        final byte[] bytes = new byte[]{EventBinaryCodec.FORMAT_VERSION, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+
+        final IOException exception = assertThrows(IOException.class, () -> eventBinaryCodec.decode(bytes));
+        assertThat(exception.getMessage(), equalTo("Invalid event body length -1"));
+    }
+
+    @Test
+    void testDecode_withBodyLengthAboveMaximum_throwsIOException() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeByte(EventBinaryCodec.FORMAT_VERSION);
+        output.writeInt(EventBinaryCodec.MAX_BODY_LENGTH + 1);
+
+        final IOException exception = assertThrows(IOException.class,
+                () -> eventBinaryCodec.decode(outputStream.toByteArray()));
+        assertThat(exception.getMessage(), equalTo("Invalid event body length " + (EventBinaryCodec.MAX_BODY_LENGTH + 1)));
+    }
+
+    @Test
+    void testDecode_withTruncatedBody_throwsEOFException() throws IOException {
+        final byte[] bytes = eventBinaryCodec.encode(createEvent());
+
+        assertThrows(EOFException.class, () -> eventBinaryCodec.decode(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventKeyTest {
+
+    @Test
+    void testOf_withNestedKey() {
+        final EventKey eventKey = EventKey.of("/foo/bar");
+
+        assertThat(eventKey.getKey(), equalTo("/foo/bar"));
+        assertThat(eventKey.toString(), equalTo("/foo/bar"));
+        assertThat(eventKey.getKeyParts(), equalTo(new String[]{"foo", "bar"}));
+        assertThat(eventKey.getJsonPointer().toString(), equalTo("/foo/bar"));
+        assertThat(eventKey.getParentJsonPointer().toString(), equalTo("/foo"));
+        assertThat(eventKey.getLeafKey(), equalTo("bar"));
+    }
+
+    @Test
+    void testOf_withRootKey() {
+        final EventKey eventKey = EventKey.of("foo");
+
+        assertThat(eventKey.getKeyParts(), equalTo(new String[]{"foo"}));
+        assertThat(eventKey.getJsonPointer().toString(), equalTo("/foo"));
+        assertThat(eventKey.getParentJsonPointer(), is(nullValue()));
+        assertThat(eventKey.getLeafKey(), equalTo("foo"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "withSpecialChars*$%", "-withPrefixDash", "withDashSuffix-", "withDashPrefix/-nestedKey",
+            "_withUnderscorePrefix", ".withDotPrefix", "with,Comma"})
+    void testOf_withInvalidKey_throwsIllegalArgumentException(final String invalidKey) {
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(invalidKey));
+        assertThrows(IllegalArgumentException.class, () -> EventKey.fromCache(invalidKey));
+    }
+
+    @Test
+    void testOf_withLengthGreaterThanMaxLength_throwsIllegalArgumentException() {
+        final String invalidLengthKey = RandomStringUtils.randomAlphabetic(EventKey.MAX_KEY_LENGTH + 1);
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(invalidLengthKey));
+    }
+
+    @Test
+    void testOf_withNullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> EventKey.of(null));
+        assertThrows(NullPointerException.class, () -> EventKey.fromCache(null));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+
+        assertThat(eventKey, equalTo(eventKey));
+        assertThat(eventKey, equalTo(EventKey.of("foo/bar")));
+        assertThat(eventKey.hashCode(), equalTo(EventKey.of("foo/bar").hashCode()));
+        assertThat(eventKey, not(equalTo(EventKey.of("foo/baz"))));
+        assertThat(eventKey, not(equalTo(null)));
+        assertThat(eventKey, not(equalTo((Object) "foo/bar")));
+    }
+
+    @Test
+    void testFromCache_returnsCachedKey() {
+        final String key = "cached" + UUID.randomUUID().toString().replace("-", "");
+
+        final EventKey eventKey = EventKey.fromCache(key);
+
+        assertThat(EventKey.fromCache(key), sameInstance(eventKey));
+    }
+
+    @Test
+    void testFromCache_isBounded() {
+        for (int i = 0; i <= EventKey.MAX_CACHED_KEYS; i++) {
+            EventKey.fromCache("key" + i);
+        }
+
+        assertThat(EventKey.getCachedKeysSize(), lessThanOrEqualTo(EventKey.MAX_CACHED_KEYS));
+    }
+}
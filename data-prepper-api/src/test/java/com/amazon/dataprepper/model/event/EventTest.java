@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventTest {
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        event = mock(Event.class, CALLS_REAL_METHODS);
+    }
+
+    @Test
+    void testEventKeyMethods_delegateToStringKeys() {
+        final EventKey eventKey = EventKey.of("foo");
+        final Object value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+        event.get(eventKey, String.class);
+        event.getList(eventKey, String.class);
+        event.delete(eventKey);
+        event.containsKey(eventKey);
+        event.isValueAList(eventKey);
+
+        verify(event).put("foo", value);
+        verify(event).get("foo", String.class);
+        verify(event).<String>getList("foo", String.class);
+        verify(event).delete("foo");
+        verify(event).containsKey("foo");
+        verify(event).isValueAList("foo");
+    }
+
+    @Test
+    void testTypedMethods_delegateToGenericMethods() {
+        final EventKey eventKey = EventKey.of("foo");
+
+        event.putString(eventKey, "bar");
+        event.putLong(eventKey, 1L);
+        event.putDouble(eventKey, 1.5);
+        event.putBoolean(eventKey, true);
+        event.getString(eventKey);
+        event.getLong(eventKey);
+        event.getDouble(eventKey);
+        event.getBoolean(eventKey);
+
+        verify(event).put("foo", "bar");
+        verify(event).put("foo", 1L);
+        verify(event).put("foo", 1.5);
+        verify(event).put("foo", true);
+        verify(event).get("foo", String.class);
+        verify(event).get("foo", Long.class);
+        verify(event).get("foo", Double.class);
+        verify(event).get("foo", Boolean.class);
+    }
+
+    @Test
+    void testToJsonBytes_encodesJsonString() {
+        final String json = "{\"foo\":\"bär\"}";
+        when(event.toJsonString()).thenReturn(json);
+
+        assertThat(event.toJsonBytes(), equalTo(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testEstimatedSizeInBytes_isLengthOfJsonBytes() {
+        final String json = "{\"foo\":\"bär\"}";
+        when(event.toJsonString()).thenReturn(json);
+
+        assertThat(event.estimatedSizeInBytes(), equalTo((long) json.getBytes(StandardCharsets.UTF_8).length));
+    }
+
+    @Test
+    void testSnapshot_copiesJsonAndMetadata() {
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType("event")
+                .build();
+        when(event.toJsonString()).thenReturn("{\"foo\":\"bar\"}");
+        when(event.getMetadata()).thenReturn(eventMetadata);
+
+        final Event snapshot = event.snapshot();
+
+        assertThat(snapshot.getMetadata(), sameInstance(eventMetadata));
+        assertThat(snapshot.get("foo", String.class), equalTo("bar"));
+    }
+}
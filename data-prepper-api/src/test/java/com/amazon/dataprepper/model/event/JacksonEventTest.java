@@ -5,13 +5,17 @@
 
 package com.amazon.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,6 +28,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
@@ -271,6 +276,137 @@ public class JacksonEventTest {
         assertThat(event.isValueAList(key), is(false));
     }
 
+    @Test
+    public void testPutAndGet_withEventKey() {
+        final EventKey eventKey = EventKey.of("/foo/bar");
+        final UUID value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+
+        assertThat(event.get(eventKey, UUID.class), is(equalTo(value)));
+        assertThat(event.get("foo/bar", UUID.class), is(equalTo(value)));
+        assertThat(event.containsKey(eventKey), is(true));
+        assertThat(event.isValueAList(eventKey), is(false));
+    }
+
+    @Test
+    public void testGetList_withEventKey() {
+        final EventKey eventKey = EventKey.of("foo");
+        final List<Integer> numbers = Arrays.asList(1, 2, 3);
+
+        event.put(eventKey, numbers);
+
+        assertThat(event.getList(eventKey, Integer.class), is(equalTo(numbers)));
+        assertThat(event.isValueAList(eventKey), is(true));
+        assertThat(event.getList(EventKey.of("bar"), Integer.class), is(nullValue()));
+    }
+
+    @Test
+    public void testDelete_withEventKey() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+
+        event.put(eventKey, UUID.randomUUID());
+        event.delete(eventKey);
+
+        assertThat(event.containsKey(eventKey), is(false));
+        assertThat(event.containsKey("foo"), is(true));
+
+        event.delete(EventKey.of("foo"));
+        assertThat(event.containsKey("foo"), is(false));
+    }
+
+    @Test
+    public void testTypedPutAndGet() {
+        event.putString("foo/string", "bar");
+        event.putLong("foo/long", Long.MAX_VALUE);
+        event.putDouble("foo/double", 1.5);
+        event.putBoolean("foo/boolean", true);
+
+        assertThat(event.getString("foo/string"), is(equalTo("bar")));
+        assertThat(event.getLong("foo/long"), is(equalTo(Long.MAX_VALUE)));
+        assertThat(event.getDouble("foo/double"), is(equalTo(1.5)));
+        assertThat(event.getBoolean("foo/boolean"), is(true));
+        assertThat(event.toJsonString(),
+                is(equalTo("{\"foo\":{\"string\":\"bar\",\"long\":9223372036854775807,\"double\":1.5,\"boolean\":true}}")));
+    }
+
+    @Test
+    public void testTypedPutAndGet_withEventKey() {
+        event.putString(EventKey.of("string"), "bar");
+        event.putLong(EventKey.of("long"), 42L);
+        event.putDouble(EventKey.of("double"), 1.5);
+        event.putBoolean(EventKey.of("boolean"), false);
+
+        assertThat(event.getString(EventKey.of("string")), is(equalTo("bar")));
+        assertThat(event.getLong(EventKey.of("long")), is(equalTo(42L)));
+        assertThat(event.getDouble(EventKey.of("double")), is(equalTo(1.5)));
+        assertThat(event.getBoolean(EventKey.of("boolean")), is(false));
+        assertThat(event.get("long", Integer.class), is(equalTo(42)));
+    }
+
+    @Test
+    public void testTypedGet_withMissingKey_returnsNull() {
+        assertThat(event.getString("missing"), is(nullValue()));
+        assertThat(event.getLong("missing"), is(nullValue()));
+        assertThat(event.getDouble("missing"), is(nullValue()));
+        assertThat(event.getBoolean("missing"), is(nullValue()));
+    }
+
+    @Test
+    public void testTypedGet_convertsOtherValuesLikeGet() {
+        event.put("integer", 42);
+        event.put("double", 1.5);
+        event.put("numericString", "42");
+        event.put("booleanString", "true");
+        event.put("bigInteger", new BigInteger("123456789012345678901234567890"));
+
+        assertThat(event.getString("integer"), is(equalTo(event.get("integer", String.class))));
+        assertThat(event.getLong("integer"), is(equalTo(42L)));
+        assertThat(event.getLong("numericString"), is(equalTo(event.get("numericString", Long.class))));
+        assertThat(event.getLong("double"), is(equalTo(event.get("double", Long.class))));
+        assertThat(event.getDouble("integer"), is(equalTo(42.0)));
+        assertThat(event.getDouble("numericString"), is(equalTo(42.0)));
+        assertThat(event.getBoolean("booleanString"), is(true));
+        assertThrows(RuntimeException.class, () -> event.getLong("bigInteger"));
+    }
+
+    @Test
+    public void testTypedGet_withIncorrectValue_throwsRuntimeException() {
+        event.put("foo", Collections.singletonMap("bar", "baz"));
+
+        assertThrows(RuntimeException.class, () -> event.getString("foo"));
+        assertThrows(RuntimeException.class, () -> event.getLong("foo"));
+        assertThrows(RuntimeException.class, () -> event.getDouble("foo"));
+        assertThrows(RuntimeException.class, () -> event.getBoolean("foo"));
+    }
+
+    @Test
+    public void testPutString_withNull_putsNull() {
+        event.putString("foo", null);
+
+        assertThat(event.containsKey("foo"), is(true));
+        assertThat(event.getString("foo"), is(nullValue()));
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":null}")));
+    }
+
+    @Test
+    public void testTypedPut_updatesEstimatedSize() {
+        event.putString("string", "bar");
+        event.putLong("long", 42L);
+        event.putBoolean("boolean", true);
+
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+    }
+
+    @Test
+    public void testGetList_reusesReaderAcrossCalls() {
+        event.put("foo", Arrays.asList(1, 2));
+        event.put("bar", Arrays.asList(3));
+
+        assertThat(event.getList("foo", Integer.class), is(equalTo(Arrays.asList(1, 2))));
+        assertThat(event.getList("bar", Integer.class), is(equalTo(Arrays.asList(3))));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"", "withSpecialChars*$%", "-withPrefixDash", "\\-withEscapeChars", "\\\\/withMultipleEscapeChars",
             "withDashSuffix-", "withDashSuffix-/nestedKey", "withDashPrefix/-nestedKey", "_withUnderscorePrefix", "withUnderscoreSuffix_",
@@ -464,4 +600,265 @@ public class JacksonEventTest {
         assertThrows(IllegalArgumentException.class, () -> builder.build());
     }
 
+    @Test
+    public void testBuild_withJsonData_returnsRawJsonUntilModified() {
+
+        final String jsonString = "{ \"foo\" : \"bar\", \"nested\": {\"key\": 42} }";
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData(jsonString.getBytes(StandardCharsets.UTF_8))
+                .getThis()
+                .build();
+
+        assertThat(event.toJsonString(), is(equalTo(jsonString)));
+        assertThat(event.get("nested/key", Integer.class), is(equalTo(42)));
+        assertThat(event.containsKey("foo"), is(true));
+        assertThat(event.toMap().get("foo"), is(equalTo("bar")));
+        assertThat(event.toJsonString(), is(equalTo(jsonString)));
+
+        event.put("foo", "baz");
+
+        assertThat(event.get("foo", String.class), is(equalTo("baz")));
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":\"baz\",\"nested\":{\"key\":42}}")));
+    }
+
+    @Test
+    public void testBuild_withJsonData_deleteModifiesEvent() {
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData("{\"foo\": \"bar\", \"fizz\": \"buzz\"}".getBytes(StandardCharsets.UTF_8))
+                .getThis()
+                .build();
+
+        event.delete("fizz");
+
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":\"bar\"}")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"foobar", ""})
+    void testBuild_withInvalidJsonData_throwsOnFirstAccess(final String jsonString) {
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData(jsonString.getBytes(StandardCharsets.UTF_8))
+                .getThis()
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> event.get("foo", String.class));
+    }
+
+    @Test
+    public void testBuild_withDataAfterJsonData() {
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData("{\"foo\": \"bar\"}".getBytes(StandardCharsets.UTF_8))
+                .withData(Collections.singletonMap("fizz", "buzz"))
+                .getThis()
+                .build();
+
+        assertThat(event.containsKey("foo"), is(false));
+        assertThat(event.get("fizz", String.class), is(equalTo("buzz")));
+    }
+
+    @Test
+    public void testToJsonBytes_isCachedUntilModified() {
+
+        event.put("foo", "bar");
+
+        final byte[] jsonBytes = event.toJsonBytes();
+        final String jsonString = event.toJsonString();
+
+        assertThat(new String(jsonBytes, StandardCharsets.UTF_8), is(equalTo("{\"foo\":\"bar\"}")));
+        assertThat(jsonString, is(equalTo("{\"foo\":\"bar\"}")));
+        assertThat(event.toJsonBytes(), is(sameInstance(jsonBytes)));
+        assertThat(event.toJsonString(), is(sameInstance(jsonString)));
+
+        event.put("fizz", "buzz");
+
+        assertThat(new String(event.toJsonBytes(), StandardCharsets.UTF_8), is(equalTo("{\"foo\":\"bar\",\"fizz\":\"buzz\"}")));
+
+        event.delete("foo");
+
+        assertThat(event.toJsonString(), is(equalTo("{\"fizz\":\"buzz\"}")));
+    }
+
+    @Test
+    public void testToJsonBytes_withJsonData_returnsRawJson() {
+
+        final byte[] jsonData = "{ \"foo\" : \"bar\" }".getBytes(StandardCharsets.UTF_8);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData(jsonData)
+                .getThis()
+                .build();
+
+        assertThat(event.toJsonBytes(), is(sameInstance(jsonData)));
+    }
+
+    @Test
+    public void testEstimatedSizeInBytes_isJsonLengthForAsciiData() {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("message", "hello");
+        data.put("number", 42);
+        data.put("list", Arrays.asList(1, "two", true, null, 1.5));
+        data.put("nested", Collections.singletonMap("key", "value"));
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(data)
+                .build();
+
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+    }
+
+    @Test
+    public void testEstimatedSizeInBytes_isUpdatedByModifications() {
+        event.put("message", "hello");
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+
+        event.put("message", "a longer message");
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+
+        event.put("nested/deeper/key", 1);
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+
+        event.put("list", Arrays.asList("a", "b"));
+        event.put("list/1", "longer");
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+
+        event.put("map", Collections.singletonMap("key", Collections.singletonList("value")));
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+
+        event.delete("nested/deeper");
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+
+        event.delete("missing");
+        event.delete("missing/key");
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) event.toJsonString().length())));
+    }
+
+    @Test
+    public void testEstimatedSizeInBytes_withJsonData_isJsonDataLength() {
+        final byte[] jsonData = "{ \"foo\" : \"bar\" }".getBytes(StandardCharsets.UTF_8);
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData(jsonData)
+                .build();
+
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) jsonData.length)));
+
+        event.put("fizz", "buzz");
+
+        assertThat(event.estimatedSizeInBytes(), is(equalTo((long) jsonData.length + "\"fizz\":\"buzz\",".length())));
+    }
+
+    @Test
+    public void testSnapshot_sharesUnmodifiedEvent() {
+        event.put("message", "hello");
+
+        final JacksonEvent snapshot = ((JacksonEvent) event).snapshot();
+
+        assertThat(snapshot.getMetadata(), is(sameInstance(event.getMetadata())));
+        assertThat(snapshot.getJsonNode(), is(sameInstance(((JacksonEvent) event).getJsonNode())));
+        assertThat(snapshot.toJsonString(), is(equalTo(event.toJsonString())));
+        assertThat(snapshot.estimatedSizeInBytes(), is(equalTo(event.estimatedSizeInBytes())));
+    }
+
+    @Test
+    public void testSnapshot_modificationsAreIndependent() {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("message", "original");
+        data.put("nested", Collections.singletonMap("key", "original"));
+        data.put("list", Arrays.asList(Collections.singletonMap("key", "original"), "original"));
+        data.put("shared", Collections.singletonMap("key", "original"));
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(data)
+                .build();
+        final JsonNode sharedNode = ((JacksonEvent) event).getJsonNode().get("shared");
+
+        final Event snapshot = event.snapshot();
+        snapshot.put("nested/key", "snapshot");
+        snapshot.put("nested/other", "snapshot");
+        snapshot.put("added/key", "snapshot");
+        snapshot.delete("list/0/key");
+        snapshot.delete("message");
+        snapshot.delete("missing/key");
+        event.put("message", "modified");
+        event.delete("nested/key");
+
+        assertThat(event.get("message", String.class), is(equalTo("modified")));
+        assertThat(event.containsKey("nested/key"), is(false));
+        assertThat(event.containsKey("added"), is(false));
+        assertThat(event.get("list/0/key", String.class), is(equalTo("original")));
+        assertThat(snapshot.containsKey("message"), is(false));
+        assertThat(snapshot.get("nested/key", String.class), is(equalTo("snapshot")));
+        assertThat(snapshot.get("nested/other", String.class), is(equalTo("snapshot")));
+        assertThat(snapshot.get("added/key", String.class), is(equalTo("snapshot")));
+        assertThat(snapshot.containsKey("list/0/key"), is(false));
+        assertThat(snapshot.get("list/1", String.class), is(equalTo("original")));
+        assertThat(((JacksonEvent) snapshot).getJsonNode().get("shared"), is(sameInstance(sharedNode)));
+        assertThat(((JacksonEvent) event).getJsonNode().get("shared"), is(sameInstance(sharedNode)));
+    }
+
+    @Test
+    public void testSnapshot_whileModifiedByAnotherThreadIsIndependent() throws InterruptedException {
+        event.put("nested/key", -1);
+        final int modifications = 10_000;
+        final Thread writer = new Thread(() -> {
+            for (int i = 0; i < modifications; i++) {
+                event.put("nested/key", i);
+            }
+        });
+        final List<Event> snapshots = new ArrayList<>();
+        final List<Integer> snapshotValues = new ArrayList<>();
+
+        writer.start();
+        while (writer.isAlive()) {
+            final Event snapshot = event.snapshot();
+            snapshots.add(snapshot);
+            snapshotValues.add(snapshot.get("nested/key", Integer.class));
+        }
+        writer.join();
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertThat(snapshots.get(i).get("nested/key", Integer.class), is(equalTo(snapshotValues.get(i))));
+        }
+        assertThat(event.get("nested/key", Integer.class), is(equalTo(modifications - 1)));
+    }
+
+    @Test
+    public void testSnapshot_ofSnapshotIsIndependent() {
+        event.put("nested/key", "original");
+        final Event first = event.snapshot();
+        first.put("nested/key", "first");
+
+        final Event second = first.snapshot();
+        second.put("nested/key", "second");
+        first.put("nested/other", "first");
+
+        assertThat(event.get("nested", Map.class), is(equalTo(Collections.singletonMap("key", "original"))));
+        assertThat(second.get("nested", Map.class), is(equalTo(Collections.singletonMap("key", "second"))));
+        assertThat(first.get("nested/key", String.class), is(equalTo("first")));
+        assertThat(first.get("nested/other", String.class), is(equalTo("first")));
+    }
+
+    @Test
+    public void testSnapshot_withJsonData_isIndependent() {
+        final byte[] jsonData = "{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8);
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData(jsonData)
+                .build();
+
+        final Event snapshot = event.snapshot();
+        snapshot.put("foo", "baz");
+
+        assertThat(event.toJsonBytes(), is(sameInstance(jsonData)));
+        assertThat(snapshot.get("foo", String.class), is(equalTo("baz")));
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.event;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StringInternerTest {
+
+    private static final String VALUE_KEY = "serviceName";
+
+    private StringInterner createObjectUnderTest(final int maximumSize) {
+        return new StringInterner(maximumSize, Collections.singletonList(VALUE_KEY));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_with_non_positive_maximumSize_throws(final int maximumSize) {
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest(maximumSize));
+    }
+
+    @Test
+    void intern_returns_first_instance_of_equal_strings() {
+        final StringInterner objectUnderTest = createObjectUnderTest(10);
+        final String first = new String("value");
+        final String second = new String("value");
+
+        assertThat(objectUnderTest.intern(first), is(sameInstance(first)));
+        assertThat(objectUnderTest.intern(second), is(sameInstance(first)));
+        assertThat(objectUnderTest.size(), is(equalTo(1)));
+        assertThat(objectUnderTest.getHits(), is(equalTo(1L)));
+        assertThat(objectUnderTest.getMisses(), is(equalTo(1L)));
+        assertThat(objectUnderTest.getHitRate(), is(equalTo(0.5)));
+    }
+
+    @Test
+    void intern_of_null_returns_null() {
+        final StringInterner objectUnderTest = createObjectUnderTest(10);
+
+        assertThat(objectUnderTest.intern(null), is(nullValue()));
+        assertThat(objectUnderTest.getMisses(), is(equalTo(0L)));
+    }
+
+    @Test
+    void intern_evicts_least_recently_used_string_beyond_maximumSize() {
+        final StringInterner objectUnderTest = createObjectUnderTest(1);
+        final String evicted = objectUnderTest.intern("evicted");
+        final String held = objectUnderTest.intern("held");
+
+        assertThat(objectUnderTest.intern(new String("held")), is(sameInstance(held)));
+        assertThat(objectUnderTest.intern(new String("evicted")), is(not(sameInstance(evicted))));
+        assertThat(objectUnderTest.size(), is(equalTo(1)));
+    }
+
+    @Test
+    void size_does_not_grow_beyond_maximumSize() {
+        final StringInterner objectUnderTest = createObjectUnderTest(20);
+        for (int i = 0; i < 1000; i++) {
+            objectUnderTest.intern("value-" + i);
+        }
+
+        assertThat(objectUnderTest.size(), is(lessThanOrEqualTo(20)));
+        assertThat(objectUnderTest.getMisses(), is(equalTo(1000L)));
+    }
+
+    @Test
+    void getHitRate_without_interned_strings_returns_zero() {
+        assertThat(createObjectUnderTest(10).getHitRate(), is(equalTo(0.0)));
+    }
+
+    @Test
+    void internValue_interns_only_strings_of_value_keys() {
+        final StringInterner objectUnderTest = createObjectUnderTest(10);
+        final String value = objectUnderTest.intern("value");
+        final String otherValue = new String("value");
+
+        assertThat(objectUnderTest.internValue(VALUE_KEY, new String("value")), is(sameInstance(value)));
+        assertThat(objectUnderTest.internValue("otherKey", otherValue), is(sameInstance(otherValue)));
+        assertThat(objectUnderTest.internValue(VALUE_KEY, 1), is(equalTo(1)));
+        assertThat(objectUnderTest.isValueKey(VALUE_KEY), is(true));
+        assertThat(objectUnderTest.isValueKey("otherKey"), is(false));
+    }
+}
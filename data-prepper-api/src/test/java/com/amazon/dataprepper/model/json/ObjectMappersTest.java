@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ObjectMappersTest {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
+
+    @Test
+    void getJsonMapper_returns_shared_mapper_without_interned_field_names() {
+        final ObjectMapper objectMapper = ObjectMappers.getJsonMapper();
+
+        assertThat(ObjectMappers.getJsonMapper(), is(sameInstance(objectMapper)));
+        assertThat(objectMapper.getFactory().isEnabled(JsonFactory.Feature.INTERN_FIELD_NAMES), is(false));
+        assertThat(objectMapper.getFactory().isEnabled(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES), is(true));
+    }
+
+    @Test
+    void newObjectMapper_returns_new_mapper_for_factory() {
+        final SmileFactory smileFactory = new SmileFactory();
+
+        final ObjectMapper objectMapper = ObjectMappers.newObjectMapper(smileFactory);
+
+        assertThat(objectMapper, is(not(sameInstance(ObjectMappers.getJsonMapper()))));
+        assertThat(objectMapper.getFactory(), is(sameInstance(smileFactory)));
+        assertThat(smileFactory.isEnabled(JsonFactory.Feature.INTERN_FIELD_NAMES), is(false));
+    }
+
+    @Test
+    void getJsonWriter_writes_json() throws IOException {
+        assertThat(ObjectMappers.getJsonWriter(), is(sameInstance(ObjectMappers.getJsonWriter())));
+        assertThat(ObjectMappers.getJsonWriter().writeValueAsString(Collections.singletonMap("foo", 1)),
+                is(equalTo("{\"foo\":1}")));
+    }
+
+    @Test
+    void getJsonReader_for_class_returns_cached_reader() throws IOException {
+        assertThat(ObjectMappers.getJsonReader(Map.class), is(sameInstance(ObjectMappers.getJsonReader(Map.class))));
+        assertThat(ObjectMappers.getJsonReader(Map.class).readValue("{\"foo\":1}"),
+                is(equalTo(Collections.singletonMap("foo", 1))));
+    }
+
+    @Test
+    void getJsonReader_for_type_reference_returns_cached_reader() throws IOException {
+        final Map<String, Object> value = ObjectMappers.getJsonReader(MAP_TYPE_REFERENCE).readValue("{\"foo\":\"bar\"}");
+
+        assertThat(value, is(equalTo(Collections.singletonMap("foo", "bar"))));
+        assertThat(ObjectMappers.getJsonReader(new TypeReference<Map<String, Object>>() {}),
+                is(sameInstance(ObjectMappers.getJsonReader(MAP_TYPE_REFERENCE))));
+    }
+
+    @Test
+    void getJsonListReader_returns_cached_reader_of_lists() throws IOException {
+        final List<Long> value = ObjectMappers.getJsonListReader(Long.class).readValue("[1,2]");
+
+        assertThat(value, is(equalTo(Arrays.asList(1L, 2L))));
+        assertThat(ObjectMappers.getJsonListReader(Long.class), is(sameInstance(ObjectMappers.getJsonListReader(Long.class))));
+    }
+}
@@ -14,6 +14,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonLogTest {
@@ -49,4 +50,17 @@ public class JacksonLogTest {
         assertThat(logBuilder, is(notNullValue()));
         assertThrows(IllegalArgumentException.class, logBuilder::build);
     }
+
+    @Test
+    public void testSnapshot_returnsIndependentLog() {
+        final JacksonLog log = JacksonLog.builder().build();
+        log.put("message", "original");
+
+        final JacksonLog snapshot = log.snapshot();
+        snapshot.put("message", "modified");
+
+        assertThat(snapshot.getMetadata(), is(sameInstance(log.getMetadata())));
+        assertThat(log.get("message", String.class), is(equalTo("original")));
+        assertThat(snapshot.get("message", String.class), is(equalTo("modified")));
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.model.record;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RecordBatchTest {
+
+    private static final EventKey FIRST_KEY = EventKey.of("first");
+    private static final EventKey SECOND_KEY = EventKey.of("nested/second");
+
+    private List<Record<Event>> records;
+
+    @BeforeEach
+    void setUp() {
+        records = new ArrayList<>();
+        records.add(createRecord("a", "b"));
+        records.add(createRecord("c", null));
+        records.add(createRecord(null, "d"));
+    }
+
+    private static Record<Event> createRecord(final String first, final String second) {
+        final Map<String, Object> data = new HashMap<>();
+        if (first != null) {
+            data.put("first", first);
+        }
+        if (second != null) {
+            data.put("nested", Collections.singletonMap("second", second));
+        }
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build());
+    }
+
+    @Test
+    void of_returns_batch_of_records() {
+        final RecordBatch recordBatch = RecordBatch.of(records);
+
+        assertThat(recordBatch.size(), equalTo(3));
+        assertThat(recordBatch, contains(records.get(0), records.get(1), records.get(2)));
+        for (int row = 0; row < records.size(); row++) {
+            assertThat(recordBatch.get(row), sameInstance(records.get(row)));
+        }
+    }
+
+    @Test
+    void of_copies_records_without_random_access() {
+        final RecordBatch recordBatch = RecordBatch.of(new LinkedList<>(records));
+
+        assertThat(recordBatch.size(), equalTo(3));
+        assertThat(recordBatch.get(2), sameInstance(records.get(2)));
+    }
+
+    @Test
+    void of_copies_records_which_are_not_a_list() {
+        final Collection<Record<Event>> recordSet = new LinkedHashSet<>(records);
+
+        final RecordBatch recordBatch = RecordBatch.of(recordSet);
+
+        assertThat(recordBatch, contains(records.get(0), records.get(1), records.get(2)));
+    }
+
+    @Test
+    void of_returns_same_batch_for_a_batch() {
+        final RecordBatch recordBatch = RecordBatch.of(records);
+
+        assertThat(RecordBatch.of(recordBatch), sameInstance(recordBatch));
+        assertThat(RecordBatch.of(recordBatch, Collections.singletonList(FIRST_KEY)), sameInstance(recordBatch));
+    }
+
+    @Test
+    void records_of_batch_cannot_be_modified() {
+        final RecordBatch recordBatch = RecordBatch.of(records);
+
+        assertThrows(UnsupportedOperationException.class, () -> recordBatch.add(createRecord("e", "f")));
+        assertThrows(UnsupportedOperationException.class, () -> recordBatch.iterator().remove());
+    }
+
+    @Test
+    void of_with_column_keys_extracts_columns() {
+        final RecordBatch recordBatch = RecordBatch.of(records, Arrays.asList(FIRST_KEY, SECOND_KEY));
+
+        final RecordBatch.Column firstColumn = recordBatch.getColumn(FIRST_KEY);
+        assertThat(firstColumn.getKey(), equalTo(FIRST_KEY));
+        assertThat(firstColumn.size(), equalTo(3));
+        assertThat(firstColumn.get(0), equalTo("a"));
+        assertThat(firstColumn.get(1), equalTo("c"));
+        assertThat(firstColumn.get(2), nullValue());
+
+        final RecordBatch.Column secondColumn = recordBatch.getColumn(SECOND_KEY);
+        assertThat(secondColumn.getKey(), equalTo(SECOND_KEY));
+        assertThat(secondColumn.get(0), equalTo("b"));
+        assertThat(secondColumn.get(1), nullValue());
+        assertThat(secondColumn.get(2), equalTo("d"));
+    }
+
+    @Test
+    void getColumn_extracts_column_which_was_not_requested() {
+        final RecordBatch recordBatch = RecordBatch.of(records);
+
+        final RecordBatch.Column column = recordBatch.getColumn(FIRST_KEY);
+
+        assertThat(column.size(), equalTo(3));
+        assertThat(column.get(0), equalTo("a"));
+        assertThat(recordBatch.getColumn(FIRST_KEY), sameInstance(column));
+    }
+
+    @Test
+    void getColumn_of_missing_key_returns_column_of_nulls() {
+        final EventKey missingKey = EventKey.of(UUID.randomUUID().toString());
+
+        final RecordBatch.Column column = RecordBatch.of(records).getColumn(missingKey);
+
+        assertThat(column.size(), equalTo(3));
+        for (int row = 0; row < column.size(); row++) {
+            assertThat(column.get(row), nullValue());
+        }
+    }
+
+    @Test
+    void columns_are_extracted_once_in_a_single_pass() {
+        final Event event = spy(records.get(0).getData());
+        final RecordBatch recordBatch = RecordBatch.of(Collections.singletonList(new Record<>(event)),
+                Arrays.asList(FIRST_KEY, SECOND_KEY, FIRST_KEY));
+
+        verify(event, times(1)).get(FIRST_KEY, Object.class);
+        verify(event, times(1)).get(SECOND_KEY, Object.class);
+
+        RecordBatch.of(recordBatch, Arrays.asList(FIRST_KEY, SECOND_KEY));
+        recordBatch.getColumn(SECOND_KEY);
+
+        verify(event, times(1)).get(FIRST_KEY, Object.class);
+        verify(event, times(1)).get(SECOND_KEY, Object.class);
+    }
+
+    @Test
+    void columns_are_a_snapshot_of_the_events() {
+        final RecordBatch recordBatch = RecordBatch.of(records, Collections.singletonList(FIRST_KEY));
+
+        recordBatch.get(0).getData().put(FIRST_KEY, "modified");
+
+        assertThat(recordBatch.getColumn(FIRST_KEY).get(0), equalTo("a"));
+    }
+
+    @Test
+    void empty_batch_has_empty_columns() {
+        final RecordBatch recordBatch = RecordBatch.of(Collections.emptyList(), Collections.singletonList(FIRST_KEY));
+
+        assertThat(recordBatch.size(), equalTo(0));
+        assertThat(recordBatch.getColumn(FIRST_KEY).size(), equalTo(0));
+    }
+}
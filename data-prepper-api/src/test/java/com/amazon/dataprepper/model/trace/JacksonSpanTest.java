@@ -466,4 +466,14 @@ public class JacksonSpanTest {
 
         assertThrows(NullPointerException.class, builder::build);
     }
+
+    @Test
+    public void testSnapshot_returnsIndependentSpan() {
+        final JacksonSpan snapshot = jacksonSpan.snapshot();
+        snapshot.put("name", "modified");
+
+        assertThat(snapshot.getTraceId(), is(equalTo(jacksonSpan.getTraceId())));
+        assertThat(snapshot.getName(), is(equalTo("modified")));
+        assertThat(jacksonSpan.getName(), is(equalTo(TEST_NAME)));
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.buffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import com.amazon.dataprepper.plugins.buffer.blockingbuffer.PartitionedBlockingBuffer;
+import com.amazon.dataprepper.plugins.buffer.ringbuffer.RingBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+@State(Scope.Group)
+public class BufferBenchmarks {
+    private static final String PIPELINE_NAME = "benchmark";
+    private static final int BUFFER_SIZE = 4096;
+    private static final int BATCH_SIZE = 256;
+    private static final int WRITE_TIMEOUT = 10;
+    private static final int READ_TIMEOUT = 10;
+    private static final int PARTITIONS = 4;
+    private static final Record<String> RECORD = new Record<>("benchmark-record");
+
+    @Param({"bounded_blocking", "partitioned_blocking", "ring_buffer"})
+    private String bufferType;
+
+    private Buffer<Record<String>> buffer;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        if ("ring_buffer".equals(bufferType)) {
+            buffer = new RingBuffer<>(BUFFER_SIZE, BATCH_SIZE, PIPELINE_NAME);
+        } else if ("partitioned_blocking".equals(bufferType)) {
+            buffer = new PartitionedBlockingBuffer<>(BUFFER_SIZE, BATCH_SIZE, PARTITIONS, PIPELINE_NAME);
+        } else {
+            buffer = new BlockingBuffer<>(BUFFER_SIZE, BATCH_SIZE, PIPELINE_NAME);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    @Group("writeRead")
+    @GroupThreads(4)
+    public boolean write() {
+        try {
+            buffer.write(RECORD, WRITE_TIMEOUT);
+            return true;
+        } catch (final TimeoutException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    @Group("writeRead")
+    @GroupThreads(4)
+    public int readAndCheckpoint() {
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(READ_TIMEOUT);
+        buffer.checkpoint(readResult.getValue());
+        return readResult.getKey().size();
+    }
+}
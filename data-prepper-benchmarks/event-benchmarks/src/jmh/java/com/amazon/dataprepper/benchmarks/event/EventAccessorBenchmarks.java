@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.event;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares the typed accessors of an event, which read and write Jackson nodes directly, against the generic
+ * {@link Event#get(EventKey, Class)} and {@link Event#put(EventKey, Object)}, which convert through Jackson databind.
+ * A generic put of a String already stores a text node, so only numbers are compared for puts.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EventAccessorBenchmarks {
+    private static final EventKey MESSAGE_KEY = EventKey.of("message");
+    private static final EventKey COUNT_KEY = EventKey.of("nested/count");
+    private static final EventKey LATENCY_KEY = EventKey.of("nested/latency");
+    private static final EventKey SUCCESS_KEY = EventKey.of("nested/success");
+
+    private Event event;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Map<String, Object> nested = new HashMap<>();
+        nested.put("count", 1_000L);
+        nested.put("latency", 12.5);
+        nested.put("success", true);
+        final Map<String, Object> data = new HashMap<>();
+        data.put("message", "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326");
+        data.put("nested", nested);
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    @Benchmark
+    public String getString() {
+        return event.getString(MESSAGE_KEY);
+    }
+
+    @Benchmark
+    public String getGenericString() {
+        return event.get(MESSAGE_KEY, String.class);
+    }
+
+    @Benchmark
+    public long getLong() {
+        return event.getLong(COUNT_KEY);
+    }
+
+    @Benchmark
+    public long getGenericLong() {
+        return event.get(COUNT_KEY, Long.class);
+    }
+
+    @Benchmark
+    public double getDouble() {
+        return event.getDouble(LATENCY_KEY);
+    }
+
+    @Benchmark
+    public double getGenericDouble() {
+        return event.get(LATENCY_KEY, Double.class);
+    }
+
+    @Benchmark
+    public boolean getBoolean() {
+        return event.getBoolean(SUCCESS_KEY);
+    }
+
+    @Benchmark
+    public boolean getGenericBoolean() {
+        return event.get(SUCCESS_KEY, Boolean.class);
+    }
+
+    @Benchmark
+    public Event putLong() {
+        event.putLong(COUNT_KEY, counter++);
+        return event;
+    }
+
+    @Benchmark
+    public Event putGenericLong() {
+        event.put(COUNT_KEY, counter++);
+        return event;
+    }
+}
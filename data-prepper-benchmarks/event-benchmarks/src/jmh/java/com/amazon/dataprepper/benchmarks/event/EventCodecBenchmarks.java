@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.event;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventBinaryCodec;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares encoding and decoding an event with the {@link EventBinaryCodec} against its JSON form. The JSON form does
+ * not carry the event metadata, so the binary codec does slightly more work for the same data.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EventCodecBenchmarks {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String EVENT_TYPE = "event";
+    private static final int FIELDS = 20;
+
+    private final EventBinaryCodec eventBinaryCodec = new EventBinaryCodec();
+    private Event event;
+    private byte[] binaryEvent;
+    private byte[] jsonEvent;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final Map<String, Object> data = new HashMap<>();
+        for (int i = 0; i < FIELDS; i++) {
+            data.put("field" + i, "value of field " + i);
+            data.put("number" + i, i * 1_000L);
+        }
+        data.put("nested", Collections.singletonMap("inner", Collections.singletonMap("key", "nested value")));
+        event = JacksonEvent.builder()
+                .withEventType(EVENT_TYPE)
+                .withEventMetadataAttributes(Collections.singletonMap("source", "benchmark"))
+                .withData(data)
+                .build();
+        binaryEvent = eventBinaryCodec.encode(event);
+        jsonEvent = event.toJsonString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Events cache their JSON until they are modified, so each encode benchmark modifies the event first.
+     */
+    private void modifyEvent() {
+        event.put("counter", counter++);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() throws IOException {
+        modifyEvent();
+        return eventBinaryCodec.encode(event);
+    }
+
+    @Benchmark
+    public String encodeJson() {
+        modifyEvent();
+        return event.toJsonString();
+    }
+
+    @Benchmark
+    public Event decodeBinary() throws IOException {
+        return eventBinaryCodec.decode(binaryEvent);
+    }
+
+    @Benchmark
+    public JsonNode decodeJson() throws IOException {
+        return OBJECT_MAPPER.readTree(jsonEvent);
+    }
+}
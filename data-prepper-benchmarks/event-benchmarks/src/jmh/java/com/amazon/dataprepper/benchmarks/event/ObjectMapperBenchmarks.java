@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.event;
+
+import com.amazon.dataprepper.model.json.ObjectMappers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares reading and writing span and log payloads with a default {@link ObjectMapper}, as each module used to
+ * create, against the shared mapper, reader and writer of {@link ObjectMappers}.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ObjectMapperBenchmarks {
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
+
+    private final ObjectMapper defaultObjectMapper = new ObjectMapper();
+    private final ObjectReader sharedReader = ObjectMappers.getJsonReader(MAP_TYPE_REFERENCE);
+    private final ObjectWriter sharedWriter = ObjectMappers.getJsonWriter();
+
+    @Param({"span", "log"})
+    private String payloadType;
+
+    private Map<String, Object> payload;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        payload = "span".equals(payloadType) ? createSpan() : createLog();
+        json = defaultObjectMapper.writeValueAsBytes(payload);
+    }
+
+    private static Map<String, Object> createSpan() {
+        final Map<String, Object> span = new LinkedHashMap<>();
+        span.put("traceId", "0000000000000000bea2b0f5e0b0c5a1");
+        span.put("spanId", "b0f5e0b0c5a10000");
+        span.put("traceState", "");
+        span.put("parentSpanId", "a1c5b0e0f5b00000");
+        span.put("name", "/checkout");
+        span.put("kind", "SPAN_KIND_SERVER");
+        span.put("startTime", "2022-01-10T19:02:24.402522Z");
+        span.put("endTime", "2022-01-10T19:02:24.512522Z");
+        span.put("durationInNanos", 110_000_000L);
+        span.put("serviceName", "frontend");
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put("http.method", "POST");
+        attributes.put("http.status_code", 200);
+        attributes.put("http.url", "http://frontend:8080/checkout");
+        attributes.put("net.peer.ip", "10.0.0.1");
+        span.put("attributes", attributes);
+        span.put("events", Arrays.asList(
+                createEvent("cart.validated", "2022-01-10T19:02:24.412522Z"),
+                createEvent("payment.authorized", "2022-01-10T19:02:24.492522Z")));
+        span.put("links", Collections.emptyList());
+        span.put("traceGroup", "/checkout");
+        span.put("traceGroupFields", createTraceGroupFields());
+        return span;
+    }
+
+    private static Map<String, Object> createEvent(final String name, final String time) {
+        final Map<String, Object> event = new LinkedHashMap<>();
+        event.put("name", name);
+        event.put("time", time);
+        event.put("attributes", new HashMap<>());
+        event.put("droppedAttributesCount", 0);
+        return event;
+    }
+
+    private static Map<String, Object> createTraceGroupFields() {
+        final Map<String, Object> traceGroupFields = new LinkedHashMap<>();
+        traceGroupFields.put("endTime", "2022-01-10T19:02:24.512522Z");
+        traceGroupFields.put("durationInNanos", 110_000_000L);
+        traceGroupFields.put("statusCode", 1);
+        return traceGroupFields;
+    }
+
+    private static Map<String, Object> createLog() {
+        final Map<String, Object> log = new LinkedHashMap<>();
+        log.put("message", "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326");
+        log.put("clientip", "127.0.0.1");
+        log.put("ident", "-");
+        log.put("auth", "frank");
+        log.put("timestamp", "10/Oct/2000:13:55:36 -0700");
+        log.put("verb", "GET");
+        log.put("request", "/apache_pb.gif");
+        log.put("httpversion", "1.0");
+        log.put("response", 200);
+        log.put("bytes", 2326);
+        return log;
+    }
+
+    @Benchmark
+    public Map<String, Object> readWithDefaultMapper() throws IOException {
+        return defaultObjectMapper.readValue(json, MAP_TYPE_REFERENCE);
+    }
+
+    @Benchmark
+    public Map<String, Object> readWithSharedReader() throws IOException {
+        return sharedReader.readValue(json);
+    }
+
+    @Benchmark
+    public byte[] writeWithDefaultMapper() throws IOException {
+        return defaultObjectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] writeWithSharedWriter() throws IOException {
+        return sharedWriter.writeValueAsBytes(payload);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.benchmarks.http;
+
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.log.Log;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.JsonCodec;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linecorp.armeria.common.HttpData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares parsing a batch of logs with the streaming {@link JsonCodec} against the former codec, which read the batch
+ * into maps, wrote each map back to JSON and let each log parse that JSON again. Each benchmark reads one field of
+ * every log, as a processor would, so that the deferred parsing of the former codec is measured too.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonCodecBenchmarks {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAP_TYPE_REFERENCE =
+            new TypeReference<List<Map<String, Object>>>() {};
+
+    private final JsonCodec jsonCodec = new JsonCodec();
+
+    @Param({"10", "1000"})
+    private int batchSize;
+
+    private HttpData httpData;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final List<Map<String, Object>> logs = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            final Map<String, Object> log = new HashMap<>();
+            log.put("message", "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 " + i);
+            log.put("host", "host-" + (i % 10));
+            log.put("status", 200);
+            log.put("bytes", i);
+            logs.add(log);
+        }
+        httpData = HttpData.wrap(OBJECT_MAPPER.writeValueAsBytes(logs));
+    }
+
+    @Benchmark
+    public int parseStreaming() throws IOException {
+        return readMessages(jsonCodec.parse(httpData));
+    }
+
+    @Benchmark
+    public int parseThroughMaps() throws IOException {
+        final List<Log> logs = new ArrayList<>();
+        final List<Map<String, Object>> logMaps = OBJECT_MAPPER.readValue(httpData.toInputStream(), LIST_OF_MAP_TYPE_REFERENCE);
+        for (final Map<String, Object> logMap : logMaps) {
+            final String json = OBJECT_MAPPER.writeValueAsString(logMap);
+            logs.add(JacksonLog.builder()
+                    .withJsonData(json.getBytes(StandardCharsets.UTF_8))
+                    .getThis()
+                    .build());
+        }
+        return readMessages(logs);
+    }
+
+    private static int readMessages(final List<Log> logs) {
+        int length = 0;
+        for (final Log log : logs) {
+            length += log.get("message", String.class).length();
+        }
+        return length;
+    }
+}
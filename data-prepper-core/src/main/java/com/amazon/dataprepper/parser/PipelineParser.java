@@ -16,6 +16,7 @@ import com.amazon.dataprepper.model.sink.Sink;
 import com.amazon.dataprepper.model.source.Source;
 import com.amazon.dataprepper.parser.model.PipelineConfiguration;
 import com.amazon.dataprepper.pipeline.Pipeline;
+import com.amazon.dataprepper.pipeline.PipelineSettings;
 import com.amazon.dataprepper.pipeline.PipelineConnector;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -96,17 +97,27 @@ public class PipelineParser {
 
             LOG.info("Building processors for the pipeline [{}]", pipelineName);
             final int processorThreads = pipelineConfiguration.getWorkers();
+            final int maxProcessorThreads = pipelineConfiguration.getMaxWorkers();
             final List<List<Processor>> processorSets = pipelineConfiguration.getProcessorPluginSettings().stream()
-                    .map(this::newProcessor)
+                    .map(pluginSetting -> newProcessor(pluginSetting, maxProcessorThreads))
                     .collect(Collectors.toList());
             final int readBatchDelay = pipelineConfiguration.getReadBatchDelay();
+            final int maxInFlightBatches = pipelineConfiguration.getMaxInFlightBatches();
 
             LOG.info("Building sinks for the pipeline [{}]", pipelineName);
             final List<Sink> sinks = pipelineConfiguration.getSinkPluginSettings().stream()
                     .map(this::buildSinkOrConnector)
                     .collect(Collectors.toList());
 
-            final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, processorSets, sinks, processorThreads, readBatchDelay);
+            final PipelineSettings pipelineSettings = new PipelineSettings.Builder()
+                    .withProcessorThreads(processorThreads)
+                    .withMaxProcessorThreads(maxProcessorThreads)
+                    .withReadBatchTimeoutInMillis(readBatchDelay)
+                    .withMaxInFlightBatches(maxInFlightBatches)
+                    .withSinkExecutorSettings(pipelineConfiguration.getSinkExecutorSettings())
+                    .withTargetLatencyInMillis(pipelineConfiguration.getTargetLatency())
+                    .build();
+            final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, processorSets, sinks, pipelineSettings);
             pipelineMap.put(pipelineName, pipeline);
         } catch (Exception ex) {
             //If pipeline construction errors out, we will skip that pipeline and proceed
@@ -117,25 +128,30 @@ public class PipelineParser {
 
     }
 
-    private List<Processor> newProcessor(final PluginSetting pluginSetting) {
+    /**
+     * Creates the processor of a plugin setting. A {@link SingleThread} processor gets an instance for each of the
+     * maxProcessorThreads workers the pipeline can run.
+     */
+    private List<Processor> newProcessor(final PluginSetting pluginSetting, final int maxProcessorThreads) {
         try {
-            return newProcessor(pluginSetting, Processor.class);
+            return newProcessor(pluginSetting, Processor.class, maxProcessorThreads);
         } catch (NoPluginFoundException ex) {
             LOG.warn(
                     "No plugin of type Processor found for plugin setting: {}, attempting to find comparable Prepper plugin.",
                     pluginSetting.getName());
-            return newProcessor(pluginSetting, Prepper.class)
+            return newProcessor(pluginSetting, Prepper.class, maxProcessorThreads)
                     .stream()
                     .map(prepper -> (Processor) prepper)
                     .collect(Collectors.toList());
         }
     }
-    private <T extends Processor> List<T> newProcessor(final PluginSetting pluginSetting, final Class<T> baseClass) {
+    private <T extends Processor> List<T> newProcessor(final PluginSetting pluginSetting, final Class<T> baseClass,
+                                                       final int maxProcessorThreads) {
         return pluginFactory.loadPlugins(
                 baseClass,
                 pluginSetting,
                 actualClass -> actualClass.isAnnotationPresent(SingleThread.class) ?
-                        pluginSetting.getNumberOfProcessWorkers() :
+                        maxProcessorThreads :
                         1);
     }
 
@@ -173,7 +189,7 @@ public class PipelineParser {
         final Optional<String> pipelineNameOptional = getPipelineNameIfPipelineType(pluginSetting);
         if (pipelineNameOptional.isPresent()) { //update to ifPresentOrElse when using JDK9
             final String pipelineName = pipelineNameOptional.get();
-            final PipelineConnector pipelineConnector = new PipelineConnector(pipelineName);
+            final PipelineConnector pipelineConnector = new PipelineConnector(pipelineName, pluginSetting);
             sourceConnectorMap.put(pipelineName, pipelineConnector); //TODO retrieve from parent Pipeline using name
             return pipelineConnector;
         } else {
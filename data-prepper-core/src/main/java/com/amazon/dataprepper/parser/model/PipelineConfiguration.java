@@ -6,12 +6,14 @@
 package com.amazon.dataprepper.parser.model;
 
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.pipeline.common.SinkExecutorSettings;
 import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -53,15 +55,27 @@ public class PipelineConfiguration {
 
     private static final String WORKERS_COMPONENT = "workers";
     private static final String DELAY_COMPONENT = "delay";
+    private static final String MAX_IN_FLIGHT_BATCHES_COMPONENT = "max_in_flight_batches";
+    private static final String TARGET_LATENCY_COMPONENT = "target_latency";
+    private static final String MAX_WORKERS_COMPONENT = "max_workers";
+    private static final String SINK_THREADS_ATTRIBUTE = "sink_threads";
+    private static final String SINK_QUEUE_SIZE_ATTRIBUTE = "sink_queue_size";
+    private static final List<String> SINK_EXECUTOR_ATTRIBUTES = Arrays.asList(SINK_THREADS_ATTRIBUTE,
+            SINK_QUEUE_SIZE_ATTRIBUTE);
     private static final int DEFAULT_READ_BATCH_DELAY = 3_000;
     private static final int DEFAULT_WORKERS = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
 
     private final PluginSetting sourcePluginSetting;
     private final PluginSetting bufferPluginSetting;
     private final List<PluginSetting> processorPluginSettings;
     private final List<PluginSetting> sinkPluginSettings;
+    private final List<SinkExecutorSettings> sinkExecutorSettings;
     private final Integer workers;
     private final Integer readBatchDelay;
+    private final Integer maxInFlightBatches;
+    private final Integer targetLatency;
+    private final Integer maxWorkers;
 
     public PipelineConfiguration(
             final Map.Entry<String, Map<String, Object>> source,
@@ -70,12 +84,26 @@ public class PipelineConfiguration {
             final List<Map.Entry<String, Map<String, Object>>> sinks,
             final Integer workers,
             final Integer delay) {
-        this.sourcePluginSetting = getSourceFromConfiguration(source);
-        this.bufferPluginSetting = getBufferFromConfigurationOrDefault(buffer);
-        this.processorPluginSettings = getProcessorsFromConfiguration(processors);
-        this.sinkPluginSettings = getSinksFromConfiguration(sinks);
-        this.workers = getWorkersFromConfiguration(workers);
-        this.readBatchDelay = getReadBatchDelayFromConfiguration(delay);
+        this(new Builder()
+                .withSource(source)
+                .withBuffer(buffer)
+                .withProcessors(processors)
+                .withSinks(sinks)
+                .withWorkers(workers)
+                .withDelay(delay));
+    }
+
+    private PipelineConfiguration(final Builder builder) {
+        this.sourcePluginSetting = getSourceFromConfiguration(builder.source);
+        this.bufferPluginSetting = getBufferFromConfigurationOrDefault(builder.buffer);
+        this.processorPluginSettings = getProcessorsFromConfiguration(builder.processors);
+        this.sinkExecutorSettings = getSinkExecutorSettingsFromConfiguration(builder.sinks);
+        this.sinkPluginSettings = getSinksFromConfiguration(builder.sinks);
+        this.workers = getWorkersFromConfiguration(builder.workers);
+        this.readBatchDelay = getReadBatchDelayFromConfiguration(builder.delay);
+        this.maxInFlightBatches = getMaxInFlightBatchesFromConfiguration(builder.maxInFlightBatches);
+        this.targetLatency = getValueFromConfiguration(builder.targetLatency, TARGET_LATENCY_COMPONENT);
+        this.maxWorkers = getMaxWorkersFromConfiguration(builder.maxWorkers);
     }
 
     /**
@@ -88,6 +116,9 @@ public class PipelineConfiguration {
      * @param sinks Deserialized sinks plugin configuration
      * @param workers Deserialized workers plugin configuration, nullable
      * @param delay Deserialized delay plugin configuration, nullable
+     * @param maxInFlightBatches Deserialized max_in_flight_batches configuration, nullable
+     * @param targetLatency Deserialized target_latency configuration, nullable
+     * @param maxWorkers Deserialized max_workers configuration, nullable
      */
     @JsonCreator
     @Deprecated
@@ -98,8 +129,20 @@ public class PipelineConfiguration {
             @JsonProperty("processor") final List<Map.Entry<String, Map<String, Object>>> processors,
             @JsonProperty("sink") final List<Map.Entry<String, Map<String, Object>>> sinks,
             @JsonProperty("workers") final Integer workers,
-            @JsonProperty("delay") final Integer delay) {
-        this(source, buffer, validateProcessor(preppers, processors), sinks, workers, delay);
+            @JsonProperty("delay") final Integer delay,
+            @JsonProperty("max_in_flight_batches") final Integer maxInFlightBatches,
+            @JsonProperty("target_latency") final Integer targetLatency,
+            @JsonProperty("max_workers") final Integer maxWorkers) {
+        this(new Builder()
+                .withSource(source)
+                .withBuffer(buffer)
+                .withProcessors(validateProcessor(preppers, processors))
+                .withSinks(sinks)
+                .withWorkers(workers)
+                .withDelay(delay)
+                .withMaxInFlightBatches(maxInFlightBatches)
+                .withTargetLatency(targetLatency)
+                .withMaxWorkers(maxWorkers));
     }
 
     public PluginSetting getSourcePluginSetting() {
@@ -118,14 +161,40 @@ public class PipelineConfiguration {
         return sinkPluginSettings;
     }
 
+    /**
+     * @return executor settings of each sink, in the same order as {@link #getSinkPluginSettings()}
+     */
+    public List<SinkExecutorSettings> getSinkExecutorSettings() {
+        return sinkExecutorSettings;
+    }
+
     public Integer getWorkers() {
         return workers;
     }
 
+    /**
+     * @return the maximum number of workers, which is the number of workers unless the workers scale with the buffer
+     */
+    public Integer getMaxWorkers() {
+        return maxWorkers;
+    }
+
     public Integer getReadBatchDelay() {
         return readBatchDelay;
     }
 
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    /**
+     * @return the target latency of a batch in milliseconds, or null if the workers read with a fixed batch size and
+     * delay
+     */
+    public Integer getTargetLatency() {
+        return targetLatency;
+    }
+
     public void updateCommonPipelineConfiguration(final String pipelineName) {
         updatePluginSetting(sourcePluginSetting, pipelineName);
         updatePluginSetting(bufferPluginSetting, pipelineName);
@@ -139,6 +208,7 @@ public class PipelineConfiguration {
             final PluginSetting pluginSetting, final String pipelineName) {
         pluginSetting.setPipelineName(pipelineName);
         pluginSetting.setProcessWorkers(this.workers);
+        pluginSetting.setMaxProcessWorkers(this.maxWorkers);
     }
 
     private PluginSetting getSourceFromConfiguration(final Map.Entry<String, Map<String, Object>> sourceConfiguration) {
@@ -161,10 +231,48 @@ public class PipelineConfiguration {
         if (sinkConfigurations == null || sinkConfigurations.isEmpty()) {
             throw new IllegalArgumentException("Invalid configuration, at least one sink is required");
         }
-        return sinkConfigurations.stream().map(PipelineConfiguration::getPluginSettingFromConfiguration)
+        return sinkConfigurations.stream().map(PipelineConfiguration::getSinkPluginSettingFromConfiguration)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Reads the sink executor attributes, which are set alongside the sink's own plugin settings.
+     */
+    private List<SinkExecutorSettings> getSinkExecutorSettingsFromConfiguration(
+            final List<Map.Entry<String, Map<String, Object>>> sinkConfigurations) {
+        if (sinkConfigurations == null) {
+            return Collections.emptyList();
+        }
+        return sinkConfigurations.stream()
+                .map(PipelineConfiguration::getPluginSettingFromConfiguration)
+                .map(pluginSetting -> new SinkExecutorSettings(
+                        pluginSetting.getName(),
+                        getSinkExecutorAttribute(pluginSetting, SINK_THREADS_ATTRIBUTE),
+                        getSinkExecutorAttribute(pluginSetting, SINK_QUEUE_SIZE_ATTRIBUTE)))
+                .collect(Collectors.toList());
+    }
+
+    private Integer getSinkExecutorAttribute(final PluginSetting pluginSetting, final String attribute) {
+        final Integer configuredValue = pluginSetting.getAttributeFromSettings(attribute) == null ? null :
+                pluginSetting.getIntegerOrDefault(attribute, 0);
+        return getValueFromConfiguration(configuredValue, attribute);
+    }
+
+    /**
+     * Creates the sink {@link PluginSetting} without the sink executor attributes, which belong to the pipeline
+     * rather than the sink plugin.
+     */
+    private static PluginSetting getSinkPluginSettingFromConfiguration(
+            final Map.Entry<String, Map<String, Object>> configuration) {
+        final PluginSetting pluginSetting = getPluginSettingFromConfiguration(configuration);
+        if (SINK_EXECUTOR_ATTRIBUTES.stream().noneMatch(pluginSetting.getSettings()::containsKey)) {
+            return pluginSetting;
+        }
+        final Map<String, Object> sinkSettings = new HashMap<>(pluginSetting.getSettings());
+        SINK_EXECUTOR_ATTRIBUTES.forEach(sinkSettings::remove);
+        return new PluginSetting(pluginSetting.getName(), sinkSettings);
+    }
+
     private List<PluginSetting> getProcessorsFromConfiguration(
             final List<Map.Entry<String, Map<String, Object>>> processorConfigurations) {
         if (processorConfigurations == null || processorConfigurations.isEmpty()) {
@@ -187,11 +295,29 @@ public class PipelineConfiguration {
         return configuredWorkers == null ? DEFAULT_WORKERS : configuredWorkers;
     }
 
+    private Integer getMaxWorkersFromConfiguration(final Integer maxWorkersConfiguration) {
+        final Integer configuredMaxWorkers = getValueFromConfiguration(maxWorkersConfiguration, MAX_WORKERS_COMPONENT);
+        if (configuredMaxWorkers == null) {
+            return workers;
+        }
+        if (configuredMaxWorkers < workers) {
+            throw new IllegalArgumentException(format("Invalid configuration, %s cannot be less than %s",
+                    MAX_WORKERS_COMPONENT, WORKERS_COMPONENT));
+        }
+        return configuredMaxWorkers;
+    }
+
     private Integer getReadBatchDelayFromConfiguration(final Integer delayConfiguration) {
         final Integer configuredDelay = getValueFromConfiguration(delayConfiguration, DELAY_COMPONENT);
         return configuredDelay == null ? DEFAULT_READ_BATCH_DELAY : configuredDelay;
     }
 
+    private Integer getMaxInFlightBatchesFromConfiguration(final Integer maxInFlightBatchesConfiguration) {
+        final Integer configuredMaxInFlightBatches = getValueFromConfiguration(maxInFlightBatchesConfiguration,
+                MAX_IN_FLIGHT_BATCHES_COMPONENT);
+        return configuredMaxInFlightBatches == null ? DEFAULT_MAX_IN_FLIGHT_BATCHES : configuredMaxInFlightBatches;
+    }
+
     private Integer getValueFromConfiguration(final Integer configuration, final String component) {
         if (configuration != null && configuration <= 0) {
             throw new IllegalArgumentException(format("Invalid configuration, %s cannot be %s",
@@ -199,4 +325,73 @@ public class PipelineConfiguration {
         }
         return configuration;
     }
+
+    /**
+     * Builds a {@link PipelineConfiguration} from deserialized plugin configurations. Every value is nullable and is
+     * validated, or replaced by its default, when the configuration is built.
+     */
+    public static class Builder {
+        private Map.Entry<String, Map<String, Object>> source;
+        private Map.Entry<String, Map<String, Object>> buffer;
+        private List<Map.Entry<String, Map<String, Object>>> processors;
+        private List<Map.Entry<String, Map<String, Object>>> sinks;
+        private Integer workers;
+        private Integer delay;
+        private Integer maxInFlightBatches;
+        private Integer targetLatency;
+        private Integer maxWorkers;
+
+        public Builder withSource(final Map.Entry<String, Map<String, Object>> source) {
+            this.source = source;
+            return this;
+        }
+
+        public Builder withBuffer(final Map.Entry<String, Map<String, Object>> buffer) {
+            this.buffer = buffer;
+            return this;
+        }
+
+        public Builder withProcessors(final List<Map.Entry<String, Map<String, Object>>> processors) {
+            this.processors = processors;
+            return this;
+        }
+
+        public Builder withSinks(final List<Map.Entry<String, Map<String, Object>>> sinks) {
+            this.sinks = sinks;
+            return this;
+        }
+
+        public Builder withWorkers(final Integer workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        public Builder withDelay(final Integer delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        public Builder withMaxInFlightBatches(final Integer maxInFlightBatches) {
+            this.maxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
+        public Builder withTargetLatency(final Integer targetLatency) {
+            this.targetLatency = targetLatency;
+            return this;
+        }
+
+        public Builder withMaxWorkers(final Integer maxWorkers) {
+            this.maxWorkers = maxWorkers;
+            return this;
+        }
+
+        /**
+         * @return the pipeline configuration
+         * @throws IllegalArgumentException if the configuration is invalid
+         */
+        public PipelineConfiguration build() {
+            return new PipelineConfiguration(this);
+        }
+    }
 }
\ No newline at end of file
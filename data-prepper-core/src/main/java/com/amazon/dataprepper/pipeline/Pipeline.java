@@ -5,13 +5,17 @@
 
 package com.amazon.dataprepper.pipeline;
 
+import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
 import com.amazon.dataprepper.model.source.Source;
+import com.amazon.dataprepper.pipeline.common.AdaptiveBatchController;
 import com.amazon.dataprepper.pipeline.common.PipelineThreadFactory;
 import com.amazon.dataprepper.pipeline.common.PipelineThreadPoolExecutor;
+import com.amazon.dataprepper.pipeline.common.SinkExecutor;
+import com.amazon.dataprepper.pipeline.common.SinkExecutorSettings;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +26,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -36,6 +42,8 @@ import static java.lang.String.format;
 public class Pipeline {
     private static final Logger LOG = LoggerFactory.getLogger(Pipeline.class);
     private static final int PROCESSOR_DEFAULT_TERMINATION_IN_MILLISECONDS = 10_000;
+    private static final long WORKER_SCALING_INTERVAL_IN_MILLISECONDS = 1_000;
+    static final String ACTIVE_PROCESS_WORKERS = "activeProcessWorkers";
     private volatile boolean stopRequested;
 
     private final String name;
@@ -44,9 +52,15 @@ public class Pipeline {
     private final List<List<Processor>> processorSets;
     private final List<Sink> sinks;
     private final int processorThreads;
+    private final int maxProcessorThreads;
     private final int readBatchTimeoutInMillis;
+    private final int maxInFlightBatches;
     private final ExecutorService processorExecutorService;
-    private final ExecutorService sinkExecutorService;
+    private final List<SinkExecutor> sinkExecutors;
+    private final AdaptiveBatchController adaptiveBatchController;
+    private final ProcessWorker[] processWorkers;
+    private final Future<?>[] processWorkerFutures;
+    private volatile ScheduledExecutorService workerScalingExecutorService;
 
     /**
      * Constructs a {@link Pipeline} object with provided {@link Source}, {@link #name}, {@link Collection} of
@@ -72,21 +86,75 @@ public class Pipeline {
             @Nonnull final List<Sink> sinks,
             final int processorThreads,
             final int readBatchTimeoutInMillis) {
+        this(name, source, buffer, processorSets, sinks, new PipelineSettings.Builder()
+                .withProcessorThreads(processorThreads)
+                .withReadBatchTimeoutInMillis(readBatchTimeoutInMillis)
+                .build());
+    }
+
+    /**
+     * Constructs a {@link Pipeline} which runs its {@link ProcessWorker}s and {@link SinkExecutor}s with the given
+     * {@link PipelineSettings}. Its number of workers scales between the processor threads and the maximum processor
+     * threads with the number of records waiting in the {@link Buffer}: a worker is added while the records in the
+     * buffer do not decrease, and retired while the buffer is empty.
+     *
+     * @param name          name of the pipeline
+     * @param source        source from where the pipeline reads the records
+     * @param buffer        buffer for the source to queue records
+     * @param processorSets processor sets that will be applied to records. Each set includes either a single shared
+     *                      processor instance or an instance for each of the maximum processor threads.
+     * @param sinks         sink to which the transformed records are posted
+     * @param settings      settings of the process workers and sinks
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<Sink> sinks,
+            @Nonnull final PipelineSettings settings) {
+        final int processorThreads = settings.getProcessorThreads();
+        final int maxProcessorThreads = settings.getMaxProcessorThreads();
+        final int readBatchTimeoutInMillis = settings.getReadBatchTimeoutInMillis();
+        final int maxInFlightBatches = settings.getMaxInFlightBatches();
+        final List<SinkExecutorSettings> sinkExecutorSettings = settings.getSinkExecutorSettings() != null ?
+                settings.getSinkExecutorSettings() :
+                sinks.stream()
+                        .map(SinkExecutorSettings::defaultSettings)
+                        .collect(Collectors.toList());
+        final Integer targetLatencyInMillis = settings.getTargetLatencyInMillis();
         Preconditions.checkArgument(processorSets.stream().allMatch(
-                processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
+                processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == maxProcessorThreads)));
+        Preconditions.checkArgument(sinkExecutorSettings.size() == sinks.size(),
+                "sinkExecutorSettings must be provided for each sink");
         this.name = name;
         this.source = source;
         this.buffer = buffer;
         this.processorSets = processorSets;
         this.sinks = sinks;
         this.processorThreads = processorThreads;
+        this.maxProcessorThreads = maxProcessorThreads;
         this.readBatchTimeoutInMillis = readBatchTimeoutInMillis;
-        this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(maxProcessorThreads,
                 new PipelineThreadFactory(format("%s-processor-worker", name)), this);
+        this.processWorkers = new ProcessWorker[maxProcessorThreads];
+        this.processWorkerFutures = new Future<?>[maxProcessorThreads];
 
-        // TODO: allow this to be configurable as well?
-        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-sink-worker", name)), this);
+        this.sinkExecutors = new ArrayList<>(sinks.size());
+        for (int i = 0; i < sinks.size(); i++) {
+            final SinkExecutorSettings sinkSettings = sinkExecutorSettings.get(i);
+            final int sinkThreads = sinkSettings.getThreads() == null ? maxProcessorThreads : sinkSettings.getThreads();
+            final int sinkQueueSize = sinkSettings.getQueueSize() == null ?
+                    maxProcessorThreads * maxInFlightBatches : sinkSettings.getQueueSize();
+            sinkExecutors.add(new SinkExecutor(sinks.get(i), sinkSettings.getSinkName(), i, sinkThreads, sinkQueueSize,
+                    this));
+        }
+        this.adaptiveBatchController = targetLatencyInMillis == null ? null :
+                new AdaptiveBatchController(name, targetLatencyInMillis, readBatchTimeoutInMillis,
+                        buffer.getBatchSize());
+        PluginMetrics.fromNames("processWorker", name)
+                .gauge(ACTIVE_PROCESS_WORKERS, this, Pipeline::getActiveProcessWorkers);
 
         stopRequested = false;
     }
@@ -134,6 +202,21 @@ public class Pipeline {
         return readBatchTimeoutInMillis;
     }
 
+    /**
+     * @return the maximum number of batches each {@link ProcessWorker} may have read but not yet checkpointed.
+     */
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    /**
+     * @return the {@link AdaptiveBatchController} of the {@link ProcessWorker}s, or null if they read with a fixed
+     * batch size and delay.
+     */
+    public AdaptiveBatchController getAdaptiveBatchController() {
+        return adaptiveBatchController;
+    }
+
     /**
      * Executes the current pipeline i.e. reads the data from {@link Source}, executes optional {@link Processor} on the
      * read data and outputs to {@link Sink}.
@@ -143,18 +226,17 @@ public class Pipeline {
         try {
             source.start(buffer);
             LOG.info("Pipeline [{}] - Submitting request to initiate the pipeline processing", name);
-            for (int i = 0; i < processorThreads; i++) {
-                final int finalI = i;
-                final List<Processor> processors = processorSets.stream().map(
-                        processorSet -> {
-                            if (processorSet.size() == 1) {
-                                return processorSet.get(0);
-                            } else {
-                                return processorSet.get(finalI);
-                            }
-                        }
-                ).collect(Collectors.toList());
-                processorExecutorService.submit(new ProcessWorker(buffer, processors, sinks, this));
+            synchronized (this) {
+                for (int i = 0; i < processorThreads; i++) {
+                    startProcessWorker(i);
+                }
+            }
+            if (maxProcessorThreads > processorThreads) {
+                workerScalingExecutorService = Executors.newSingleThreadScheduledExecutor(
+                        new PipelineThreadFactory(format("%s-worker-scaler", name)));
+                workerScalingExecutorService.scheduleWithFixedDelay(new ProcessWorkerScaler(buffer, this),
+                        WORKER_SCALING_INTERVAL_IN_MILLISECONDS, WORKER_SCALING_INTERVAL_IN_MILLISECONDS,
+                        TimeUnit.MILLISECONDS);
             }
         } catch (Exception ex) {
             //source failed to start - Cannot proceed further with the current pipeline, skipping further execution
@@ -162,6 +244,108 @@ public class Pipeline {
         }
     }
 
+    /**
+     * Starts a {@link ProcessWorker} with the processors of the given worker slot. The caller must hold the lock of
+     * this pipeline.
+     */
+    private void startProcessWorker(final int slot) {
+        final List<Processor> processors = getProcessors(slot);
+        final ProcessWorker processWorker = new ProcessWorker(buffer, processors, sinks, this, slot);
+        processWorkers[slot] = processWorker;
+        processWorkerFutures[slot] = processorExecutorService.submit(processWorker);
+    }
+
+    private List<Processor> getProcessors(final int slot) {
+        return processorSets.stream().map(
+                processorSet -> {
+                    if (processorSet.size() == 1) {
+                        return processorSet.get(0);
+                    } else {
+                        return processorSet.get(slot);
+                    }
+                }
+        ).collect(Collectors.toList());
+    }
+
+    /**
+     * A worker slot is free if it never had a worker or its worker has retired and exited, so that no two workers
+     * use the processors of a slot at the same time.
+     */
+    private boolean isWorkerSlotFree(final int slot) {
+        return processWorkers[slot] == null ||
+                (processWorkers[slot].isRetireRequested() && processWorkerFutures[slot].isDone());
+    }
+
+    /**
+     * Adds a {@link ProcessWorker} if the pipeline has fewer than the maximum number of workers.
+     *
+     * @return true if a worker was added
+     */
+    synchronized boolean addProcessWorker() {
+        if (stopRequested) {
+            return false;
+        }
+        for (int slot = 0; slot < maxProcessorThreads; slot++) {
+            if (isWorkerSlotFree(slot)) {
+                startProcessWorker(slot);
+                LOG.info("Pipeline [{}] - Added a process worker, {} process workers are active", name,
+                        getActiveProcessWorkers());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retires a {@link ProcessWorker} if the pipeline has more than the minimum number of workers.
+     *
+     * @return true if a worker was asked to retire
+     */
+    synchronized boolean retireProcessWorker() {
+        if (getActiveProcessWorkers() <= processorThreads) {
+            return false;
+        }
+        for (int slot = maxProcessorThreads - 1; slot >= 0; slot--) {
+            if (processWorkers[slot] != null && !processWorkers[slot].isRetireRequested()) {
+                processWorkers[slot].retire();
+                LOG.info("Pipeline [{}] - Retired a process worker, {} process workers are active", name,
+                        getActiveProcessWorkers());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of {@link ProcessWorker}s which have been started and not asked to retire
+     */
+    synchronized int getActiveProcessWorkers() {
+        int activeProcessWorkers = 0;
+        for (final ProcessWorker processWorker : processWorkers) {
+            if (processWorker != null && !processWorker.isRetireRequested()) {
+                activeProcessWorkers++;
+            }
+        }
+        return activeProcessWorkers;
+    }
+
+    /**
+     * Starts a worker in each free slot whose processors are not ready for shutdown, so that processors of retired
+     * workers can drain their state.
+     */
+    private synchronized void startProcessWorkersForShutdown() {
+        if (processorExecutorService.isShutdown()) {
+            return;
+        }
+        for (int slot = 0; slot < maxProcessorThreads; slot++) {
+            final int finalSlot = slot;
+            if (isWorkerSlotFree(slot) && processorSets.stream().anyMatch(processorSet ->
+                    processorSet.size() > 1 && !processorSet.get(finalSlot).isReadyForShutdown())) {
+                startProcessWorker(slot);
+            }
+        }
+    }
+
     /**
      * Initiates shutdown of the pipeline.
      */
@@ -172,11 +356,12 @@ public class Pipeline {
     /**
      * Initiates shutdown of the pipeline by:
      * 1. Stopping the source to prevent new items from being consumed
-     * 2. Notifying processors to prepare for shutdown (e.g. flushing batched items)
+     * 2. Notifying processors to prepare for shutdown (e.g. flushing batched items), restarting retired workers
+     *    whose processors still hold records
      * 3. Waiting for ProcessWorkers to exit their run loop (only after buffer/processors are empty)
      * 4. Stopping the ProcessWorkers if they are unable to exit gracefully
      * 5. Shutting down processors and sinks
-     * 6. Stopping the sink ExecutorService
+     * 6. Stopping the sink ExecutorServices
      *
      * @param processorTimeout the maximum time to wait after initiating shutdown to forcefully shutdown process worker
      */
@@ -187,6 +372,10 @@ public class Pipeline {
             source.stop();
             stopRequested = true;
             processorSets.forEach(processorSet -> processorSet.forEach(Processor::prepareForShutdown));
+            if (workerScalingExecutorService != null) {
+                workerScalingExecutorService.shutdownNow();
+                startProcessWorkersForShutdown();
+            }
         } catch (Exception ex) {
             LOG.error("Pipeline [{}] - Encountered exception while stopping the source, " +
                     "proceeding with termination of process workers", name);
@@ -197,7 +386,7 @@ public class Pipeline {
         processorSets.forEach(processorSet -> processorSet.forEach(Processor::shutdown));
         sinks.forEach(Sink::shutdown);
 
-        shutdownExecutorService(sinkExecutorService, processorTimeout);
+        sinkExecutors.forEach(sinkExecutor -> shutdownExecutorService(sinkExecutor.getExecutorService(), processorTimeout));
     }
 
     private void shutdownExecutorService(final ExecutorService executorService, int timeoutForTerminationInMillis) {
@@ -217,18 +406,17 @@ public class Pipeline {
     }
 
     /**
-     * Submits the provided collection of records to output to each sink. Collects the future from each sink and returns
-     * them as list of futures
+     * Submits the provided collection of records to output to each sink through the {@link SinkExecutor} of that
+     * sink. Collects the future from each sink and returns them as list of futures. This blocks only while the
+     * hand-off queue of a sink is full.
      *
      * @param records records that needs to published to each sink
      * @return List of Future, each future for each sink
      */
     public List<Future<Void>> publishToSinks(final Collection<Record> records) {
-        final int sinksSize = sinks.size();
-        List<Future<Void>> sinkFutures = new ArrayList<>(sinksSize);
-        for (int i = 0; i < sinksSize; i++) {
-            int finalI = i;
-            sinkFutures.add(sinkExecutorService.submit(() -> sinks.get(finalI).output(records), null));
+        final List<Future<Void>> sinkFutures = new ArrayList<>(sinkExecutors.size());
+        for (final SinkExecutor sinkExecutor : sinkExecutors) {
+            sinkFutures.add(sinkExecutor.submit(records));
         }
         return sinkFutures;
     }
@@ -5,39 +5,128 @@
 
 package com.amazon.dataprepper.pipeline;
 
+import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
 import com.amazon.dataprepper.model.source.Source;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
 /**
  * PipelineConnector is a special type of Plugin which connects two pipelines acting both as Sink and Source.
+ * <p>
+ * Each batch of records is written with a single {@link Buffer#writeAll(Collection, int)}, so the buffer reserves
+ * capacity for the whole batch at once. When the buffer has no capacity within the write timeout, the
+ * {@link OverflowPolicy} decides whether the connector keeps retrying or drops the batch.
+ * <p>
+ * The same records are passed to every sink of the upstream pipeline, so the connector writes a {@link Event#snapshot()}
+ * of each event. The connected pipeline can then modify its events without affecting the other sinks, and without
+ * copying the events which it does not modify.
  *
  * @param <T>
  */
 public final class PipelineConnector<T extends Record<?>> implements Source<T>, Sink<T> {
     private static final Logger LOG = LoggerFactory.getLogger(PipelineConnector.class);
-    private static final int DEFAULT_WRITE_TIMEOUT = Integer.MAX_VALUE;
+    /**
+     * Plugin name of a sink or source which connects to another pipeline.
+     */
+    public static final String PIPELINE_PLUGIN_NAME = "pipeline";
+    private static final String ATTRIBUTE_OVERFLOW_POLICY = "overflow_policy";
+    private static final String ATTRIBUTE_WRITE_TIMEOUT = "write_timeout";
+    private static final int DEFAULT_WRITE_TIMEOUT = 1_000;
+    static final String WRITE_TIMEOUTS = "writeTimeouts";
+    static final String RECORDS_DROPPED = "recordsDropped";
+    static final String WRITE_TIME_ELAPSED = "writeTimeElapsed";
+
+    /**
+     * What the connector does when the buffer of the connected pipeline has no capacity for a batch within the write
+     * timeout.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Retry the write until it succeeds or the connected pipeline stops. The upstream sink waits, which applies
+         * backpressure to the upstream pipeline.
+         */
+        BLOCK,
+        /**
+         * Drop the batch and count its records in {@link #RECORDS_DROPPED}, so the upstream pipeline keeps up.
+         */
+        DROP
+    }
+
     private String sourcePipelineName; //name of the pipeline for which this connector acts as source
     private String sinkPipelineName; //name of the pipeline for which this connector acts as sink
     private Buffer<T> buffer;
     private AtomicBoolean isStopRequested;
+    private final OverflowPolicy overflowPolicy;
+    private final int writeTimeoutInMillis;
+    private final Counter writeTimeoutsCounter;
+    private final Counter recordsDroppedCounter;
+    private final Timer writeTimer;
 
     public PipelineConnector() {
-        isStopRequested = new AtomicBoolean(false);
+        this(null, new PluginSetting(PIPELINE_PLUGIN_NAME, new HashMap<>()));
     }
 
     public PipelineConnector(final String sinkPipelineName) {
-        this();
+        this(sinkPipelineName, new PluginSetting(PIPELINE_PLUGIN_NAME, new HashMap<>()));
+    }
+
+    /**
+     * Creates the connector from the settings of the pipeline sink, which may set the `overflow_policy` ("block" or
+     * "drop", default "block") and the `write_timeout` in milliseconds of each attempt to write a batch.
+     *
+     * @param sinkPipelineName name of the connected pipeline
+     * @param pluginSetting    settings of the pipeline sink
+     */
+    public PipelineConnector(final String sinkPipelineName, final PluginSetting pluginSetting) {
+        this.isStopRequested = new AtomicBoolean(false);
         this.sinkPipelineName = sinkPipelineName;
+        this.overflowPolicy = getOverflowPolicy(pluginSetting);
+        this.writeTimeoutInMillis = pluginSetting.getIntegerOrDefault(ATTRIBUTE_WRITE_TIMEOUT, DEFAULT_WRITE_TIMEOUT);
+        if (writeTimeoutInMillis <= 0) {
+            throw new IllegalArgumentException(format("%s must be greater than 0", ATTRIBUTE_WRITE_TIMEOUT));
+        }
+
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(
+                sinkPipelineName == null ? PIPELINE_PLUGIN_NAME : sinkPipelineName, pluginSetting.getPipelineName());
+        this.writeTimeoutsCounter = pluginMetrics.counter(WRITE_TIMEOUTS);
+        this.recordsDroppedCounter = pluginMetrics.counter(RECORDS_DROPPED);
+        this.writeTimer = pluginMetrics.timer(WRITE_TIME_ELAPSED);
+    }
+
+    private static OverflowPolicy getOverflowPolicy(final PluginSetting pluginSetting) {
+        final String overflowPolicy = pluginSetting.getStringOrDefault(ATTRIBUTE_OVERFLOW_POLICY,
+                OverflowPolicy.BLOCK.name());
+        try {
+            return OverflowPolicy.valueOf(overflowPolicy.toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException ex) {
+            throw new IllegalArgumentException(format("Pipeline [%s] - invalid %s [%s], must be one of: %s",
+                    pluginSetting.getPipelineName(), ATTRIBUTE_OVERFLOW_POLICY, overflowPolicy,
+                    Arrays.stream(OverflowPolicy.values())
+                            .map(policy -> policy.name().toLowerCase(Locale.ROOT))
+                            .collect(Collectors.joining(", "))), ex);
+        }
     }
 
     @Override
@@ -53,26 +142,88 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
     @Override
     public void output(final Collection<T> records) {
         if (buffer != null && !isStopRequested.get()) {
-            for (T record : records) {
-                while (true) {
-                    try {
-                        buffer.write(record, DEFAULT_WRITE_TIMEOUT);
-                        break;
-                    } catch (TimeoutException ex) {
-                        LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
-                                sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
-                    }
+            if (records.isEmpty()) {
+                return;
+            }
+            final long startTime = System.nanoTime();
+            final Collection<T> snapshots = snapshotEvents(records);
+            try {
+                writeBatch(snapshots);
+            } catch (final SizeOverflowException ex) {
+                // The batch is larger than the buffer, so write the records one by one
+                for (final T record : snapshots) {
+                    writeRecord(record);
                 }
-
+            } finally {
+                writeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
             }
         } else {
-            LOG.error("PipelineConnector [{}-{}]: Pipeline [{}] is currently not initialized or has been halted",
-                    sinkPipelineName, sourcePipelineName, sourcePipelineName);
-            throw new RuntimeException(format("PipelineConnector [%s-%s]: Pipeline [%s] is not active, " +
-                    "cannot proceed", sinkPipelineName, sourcePipelineName, sourcePipelineName));
+            throw notActiveException();
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private Collection<T> snapshotEvents(final Collection<T> records) {
+        final List<T> snapshots = new ArrayList<>(records.size());
+        for (final T record : records) {
+            if (record.getData() instanceof Event) {
+                snapshots.add((T) new Record<>(((Event) record.getData()).snapshot(), record.getMetadata()));
+            } else {
+                snapshots.add(record);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Writes the records to the buffer with a single writeAll, retrying or dropping them on timeout as the
+     * {@link OverflowPolicy} requires.
+     *
+     * @throws SizeOverflowException if the records can never fit in the buffer
+     */
+    private void writeBatch(final Collection<T> records) throws SizeOverflowException {
+        while (true) {
+            try {
+                buffer.writeAll(records, writeTimeoutInMillis);
+                return;
+            } catch (final TimeoutException ex) {
+                writeTimeoutsCounter.increment();
+                if (overflowPolicy == OverflowPolicy.DROP) {
+                    recordsDroppedCounter.increment(records.size());
+                    LOG.warn("PipelineConnector [{}-{}]: Dropped {} records, pipeline [{}] has no buffer capacity",
+                            sinkPipelineName, sourcePipelineName, records.size(), sourcePipelineName);
+                    return;
+                }
+                LOG.warn("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}], retrying",
+                        sinkPipelineName, sourcePipelineName, sourcePipelineName);
+                if (isStopRequested.get()) {
+                    throw notActiveException();
+                }
+            } catch (final SizeOverflowException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                throw new RuntimeException(format("PipelineConnector [%s-%s]: Failed writing to pipeline [%s]",
+                        sinkPipelineName, sourcePipelineName, sourcePipelineName), ex);
+            }
+        }
+    }
+
+    private void writeRecord(final T record) {
+        try {
+            writeBatch(Collections.singletonList(record));
+        } catch (final SizeOverflowException ex) {
+            throw new RuntimeException(format("PipelineConnector [%s-%s]: Record is larger than the buffer of " +
+                    "pipeline [%s]", sinkPipelineName, sourcePipelineName, sourcePipelineName), ex);
+        }
+    }
+
+    private RuntimeException notActiveException() {
+        LOG.error("PipelineConnector [{}-{}]: Pipeline [{}] is currently not initialized or has been halted",
+                sinkPipelineName, sourcePipelineName, sourcePipelineName);
+        return new RuntimeException(format("PipelineConnector [%s-%s]: Pipeline [%s] is not active, " +
+                "cannot proceed", sinkPipelineName, sourcePipelineName, sourcePipelineName));
+    }
+
     @Override
     public void shutdown() {
         //TODO: Cleanup resources
@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.pipeline.common.SinkExecutorSettings;
+import com.google.common.base.Preconditions;
+
+import java.util.List;
+
+/**
+ * Settings for how a {@link Pipeline} runs its {@link ProcessWorker}s and sinks. Use {@link Builder} to create them;
+ * only the processor threads and the read batch timeout are required.
+ */
+public class PipelineSettings {
+    static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
+
+    private final int processorThreads;
+    private final int maxProcessorThreads;
+    private final int readBatchTimeoutInMillis;
+    private final int maxInFlightBatches;
+    private final List<SinkExecutorSettings> sinkExecutorSettings;
+    private final Integer targetLatencyInMillis;
+
+    private PipelineSettings(final Builder builder) {
+        this.processorThreads = builder.processorThreads;
+        this.maxProcessorThreads = builder.maxProcessorThreads == null ?
+                builder.processorThreads : builder.maxProcessorThreads;
+        this.readBatchTimeoutInMillis = builder.readBatchTimeoutInMillis;
+        this.maxInFlightBatches = builder.maxInFlightBatches;
+        this.sinkExecutorSettings = builder.sinkExecutorSettings;
+        this.targetLatencyInMillis = builder.targetLatencyInMillis;
+    }
+
+    /**
+     * @return configured or default threads to parallelize processor work, which is also the minimum number of
+     * workers
+     */
+    public int getProcessorThreads() {
+        return processorThreads;
+    }
+
+    /**
+     * @return the maximum number of workers, which is the processor threads unless the workers scale with load
+     */
+    public int getMaxProcessorThreads() {
+        return maxProcessorThreads;
+    }
+
+    /**
+     * @return configured or default timeout for reading batch of records from buffer
+     */
+    public int getReadBatchTimeoutInMillis() {
+        return readBatchTimeoutInMillis;
+    }
+
+    /**
+     * @return configured or default number of uncheckpointed batches allowed per worker
+     */
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    /**
+     * @return executor settings of each sink, in the same order as the sinks, or null to use the defaults for every
+     * sink
+     */
+    public List<SinkExecutorSettings> getSinkExecutorSettings() {
+        return sinkExecutorSettings;
+    }
+
+    /**
+     * @return target latency of a batch from its read until its checkpoint, or null to read with the fixed batch size
+     * of the buffer and the read batch timeout
+     */
+    public Integer getTargetLatencyInMillis() {
+        return targetLatencyInMillis;
+    }
+
+    public static class Builder {
+        private Integer processorThreads;
+        private Integer maxProcessorThreads;
+        private Integer readBatchTimeoutInMillis;
+        private int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
+        private List<SinkExecutorSettings> sinkExecutorSettings;
+        private Integer targetLatencyInMillis;
+
+        /**
+         * @param processorThreads configured or default threads to parallelize processor work, which is also the
+         *                         minimum number of workers
+         * @return this builder
+         */
+        public Builder withProcessorThreads(final int processorThreads) {
+            this.processorThreads = processorThreads;
+            return this;
+        }
+
+        /**
+         * The number of workers scales between the processor threads and maxProcessorThreads with the number of
+         * records waiting in the buffer. Processor sets with an instance per worker must have maxProcessorThreads
+         * instances.
+         *
+         * @param maxProcessorThreads the maximum number of workers
+         * @return this builder
+         */
+        public Builder withMaxProcessorThreads(final int maxProcessorThreads) {
+            this.maxProcessorThreads = maxProcessorThreads;
+            return this;
+        }
+
+        /**
+         * @param readBatchTimeoutInMillis configured or default timeout for reading batch of records from buffer,
+         *                                 which is the highest read delay when the batches are tuned to a target latency
+         * @return this builder
+         */
+        public Builder withReadBatchTimeoutInMillis(final int readBatchTimeoutInMillis) {
+            this.readBatchTimeoutInMillis = readBatchTimeoutInMillis;
+            return this;
+        }
+
+        /**
+         * A value greater than 1 lets a worker process the next batch while the sinks are still writing the previous
+         * ones.
+         *
+         * @param maxInFlightBatches number of uncheckpointed batches allowed per worker
+         * @return this builder
+         */
+        public Builder withMaxInFlightBatches(final int maxInFlightBatches) {
+            this.maxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
+        /**
+         * Sink threads default to the maximum number of workers and the sink queue size defaults to the maximum
+         * number of workers * maxInFlightBatches, which is the most batches the workers can have in flight.
+         *
+         * @param sinkExecutorSettings executor settings of each sink, in the same order as the sinks
+         * @return this builder
+         */
+        public Builder withSinkExecutorSettings(final List<SinkExecutorSettings> sinkExecutorSettings) {
+            this.sinkExecutorSettings = sinkExecutorSettings;
+            return this;
+        }
+
+        /**
+         * @param targetLatencyInMillis target latency of a batch from its read until its checkpoint, or null to read
+         *                              with the fixed batch size of the buffer and the read batch timeout
+         * @return this builder
+         */
+        public Builder withTargetLatencyInMillis(final Integer targetLatencyInMillis) {
+            this.targetLatencyInMillis = targetLatencyInMillis;
+            return this;
+        }
+
+        public PipelineSettings build() {
+            Preconditions.checkArgument(processorThreads != null, "processorThreads must be set");
+            Preconditions.checkArgument(readBatchTimeoutInMillis != null, "readBatchTimeoutInMillis must be set");
+            Preconditions.checkArgument(maxProcessorThreads == null || maxProcessorThreads >= processorThreads,
+                    "maxProcessorThreads must not be less than processorThreads");
+            Preconditions.checkArgument(maxInFlightBatches > 0, "maxInFlightBatches must be greater than 0");
+            return new PipelineSettings(this);
+        }
+    }
+}
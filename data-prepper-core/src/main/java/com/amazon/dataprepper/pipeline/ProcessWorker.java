@@ -8,14 +8,19 @@ package com.amazon.dataprepper.pipeline;
 import com.amazon.dataprepper.model.CheckpointState;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.processor.VectorizedProcessor;
 import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.record.RecordBatch;
 import com.amazon.dataprepper.model.sink.Sink;
+import com.amazon.dataprepper.pipeline.common.AdaptiveBatchController;
 import com.amazon.dataprepper.pipeline.common.FutureHelper;
-import com.amazon.dataprepper.pipeline.common.FutureHelperResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Future;
@@ -28,25 +33,45 @@ public class ProcessWorker implements Runnable {
     private final List<Processor> processors;
     private final Collection<Sink> sinks;
     private final Pipeline pipeline;
+    private final int workerSlot;
+    private final Deque<InFlightBatch> inFlightBatches;
+    private final AdaptiveBatchController adaptiveBatchController;
     private boolean isEmptyRecordsLogged = false;
+    private volatile boolean retireRequested = false;
 
     public ProcessWorker(
             final Buffer readBuffer,
             final List<Processor> processors,
             final Collection<Sink> sinks,
-            final Pipeline pipeline) {
+            final Pipeline pipeline,
+            final int workerSlot) {
         this.readBuffer = readBuffer;
         this.processors = processors;
         this.sinks = sinks;
         this.pipeline = pipeline;
+        this.workerSlot = workerSlot;
+        this.inFlightBatches = new ArrayDeque<>(pipeline.getMaxInFlightBatches());
+        this.adaptiveBatchController = pipeline.getAdaptiveBatchController();
     }
 
     @Override
     public void run() {
         try {
+            // Pooled threads may have read for another slot, so the buffer is told which slot this thread reads for.
+            readBuffer.assignReaderSlot(workerSlot);
             do {
-                final Map.Entry<Collection, CheckpointState> readResult = readBuffer.read(pipeline.getReadBatchTimeoutInMillis());
+                final long readStartNanos = System.nanoTime();
+                final int requestedBatchSize;
+                final Map.Entry<Collection, CheckpointState> readResult;
+                if (adaptiveBatchController == null) {
+                    requestedBatchSize = 0;
+                    readResult = readBuffer.read(pipeline.getReadBatchTimeoutInMillis());
+                } else {
+                    requestedBatchSize = adaptiveBatchController.getBatchSize();
+                    readResult = readBuffer.read(adaptiveBatchController.getReadDelayInMillis(), requestedBatchSize);
+                }
                 Collection records = readResult.getKey();
+                final int numRecordsRead = records.size();
                 final CheckpointState checkpointState = readResult.getValue();
                 //TODO Hacky way to avoid logging continuously - Will be removed as part of metrics implementation
                 if (records.isEmpty()) {
@@ -59,19 +84,35 @@ public class ProcessWorker implements Runnable {
                 }
                 //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
                 for (final Processor processor : processors) {
+                    if (processor instanceof VectorizedProcessor) {
+                        records = RecordBatch.of(records, ((VectorizedProcessor) processor).getColumnKeys());
+                    }
                     records = processor.execute(records);
                 }
-                if (!records.isEmpty()) {
-                    postToSink(records);
-                }
-                // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-                readBuffer.checkpoint(checkpointState);
-            } while (!shouldStop());
+                final List<Future<Void>> sinkFutures = records.isEmpty() ? Collections.emptyList() : postToSink(records);
+                inFlightBatches.addLast(new InFlightBatch(sinkFutures, checkpointState, readStartNanos,
+                        requestedBatchSize, numRecordsRead));
+                // Checkpoint the batches read from the buffer once they are processed by processors and sinks.
+                checkpointCompletedBatches(pipeline.getMaxInFlightBatches() - 1);
+            } while (!shouldStop() && !retireRequested);
+            checkpointCompletedBatches(0);
         } catch (final Exception e) {
             LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
         }
     }
 
+    /**
+     * Asks the worker to exit once it has processed its current batch. The worker still waits for its in-flight
+     * batches and checkpoints them before it exits.
+     */
+    void retire() {
+        retireRequested = true;
+    }
+
+    boolean isRetireRequested() {
+        return retireRequested;
+    }
+
     /**
      * Shutdown should be handled end to end.
      *
@@ -88,14 +129,56 @@ public class ProcessWorker implements Runnable {
     }
 
     /**
-     * TODO Add isolator pattern - Fail if one of the Sink fails [isolator Pattern]
-     * Uses the pipeline method to publish to sinks, waits for each of the sink result to be true before attempting to
-     * process more records from buffer.
+     * Uses the pipeline method to publish to sinks and returns without waiting for the sinks. Each sink runs on its
+     * own executor, so a slow sink does not hold the threads of the other sinks. The returned futures are awaited by
+     * {@link #checkpointCompletedBatches(int)} before the batch is checkpointed.
      */
-    private boolean postToSink(final Collection<Record> records) {
+    private List<Future<Void>> postToSink(final Collection<Record> records) {
         LOG.debug("Pipeline Worker: Submitting {} processed records to sinks", records.size());
-        final List<Future<Void>> sinkFutures = pipeline.publishToSinks(records);
-        final FutureHelperResult<Void> futureResults = FutureHelper.awaitFuturesIndefinitely(sinkFutures);
-        return futureResults.getFailedReasons().size() == 0;
+        return pipeline.publishToSinks(records);
+    }
+
+    /**
+     * Checkpoints in-flight batches in the order they were read. Batches whose sinks have already completed are
+     * always checkpointed; the worker then waits on the oldest batches until no more than maxRemainingBatches
+     * batches are in flight.
+     *
+     * @param maxRemainingBatches the number of uncompleted batches which may remain in flight
+     */
+    private void checkpointCompletedBatches(final int maxRemainingBatches) {
+        while (!inFlightBatches.isEmpty() &&
+                (inFlightBatches.size() > maxRemainingBatches || inFlightBatches.peekFirst().isDone())) {
+            final InFlightBatch inFlightBatch = inFlightBatches.removeFirst();
+            FutureHelper.awaitFuturesIndefinitely(inFlightBatch.sinkFutures);
+            readBuffer.checkpoint(inFlightBatch.checkpointState);
+            if (adaptiveBatchController != null) {
+                adaptiveBatchController.recordBatch(inFlightBatch.requestedBatchSize, inFlightBatch.numRecordsRead,
+                        System.nanoTime() - inFlightBatch.readStartNanos);
+            }
+        }
+    }
+
+    /**
+     * A batch read from the buffer which has been handed to the sinks but is not yet checkpointed.
+     */
+    private static class InFlightBatch {
+        private final List<Future<Void>> sinkFutures;
+        private final CheckpointState checkpointState;
+        private final long readStartNanos;
+        private final int requestedBatchSize;
+        private final int numRecordsRead;
+
+        private InFlightBatch(final List<Future<Void>> sinkFutures, final CheckpointState checkpointState,
+                              final long readStartNanos, final int requestedBatchSize, final int numRecordsRead) {
+            this.sinkFutures = sinkFutures;
+            this.checkpointState = checkpointState;
+            this.readStartNanos = readStartNanos;
+            this.requestedBatchSize = requestedBatchSize;
+            this.numRecordsRead = numRecordsRead;
+        }
+
+        private boolean isDone() {
+            return sinkFutures.stream().allMatch(Future::isDone);
+        }
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.buffer.Buffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scales the {@link ProcessWorker}s of a {@link Pipeline} with the records waiting in its {@link Buffer}. It is run
+ * periodically and samples {@link Buffer#getRecordsInBuffer()} against two watermarks derived from
+ * {@link Buffer#getBatchSize()}:
+ * <ul>
+ *     <li>When at least a full batch per active worker is waiting and the backlog has not decreased for
+ *     {@link #STABLE_SAMPLES} samples, the workers are not keeping up and a worker is added.</li>
+ *     <li>When less than a full batch has been waiting for {@link #STABLE_SAMPLES} samples, the workers read partial
+ *     batches and a worker is retired.</li>
+ * </ul>
+ * A backlog between the watermarks keeps the workers as they are. The {@link Pipeline} keeps the number of workers
+ * within its bounds.
+ */
+class ProcessWorkerScaler implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessWorkerScaler.class);
+    static final int STABLE_SAMPLES = 3;
+
+    private final Buffer buffer;
+    private final Pipeline pipeline;
+    private long previousRecordsInBuffer = 0;
+    private int busySamples = 0;
+    private int idleSamples = 0;
+
+    ProcessWorkerScaler(final Buffer buffer, final Pipeline pipeline) {
+        this.buffer = buffer;
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public void run() {
+        try {
+            final long recordsInBuffer = buffer.getRecordsInBuffer();
+            if (recordsInBuffer < 0) {
+                return;
+            }
+            // A buffer without a batch size is scaled record by record, retiring workers only once it is empty
+            final long lowWaterMark = Math.max(buffer.getBatchSize(), 1);
+            final long highWaterMark = lowWaterMark * Math.max(pipeline.getActiveProcessWorkers(), 1);
+            if (recordsInBuffer < lowWaterMark) {
+                idleSamples++;
+                busySamples = 0;
+            } else if (recordsInBuffer >= highWaterMark && recordsInBuffer >= previousRecordsInBuffer) {
+                busySamples++;
+                idleSamples = 0;
+            } else {
+                busySamples = 0;
+                idleSamples = 0;
+            }
+            previousRecordsInBuffer = recordsInBuffer;
+
+            if (busySamples >= STABLE_SAMPLES) {
+                pipeline.addProcessWorker();
+                busySamples = 0;
+            } else if (idleSamples >= STABLE_SAMPLES) {
+                pipeline.retireProcessWorker();
+                idleSamples = 0;
+            }
+        } catch (final Exception ex) {
+            // An exception would cancel the scheduled scaling, so log it and keep sampling
+            LOG.error("Pipeline [{}] - Encountered exception while scaling process workers", pipeline.getName(), ex);
+        }
+    }
+}
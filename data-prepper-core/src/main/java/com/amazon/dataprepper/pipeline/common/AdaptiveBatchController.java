@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline.common;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.buffer.Buffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Tunes the batch size and read delay of the process workers of a pipeline at runtime to meet a target latency. The
+ * latency of a batch is the time from the start of its {@link Buffer#read(int, int)} until it is checkpointed, so it
+ * covers the read delay, the processors and the sinks.
+ * <p>
+ * A batch slower than the target halves both the batch size and the read delay. A batch faster than half the target
+ * grows the batch size if the batch was full, as the buffer has more records waiting, and otherwise grows the read
+ * delay, so that the next batches fill up. The batch size is bounded by the batch size of the buffer, as reads never
+ * return more than that, and the read delay is bounded by the configured delay of the pipeline.
+ * <p>
+ * All the process workers of a pipeline share one controller.
+ */
+public class AdaptiveBatchController {
+    static final String ADAPTIVE_BATCH_SIZE = "adaptiveBatchSize";
+    static final String ADAPTIVE_READ_DELAY = "adaptiveReadDelay";
+    static final int INITIAL_BATCH_SIZE = 8;
+    static final int UNBOUNDED_MAX_BATCH_SIZE = 1_000_000;
+    private static final int MIN_READ_DELAY_IN_MILLIS = 1;
+
+    private final long targetLatencyInNanos;
+    private final int maxBatchSize;
+    private final int maxReadDelayInMillis;
+    private final AtomicInteger batchSize;
+    private final AtomicInteger readDelayInMillis;
+
+    /**
+     * @param pipelineName          name of the pipeline of the process workers
+     * @param targetLatencyInMillis target latency of a batch from its read until its checkpoint
+     * @param maxReadDelayInMillis  the highest read delay, which is the configured delay of the pipeline
+     * @param maxBatchSize          the highest batch size, which is the {@link Buffer#getBatchSize()} of the buffer,
+     *                              or -1 if the buffer does not limit its reads
+     */
+    public AdaptiveBatchController(final String pipelineName, final int targetLatencyInMillis,
+                                   final int maxReadDelayInMillis, final int maxBatchSize) {
+        checkArgument(targetLatencyInMillis > 0, "targetLatencyInMillis must be greater than 0");
+        checkArgument(maxReadDelayInMillis > 0, "maxReadDelayInMillis must be greater than 0");
+        this.targetLatencyInNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyInMillis);
+        this.maxBatchSize = maxBatchSize > 0 ? maxBatchSize : UNBOUNDED_MAX_BATCH_SIZE;
+        this.maxReadDelayInMillis = maxReadDelayInMillis;
+
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames("processWorker", pipelineName);
+        this.batchSize = pluginMetrics.gauge(ADAPTIVE_BATCH_SIZE,
+                new AtomicInteger(Math.min(INITIAL_BATCH_SIZE, this.maxBatchSize)));
+        this.readDelayInMillis = pluginMetrics.gauge(ADAPTIVE_READ_DELAY,
+                new AtomicInteger(Math.max(Math.min(targetLatencyInMillis / 2, maxReadDelayInMillis),
+                        MIN_READ_DELAY_IN_MILLIS)));
+    }
+
+    /**
+     * @return the maximum number of records the next read should return
+     */
+    public int getBatchSize() {
+        return batchSize.get();
+    }
+
+    /**
+     * @return the timeout of the next read
+     */
+    public int getReadDelayInMillis() {
+        return readDelayInMillis.get();
+    }
+
+    /**
+     * Adjusts the batch size and read delay with the outcome of a batch.
+     *
+     * @param requestedBatchSize the batch size the batch was read with
+     * @param numRecords         the number of records in the batch
+     * @param latencyInNanos     the time from the start of the read until the batch was checkpointed
+     */
+    public synchronized void recordBatch(final int requestedBatchSize, final int numRecords,
+                                         final long latencyInNanos) {
+        if (latencyInNanos > targetLatencyInNanos) {
+            batchSize.set(Math.max(batchSize.get() / 2, 1));
+            readDelayInMillis.set(Math.max(readDelayInMillis.get() / 2, MIN_READ_DELAY_IN_MILLIS));
+        } else if (latencyInNanos < targetLatencyInNanos / 2) {
+            if (numRecords >= requestedBatchSize) {
+                batchSize.set(grow(batchSize.get(), maxBatchSize));
+            } else if (numRecords > 0) {
+                readDelayInMillis.set(grow(readDelayInMillis.get(), maxReadDelayInMillis));
+            }
+        }
+    }
+
+    private static int grow(final int value, final int maxValue) {
+        return (int) Math.min((long) value + Math.max(value / 4, 1), maxValue);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline.common;
+
+import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.sink.Sink;
+import com.amazon.dataprepper.pipeline.Pipeline;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Isolates a {@link Sink} from the other sinks of a {@link Pipeline}. Each sink gets its own thread pool and bounded
+ * hand-off queue, so a slow sink only holds its own threads. When the queue is full, {@link #submit(Collection)}
+ * blocks the calling process worker until the sink has room for the batch.
+ * <p>
+ * Threads and metrics are named after the index of the sink in the pipeline as well as its name, since a pipeline
+ * may have several sinks of the same plugin.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class SinkExecutor {
+    static final String SINK_QUEUE_DEPTH = "sinkQueueDepth";
+    static final String SINK_LATENCY = "sinkLatency";
+
+    private final Sink sink;
+    private final PipelineThreadPoolExecutor executorService;
+    private final Timer sinkLatencyTimer;
+
+    public SinkExecutor(
+            final Sink sink,
+            final String sinkName,
+            final int sinkIndex,
+            final int threads,
+            final int queueSize,
+            final Pipeline pipeline) {
+        this.sink = sink;
+        final String sinkId = format("%s-%d", sinkName, sinkIndex);
+        final BlockingQueue<Runnable> handOffQueue = new ArrayBlockingQueue<>(queueSize);
+        this.executorService = new PipelineThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                handOffQueue, new PipelineThreadFactory(format("%s-sink-%s-worker", pipeline.getName(), sinkId)),
+                pipeline);
+        this.executorService.setRejectedExecutionHandler(new BlockingHandOffHandler(pipeline.getName(), sinkId));
+
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(sinkId, pipeline.getName());
+        pluginMetrics.gauge(SINK_QUEUE_DEPTH, handOffQueue, BlockingQueue::size);
+        this.sinkLatencyTimer = pluginMetrics.timer(SINK_LATENCY);
+    }
+
+    /**
+     * Hands the records off to the sink threads. The latency metric covers the time from the hand-off until the sink
+     * completes its output, including the time the batch waited in the queue.
+     *
+     * @param records records to output to the sink
+     * @return future which completes when the sink has output the records
+     */
+    public Future<Void> submit(final Collection<Record> records) {
+        final long handOffTime = System.nanoTime();
+        return executorService.submit(() -> {
+            try {
+                sink.output(records);
+            } finally {
+                sinkLatencyTimer.record(System.nanoTime() - handOffTime, TimeUnit.NANOSECONDS);
+            }
+        }, null);
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Waits for room in the hand-off queue instead of rejecting the task. The executor may shut down while the task
+     * waits, after its threads have exited, so the task is taken back and rejected if it is still in the queue then.
+     * Otherwise its future would never complete.
+     */
+    static class BlockingHandOffHandler implements RejectedExecutionHandler {
+        private final String pipelineName;
+        private final String sinkId;
+
+        BlockingHandOffHandler(final String pipelineName, final String sinkId) {
+            this.pipelineName = pipelineName;
+            this.sinkId = sinkId;
+        }
+
+        @Override
+        public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException(format("Pipeline [%s] - sink [%s] is shut down",
+                        pipelineName, sinkId));
+            }
+            try {
+                executor.getQueue().put(runnable);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException(format("Pipeline [%s] - interrupted while waiting for sink [%s]",
+                        pipelineName, sinkId), ex);
+            }
+            if (executor.isShutdown() && executor.getQueue().remove(runnable)) {
+                throw new RejectedExecutionException(format("Pipeline [%s] - sink [%s] is shut down",
+                        pipelineName, sinkId));
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline.common;
+
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.sink.Sink;
+import com.amazon.dataprepper.pipeline.PipelineConnector;
+
+/**
+ * Settings for the {@link SinkExecutor} of a single sink. The thread count and queue size are nullable, in which case
+ * the {@link com.amazon.dataprepper.pipeline.Pipeline} derives them from its number of process workers.
+ */
+public class SinkExecutorSettings {
+    private final String sinkName;
+    private final Integer threads;
+    private final Integer queueSize;
+
+    public SinkExecutorSettings(final String sinkName, final Integer threads, final Integer queueSize) {
+        this.sinkName = sinkName;
+        this.threads = threads;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Creates the settings of a sink without a configured thread count or queue size.
+     *
+     * @param sink the sink
+     * @return settings named after the plugin of the sink, as the settings of a configured sink are
+     */
+    public static SinkExecutorSettings defaultSettings(final Sink<?> sink) {
+        return new SinkExecutorSettings(getPluginName(sink), null, null);
+    }
+
+    /**
+     * @return the plugin name of the sink, or its class name if it is not a plugin
+     */
+    static String getPluginName(final Sink<?> sink) {
+        if (sink instanceof PipelineConnector) {
+            return PipelineConnector.PIPELINE_PLUGIN_NAME;
+        }
+        final DataPrepperPlugin pluginAnnotation = sink.getClass().getAnnotation(DataPrepperPlugin.class);
+        return pluginAnnotation == null ? sink.getClass().getSimpleName() : pluginAnnotation.name();
+    }
+
+    /**
+     * @return plugin name of the sink, used to name the sink threads and metrics
+     */
+    public String getSinkName() {
+        return sinkName;
+    }
+
+    /**
+     * @return configured number of threads calling the sink, or null if not configured
+     */
+    public Integer getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return configured number of batches which can wait for a sink thread, or null if not configured
+     */
+    public Integer getQueueSize() {
+        return queueSize;
+    }
+}
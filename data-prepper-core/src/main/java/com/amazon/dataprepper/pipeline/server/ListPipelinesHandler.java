@@ -6,6 +6,7 @@
 package com.amazon.dataprepper.pipeline.server;
 
 import com.amazon.dataprepper.DataPrepper;
+import com.amazon.dataprepper.model.json.ObjectMappers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
@@ -24,7 +25,7 @@ import java.util.stream.Collectors;
 public class ListPipelinesHandler implements HttpHandler {
 
     private final DataPrepper dataPrepper;
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMappers.getJsonMapper();
     private final Logger LOG = LoggerFactory.getLogger(ListPipelinesHandler.class);
 
     public ListPipelinesHandler(final DataPrepper dataPrepper) {
@@ -7,7 +7,9 @@ package com.amazon.dataprepper.plugin;
 
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.json.ObjectMappers;
 import com.amazon.dataprepper.model.plugin.InvalidPluginConfigurationException;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import jakarta.validation.ConstraintViolation;
@@ -28,7 +30,7 @@ class PluginConfigurationConverter {
     private final Validator validator;
 
     PluginConfigurationConverter(final Validator validator) {
-        this.objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        this.objectMapper = ObjectMappers.newObjectMapper(new JsonFactory()).setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
 
         this.validator = validator;
     }
@@ -30,6 +30,10 @@ public class TestDataProvider {
     public static final Integer DEFAULT_WORKERS = 1;
     public static final Integer DEFAULT_READ_BATCH_DELAY = 3_000;
     public static final Integer TEST_DELAY = 3_000;
+    public static final Integer TEST_MAX_IN_FLIGHT_BATCHES = 4;
+    public static final Integer DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
+    public static final Integer TEST_TARGET_LATENCY = 500;
+    public static final Integer TEST_MAX_WORKERS = 8;
     public static final String VALID_MULTIPLE_PIPELINE_CONFIG_FILE = "src/test/resources/valid_multiple_pipeline_configuration.yml";
     public static final String VALID_SINGLE_PIPELINE_EMPTY_SOURCE_PLUGIN_FILE = "src/test/resources/single_pipeline_valid_empty_source_plugin_settings.yml";
     public static final String CONNECTED_PIPELINE_ROOT_SOURCE_INCORRECT = "src/test/resources/connected_pipeline_incorrect_root_source.yml";
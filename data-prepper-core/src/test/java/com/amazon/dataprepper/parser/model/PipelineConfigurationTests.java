@@ -6,19 +6,29 @@
 package com.amazon.dataprepper.parser.model;
 
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.pipeline.common.SinkExecutorSettings;
 import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static com.amazon.dataprepper.TestDataProvider.DEFAULT_MAX_IN_FLIGHT_BATCHES;
 import static com.amazon.dataprepper.TestDataProvider.DEFAULT_READ_BATCH_DELAY;
 import static com.amazon.dataprepper.TestDataProvider.DEFAULT_WORKERS;
 import static com.amazon.dataprepper.TestDataProvider.TEST_DELAY;
+import static com.amazon.dataprepper.TestDataProvider.TEST_MAX_IN_FLIGHT_BATCHES;
+import static com.amazon.dataprepper.TestDataProvider.TEST_MAX_WORKERS;
 import static com.amazon.dataprepper.TestDataProvider.TEST_PIPELINE_NAME;
+import static com.amazon.dataprepper.TestDataProvider.TEST_PLUGIN_NAME_1;
+import static com.amazon.dataprepper.TestDataProvider.TEST_PLUGIN_NAME_2;
+import static com.amazon.dataprepper.TestDataProvider.TEST_TARGET_LATENCY;
 import static com.amazon.dataprepper.TestDataProvider.TEST_WORKERS;
 import static com.amazon.dataprepper.TestDataProvider.VALID_PLUGIN_SETTING_1;
 import static com.amazon.dataprepper.TestDataProvider.VALID_PLUGIN_SETTING_2;
@@ -31,6 +41,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -40,11 +51,14 @@ public class PipelineConfigurationTests {
 
     @Test
     public void testPipelineConfigurationCreation() {
-        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(validSingleConfiguration(),
-                null,
-                validMultipleConfigurationOfSizeOne(),
-                validMultipleConfiguration(),
-                TEST_WORKERS, TEST_DELAY);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration.Builder()
+                .withSource(validSingleConfiguration())
+                .withProcessors(validMultipleConfigurationOfSizeOne())
+                .withSinks(validMultipleConfiguration())
+                .withWorkers(TEST_WORKERS)
+                .withDelay(TEST_DELAY)
+                .withMaxInFlightBatches(TEST_MAX_IN_FLIGHT_BATCHES)
+                .build();
         final PluginSetting actualSourcePluginSetting = pipelineConfiguration.getSourcePluginSetting();
         final PluginSetting actualBufferPluginSetting = pipelineConfiguration.getBufferPluginSetting();
         final List<PluginSetting> actualProcesserPluginSettings = pipelineConfiguration.getProcessorPluginSettings();
@@ -60,6 +74,7 @@ public class PipelineConfigurationTests {
         comparePluginSettings(actualSinkPluginSettings.get(1), VALID_PLUGIN_SETTING_2);
         assertThat(pipelineConfiguration.getWorkers(), is(TEST_WORKERS));
         assertThat(pipelineConfiguration.getReadBatchDelay(), is(TEST_DELAY));
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), is(TEST_MAX_IN_FLIGHT_BATCHES));
 
         pipelineConfiguration.updateCommonPipelineConfiguration(TEST_PIPELINE_NAME);
         assertThat(actualSourcePluginSetting.getPipelineName(), is(equalTo(TEST_PIPELINE_NAME)));
@@ -85,7 +100,7 @@ public class PipelineConfigurationTests {
                 validMultipleConfigurationOfSizeOne(),
                 validMultipleConfiguration(),
                 TEST_WORKERS,
-                TEST_DELAY));
+                TEST_DELAY, null, null, null));
 
         final String expected = "Pipeline configuration cannot specify a prepper and processor configuration. It is " +
                 "recommended to move prepper configurations to the processor section to maintain compatibility with " +
@@ -128,7 +143,7 @@ public class PipelineConfigurationTests {
                 null,
                 validMultipleConfiguration(),
                 TEST_WORKERS,
-                TEST_DELAY);
+                TEST_DELAY, null, null, null);
         PipelineConfiguration processorConfig = new PipelineConfiguration(
                 sourcePluginSettings,
                 null,
@@ -136,7 +151,7 @@ public class PipelineConfigurationTests {
                 expectedPluginSettings,
                 validMultipleConfiguration(),
                 TEST_WORKERS,
-                TEST_DELAY);
+                TEST_DELAY, null, null, null);
 
         assertEqualProcessorPluginSettings(expectedPluginSettings, prepperConfig.getProcessorPluginSettings());
         assertEqualProcessorPluginSettings(expectedPluginSettings, processorConfig.getProcessorPluginSettings());
@@ -163,6 +178,7 @@ public class PipelineConfigurationTests {
         comparePluginSettings(actualSinkPluginSettings.get(0), VALID_PLUGIN_SETTING_1);
         assertThat(pipelineConfiguration.getWorkers(), is(DEFAULT_WORKERS));
         assertThat(pipelineConfiguration.getReadBatchDelay(), is(DEFAULT_READ_BATCH_DELAY));
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), is(DEFAULT_MAX_IN_FLIGHT_BATCHES));
     }
 
     @Test //not using expected to assert the message
@@ -248,12 +264,161 @@ public class PipelineConfigurationTests {
                     null,
                     validMultipleConfiguration(),
                     validMultipleConfiguration(),
-                    TEST_WORKERS, 0);
+                    TEST_WORKERS, 0, null, null, null);
         } catch (IllegalArgumentException ex) {
             assertThat(ex.getMessage(), is("Invalid configuration, delay cannot be 0"));
         }
     }
 
+    @Test //not using expected to assert the message
+    public void testInvalidMaxInFlightBatchesConfiguration() {
+        try {
+            new PipelineConfiguration.Builder()
+                    .withSource(validSingleConfiguration())
+                    .withBuffer(validSingleConfiguration())
+                    .withProcessors(validMultipleConfiguration())
+                    .withSinks(validMultipleConfiguration())
+                    .withWorkers(TEST_WORKERS)
+                    .withDelay(TEST_DELAY)
+                    .withMaxInFlightBatches(0)
+                    .build();
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage(), is("Invalid configuration, max_in_flight_batches cannot be 0"));
+        }
+    }
+
+    @Test
+    public void testSinkExecutorSettings() {
+        final Map<String, Object> sinkSettings = new HashMap<>();
+        sinkSettings.put("someProperty", "someValue");
+        sinkSettings.put("sink_threads", 2);
+        sinkSettings.put("sink_queue_size", "8");
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(
+                validSingleConfiguration(),
+                null,
+                null,
+                Arrays.asList(Map.entry(TEST_PLUGIN_NAME_1, sinkSettings), Map.entry(TEST_PLUGIN_NAME_2, new HashMap<>())),
+                TEST_WORKERS, TEST_DELAY);
+
+        final List<SinkExecutorSettings> sinkExecutorSettings = pipelineConfiguration.getSinkExecutorSettings();
+        assertThat(sinkExecutorSettings.size(), is(2));
+        assertThat(sinkExecutorSettings.get(0).getSinkName(), is(TEST_PLUGIN_NAME_1));
+        assertThat(sinkExecutorSettings.get(0).getThreads(), is(2));
+        assertThat(sinkExecutorSettings.get(0).getQueueSize(), is(8));
+        assertThat(sinkExecutorSettings.get(1).getSinkName(), is(TEST_PLUGIN_NAME_2));
+        assertThat(sinkExecutorSettings.get(1).getThreads(), nullValue());
+        assertThat(sinkExecutorSettings.get(1).getQueueSize(), nullValue());
+
+        final PluginSetting sinkPluginSetting = pipelineConfiguration.getSinkPluginSettings().get(0);
+        comparePluginSettings(sinkPluginSetting, VALID_PLUGIN_SETTING_1);
+    }
+
+    @Test
+    public void testInvalidSinkQueueSizeConfiguration() {
+        final Map<String, Object> sinkSettings = new HashMap<>();
+        sinkSettings.put("sink_queue_size", 0);
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(
+                validSingleConfiguration(),
+                null,
+                null,
+                Collections.singletonList(Map.entry(TEST_PLUGIN_NAME_1, sinkSettings)),
+                TEST_WORKERS, TEST_DELAY));
+        assertThat(exception.getMessage(), is("Invalid configuration, sink_queue_size cannot be 0"));
+    }
+
+    @Test
+    public void testTargetLatencyConfiguration() {
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration.Builder()
+                .withSource(validSingleConfiguration())
+                .withSinks(validMultipleConfiguration())
+                .withWorkers(TEST_WORKERS)
+                .withDelay(TEST_DELAY)
+                .withTargetLatency(TEST_TARGET_LATENCY)
+                .build();
+        assertThat(pipelineConfiguration.getTargetLatency(), is(TEST_TARGET_LATENCY));
+
+        final PipelineConfiguration defaultPipelineConfiguration = new PipelineConfiguration(
+                validSingleConfiguration(),
+                null,
+                null,
+                validMultipleConfiguration(),
+                TEST_WORKERS, TEST_DELAY);
+        assertThat(defaultPipelineConfiguration.getTargetLatency(), is(nullValue()));
+    }
+
+    @Test //not using expected to assert the message
+    public void testInvalidTargetLatencyConfiguration() {
+        try {
+            new PipelineConfiguration.Builder()
+                    .withSource(validSingleConfiguration())
+                    .withBuffer(validSingleConfiguration())
+                    .withProcessors(validMultipleConfiguration())
+                    .withSinks(validMultipleConfiguration())
+                    .withWorkers(TEST_WORKERS)
+                    .withDelay(TEST_DELAY)
+                    .withTargetLatency(0)
+                    .build();
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage(), is("Invalid configuration, target_latency cannot be 0"));
+        }
+    }
+
+    @Test
+    public void testMaxWorkersConfiguration() {
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration.Builder()
+                .withSource(validSingleConfiguration())
+                .withSinks(validMultipleConfiguration())
+                .withWorkers(TEST_WORKERS)
+                .withDelay(TEST_DELAY)
+                .withMaxWorkers(TEST_MAX_WORKERS)
+                .build();
+        assertThat(pipelineConfiguration.getWorkers(), is(TEST_WORKERS));
+        assertThat(pipelineConfiguration.getMaxWorkers(), is(TEST_MAX_WORKERS));
+
+        final PipelineConfiguration defaultPipelineConfiguration = new PipelineConfiguration(
+                validSingleConfiguration(),
+                null,
+                null,
+                validMultipleConfiguration(),
+                TEST_WORKERS, TEST_DELAY);
+        assertThat(defaultPipelineConfiguration.getMaxWorkers(), is(TEST_WORKERS));
+    }
+
+    @Test
+    public void testMaxWorkersIsSetOnPluginSettings() {
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration.Builder()
+                .withSource(validSingleConfiguration())
+                .withProcessors(validMultipleConfigurationOfSizeOne())
+                .withSinks(validMultipleConfiguration())
+                .withWorkers(TEST_WORKERS)
+                .withDelay(TEST_DELAY)
+                .withMaxWorkers(TEST_MAX_WORKERS)
+                .build();
+
+        pipelineConfiguration.updateCommonPipelineConfiguration(TEST_PIPELINE_NAME);
+
+        assertThat(pipelineConfiguration.getSourcePluginSetting().getMaxNumberOfProcessWorkers(), is(TEST_MAX_WORKERS));
+        assertThat(pipelineConfiguration.getBufferPluginSetting().getMaxNumberOfProcessWorkers(), is(TEST_MAX_WORKERS));
+        pipelineConfiguration.getProcessorPluginSettings().forEach(processorPluginSetting -> {
+            assertThat(processorPluginSetting.getNumberOfProcessWorkers(), is(TEST_WORKERS));
+            assertThat(processorPluginSetting.getMaxNumberOfProcessWorkers(), is(TEST_MAX_WORKERS));
+        });
+        pipelineConfiguration.getSinkPluginSettings().forEach(sinkPluginSetting ->
+                assertThat(sinkPluginSetting.getMaxNumberOfProcessWorkers(), is(TEST_MAX_WORKERS)));
+    }
+
+    @Test
+    public void testMaxWorkersLessThanWorkersConfiguration() {
+        final Exception exception = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration.Builder()
+                .withSource(validSingleConfiguration())
+                .withSinks(validMultipleConfiguration())
+                .withWorkers(TEST_WORKERS)
+                .withDelay(TEST_DELAY)
+                .withMaxWorkers(TEST_WORKERS - 1)
+                .build());
+        assertThat(exception.getMessage(), is("Invalid configuration, max_workers cannot be less than workers"));
+    }
+
     @Test
     public void testPipelineConfigurationWithoutPluginSettingAttributes() throws Exception {
         final Map<String, PipelineConfiguration> pipelineConfigurationMap = readConfigFile(
@@ -6,22 +6,37 @@
 package com.amazon.dataprepper.pipeline;
 
 import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.amazon.dataprepper.model.record.Record;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -60,13 +75,13 @@ public class PipelineConnectorTest {
 
     @Test
     public void testOutputBufferTimesOutThenSucceeds() throws Exception {
-        doThrow(new TimeoutException()).doNothing().when(buffer).write(any(), anyInt());
+        doThrow(new TimeoutException()).doNothing().when(buffer).writeAll(any(), anyInt());
 
         sut.start(buffer);
 
         sut.output(recordList);
 
-        verify(buffer, times(2)).write(eq(RECORD), anyInt());
+        verify(buffer, times(2)).writeAll(eq(recordList), anyInt());
     }
 
     @Test
@@ -75,7 +90,102 @@ public class PipelineConnectorTest {
 
         sut.output(recordList);
 
-        verify(buffer).write(eq(RECORD), anyInt());
+        verify(buffer).writeAll(eq(recordList), anyInt());
+        verify(buffer, never()).write(any(), anyInt());
+    }
+
+    @Test
+    public void testOutputWritesBatchWithSingleWriteAll() throws Exception {
+        final List<Record<String>> records = Arrays.asList(RECORD, new Record<>(RECORD_DATA), new Record<>(RECORD_DATA));
+        sut.start(buffer);
+
+        sut.output(records);
+
+        verify(buffer).writeAll(eq(records), anyInt());
+    }
+
+    @Test
+    public void testOutputWithDropOverflowPolicyDropsBatchOnTimeout() throws Exception {
+        doThrow(new TimeoutException()).when(buffer).writeAll(any(), anyInt());
+        sut = new PipelineConnector<>(SINK_PIPELINE_NAME, createPluginSetting("drop"));
+
+        sut.start(buffer);
+
+        sut.output(recordList);
+
+        verify(buffer).writeAll(eq(recordList), anyInt());
+    }
+
+    @Test
+    public void testOutputWithBlockOverflowPolicyRetriesOnTimeout() throws Exception {
+        doThrow(new TimeoutException()).doThrow(new TimeoutException()).doNothing()
+                .when(buffer).writeAll(any(), anyInt());
+        sut = new PipelineConnector<>(SINK_PIPELINE_NAME, createPluginSetting("block"));
+
+        sut.start(buffer);
+
+        sut.output(recordList);
+
+        verify(buffer, times(3)).writeAll(eq(recordList), anyInt());
+    }
+
+    @Test
+    public void testOutputFallsBackToSingleRecordsOnSizeOverflow() throws Exception {
+        final Record<String> otherRecord = new Record<>(RECORD_DATA);
+        final List<Record<String>> records = Arrays.asList(RECORD, otherRecord);
+        doThrow(new SizeOverflowException("too large")).when(buffer).writeAll(eq(records), anyInt());
+
+        sut.start(buffer);
+
+        sut.output(records);
+
+        verify(buffer).writeAll(eq(Collections.singletonList(RECORD)), anyInt());
+        verify(buffer).writeAll(eq(Collections.singletonList(otherRecord)), anyInt());
+    }
+
+    @Test
+    public void testInvalidOverflowPolicy() {
+        final PluginSetting pluginSetting = createPluginSetting("spill_to_moon");
+        pluginSetting.setPipelineName("source-pipeline");
+
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new PipelineConnector<>(SINK_PIPELINE_NAME, pluginSetting));
+
+        assertEquals("Pipeline [source-pipeline] - invalid overflow_policy [spill_to_moon], must be one of: block, drop",
+                exception.getMessage());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWriteTimeout() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("write_timeout", 0);
+        new PipelineConnector<>(SINK_PIPELINE_NAME, new PluginSetting("pipeline", settings));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOutputWritesSnapshotsOfEvents() throws Exception {
+        final Buffer<Record<Event>> eventBuffer = mock(Buffer.class);
+        final PipelineConnector<Record<Event>> eventConnector = new PipelineConnector<>();
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("message", "original"))
+                .build();
+        final Record<Event> record = new Record<>(event);
+        eventConnector.start(eventBuffer);
+
+        eventConnector.output(Collections.singletonList(record));
+
+        final ArgumentCaptor<Collection<Record<Event>>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(eventBuffer).writeAll(recordsCaptor.capture(), anyInt());
+        final Record<Event> writtenRecord = recordsCaptor.getValue().iterator().next();
+        assertNotSame(event, writtenRecord.getData());
+        assertSame(record.getMetadata(), writtenRecord.getMetadata());
+
+        writtenRecord.getData().put("message", "modified");
+
+        assertEquals("original", event.get("message", String.class));
+        assertEquals("modified", writtenRecord.getData().get("message", String.class));
     }
 
     @Test
@@ -88,4 +198,11 @@ public class PipelineConnectorTest {
             assertTrue(e.getMessage().contains(SINK_PIPELINE_NAME));
         }
     }
+
+    private static PluginSetting createPluginSetting(final String overflowPolicy) {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("overflow_policy", overflowPolicy);
+        settings.put("write_timeout", 10);
+        return new PluginSetting("pipeline", settings);
+    }
 }
@@ -6,31 +6,47 @@
 package com.amazon.dataprepper.pipeline;
 
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.model.sink.Sink;
 import com.amazon.dataprepper.model.source.Source;
+import com.amazon.dataprepper.pipeline.common.SinkExecutorSettings;
 import com.amazon.dataprepper.pipeline.common.TestPrepper;
 import com.amazon.dataprepper.pipeline.common.TestProcessor;
 import com.amazon.dataprepper.plugins.TestSink;
 import com.amazon.dataprepper.plugins.TestSource;
 import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import com.amazon.dataprepper.plugins.buffer.blockingbuffer.PartitionedBlockingBuffer;
 import org.junit.After;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 public class PipelineTests {
     private static final int TEST_READ_BATCH_TIMEOUT = 3000;
+    private static final int TEST_SHORT_READ_BATCH_TIMEOUT = 100;
     private static final int TEST_PROCESSOR_THREADS = 1;
+    private static final int TEST_MAX_IN_FLIGHT_BATCHES = 3;
+    private static final int TEST_MAX_PROCESSOR_THREADS = 3;
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
 
     private Pipeline testPipeline;
@@ -165,6 +181,132 @@ public class PipelineTests {
         }
     }
 
+    @Test
+    public void testPipelineWithMultipleInFlightBatches() throws InterruptedException {
+        final Source<Record<String>> testSource = new TestSource();
+        final TestSink testSink = new TestSink();
+        testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(testSink), new PipelineSettings.Builder()
+                        .withProcessorThreads(TEST_PROCESSOR_THREADS)
+                        .withReadBatchTimeoutInMillis(TEST_SHORT_READ_BATCH_TIMEOUT)
+                        .withMaxInFlightBatches(TEST_MAX_IN_FLIGHT_BATCHES)
+                        .build());
+        assertThat(testPipeline.getMaxInFlightBatches(), is(TEST_MAX_IN_FLIGHT_BATCHES));
+        testPipeline.execute();
+        Thread.sleep(TEST_SHORT_READ_BATCH_TIMEOUT * 5);
+        testPipeline.shutdown();
+        assertThat("Sink should receive all the records", testSink.getCollectedRecords().size(),
+                is(TestSource.TEST_DATA.size()));
+        assertThat("All in-flight batches should be checkpointed", testPipeline.getBuffer().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testPipelineWithAdaptiveBatching() throws InterruptedException {
+        final Source<Record<String>> testSource = new TestSource();
+        final TestSink testSink = new TestSink();
+        testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(testSink), new PipelineSettings.Builder()
+                        .withProcessorThreads(TEST_PROCESSOR_THREADS)
+                        .withReadBatchTimeoutInMillis(TEST_READ_BATCH_TIMEOUT)
+                        .withMaxInFlightBatches(TEST_MAX_IN_FLIGHT_BATCHES)
+                        .withSinkExecutorSettings(Collections.singletonList(new SinkExecutorSettings("test-sink", null, null)))
+                        .withTargetLatencyInMillis(TEST_SHORT_READ_BATCH_TIMEOUT)
+                        .build());
+        assertThat(testPipeline.getAdaptiveBatchController(), notNullValue());
+        testPipeline.execute();
+        Thread.sleep(TEST_SHORT_READ_BATCH_TIMEOUT * 5);
+        testPipeline.shutdown();
+        assertThat("Sink should receive all the records", testSink.getCollectedRecords().size(),
+                is(TestSource.TEST_DATA.size()));
+        assertThat("All in-flight batches should be checkpointed", testPipeline.getBuffer().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testAddAndRetireProcessWorkers() throws InterruptedException {
+        final Source<Record<String>> testSource = new TestSource();
+        final TestSink testSink = new TestSink();
+        testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(testSink), new PipelineSettings.Builder()
+                        .withProcessorThreads(TEST_PROCESSOR_THREADS)
+                        .withMaxProcessorThreads(TEST_MAX_PROCESSOR_THREADS)
+                        .withReadBatchTimeoutInMillis(TEST_SHORT_READ_BATCH_TIMEOUT)
+                        .withMaxInFlightBatches(TEST_MAX_IN_FLIGHT_BATCHES)
+                        .build());
+        testPipeline.execute();
+        assertThat(testPipeline.getActiveProcessWorkers(), is(TEST_PROCESSOR_THREADS));
+
+        for (int i = TEST_PROCESSOR_THREADS; i < TEST_MAX_PROCESSOR_THREADS; i++) {
+            assertTrue(testPipeline.addProcessWorker());
+        }
+        assertFalse("Workers should not exceed the maximum", testPipeline.addProcessWorker());
+        assertThat(testPipeline.getActiveProcessWorkers(), is(TEST_MAX_PROCESSOR_THREADS));
+
+        for (int i = TEST_PROCESSOR_THREADS; i < TEST_MAX_PROCESSOR_THREADS; i++) {
+            assertTrue(testPipeline.retireProcessWorker());
+        }
+        assertFalse("Workers should not go below the minimum", testPipeline.retireProcessWorker());
+        assertThat(testPipeline.getActiveProcessWorkers(), is(TEST_PROCESSOR_THREADS));
+
+        Thread.sleep(TEST_SHORT_READ_BATCH_TIMEOUT * 5);
+        testPipeline.shutdown();
+        assertThat("Sink should receive all the records", testSink.getCollectedRecords().size(),
+                is(TestSource.TEST_DATA.size()));
+        assertThat("All in-flight batches should be checkpointed", testPipeline.getBuffer().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testInvalidMaxProcessorThreads() {
+        assertThrows(IllegalArgumentException.class, () -> new PipelineSettings.Builder()
+                .withProcessorThreads(TEST_MAX_PROCESSOR_THREADS)
+                .withMaxProcessorThreads(TEST_PROCESSOR_THREADS)
+                .withReadBatchTimeoutInMillis(TEST_READ_BATCH_TIMEOUT)
+                .build());
+    }
+
+    @Test
+    public void testInvalidMaxInFlightBatches() {
+        assertThrows(IllegalArgumentException.class, () -> new PipelineSettings.Builder()
+                .withProcessorThreads(TEST_PROCESSOR_THREADS)
+                .withReadBatchTimeoutInMillis(TEST_READ_BATCH_TIMEOUT)
+                .withMaxInFlightBatches(0)
+                .build());
+    }
+
+    @Test
+    public void testPartitionKeySendsEachKeyToOneSingleThreadProcessorInstance() throws Exception {
+        final int keys = 10;
+        final int recordsPerKey = 3;
+        final PartitionedBlockingBuffer<Record<Object>> buffer = new PartitionedBlockingBuffer<>(keys * recordsPerKey + 1,
+                8, 2, "traceId", TEST_PIPELINE_NAME);
+        for (int i = 0; i < recordsPerKey; i++) {
+            for (int key = 0; key < keys; key++) {
+                buffer.write(new Record<>(JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Collections.singletonMap("traceId", "trace-" + key))
+                        .build()), TEST_READ_BATCH_TIMEOUT);
+            }
+        }
+        final List<KeyRecordingProcessor> processorInstances = Arrays.asList(new KeyRecordingProcessor(),
+                new KeyRecordingProcessor());
+        testPipeline = new Pipeline(TEST_PIPELINE_NAME, new TestSource(), buffer,
+                Collections.singletonList(new ArrayList<>(processorInstances)), Collections.singletonList(new TestSink()),
+                2, TEST_SHORT_READ_BATCH_TIMEOUT);
+
+        testPipeline.execute();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (processorInstances.get(0).records + processorInstances.get(1).records < keys * recordsPerKey
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        final Set<String> firstInstanceKeys = processorInstances.get(0).keys;
+        final Set<String> secondInstanceKeys = processorInstances.get(1).keys;
+        assertEquals(keys, firstInstanceKeys.size() + secondInstanceKeys.size());
+        final Set<String> sharedKeys = new HashSet<>(firstInstanceKeys);
+        sharedKeys.retainAll(secondInstanceKeys);
+        assertTrue("Each key should reach a single processor instance", sharedKeys.isEmpty());
+    }
+
     @Test
     public void testGetSource() {
         final Source<Record<String>> testSource = new TestSource();
@@ -186,4 +328,37 @@ public class PipelineTests {
         assertEquals(1, testPipeline.getSinks().size());
         assertEquals(testSink, testPipeline.getSinks().iterator().next());
     }
+
+    /**
+     * Records the trace ids of the events it processes, standing in for a stateful {@link Processor} with an
+     * instance per worker.
+     */
+    private static class KeyRecordingProcessor implements Processor<Record<Object>, Record<Object>> {
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+        private volatile int records = 0;
+
+        @Override
+        public Collection<Record<Object>> execute(final Collection<Record<Object>> records) {
+            for (final Record<Object> record : records) {
+                if (record.getData() instanceof Event) {
+                    keys.add(((Event) record.getData()).get("traceId", String.class));
+                    this.records++;
+                }
+            }
+            return records;
+        }
+
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline;
+
+import com.amazon.dataprepper.model.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessWorkerScalerTest {
+    @Mock
+    private Buffer buffer;
+    @Mock
+    private Pipeline pipeline;
+
+    private ProcessWorkerScaler createObjectUnderTest() {
+        return new ProcessWorkerScaler(buffer, pipeline);
+    }
+
+    private void runSamples(final ProcessWorkerScaler processWorkerScaler, final int samples) {
+        for (int i = 0; i < samples; i++) {
+            processWorkerScaler.run();
+        }
+    }
+
+    @Test
+    void adds_worker_when_records_in_buffer_do_not_decrease() {
+        when(buffer.getRecordsInBuffer()).thenReturn(100L, 200L, 200L);
+        final ProcessWorkerScaler processWorkerScaler = createObjectUnderTest();
+
+        runSamples(processWorkerScaler, ProcessWorkerScaler.STABLE_SAMPLES);
+
+        verify(pipeline).addProcessWorker();
+        verify(pipeline, never()).retireProcessWorker();
+    }
+
+    @Test
+    void does_not_add_worker_when_records_in_buffer_decrease() {
+        when(buffer.getRecordsInBuffer()).thenReturn(300L, 200L, 100L, 50L);
+        final ProcessWorkerScaler processWorkerScaler = createObjectUnderTest();
+
+        runSamples(processWorkerScaler, ProcessWorkerScaler.STABLE_SAMPLES + 1);
+
+        verify(pipeline, never()).addProcessWorker();
+        verify(pipeline, never()).retireProcessWorker();
+    }
+
+    @Test
+    void retires_worker_when_buffer_is_empty() {
+        when(buffer.getRecordsInBuffer()).thenReturn(0L);
+        final ProcessWorkerScaler processWorkerScaler = createObjectUnderTest();
+
+        runSamples(processWorkerScaler, ProcessWorkerScaler.STABLE_SAMPLES * 2);
+
+        verify(pipeline, times(2)).retireProcessWorker();
+        verify(pipeline, never()).addProcessWorker();
+    }
+
+    @Test
+    void adds_worker_when_a_full_batch_per_worker_is_waiting() {
+        when(buffer.getBatchSize()).thenReturn(8);
+        when(pipeline.getActiveProcessWorkers()).thenReturn(2);
+        when(buffer.getRecordsInBuffer()).thenReturn(16L, 20L, 20L);
+        final ProcessWorkerScaler processWorkerScaler = createObjectUnderTest();
+
+        runSamples(processWorkerScaler, ProcessWorkerScaler.STABLE_SAMPLES);
+
+        verify(pipeline).addProcessWorker();
+        verify(pipeline, never()).retireProcessWorker();
+    }
+
+    @Test
+    void does_not_scale_when_backlog_is_between_watermarks() {
+        when(buffer.getBatchSize()).thenReturn(8);
+        when(pipeline.getActiveProcessWorkers()).thenReturn(2);
+        when(buffer.getRecordsInBuffer()).thenReturn(10L);
+        final ProcessWorkerScaler processWorkerScaler = createObjectUnderTest();
+
+        runSamples(processWorkerScaler, ProcessWorkerScaler.STABLE_SAMPLES * 2);
+
+        verify(pipeline, never()).addProcessWorker();
+        verify(pipeline, never()).retireProcessWorker();
+    }
+
+    @Test
+    void retires_worker_when_less_than_a_batch_is_waiting() {
+        when(buffer.getBatchSize()).thenReturn(8);
+        when(pipeline.getActiveProcessWorkers()).thenReturn(1);
+        when(buffer.getRecordsInBuffer()).thenReturn(1L);
+        final ProcessWorkerScaler processWorkerScaler = createObjectUnderTest();
+
+        runSamples(processWorkerScaler, ProcessWorkerScaler.STABLE_SAMPLES);
+
+        verify(pipeline).retireProcessWorker();
+        verify(pipeline, never()).addProcessWorker();
+    }
+
+    @Test
+    void does_not_scale_when_buffer_does_not_track_records() {
+        when(buffer.getRecordsInBuffer()).thenReturn(-1L);
+        final ProcessWorkerScaler processWorkerScaler = createObjectUnderTest();
+
+        runSamples(processWorkerScaler, ProcessWorkerScaler.STABLE_SAMPLES * 2);
+
+        verify(pipeline, never()).addProcessWorker();
+        verify(pipeline, never()).retireProcessWorker();
+    }
+
+    @Test
+    void keeps_sampling_after_exception() {
+        when(buffer.getRecordsInBuffer()).thenThrow(new RuntimeException()).thenReturn(0L);
+        when(pipeline.getName()).thenReturn("test-pipeline");
+        final ProcessWorkerScaler processWorkerScaler = createObjectUnderTest();
+
+        runSamples(processWorkerScaler, ProcessWorkerScaler.STABLE_SAMPLES + 1);
+
+        verify(pipeline).retireProcessWorker();
+    }
+}
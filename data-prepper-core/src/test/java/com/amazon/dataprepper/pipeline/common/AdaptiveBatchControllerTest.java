@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveBatchControllerTest {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final int TEST_TARGET_LATENCY = 1_000;
+    private static final int TEST_MAX_READ_DELAY = 3_000;
+    private static final int TEST_MAX_BATCH_SIZE = 100;
+
+    private AdaptiveBatchController createObjectUnderTest() {
+        return new AdaptiveBatchController(TEST_PIPELINE_NAME, TEST_TARGET_LATENCY, TEST_MAX_READ_DELAY,
+                TEST_MAX_BATCH_SIZE);
+    }
+
+    private static long millis(final long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    void initial_values() {
+        final AdaptiveBatchController adaptiveBatchController = createObjectUnderTest();
+
+        assertThat(adaptiveBatchController.getBatchSize(), equalTo(AdaptiveBatchController.INITIAL_BATCH_SIZE));
+        assertThat(adaptiveBatchController.getReadDelayInMillis(), equalTo(TEST_TARGET_LATENCY / 2));
+    }
+
+    @Test
+    void initial_read_delay_is_bounded_by_max_read_delay() {
+        final AdaptiveBatchController adaptiveBatchController =
+                new AdaptiveBatchController(TEST_PIPELINE_NAME, TEST_TARGET_LATENCY, 100, TEST_MAX_BATCH_SIZE);
+
+        assertThat(adaptiveBatchController.getReadDelayInMillis(), equalTo(100));
+    }
+
+    @Test
+    void full_fast_batch_grows_batch_size() {
+        final AdaptiveBatchController adaptiveBatchController = createObjectUnderTest();
+        final int batchSize = adaptiveBatchController.getBatchSize();
+        final int readDelay = adaptiveBatchController.getReadDelayInMillis();
+
+        adaptiveBatchController.recordBatch(batchSize, batchSize, millis(10));
+
+        assertThat(adaptiveBatchController.getBatchSize(), greaterThan(batchSize));
+        assertThat(adaptiveBatchController.getReadDelayInMillis(), equalTo(readDelay));
+    }
+
+    @Test
+    void full_fast_batches_grow_batch_size_up_to_max_batch_size() {
+        final AdaptiveBatchController adaptiveBatchController = createObjectUnderTest();
+
+        for (int i = 0; i < 100; i++) {
+            final int batchSize = adaptiveBatchController.getBatchSize();
+            adaptiveBatchController.recordBatch(batchSize, batchSize, millis(10));
+        }
+
+        assertThat(adaptiveBatchController.getBatchSize(), equalTo(TEST_MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void initial_batch_size_is_bounded_by_max_batch_size() {
+        final AdaptiveBatchController adaptiveBatchController =
+                new AdaptiveBatchController(TEST_PIPELINE_NAME, TEST_TARGET_LATENCY, TEST_MAX_READ_DELAY, 2);
+
+        assertThat(adaptiveBatchController.getBatchSize(), equalTo(2));
+    }
+
+    @Test
+    void batch_size_is_unbounded_when_buffer_does_not_limit_reads() {
+        final AdaptiveBatchController adaptiveBatchController =
+                new AdaptiveBatchController(TEST_PIPELINE_NAME, TEST_TARGET_LATENCY, TEST_MAX_READ_DELAY, -1);
+
+        for (int i = 0; i < 100; i++) {
+            final int batchSize = adaptiveBatchController.getBatchSize();
+            adaptiveBatchController.recordBatch(batchSize, batchSize, millis(10));
+        }
+
+        assertThat(adaptiveBatchController.getBatchSize(), greaterThan(TEST_MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void partial_fast_batch_grows_read_delay_up_to_max_read_delay() {
+        final AdaptiveBatchController adaptiveBatchController = createObjectUnderTest();
+        final int batchSize = adaptiveBatchController.getBatchSize();
+        final int readDelay = adaptiveBatchController.getReadDelayInMillis();
+
+        adaptiveBatchController.recordBatch(batchSize, 1, millis(10));
+
+        assertThat(adaptiveBatchController.getBatchSize(), equalTo(batchSize));
+        assertThat(adaptiveBatchController.getReadDelayInMillis(), greaterThan(readDelay));
+
+        for (int i = 0; i < 100; i++) {
+            adaptiveBatchController.recordBatch(batchSize, 1, millis(10));
+        }
+        assertThat(adaptiveBatchController.getReadDelayInMillis(), equalTo(TEST_MAX_READ_DELAY));
+    }
+
+    @Test
+    void empty_fast_batch_keeps_values() {
+        final AdaptiveBatchController adaptiveBatchController = createObjectUnderTest();
+        final int batchSize = adaptiveBatchController.getBatchSize();
+        final int readDelay = adaptiveBatchController.getReadDelayInMillis();
+
+        adaptiveBatchController.recordBatch(batchSize, 0, millis(10));
+
+        assertThat(adaptiveBatchController.getBatchSize(), equalTo(batchSize));
+        assertThat(adaptiveBatchController.getReadDelayInMillis(), equalTo(readDelay));
+    }
+
+    @Test
+    void slow_batch_shrinks_batch_size_and_read_delay() {
+        final AdaptiveBatchController adaptiveBatchController = createObjectUnderTest();
+        final int batchSize = adaptiveBatchController.getBatchSize();
+        final int readDelay = adaptiveBatchController.getReadDelayInMillis();
+
+        adaptiveBatchController.recordBatch(batchSize, batchSize, millis(TEST_TARGET_LATENCY * 2));
+
+        assertThat(adaptiveBatchController.getBatchSize(), lessThan(batchSize));
+        assertThat(adaptiveBatchController.getReadDelayInMillis(), lessThan(readDelay));
+
+        for (int i = 0; i < 100; i++) {
+            adaptiveBatchController.recordBatch(batchSize, batchSize, millis(TEST_TARGET_LATENCY * 2));
+        }
+        assertThat(adaptiveBatchController.getBatchSize(), equalTo(1));
+        assertThat(adaptiveBatchController.getReadDelayInMillis(), equalTo(1));
+    }
+
+    @Test
+    void batch_within_target_keeps_values() {
+        final AdaptiveBatchController adaptiveBatchController = createObjectUnderTest();
+        final int batchSize = adaptiveBatchController.getBatchSize();
+        final int readDelay = adaptiveBatchController.getReadDelayInMillis();
+
+        adaptiveBatchController.recordBatch(batchSize, batchSize, millis(TEST_TARGET_LATENCY * 3 / 4));
+
+        assertThat(adaptiveBatchController.getBatchSize(), equalTo(batchSize));
+        assertThat(adaptiveBatchController.getReadDelayInMillis(), equalTo(readDelay));
+    }
+
+    @Test
+    void invalid_target_latency() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveBatchController(TEST_PIPELINE_NAME, 0, TEST_MAX_READ_DELAY, TEST_MAX_BATCH_SIZE));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline.common;
+
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.sink.Sink;
+import com.amazon.dataprepper.pipeline.PipelineConnector;
+import com.amazon.dataprepper.plugins.TestSink;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SinkExecutorSettingsTest {
+
+    @Test
+    void defaultSettings_of_plugin_uses_plugin_name() {
+        final SinkExecutorSettings sinkExecutorSettings = SinkExecutorSettings.defaultSettings(new TestSink());
+
+        assertThat(sinkExecutorSettings.getSinkName(), equalTo("test_sink"));
+        assertThat(sinkExecutorSettings.getThreads(), nullValue());
+        assertThat(sinkExecutorSettings.getQueueSize(), nullValue());
+    }
+
+    @Test
+    void defaultSettings_of_pipeline_connector_uses_pipeline_plugin_name() {
+        final SinkExecutorSettings sinkExecutorSettings =
+                SinkExecutorSettings.defaultSettings(new PipelineConnector<>());
+
+        assertThat(sinkExecutorSettings.getSinkName(), equalTo(PipelineConnector.PIPELINE_PLUGIN_NAME));
+    }
+
+    @Test
+    void defaultSettings_of_sink_without_plugin_annotation_uses_class_name() {
+        final SinkExecutorSettings sinkExecutorSettings = SinkExecutorSettings.defaultSettings(new NotAPluginSink());
+
+        assertThat(sinkExecutorSettings.getSinkName(), equalTo(NotAPluginSink.class.getSimpleName()));
+    }
+
+    private static class NotAPluginSink implements Sink<Record<String>> {
+        @Override
+        public void output(final Collection<Record<String>> records) {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
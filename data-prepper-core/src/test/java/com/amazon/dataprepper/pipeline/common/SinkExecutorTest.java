@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.pipeline.common;
+
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.sink.Sink;
+import com.amazon.dataprepper.pipeline.Pipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"rawtypes", "unchecked"})
+class SinkExecutorTest {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String TEST_SINK_NAME = "test-sink";
+
+    @Mock
+    private Sink sink;
+    @Mock
+    private Pipeline pipeline;
+
+    private final Collection<Record> records = Collections.singletonList(new Record<>("TEST"));
+    private SinkExecutor sinkExecutor;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(pipeline.getName()).thenReturn(TEST_PIPELINE_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sinkExecutor != null) {
+            sinkExecutor.getExecutorService().shutdownNow();
+        }
+    }
+
+    private SinkExecutor createObjectUnderTest(final int threads, final int queueSize) {
+        return new SinkExecutor(sink, TEST_SINK_NAME, 1, threads, queueSize, pipeline);
+    }
+
+    @Test
+    void submit_outputs_records_to_sink() throws Exception {
+        sinkExecutor = createObjectUnderTest(1, 1);
+
+        sinkExecutor.submit(records).get(1, TimeUnit.SECONDS);
+
+        verify(sink).output(records);
+    }
+
+    @Test
+    void submit_blocks_while_queue_is_full() throws Exception {
+        final CountDownLatch sinkLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sinkLatch.await();
+            return null;
+        }).when(sink).output(records);
+        sinkExecutor = createObjectUnderTest(1, 1);
+
+        final Future<Void> runningFuture = sinkExecutor.submit(records);
+        final Future<Void> queuedFuture = sinkExecutor.submit(records);
+        final CompletableFuture<Future<Void>> blockedSubmit = CompletableFuture.supplyAsync(() -> sinkExecutor.submit(records));
+
+        Thread.sleep(200);
+        assertThat(blockedSubmit.isDone(), equalTo(false));
+
+        sinkLatch.countDown();
+        runningFuture.get(1, TimeUnit.SECONDS);
+        queuedFuture.get(1, TimeUnit.SECONDS);
+        blockedSubmit.get(1, TimeUnit.SECONDS).get(1, TimeUnit.SECONDS);
+        verify(sink, times(3)).output(records);
+    }
+
+    @Test
+    void submit_after_shutdown_throws() {
+        sinkExecutor = createObjectUnderTest(1, 1);
+        sinkExecutor.getExecutorService().shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> sinkExecutor.submit(records));
+    }
+
+    @Test
+    void sink_threads_are_named_after_sink_index() throws Exception {
+        final AtomicReference<String> threadName = new AtomicReference<>();
+        doAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            return null;
+        }).when(sink).output(records);
+        sinkExecutor = createObjectUnderTest(1, 1);
+
+        sinkExecutor.submit(records).get(1, TimeUnit.SECONDS);
+
+        assertThat(threadName.get().startsWith(TEST_PIPELINE_NAME + "-sink-" + TEST_SINK_NAME + "-1-worker"),
+                equalTo(true));
+    }
+
+    @Test
+    void handOffHandler_takes_back_task_if_executor_shuts_down_while_waiting() {
+        final SinkExecutor.BlockingHandOffHandler handOffHandler =
+                new SinkExecutor.BlockingHandOffHandler(TEST_PIPELINE_NAME, TEST_SINK_NAME);
+        final ThreadPoolExecutor executor = mock(ThreadPoolExecutor.class);
+        final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+        when(executor.getQueue()).thenReturn(queue);
+        when(executor.isShutdown()).thenReturn(false, true);
+        final Runnable runnable = () -> { };
+
+        assertThrows(RejectedExecutionException.class, () -> handOffHandler.rejectedExecution(runnable, executor));
+
+        assertThat(queue.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void handOffHandler_queues_task_while_executor_is_running() {
+        final SinkExecutor.BlockingHandOffHandler handOffHandler =
+                new SinkExecutor.BlockingHandOffHandler(TEST_PIPELINE_NAME, TEST_SINK_NAME);
+        final ThreadPoolExecutor executor = mock(ThreadPoolExecutor.class);
+        final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+        when(executor.getQueue()).thenReturn(queue);
+        when(executor.isShutdown()).thenReturn(false);
+        final Runnable runnable = () -> { };
+
+        handOffHandler.rejectedExecution(runnable, executor);
+
+        assertThat(queue.contains(runnable), equalTo(true));
+    }
+}
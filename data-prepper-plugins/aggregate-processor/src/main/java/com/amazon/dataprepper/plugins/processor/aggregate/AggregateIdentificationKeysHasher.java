@@ -5,22 +5,44 @@
 
 package com.amazon.dataprepper.plugins.processor.aggregate;
 
-import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.record.RecordBatch;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 class AggregateIdentificationKeysHasher {
-    private final List<String> identificationKeys;
+    private final List<EventKey> identificationKeys;
     AggregateIdentificationKeysHasher(final List<String> identificationKeys) {
-        this.identificationKeys = identificationKeys;
+        this.identificationKeys = identificationKeys.stream()
+                .map(EventKey::of)
+                .collect(Collectors.toList());
     }
 
-    IdentificationHash createIdentificationKeyHashFromEvent(final Event event) {
+    List<EventKey> getIdentificationKeys() {
+        return identificationKeys;
+    }
+
+    /**
+     * Gets the identification key columns of a batch, so that they are looked up once per batch rather than once per
+     * row.
+     */
+    List<RecordBatch.Column> getIdentificationKeyColumns(final RecordBatch recordBatch) {
+        return identificationKeys.stream()
+                .map(recordBatch::getColumn)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates the hash of the event at a row from the identification key columns of its batch.
+     */
+    IdentificationHash createIdentificationKeyHashFromColumns(final List<RecordBatch.Column> identificationKeyColumns,
+                                                              final int row) {
         final Map<Object, Object> identificationKeysHash = new HashMap<>();
-        for (final String identificationKey : identificationKeys) {
-            identificationKeysHash.put(identificationKey, event.get(identificationKey, Object.class));
+        for (final RecordBatch.Column identificationKeyColumn : identificationKeyColumns) {
+            identificationKeysHash.put(identificationKeyColumn.getKey().getKey(), identificationKeyColumn.get(row));
         }
         return new IdentificationHash(identificationKeysHash);
     }
@@ -11,10 +11,13 @@ import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.plugin.PluginFactory;
 import com.amazon.dataprepper.model.processor.AbstractProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
+import com.amazon.dataprepper.model.processor.VectorizedProcessor;
 import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.record.RecordBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,7 +26,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 @DataPrepperPlugin(name = "aggregate", pluginType = Processor.class, pluginConfigurationType = AggregateProcessorConfig.class)
-public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> implements VectorizedProcessor {
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
 
     private final AggregateProcessorConfig aggregateProcessorConfig;
@@ -52,10 +55,14 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
         final List<Record<Event>> recordsOut = new LinkedList<>();
+        final RecordBatch recordBatch = RecordBatch.of(records, getColumnKeys());
+        final List<RecordBatch.Column> identificationKeyColumns =
+                aggregateIdentificationKeysHasher.getIdentificationKeyColumns(recordBatch);
 
-        for (final Record<Event> record : records) {
+        for (int row = 0; row < recordBatch.size(); row++) {
+            final Record<Event> record = recordBatch.get(row);
             final Event event = record.getData();
-            final AggregateIdentificationKeysHasher.IdentificationHash identificationKeysHash = aggregateIdentificationKeysHasher.createIdentificationKeyHashFromEvent(event);
+            final AggregateIdentificationKeysHasher.IdentificationHash identificationKeysHash = aggregateIdentificationKeysHasher.createIdentificationKeyHashFromColumns(identificationKeyColumns, row);
             final AggregateGroup aggregateGroupForEvent = aggregateGroupManager.getAggregateGroup(identificationKeysHash);
 
             final AggregateActionResponse handleEventResponse = aggregateAction.handleEvent(event, aggregateGroupForEvent);
@@ -69,6 +76,11 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         return recordsOut;
     }
 
+    @Override
+    public Collection<EventKey> getColumnKeys() {
+        return aggregateIdentificationKeysHasher.getIdentificationKeys();
+    }
+
     @Override
     public void prepareForShutdown() {
 
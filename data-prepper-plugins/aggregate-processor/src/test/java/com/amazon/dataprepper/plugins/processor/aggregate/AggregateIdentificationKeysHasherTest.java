@@ -6,17 +6,22 @@
 package com.amazon.dataprepper.plugins.processor.aggregate;
 
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.record.RecordBatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class AggregateIdentificationKeysHasherTest {
@@ -35,8 +40,36 @@ public class AggregateIdentificationKeysHasherTest {
         return new AggregateIdentificationKeysHasher(identificationKeys);
     }
 
+    private List<RecordBatch.Column> createIdentificationKeyColumns(final Event event) {
+        final RecordBatch recordBatch = RecordBatch.of(Collections.singletonList(new Record<>(event)));
+        return aggregateIdentificationKeysHasher.getIdentificationKeyColumns(recordBatch);
+    }
+
+    @Test
+    void getIdentificationKeys_returns_EventKeys_of_identification_keys() {
+        aggregateIdentificationKeysHasher = createObjectUnderTest();
+        assertThat(aggregateIdentificationKeysHasher.getIdentificationKeys(),
+                contains(EventKey.of("firstIdentificationKey"), EventKey.of("secondIdentificationKey")));
+    }
+
+    @Test
+    void getIdentificationKeyColumns_returns_columns_of_identification_keys() {
+        aggregateIdentificationKeysHasher = createObjectUnderTest();
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("firstIdentificationKey", "value"))
+                .build();
+
+        final List<RecordBatch.Column> columns = createIdentificationKeyColumns(event);
+
+        assertThat(columns.size(), equalTo(2));
+        assertThat(columns.get(0).getKey(), equalTo(EventKey.of("firstIdentificationKey")));
+        assertThat(columns.get(0).get(0), equalTo("value"));
+        assertThat(columns.get(1).getKey(), equalTo(EventKey.of("secondIdentificationKey")));
+    }
+
     @Test
-    void createIdentificationKeyHashFromEvent_returns_expected_Map() {
+    void createIdentificationKeyHashFromColumns_returns_expected_Map() {
         aggregateIdentificationKeysHasher = createObjectUnderTest();
         final Map<Object, Object> eventMap = new HashMap<>();
         eventMap.put("firstIdentificationKey", UUID.randomUUID().toString());
@@ -51,12 +84,12 @@ public class AggregateIdentificationKeysHasherTest {
                 .withData(eventMap)
                 .build();
 
-        final AggregateIdentificationKeysHasher.IdentificationHash result = aggregateIdentificationKeysHasher.createIdentificationKeyHashFromEvent(event);
+        final AggregateIdentificationKeysHasher.IdentificationHash result = aggregateIdentificationKeysHasher.createIdentificationKeyHashFromColumns(createIdentificationKeyColumns(event), 0);
         assertThat(result, equalTo(expectedResult));
     }
 
     @Test
-    void createIdentificationKeysHashFromEvent_where_Event_does_not_contain_one_of_the_identification_keys_returns_expected_Map() {
+    void createIdentificationKeyHashFromColumns_where_Event_does_not_contain_one_of_the_identification_keys_returns_expected_Map() {
         aggregateIdentificationKeysHasher = createObjectUnderTest();
         final Map<Object, Object> eventMap = new HashMap<>();
         eventMap.put("firstIdentificationKey", UUID.randomUUID().toString());
@@ -71,7 +104,7 @@ public class AggregateIdentificationKeysHasherTest {
                 .withData(eventMap)
                 .build();
 
-        final AggregateIdentificationKeysHasher.IdentificationHash result = aggregateIdentificationKeysHasher.createIdentificationKeyHashFromEvent(event);
+        final AggregateIdentificationKeysHasher.IdentificationHash result = aggregateIdentificationKeysHasher.createIdentificationKeyHashFromColumns(createIdentificationKeyColumns(event), 0);
         assertThat(result, equalTo(expectedResult));
     }
 }
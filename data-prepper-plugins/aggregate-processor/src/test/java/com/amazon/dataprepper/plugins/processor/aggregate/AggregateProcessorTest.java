@@ -9,15 +9,19 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.event.JacksonEvent;
 import com.amazon.dataprepper.model.plugin.PluginFactory;
 import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.record.RecordBatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -28,7 +32,9 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -82,7 +88,7 @@ public class AggregateProcessorTest {
                 .withEventType("event")
                 .build();
 
-        when(aggregateIdentificationKeysHasher.createIdentificationKeyHashFromEvent(event))
+        when(aggregateIdentificationKeysHasher.createIdentificationKeyHashFromColumns(anyList(), eq(0)))
                 .thenReturn(identificationHash);
         when(aggregateGroupManager.getAggregateGroup(identificationHash)).thenReturn(aggregateGroup);
         when(aggregateAction.handleEvent(event, aggregateGroup)).thenReturn(aggregateActionResponse);
@@ -113,4 +119,26 @@ public class AggregateProcessorTest {
         assertThat(recordsOut.get(0), notNullValue());
         assertThat(recordsOut.get(0).getData(), equalTo(event));
     }
+
+    @Test
+    void doExecute_gets_identification_key_columns_once_per_batch() {
+        final EventKey identificationKey = EventKey.of(UUID.randomUUID().toString());
+        final List<EventKey> identificationKeys = Collections.singletonList(identificationKey);
+        when(aggregateIdentificationKeysHasher.getIdentificationKeys()).thenReturn(identificationKeys);
+        final List<RecordBatch.Column> identificationKeyColumns = Collections.emptyList();
+        when(aggregateIdentificationKeysHasher.getIdentificationKeyColumns(any(RecordBatch.class)))
+                .thenReturn(identificationKeyColumns);
+        when(aggregateIdentificationKeysHasher.createIdentificationKeyHashFromColumns(identificationKeyColumns, 1))
+                .thenReturn(identificationHash);
+
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+        objectUnderTest.doExecute(Arrays.asList(new Record<>(event), new Record<>(event)));
+
+        assertThat(objectUnderTest.getColumnKeys(), equalTo(identificationKeys));
+        final ArgumentCaptor<RecordBatch> recordBatchCaptor = ArgumentCaptor.forClass(RecordBatch.class);
+        verify(aggregateIdentificationKeysHasher).getIdentificationKeyColumns(recordBatchCaptor.capture());
+        assertThat(recordBatchCaptor.getValue().getColumn(identificationKey).size(), equalTo(2));
+        verify(aggregateIdentificationKeysHasher).createIdentificationKeyHashFromColumns(identificationKeyColumns, 0);
+        verify(aggregateIdentificationKeysHasher).createIdentificationKeyHashFromColumns(identificationKeyColumns, 1);
+    }
 }
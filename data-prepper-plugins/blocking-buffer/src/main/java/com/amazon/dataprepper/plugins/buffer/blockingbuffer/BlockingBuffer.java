@@ -13,17 +13,27 @@ import com.amazon.dataprepper.model.buffer.SizeOverflowException;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.record.Record;
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -38,6 +48,18 @@ import static java.lang.String.format;
  * specified timeout in milliseconds if necessary for space to become available; and throws an exception if the
  * record is null. {@link #read(int)} retrieves and removes the batch of records from the head of the queue. The
  * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the timeout parameter
+ * <p>
+ * If {@link #ATTRIBUTE_BUFFER_CAPACITY_BYTES} is configured, the capacity is accounted in bytes instead of records:
+ * each record takes as many permits as its estimated serialized size, so that a record holding thousands of spans
+ * takes more of the buffer than a record holding a single log line. The permits of a record are estimated once when it
+ * is written and kept with the record, so that its checkpoint releases exactly the permits its write acquired.
+ * <p>
+ * {@link #writeAllAsync(Collection, int)} does not park the calling thread when the buffer is full. The write waits in
+ * a FIFO queue of writes instead, which is served whenever a checkpoint releases capacity, and a shared timer fails it
+ * with a {@link TimeoutException} once its timeout elapses. The futures of waiting writes are completed on a shared
+ * completion pool, so that their callbacks, such as responding to a client, run neither on the process worker which
+ * checkpointed nor on the timer. {@link #write(Record, int)} and {@link #writeAll(Collection, int)} wait in the same
+ * queue, blocking the calling thread, so that synchronous writers cannot overtake asynchronous ones.
  */
 @DataPrepperPlugin(name = "bounded_blocking", pluginType = Buffer.class)
 public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
@@ -47,13 +69,20 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     private static final String PLUGIN_NAME = "bounded_blocking";
     private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY_BYTES = "buffer_size_bytes";
+    private static final ScheduledThreadPoolExecutor ASYNC_WRITE_TIMER = createAsyncWriteTimer();
+    private static final ExecutorService ASYNC_WRITE_COMPLETER = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder().setNameFormat("blocking-buffer-write-completion-%d").setDaemon(true).build());
 
     private final int bufferCapacity;
     private final int batchSize;
-    private final BlockingQueue<T> blockingQueue;
+    private final RecordSizeEstimator recordSizeEstimator;
+    private final BlockingQueue<BufferedRecord<T>> blockingQueue;
     private final String pipelineName;
 
     private final Semaphore capacitySemaphore;
+    private final Queue<AsyncWrite> asyncWrites = new ArrayDeque<>();
 
     /**
      * Creates a BlockingBuffer with the given (fixed) capacity.
@@ -63,10 +92,37 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * @param pipelineName   the name of the associated Pipeline
      */
     public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        this(bufferCapacity, batchSize, null, pipelineName);
+    }
+
+    /**
+     * Creates a BlockingBuffer with the given (fixed) capacity in bytes. Records are charged their estimated
+     * serialized size, or the whole capacity if they are larger than the capacity.
+     *
+     * @param bufferCapacityInBytes the capacity of the buffer in bytes
+     * @param batchSize             the batch size for {@link #read(int)}
+     * @param pipelineName          the name of the associated Pipeline
+     * @param <T>                   the type of records in the buffer
+     * @return the buffer
+     */
+    public static <T extends Record<?>> BlockingBuffer<T> withCapacityInBytes(final int bufferCapacityInBytes,
+                                                                              final int batchSize,
+                                                                              final String pipelineName) {
+        return new BlockingBuffer<>(bufferCapacityInBytes, batchSize, new RecordSizeEstimator(), pipelineName);
+    }
+
+    /**
+     * @param recordSizeEstimator estimates the permits of a record if the capacity is in bytes, null if the capacity
+     *                            is in records
+     */
+    private BlockingBuffer(final int bufferCapacity, final int batchSize,
+                           final RecordSizeEstimator recordSizeEstimator, final String pipelineName) {
         super("BlockingBuffer", pipelineName);
         this.bufferCapacity = bufferCapacity;
         this.batchSize = batchSize;
-        this.blockingQueue = new LinkedBlockingQueue<>(bufferCapacity);
+        this.recordSizeEstimator = recordSizeEstimator;
+        this.blockingQueue = recordSizeEstimator == null
+                ? new LinkedBlockingQueue<>(bufferCapacity) : new LinkedBlockingQueue<>();
         this.capacitySemaphore = new Semaphore(bufferCapacity);
         this.pipelineName = pipelineName;
     }
@@ -76,59 +132,169 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * instance of {@link BlockingBuffer} using an instance of {@link PluginSetting} which has access to
      * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer-size`, `batch-size`,
      * `batch-timeout` are optional and can be passed via {@link PluginSetting}, if not present default values will
-     * be used to create the buffer.
+     * be used to create the buffer. If `buffer_size_bytes` is present, it bounds the buffer instead of `buffer_size`.
      *
      * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
      */
     public BlockingBuffer(final PluginSetting pluginSetting) {
-        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
-                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+        this(getBufferCapacity(checkNotNull(pluginSetting, "PluginSetting cannot be null")),
                 pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                isCapacityInBytes(pluginSetting) ? new RecordSizeEstimator() : null,
                 pluginSetting.getPipelineName());
     }
 
+    private static boolean isCapacityInBytes(final PluginSetting pluginSetting) {
+        return pluginSetting.getAttributeFromSettings(ATTRIBUTE_BUFFER_CAPACITY_BYTES) != null;
+    }
+
+    private static int getBufferCapacity(final PluginSetting pluginSetting) {
+        return isCapacityInBytes(pluginSetting)
+                ? pluginSetting.getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY_BYTES, DEFAULT_BUFFER_CAPACITY)
+                : pluginSetting.getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+    }
+
     public BlockingBuffer(final String pipelineName) {
         this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
     }
 
     @Override
     public void doWrite(T record, int timeoutInMillis) throws TimeoutException {
-        try {
-            final boolean permitAcquired = capacitySemaphore.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS);
-            if (!permitAcquired) {
-                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
-                        pipelineName));
-            }
-            blockingQueue.offer(record);
-        } catch (InterruptedException ex) {
-            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
-            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
-        }
+        checkNotNull(record, "record cannot be null");
+        final List<BufferedRecord<T>> bufferedRecords =
+                Collections.singletonList(new BufferedRecord<>(record, getPermits(record)));
+        awaitWrite(submitWrite(bufferedRecords, bufferedRecords.get(0).permits, timeoutInMillis));
     }
 
     @Override
     public void doWriteAll(Collection<T> records, int timeoutInMillis) throws Exception {
         final int size = records.size();
-        if (size > bufferCapacity) {
+        final List<BufferedRecord<T>> bufferedRecords = toBufferedRecords(records);
+        final long permits = getPermits(bufferedRecords);
+        if (permits > bufferCapacity) {
             throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
         }
+        awaitWrite(submitWrite(bufferedRecords, (int) permits, timeoutInMillis));
+    }
+
+    /**
+     * Blocks until the write has been added to the queue or has timed out. If the thread is interrupted while the
+     * write is still waiting, the write is withdrawn and fails with a {@link TimeoutException}.
+     */
+    private void awaitWrite(final AsyncWrite asyncWrite) throws TimeoutException {
         try {
-            final boolean permitAcquired = capacitySemaphore.tryAcquire(size, timeoutInMillis, TimeUnit.MILLISECONDS);
-            if (!permitAcquired) {
+            asyncWrite.future.get();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof TimeoutException) {
+                throw (TimeoutException) ex.getCause();
+            }
+            throw new RuntimeException(ex.getCause());
+        } catch (final InterruptedException ex) {
+            final boolean withdrawn;
+            synchronized (asyncWrites) {
+                withdrawn = asyncWrites.remove(asyncWrite);
+            }
+            Thread.currentThread().interrupt();
+            if (withdrawn) {
+                asyncWrite.timeout.cancel(false);
+                LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the size of records: {}, " +
+                                "interrupted while waiting to write the records",
+                        pipelineName, asyncWrite.bufferedRecords.size(), ex);
+                // A smaller write waiting behind the withdrawn one may fit into the buffer.
+                completeAsyncWrites();
                 throw new TimeoutException(
                         format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
-                                        "timed out waiting for slots.",
-                        pipelineName, size));
+                                "timed out waiting for slots.", pipelineName, asyncWrite.bufferedRecords.size()));
             }
-            blockingQueue.addAll(records);
-        } catch (InterruptedException ex) {
-            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the size of records: {}, " +
-                            "interrupted while waiting to write the records",
-                    pipelineName, size, ex);
-            throw new TimeoutException(
+            // The write was added to the queue before the interrupt could withdraw it.
+        }
+    }
+
+    /**
+     * Writes the records at once if the buffer has capacity for them and no earlier write is waiting.
+     * Otherwise the write waits for the capacity released by {@link #doCheckpoint(CheckpointState)} without blocking
+     * the calling thread.
+     *
+     * @param records         Collection of records to write to buffer
+     * @param timeoutInMillis how long to wait before giving up
+     * @return a future which completes when the records have been written
+     */
+    @Override
+    public CompletableFuture<Void> doWriteAllAsync(final Collection<T> records, final int timeoutInMillis) {
+        final int size = records.size();
+        final List<BufferedRecord<T>> bufferedRecords = toBufferedRecords(records);
+        final long permits = getPermits(bufferedRecords);
+        if (permits > bufferCapacity) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(
+                    new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size)));
+            return future;
+        }
+        return submitWrite(bufferedRecords, (int) permits, timeoutInMillis).future;
+    }
+
+    /**
+     * Adds the records to the queue at once if the buffer has capacity for them and no earlier write is waiting, and
+     * returns a completed write. Otherwise the write joins the waiting writes until a checkpoint releases capacity for
+     * it or its timeout elapses.
+     */
+    private AsyncWrite submitWrite(final List<BufferedRecord<T>> bufferedRecords, final int permits,
+                                   final int timeoutInMillis) {
+        final AsyncWrite asyncWrite = new AsyncWrite(bufferedRecords, permits);
+        synchronized (asyncWrites) {
+            if (!asyncWrites.isEmpty() || !capacitySemaphore.tryAcquire(asyncWrite.permits)) {
+                asyncWrites.add(asyncWrite);
+                asyncWrite.timeout = ASYNC_WRITE_TIMER.schedule(
+                        () -> expire(asyncWrite), timeoutInMillis, TimeUnit.MILLISECONDS);
+                return asyncWrite;
+            }
+        }
+        addToQueue(asyncWrite);
+        asyncWrite.future.complete(null);
+        return asyncWrite;
+    }
+
+    /**
+     * Writes the waiting writes, in order, for as long as the buffer has capacity for the next one. Their futures are
+     * completed on {@link #ASYNC_WRITE_COMPLETER}, so that their callbacks run neither under the lock nor on the
+     * thread which released the capacity.
+     */
+    private void completeAsyncWrites() {
+        final List<AsyncWrite> completedWrites = new ArrayList<>();
+        synchronized (asyncWrites) {
+            AsyncWrite asyncWrite;
+            while ((asyncWrite = asyncWrites.peek()) != null && capacitySemaphore.tryAcquire(asyncWrite.permits)) {
+                asyncWrites.remove();
+                asyncWrite.timeout.cancel(false);
+                addToQueue(asyncWrite);
+                completedWrites.add(asyncWrite);
+            }
+        }
+        if (!completedWrites.isEmpty()) {
+            ASYNC_WRITE_COMPLETER.execute(() -> completedWrites.forEach(completedWrite ->
+                    completedWrite.future.complete(null)));
+        }
+    }
+
+    private void expire(final AsyncWrite asyncWrite) {
+        final boolean expired;
+        synchronized (asyncWrites) {
+            expired = asyncWrites.remove(asyncWrite);
+        }
+        if (expired) {
+            final TimeoutException timeoutException = new TimeoutException(
                     format("Pipeline [%s] - Buffer does not have enough capacity left for the size of records: %d, " +
-                            "timed out waiting for slots.",
-                    pipelineName, size));
+                                    "timed out waiting for slots.",
+                            pipelineName, asyncWrite.bufferedRecords.size()));
+            ASYNC_WRITE_COMPLETER.execute(() -> asyncWrite.future.completeExceptionally(timeoutException));
+            // A smaller write waiting behind the expired one may fit into the buffer.
+            completeAsyncWrites();
+        }
+    }
+
+    private void addToQueue(final AsyncWrite asyncWrite) {
+        blockingQueue.addAll(asyncWrite.bufferedRecords);
+        if (recordSizeEstimator != null) {
+            recordBytesWritten(asyncWrite.permits);
         }
     }
 
@@ -142,26 +308,75 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      */
     @Override
     public Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis) {
-        final List<T> records = new ArrayList<>();
+        return doRead(timeoutInMillis, batchSize);
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the queue, as {@link #doRead(int)} does, with a batch
+     * size of at most maxBatchSize records.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @param maxBatchSize the maximum number of records to return
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis, final int maxBatchSize) {
+        final int readBatchSize = Math.max(Math.min(batchSize, maxBatchSize), 1);
+        final List<BufferedRecord<T>> bufferedRecords = new ArrayList<>();
         final Stopwatch stopwatch = Stopwatch.createStarted();
         try {
-            while (stopwatch.elapsed(TimeUnit.MILLISECONDS) < timeoutInMillis && records.size() < batchSize) {
-                final T record = blockingQueue.poll(timeoutInMillis, TimeUnit.MILLISECONDS);
-                if (record != null) { //record can be null, avoiding adding nulls
-                    records.add(record);
+            while (stopwatch.elapsed(TimeUnit.MILLISECONDS) < timeoutInMillis
+                    && bufferedRecords.size() < readBatchSize) {
+                final BufferedRecord<T> bufferedRecord = blockingQueue.poll(timeoutInMillis, TimeUnit.MILLISECONDS);
+                if (bufferedRecord != null) { //record can be null, avoiding adding nulls
+                    bufferedRecords.add(bufferedRecord);
                 }
-                if (records.size() < batchSize) {
-                    blockingQueue.drainTo(records, batchSize - records.size());
+                if (bufferedRecords.size() < readBatchSize) {
+                    blockingQueue.drainTo(bufferedRecords, readBatchSize - bufferedRecords.size());
                 }
             }
         } catch (InterruptedException ex) {
             LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
             throw new RuntimeException(ex);
         }
-        final CheckpointState checkpointState = new CheckpointState(records.size());
+        final List<T> records = new ArrayList<>(bufferedRecords.size());
+        for (final BufferedRecord<T> bufferedRecord : bufferedRecords) {
+            records.add(bufferedRecord.record);
+        }
+        final CheckpointState checkpointState = recordSizeEstimator == null
+                ? new CheckpointState(records.size())
+                : new CheckpointState(records.size(), getPermits(bufferedRecords));
         return new AbstractMap.SimpleEntry<>(records, checkpointState);
     }
 
+    /**
+     * @return the permits taken by the record, 1 if the capacity is in records, otherwise its estimated size in bytes
+     * capped at the capacity
+     */
+    private int getPermits(final T record) {
+        if (recordSizeEstimator == null) {
+            return 1;
+        }
+        return Math.min(Math.max(recordSizeEstimator.estimateSizeInBytes(record), 1), bufferCapacity);
+    }
+
+    private List<BufferedRecord<T>> toBufferedRecords(final Collection<T> records) {
+        final List<BufferedRecord<T>> bufferedRecords = new ArrayList<>(records.size());
+        for (final T record : records) {
+            checkNotNull(record, "record cannot be null");
+            bufferedRecords.add(new BufferedRecord<>(record, getPermits(record)));
+        }
+        return bufferedRecords;
+    }
+
+    private static long getPermits(final List<? extends BufferedRecord<?>> bufferedRecords) {
+        long permits = 0;
+        for (final BufferedRecord<?> bufferedRecord : bufferedRecords) {
+            permits += bufferedRecord.permits;
+        }
+        return permits;
+    }
+
     /**
      * Returns the default PluginSetting object with default values.
      * @return PluginSetting
@@ -175,12 +390,64 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
 
     @Override
     public void doCheckpoint(final CheckpointState checkpointState) {
-        final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
-        capacitySemaphore.release(numCheckedRecords);
+        if (recordSizeEstimator == null) {
+            capacitySemaphore.release(checkpointState.getNumRecordsToBeChecked());
+        } else {
+            capacitySemaphore.release((int) checkpointState.getNumBytesToBeChecked());
+        }
+        completeAsyncWrites();
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the fraction of the capacity taken by records which have not been checkpointed yet
+     */
+    @Override
+    public double getCapacityUsage() {
+        return 1.0 - (double) capacitySemaphore.availablePermits() / bufferCapacity;
     }
 
     @Override
     public boolean isEmpty() {
         return blockingQueue.isEmpty() && getRecordsInFlight() == 0;
     }
+
+    private static ScheduledThreadPoolExecutor createAsyncWriteTimer() {
+        final ScheduledThreadPoolExecutor asyncWriteTimer = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactoryBuilder().setNameFormat("blocking-buffer-write-timer-%d").setDaemon(true).build());
+        asyncWriteTimer.setRemoveOnCancelPolicy(true);
+        return asyncWriteTimer;
+    }
+
+    /**
+     * A record in the queue, with the permits it acquired when it was written.
+     */
+    private static class BufferedRecord<T> {
+        private final T record;
+        private final int permits;
+
+        private BufferedRecord(final T record, final int permits) {
+            this.record = record;
+            this.permits = permits;
+        }
+    }
+
+    /**
+     * A write of a collection of records, waiting for capacity.
+     */
+    private class AsyncWrite {
+        private final List<BufferedRecord<T>> bufferedRecords;
+        private final int permits;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private ScheduledFuture<?> timeout;
+
+        private AsyncWrite(final List<BufferedRecord<T>> bufferedRecords, final int permits) {
+            this.bufferedRecords = bufferedRecords;
+            this.permits = permits;
+        }
+    }
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
+import com.amazon.dataprepper.model.record.Record;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded PartitionedBlockingBuffer is an implementation of {@link Buffer} striped over several
+ * {@link LinkedBlockingQueue} partitions, so that sources and process workers do not all contend on a single queue.
+ * Writes are spread round-robin over the partitions, a {@link #writeAll(Collection, int)} keeping its records together
+ * in one partition. Each process worker reads from the home partition of its worker slot, given through
+ * {@link #assignReaderSlot(int)}, so a slot keeps its partition whichever pooled thread runs it; other reading threads
+ * are assigned a home partition on their first read. A reader steals from the other partitions when its own does not
+ * fill the batch.
+ * <p>
+ * Capacity is global: a single semaphore bounds the number of unchecked records over all partitions, and
+ * {@link #isEmpty()} checks all partitions, so pipeline shutdown drains the whole buffer.
+ * <p>
+ * If a {@link #ATTRIBUTE_PARTITION_KEY} is configured, each {@link Event} record is written to the partition of the
+ * hash of its value for that key, and readers do not steal. With one partition per process worker, all the records with
+ * the same key then reach the same worker. The pipeline gives the worker of slot i the i-th instance of each
+ * {@link com.amazon.dataprepper.model.annotations.SingleThread} processor, so that instance sees every record of the
+ * keys of partition i and can keep per-key state without sharing it. Records without a value for the key are spread
+ * round-robin. Workers added and retired with max_workers would leave partitions without a reader or share one, so a
+ * partition key requires a fixed number of workers.
+ */
+@DataPrepperPlugin(name = "partitioned_blocking", pluginType = Buffer.class)
+public class PartitionedBlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionedBlockingBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 512;
+    private static final int DEFAULT_BATCH_SIZE = 8;
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_PARTITIONS = "partitions";
+    private static final String ATTRIBUTE_PARTITION_KEY = "partition_key";
+    private static final long STEAL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    static final String RECORDS_STOLEN = "recordsStolen";
+
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final String pipelineName;
+    private final EventKey partitionKey;
+    private final List<BlockingQueue<T>> partitions;
+    private final Semaphore capacitySemaphore;
+    private final AtomicInteger nextWritePartition = new AtomicInteger();
+    private final AtomicInteger nextHomePartition = new AtomicInteger();
+    private final ThreadLocal<Integer> homePartition;
+    private final Counter recordsStolenCounter;
+
+    /**
+     * Creates a PartitionedBlockingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer over all partitions
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param partitions     the number of partitions
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public PartitionedBlockingBuffer(final int bufferCapacity, final int batchSize, final int partitions,
+                                     final String pipelineName) {
+        this(bufferCapacity, batchSize, partitions, null, pipelineName);
+    }
+
+    /**
+     * Creates a PartitionedBlockingBuffer with the given (fixed) capacity, which partitions the records by key.
+     *
+     * @param bufferCapacity the capacity of the buffer over all partitions
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param partitions     the number of partitions, which should be the number of reading process workers
+     * @param partitionKey   the event key to partition the records by, or null to spread them round-robin
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public PartitionedBlockingBuffer(final int bufferCapacity, final int batchSize, final int partitions,
+                                     final String partitionKey, final String pipelineName) {
+        super("PartitionedBlockingBuffer", pipelineName);
+        checkArgument(partitions > 0, "partitions must be greater than 0");
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.pipelineName = pipelineName;
+        this.partitionKey = partitionKey == null ? null : EventKey.of(partitionKey);
+        this.partitions = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            this.partitions.add(new LinkedBlockingQueue<>());
+        }
+        this.capacitySemaphore = new Semaphore(bufferCapacity);
+        this.homePartition = ThreadLocal.withInitial(() -> Math.floorMod(nextHomePartition.getAndIncrement(), partitions));
+        this.recordsStolenCounter = pluginMetrics.counter(RECORDS_STOLEN);
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to
+     * construct an instance of {@link PartitionedBlockingBuffer} using an instance of {@link PluginSetting} which has
+     * access to pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer_size`,
+     * `batch_size` and `partitions` are optional, if not present default values will be used to create the buffer.
+     * The number of partitions defaults to the number of process workers of the pipeline. With a `partition_key`,
+     * the number of partitions must be the number of process workers, so that every partition has a reader, and the
+     * pipeline cannot set `max_workers` above `workers`.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public PartitionedBlockingBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                getPartitions(pluginSetting),
+                pluginSetting.getStringOrDefault(ATTRIBUTE_PARTITION_KEY, null),
+                pluginSetting.getPipelineName());
+    }
+
+    private static int getPartitions(final PluginSetting pluginSetting) {
+        final int processWorkers = Math.max(pluginSetting.getNumberOfProcessWorkers(), 1);
+        final int partitions = pluginSetting.getIntegerOrDefault(ATTRIBUTE_PARTITIONS, processWorkers);
+        if (pluginSetting.getStringOrDefault(ATTRIBUTE_PARTITION_KEY, null) != null) {
+            checkArgument(partitions == processWorkers,
+                    "partitions must be the number of workers when partition_key is set");
+            checkArgument(pluginSetting.getMaxNumberOfProcessWorkers() <= processWorkers,
+                    "max_workers cannot be greater than workers when partition_key is set");
+        }
+        return partitions;
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        acquireCapacity(1, timeoutInMillis);
+        partitionFor(record).offer(record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
+        }
+        records.forEach(record -> checkNotNull(record, "record cannot be null"));
+        acquireCapacity(size, timeoutInMillis);
+        if (partitionKey == null) {
+            nextWritePartition().addAll(records);
+        } else {
+            for (final T record : records) {
+                partitionFor(record).offer(record);
+            }
+        }
+    }
+
+    private void acquireCapacity(final int size, final int timeoutInMillis) throws TimeoutException {
+        try {
+            if (!capacitySemaphore.tryAcquire(size, timeoutInMillis, TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer does not have enough capacity left for " +
+                        "the size of records: %d, timed out waiting for slots.", pipelineName, size));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the records", pipelineName, ex);
+            throw new TimeoutException(format("Pipeline [%s] - Buffer is full, interrupted while waiting for slots",
+                    pipelineName));
+        }
+    }
+
+    private BlockingQueue<T> partitionFor(final T record) {
+        if (partitionKey != null && record.getData() instanceof Event) {
+            // The key is compiled once and a text value is read without a databind conversion
+            final String key = ((Event) record.getData()).getString(partitionKey);
+            if (key != null) {
+                final int hash = key.hashCode();
+                return partitions.get(Math.floorMod(hash ^ (hash >>> 16), partitions.size()));
+            }
+        }
+        return nextWritePartition();
+    }
+
+    private BlockingQueue<T> nextWritePartition() {
+        return partitions.get(Math.floorMod(nextWritePartition.getAndIncrement(), partitions.size()));
+    }
+
+    /**
+     * Makes the partition of the reader slot the home partition of the calling thread.
+     *
+     * @param readerSlot the index of the reader slot, from 0
+     */
+    @Override
+    public void assignReaderSlot(final int readerSlot) {
+        homePartition.set(Math.floorMod(readerSlot, partitions.size()));
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the home partition of the calling thread, stealing from the
+     * other partitions if the home partition does not fill the batch and the records are not partitioned by key. The
+     * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param
+     * timeoutInMillis. While waiting, the other partitions are checked again every millisecond.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        return doRead(timeoutInMillis, batchSize);
+    }
+
+    /**
+     * Retrieves and removes the batch of records, as {@link #doRead(int)} does, with a batch size of at most
+     * maxBatchSize records.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @param maxBatchSize the maximum number of records to return
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis, final int maxBatchSize) {
+        final int readBatchSize = Math.max(Math.min(batchSize, maxBatchSize), 1);
+        final List<T> records = new ArrayList<>(readBatchSize);
+        final int home = homePartition.get();
+        final BlockingQueue<T> homeQueue = partitions.get(home);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        try {
+            while (true) {
+                homeQueue.drainTo(records, readBatchSize - records.size());
+                if (records.size() < readBatchSize && partitionKey == null) {
+                    steal(home, records, readBatchSize);
+                }
+                final long remainingNanos = deadline - System.nanoTime();
+                if (records.size() >= readBatchSize || remainingNanos <= 0) {
+                    break;
+                }
+                final T record = homeQueue.poll(Math.min(remainingNanos, STEAL_INTERVAL_NANOS), TimeUnit.NANOSECONDS);
+                if (record != null) {
+                    records.add(record);
+                }
+            }
+        } catch (final InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(ex);
+        }
+        final CheckpointState checkpointState = new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    private void steal(final int home, final List<T> records, final int readBatchSize) {
+        for (int i = 1; i < partitions.size() && records.size() < readBatchSize; i++) {
+            final int stolen = partitions.get((home + i) % partitions.size())
+                    .drainTo(records, readBatchSize - records.size());
+            if (stolen > 0) {
+                recordsStolenCounter.increment(stolen);
+            }
+        }
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        capacitySemaphore.release(checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the fraction of the capacity taken by records which have not been checkpointed yet
+     */
+    @Override
+    public double getCapacityUsage() {
+        return 1.0 - (double) capacitySemaphore.availablePermits() / bufferCapacity;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (final BlockingQueue<T> partition : partitions) {
+            if (!partition.isEmpty()) {
+                return false;
+            }
+        }
+        return getRecordsInFlight() == 0;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.record.Record;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Estimates the serialized size in bytes of the data of a {@link Record}. The {@link BlockingBuffer} estimates a record
+ * once when it is written and keeps the estimate with the record, so the estimate may change while the record is in
+ * the buffer.
+ * <ul>
+ *     <li>{@link String}: its length in UTF-8</li>
+ *     <li>byte[]: its length</li>
+ *     <li>{@link Event}: its {@link Event#estimatedSizeInBytes()}, which does not serialize it</li>
+ *     <li>objects with a public getSerializedSize() method, such as protobuf messages: its result</li>
+ *     <li>anything else: {@link #DEFAULT_RECORD_SIZE}</li>
+ * </ul>
+ */
+class RecordSizeEstimator {
+    static final int DEFAULT_RECORD_SIZE = 1024;
+    private static final String SERIALIZED_SIZE_METHOD = "getSerializedSize";
+
+    private static final ClassValue<Method> SERIALIZED_SIZE_METHODS = new ClassValue<Method>() {
+        @Override
+        protected Method computeValue(final Class<?> type) {
+            try {
+                final Method method = type.getMethod(SERIALIZED_SIZE_METHOD);
+                if (method.getReturnType() == int.class && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                    return method;
+                }
+            } catch (final NoSuchMethodException e) {
+                // not a serialized size provider
+            }
+            return null;
+        }
+    };
+
+    int estimateSizeInBytes(final Record<?> record) {
+        final Object data = record.getData();
+        if (data instanceof String) {
+            return utf8Length((String) data);
+        } else if (data instanceof byte[]) {
+            return ((byte[]) data).length;
+        } else if (data instanceof Event) {
+            return (int) Math.min(Integer.MAX_VALUE, ((Event) data).estimatedSizeInBytes());
+        } else if (data != null) {
+            final Method serializedSizeMethod = SERIALIZED_SIZE_METHODS.get(data.getClass());
+            if (serializedSizeMethod != null) {
+                try {
+                    return (int) serializedSizeMethod.invoke(data);
+                } catch (final IllegalAccessException | InvocationTargetException e) {
+                    return DEFAULT_RECORD_SIZE;
+                }
+            }
+        }
+        return DEFAULT_RECORD_SIZE;
+    }
+
+    private static int utf8Length(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                // Only strings with non-ASCII characters pay for the encoding
+                return value.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return value.length();
+    }
+}
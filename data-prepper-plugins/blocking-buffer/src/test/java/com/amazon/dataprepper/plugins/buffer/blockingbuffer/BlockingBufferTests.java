@@ -17,10 +17,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
@@ -31,6 +35,7 @@ import static org.junit.Assert.assertTrue;
 public class BlockingBufferTests {
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
     private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String ATTRIBUTE_BUFFER_SIZE_BYTES = "buffer_size_bytes";
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
     private static final int TEST_BATCH_SIZE = 3;
     private static final int TEST_BUFFER_SIZE = 13;
@@ -65,6 +70,7 @@ public class BlockingBufferTests {
         final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
                 TEST_PIPELINE_NAME);
         assertThat(blockingBuffer, notNullValue());
+        assertThat(blockingBuffer.getBatchSize(), is(TEST_BATCH_SIZE));
     }
 
     @Test
@@ -198,6 +204,23 @@ public class BlockingBufferTests {
         }
     }
 
+    @Test
+    public void testBatchReadWithMaxBatchSize() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        for (int i = 0; i < TEST_BATCH_SIZE; i++) {
+            blockingBuffer.write(new Record<>("TEST" + i), TEST_WRITE_TIMEOUT);
+        }
+        final Map.Entry<Collection<Record<String>>, CheckpointState> smallReadResult =
+                blockingBuffer.read(TEST_BATCH_READ_TIMEOUT, 2);
+        assertThat(smallReadResult.getKey().size(), is(2));
+        assertEquals(2, smallReadResult.getValue().getNumRecordsToBeChecked());
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> largeReadResult =
+                blockingBuffer.read(TEST_WRITE_TIMEOUT, TEST_BATCH_SIZE * 2);
+        assertThat(largeReadResult.getKey().size(), is(TEST_BATCH_SIZE - 2));
+    }
+
     @Test
     public void testBufferIsEmpty() {
         final PluginSetting completePluginSetting = completePluginSettingForBlockingBuffer();
@@ -217,6 +240,209 @@ public class BlockingBufferTests {
         assertFalse(blockingBuffer.isEmpty());
     }
 
+    @Test
+    public void testCreationWithCapacityInBytesUsingPluginSetting() throws Exception {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_BUFFER_SIZE_BYTES, 10);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+
+        blockingBuffer.write(new Record<>("0123456789"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testCapacityInBytesIsReleasedOnCheckpoint() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = BlockingBuffer.withCapacityInBytes(10, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.write(new Record<>("01234"), TEST_WRITE_TIMEOUT);
+        blockingBuffer.writeAll(Collections.singletonList(new Record<>("56789")), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_WRITE_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(2));
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), is(10L));
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(new Record<>("0"), TEST_WRITE_TIMEOUT));
+
+        blockingBuffer.checkpoint(readResult.getValue());
+        blockingBuffer.write(new Record<>("0123456789"), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    public void testCapacityInBytesAcceptsRecordLargerThanCapacity() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = BlockingBuffer.withCapacityInBytes(10, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.write(new Record<>("0123456789ABCDEF"), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_WRITE_TIMEOUT);
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), is(10L));
+    }
+
+    @Test
+    public void testCapacityInBytesReleasesPermitsAcquiredOnWrite() throws Exception {
+        final BlockingBuffer<Record<ResizableData>> blockingBuffer = BlockingBuffer.withCapacityInBytes(10,
+                TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final ResizableData data = new ResizableData(6);
+        blockingBuffer.write(new Record<>(data), TEST_WRITE_TIMEOUT);
+        data.serializedSize = 2;
+
+        final Map.Entry<Collection<Record<ResizableData>>, CheckpointState> readResult =
+                blockingBuffer.read(TEST_WRITE_TIMEOUT);
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), is(6L));
+
+        blockingBuffer.checkpoint(readResult.getValue());
+        assertThat(blockingBuffer.getCapacityUsage(), is(0.0));
+        blockingBuffer.write(new Record<>(new ResizableData(10)), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    public void testCapacityInBytesWriteAllSizeOverflow() {
+        final BlockingBuffer<Record<String>> blockingBuffer = BlockingBuffer.withCapacityInBytes(10, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = new ArrayList<>();
+        testRecords.add(new Record<>("012345"));
+        testRecords.add(new Record<>("012345"));
+        assertThrows(SizeOverflowException.class, () -> blockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testWriteAllAsyncCompletesImmediatelyWithCapacity() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+
+        final CompletableFuture<Void> future = blockingBuffer.writeAllAsync(generateBatchRecords(TEST_BATCH_SIZE),
+                TEST_WRITE_TIMEOUT);
+
+        assertTrue(future.isDone());
+        future.get();
+        assertThat(blockingBuffer.read(TEST_WRITE_TIMEOUT).getKey().size(), is(TEST_BATCH_SIZE));
+    }
+
+    @Test
+    public void testWriteAllAsyncWaitsForCheckpointInOrder() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(2, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        final CompletableFuture<Void> firstFuture = blockingBuffer.writeAllAsync(generateBatchRecords(2),
+                TEST_BATCH_READ_TIMEOUT);
+        final CompletableFuture<Void> secondFuture = blockingBuffer.writeAllAsync(generateBatchRecords(1),
+                TEST_BATCH_READ_TIMEOUT);
+        assertFalse(firstFuture.isDone());
+        assertFalse(secondFuture.isDone());
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> firstRead = blockingBuffer.read(TEST_WRITE_TIMEOUT, 1);
+        blockingBuffer.checkpoint(firstRead.getValue());
+        assertFalse("a smaller write must not overtake a waiting write", secondFuture.isDone());
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> secondRead = blockingBuffer.read(TEST_WRITE_TIMEOUT, 1);
+        blockingBuffer.checkpoint(secondRead.getValue());
+        firstFuture.get();
+        assertFalse(secondFuture.isDone());
+
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_WRITE_TIMEOUT).getValue());
+        secondFuture.get();
+        assertThat(blockingBuffer.read(TEST_WRITE_TIMEOUT).getKey().size(), is(1));
+    }
+
+    @Test
+    public void testWriteAllAsyncCompletesOffTheCheckpointingThread() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(2, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        final CompletableFuture<String> completingThread = blockingBuffer.writeAllAsync(generateBatchRecords(2),
+                TEST_BATCH_READ_TIMEOUT).thenApply(ignored -> Thread.currentThread().getName());
+
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_WRITE_TIMEOUT).getValue());
+
+        assertThat(completingThread.get(TEST_BATCH_READ_TIMEOUT, TimeUnit.MILLISECONDS),
+                not(equalTo(Thread.currentThread().getName())));
+    }
+
+    @Test
+    public void testWriteWaitsBehindWaitingWriteAllAsync() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(2, 1, TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        final CompletableFuture<Void> asyncFuture = blockingBuffer.writeAllAsync(generateBatchRecords(2),
+                TEST_BATCH_READ_TIMEOUT);
+        final CompletableFuture<Void> syncFuture = CompletableFuture.runAsync(() -> {
+            try {
+                blockingBuffer.write(new Record<>("SYNC"), TEST_BATCH_READ_TIMEOUT);
+            } catch (final TimeoutException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(TEST_WRITE_TIMEOUT);
+
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_WRITE_TIMEOUT).getValue());
+        Thread.sleep(TEST_WRITE_TIMEOUT);
+        assertFalse("a synchronous write must not overtake a waiting asynchronous write", syncFuture.isDone());
+
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_WRITE_TIMEOUT).getValue());
+        asyncFuture.get(TEST_BATCH_READ_TIMEOUT, TimeUnit.MILLISECONDS);
+        assertFalse(syncFuture.isDone());
+
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_WRITE_TIMEOUT).getValue());
+        syncFuture.get(TEST_BATCH_READ_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testWriteAllAsyncTimeout() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(2, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(1), TEST_WRITE_TIMEOUT);
+        final CompletableFuture<Void> expiringFuture = blockingBuffer.writeAllAsync(generateBatchRecords(2),
+                TEST_WRITE_TIMEOUT);
+        final CompletableFuture<Void> waitingFuture = blockingBuffer.writeAllAsync(generateBatchRecords(1),
+                TEST_BATCH_READ_TIMEOUT);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, expiringFuture::get);
+        assertThat(exception.getCause() instanceof TimeoutException, is(true));
+        waitingFuture.get();
+        assertThat(blockingBuffer.read(TEST_WRITE_TIMEOUT).getKey().size(), is(2));
+    }
+
+    @Test
+    public void testWriteAllAsyncSizeOverflow() {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+
+        final CompletableFuture<Void> future = blockingBuffer.writeAllAsync(generateBatchRecords(TEST_BUFFER_SIZE + 1),
+                TEST_WRITE_TIMEOUT);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause() instanceof SizeOverflowException, is(true));
+    }
+
+    @Test
+    public void testCapacityInBytesWriteAllAsyncWaitsForCheckpoint() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = BlockingBuffer.withCapacityInBytes(10, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.write(new Record<>("012345"), TEST_WRITE_TIMEOUT);
+        final CompletableFuture<Void> future = blockingBuffer.writeAllAsync(
+                Collections.singletonList(new Record<>("012345")), TEST_BATCH_READ_TIMEOUT);
+        assertFalse(future.isDone());
+
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_WRITE_TIMEOUT).getValue());
+
+        future.get();
+        assertThat(blockingBuffer.read(TEST_WRITE_TIMEOUT).getValue().getNumBytesToBeChecked(), is(6L));
+    }
+
+    @Test
+    public void testCapacityUsageIncludesUncheckedRecords() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(4, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        assertThat(blockingBuffer.getCapacityUsage(), is(0.0));
+
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.getCapacityUsage(), is(0.5));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.getCapacityUsage(), is(0.5));
+
+        blockingBuffer.checkpoint(readResult.getValue());
+        assertThat(blockingBuffer.getCapacityUsage(), is(0.0));
+    }
+
     private PluginSetting completePluginSettingForBlockingBuffer() {
         final String pluginName = "bounded_blocking";
         final Map<String, Object> settings = new HashMap<>();
@@ -234,4 +460,16 @@ public class BlockingBufferTests {
         }
         return results;
     }
+
+    public static class ResizableData {
+        private int serializedSize;
+
+        ResizableData(final int serializedSize) {
+            this.serializedSize = serializedSize;
+        }
+
+        public int getSerializedSize() {
+            return serializedSize;
+        }
+    }
 }
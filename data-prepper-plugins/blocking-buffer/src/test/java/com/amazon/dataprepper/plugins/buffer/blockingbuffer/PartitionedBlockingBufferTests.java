@@ -0,0 +1,318 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PartitionedBlockingBufferTests {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final int TEST_BATCH_SIZE = 8;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_PARTITIONS = 4;
+    private static final int TEST_WRITE_TIMEOUT = 100;
+    private static final int TEST_BATCH_READ_TIMEOUT = 100;
+    private static final String TEST_PARTITION_KEY = "traceId";
+
+    private PartitionedBlockingBuffer<Record<String>> createObjectUnderTest() {
+        return new PartitionedBlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PARTITIONS, TEST_PIPELINE_NAME);
+    }
+
+    @Test
+    void getCapacityUsage_includes_unchecked_records() throws Exception {
+        final PartitionedBlockingBuffer<Record<String>> buffer = new PartitionedBlockingBuffer<>(
+                4, TEST_BATCH_SIZE, TEST_PARTITIONS, TEST_PIPELINE_NAME);
+        buffer.writeAll(generateBatchRecords(3), TEST_WRITE_TIMEOUT);
+        assertThat(buffer.getCapacityUsage(), equalTo(0.75));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(buffer.getCapacityUsage(), equalTo(0.75));
+
+        buffer.checkpoint(readResult.getValue());
+        assertThat(buffer.getCapacityUsage(), equalTo(0.0));
+    }
+
+    @Test
+    public void testCreationUsingPluginSetting() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("buffer_size", TEST_BUFFER_SIZE);
+        final PluginSetting pluginSetting = new PluginSetting("partitioned_blocking", settings);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+        pluginSetting.setProcessWorkers(TEST_PARTITIONS);
+
+        assertThat(new PartitionedBlockingBuffer<Record<String>>(pluginSetting), notNullValue());
+    }
+
+    @Test
+    public void testCreationWithPartitionKeyRequiresPartitionPerWorker() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("partition_key", TEST_PARTITION_KEY);
+        settings.put("partitions", TEST_PARTITIONS + 1);
+        final PluginSetting pluginSetting = new PluginSetting("partitioned_blocking", settings);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+        pluginSetting.setProcessWorkers(TEST_PARTITIONS);
+
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedBlockingBuffer<Record<Event>>(pluginSetting));
+
+        settings.remove("partitions");
+        assertThat(new PartitionedBlockingBuffer<Record<Event>>(pluginSetting), notNullValue());
+    }
+
+    @Test
+    public void testCreationWithPartitionKeyRejectsMaxWorkersAboveWorkers() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("partition_key", TEST_PARTITION_KEY);
+        final PluginSetting pluginSetting = new PluginSetting("partitioned_blocking", settings);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+        pluginSetting.setProcessWorkers(TEST_PARTITIONS);
+        pluginSetting.setMaxProcessWorkers(TEST_PARTITIONS + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedBlockingBuffer<Record<Event>>(pluginSetting));
+
+        settings.remove("partition_key");
+        assertThat(new PartitionedBlockingBuffer<Record<Event>>(pluginSetting), notNullValue());
+    }
+
+    @Test
+    public void testReaderSlotKeepsItsPartitionAcrossThreads() throws Exception {
+        final int keys = 10;
+        final PartitionedBlockingBuffer<Record<Event>> buffer = new PartitionedBlockingBuffer<>(keys,
+                keys, 2, TEST_PARTITION_KEY, TEST_PIPELINE_NAME);
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int key = 0; key < keys; key++) {
+            records.add(createKeyedRecord("trace-" + key));
+        }
+        buffer.writeAll(records, TEST_WRITE_TIMEOUT);
+
+        buffer.assignReaderSlot(0);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> slotZeroResult = buffer.read(10);
+        buffer.checkpoint(slotZeroResult.getValue());
+        buffer.assignReaderSlot(1);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> slotOneResult = buffer.read(10);
+        buffer.checkpoint(slotOneResult.getValue());
+        assertThat(slotZeroResult.getKey().size() + slotOneResult.getKey().size(), is(keys));
+        assertFalse(slotZeroResult.getKey().isEmpty());
+
+        final String slotZeroKey = slotZeroResult.getKey().iterator().next().getData().get(TEST_PARTITION_KEY, String.class);
+        buffer.write(createKeyedRecord(slotZeroKey), TEST_WRITE_TIMEOUT);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        final Future<Integer> slotOneRead = executorService.submit(() -> {
+            buffer.assignReaderSlot(1);
+            return buffer.read(10).getKey().size();
+        });
+        final Future<Integer> slotZeroRead = executorService.submit(() -> {
+            buffer.assignReaderSlot(0);
+            return buffer.read(10).getKey().size();
+        });
+
+        assertThat(slotOneRead.get(10, TimeUnit.SECONDS), is(0));
+        assertThat(slotZeroRead.get(10, TimeUnit.SECONDS), is(1));
+        executorService.shutdown();
+    }
+
+    private static Record<Event> createKeyedRecord(final String key) {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(TEST_PARTITION_KEY, key))
+                .build());
+    }
+
+    @Test
+    public void testSameKeyReachesSameReader() throws Exception {
+        final int keys = 10;
+        final int recordsPerKey = 5;
+        final PartitionedBlockingBuffer<Record<Event>> buffer = new PartitionedBlockingBuffer<>(keys * recordsPerKey,
+                TEST_BATCH_SIZE, 2, TEST_PARTITION_KEY, TEST_PIPELINE_NAME);
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < recordsPerKey; i++) {
+            for (int key = 0; key < keys; key++) {
+                records.add(new Record<>(JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Collections.singletonMap(TEST_PARTITION_KEY, "trace-" + key))
+                        .build()));
+            }
+        }
+        buffer.writeAll(records, TEST_WRITE_TIMEOUT);
+
+        final AtomicInteger readCount = new AtomicInteger();
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        final List<Future<Set<String>>> readerKeys = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            readerKeys.add(executorService.submit(() -> {
+                final Set<String> readKeys = ConcurrentHashMap.newKeySet();
+                do {
+                    final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = buffer.read(10);
+                    readResult.getKey().forEach(record -> readKeys.add(record.getData().get(TEST_PARTITION_KEY, String.class)));
+                    readCount.addAndGet(readResult.getKey().size());
+                    buffer.checkpoint(readResult.getValue());
+                } while (readCount.get() < records.size());
+                return readKeys;
+            }));
+        }
+        final Set<String> firstReaderKeys = readerKeys.get(0).get(10, TimeUnit.SECONDS);
+        final Set<String> secondReaderKeys = readerKeys.get(1).get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertThat(firstReaderKeys.size() + secondReaderKeys.size(), is(keys));
+        for (final String key : firstReaderKeys) {
+            assertThat(secondReaderKeys, not(hasItem(key)));
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testCreationUsingInvalidPartitions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PartitionedBlockingBuffer<Record<String>>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, 0, TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    public void testInsertNull() {
+        final PartitionedBlockingBuffer<Record<String>> buffer = createObjectUnderTest();
+        assertThrows(NullPointerException.class, () -> buffer.write(null, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testWriteAllSizeOverflow() {
+        final PartitionedBlockingBuffer<Record<String>> buffer = createObjectUnderTest();
+        assertThrows(SizeOverflowException.class,
+                () -> buffer.writeAll(generateBatchRecords(TEST_BUFFER_SIZE + 1), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testCapacityIsGlobalAcrossPartitions() throws Exception {
+        final PartitionedBlockingBuffer<Record<String>> buffer = createObjectUnderTest();
+        for (int i = 0; i < TEST_BUFFER_SIZE; i++) {
+            buffer.write(new Record<>("TEST" + i), TEST_WRITE_TIMEOUT);
+        }
+        assertThrows(TimeoutException.class, () -> buffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> buffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+
+        buffer.checkpoint(readResult.getValue());
+        buffer.writeAll(generateBatchRecords(readResult.getKey().size()), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    public void testReadStealsFromOtherPartitions() throws Exception {
+        final PartitionedBlockingBuffer<Record<String>> buffer = createObjectUnderTest();
+        for (int i = 0; i < TEST_PARTITIONS; i++) {
+            buffer.writeAll(Collections.singletonList(new Record<>("TEST" + i)), TEST_WRITE_TIMEOUT);
+        }
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        assertThat(readResult.getKey().size(), is(TEST_PARTITIONS));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(TEST_PARTITIONS));
+    }
+
+    @Test
+    public void testWriteAllKeepsRecordsInOrder() throws Exception {
+        final PartitionedBlockingBuffer<Record<String>> buffer = createObjectUnderTest();
+        final List<Record<String>> records = generateBatchRecords(TEST_BATCH_SIZE);
+        buffer.writeAll(records, TEST_WRITE_TIMEOUT);
+
+        final List<Record<String>> readRecords = new ArrayList<>(buffer.read(TEST_BATCH_READ_TIMEOUT).getKey());
+
+        assertThat(readRecords, equalTo(records));
+    }
+
+    @Test
+    public void testBufferIsNotEmptyWhileAnyPartitionHasRecords() throws Exception {
+        final PartitionedBlockingBuffer<Record<String>> buffer = createObjectUnderTest();
+        assertTrue(buffer.isEmpty());
+
+        buffer.write(new Record<>("TEST0"), TEST_WRITE_TIMEOUT);
+        buffer.write(new Record<>("TEST1"), TEST_WRITE_TIMEOUT);
+        assertFalse(buffer.isEmpty());
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(2));
+        assertFalse(buffer.isEmpty());
+
+        buffer.checkpoint(readResult.getValue());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentWritersAndReaders() throws Exception {
+        final int writers = 4;
+        final int readers = TEST_PARTITIONS;
+        final int recordsPerWriter = 10_000;
+        final PartitionedBlockingBuffer<Record<String>> buffer = new PartitionedBlockingBuffer<>(64, 16,
+                TEST_PARTITIONS, TEST_PIPELINE_NAME);
+        final Set<String> readData = ConcurrentHashMap.newKeySet();
+        final AtomicInteger readCount = new AtomicInteger();
+        final ExecutorService executorService = Executors.newFixedThreadPool(writers + readers);
+
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            final int writer = w;
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < recordsPerWriter; i++) {
+                    buffer.write(new Record<>(writer + "-" + i), 10_000);
+                }
+                return null;
+            }));
+        }
+        for (int r = 0; r < readers; r++) {
+            futures.add(executorService.submit(() -> {
+                while (readCount.get() < writers * recordsPerWriter) {
+                    final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(10);
+                    readResult.getKey().forEach(record -> readData.add(record.getData()));
+                    readCount.addAndGet(readResult.getKey().size());
+                    buffer.checkpoint(readResult.getValue());
+                }
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        assertThat(readData.size(), is(writers * recordsPerWriter));
+        assertTrue(buffer.isEmpty());
+    }
+
+    private List<Record<String>> generateBatchRecords(final int numRecords) {
+        final List<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>("TEST" + i));
+        }
+        return results;
+    }
+}
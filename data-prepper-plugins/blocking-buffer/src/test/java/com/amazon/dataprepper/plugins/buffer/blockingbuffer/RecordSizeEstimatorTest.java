@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecordSizeEstimatorTest {
+    private final RecordSizeEstimator recordSizeEstimator = new RecordSizeEstimator();
+
+    @Test
+    void estimate_string_uses_utf8_length() {
+        assertThat(recordSizeEstimator.estimateSizeInBytes(new Record<>("abc")), equalTo(3));
+        assertThat(recordSizeEstimator.estimateSizeInBytes(new Record<>("abé")), equalTo(4));
+    }
+
+    @Test
+    void estimate_bytes_uses_length() {
+        assertThat(recordSizeEstimator.estimateSizeInBytes(new Record<>(new byte[42])), equalTo(42));
+    }
+
+    @Test
+    void estimate_event_uses_estimated_size() {
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("message", "hello"))
+                .build();
+        assertThat(recordSizeEstimator.estimateSizeInBytes(new Record<>(event)), equalTo((int) event.estimatedSizeInBytes()));
+    }
+
+    @Test
+    void estimate_event_does_not_serialize_and_caps_at_int() {
+        final Event event = mock(Event.class);
+        when(event.estimatedSizeInBytes()).thenReturn(Integer.MAX_VALUE + 1L);
+
+        assertThat(recordSizeEstimator.estimateSizeInBytes(new Record<>(event)), equalTo(Integer.MAX_VALUE));
+        verify(event, never()).toJsonBytes();
+    }
+
+    @Test
+    void estimate_uses_serialized_size_method() {
+        assertThat(recordSizeEstimator.estimateSizeInBytes(new Record<>(new SerializedSizeProvider())), equalTo(7));
+    }
+
+    @Test
+    void estimate_other_data_uses_default_size() {
+        assertThat(recordSizeEstimator.estimateSizeInBytes(new Record<>(new Object())),
+                equalTo(RecordSizeEstimator.DEFAULT_RECORD_SIZE));
+        assertThat(recordSizeEstimator.estimateSizeInBytes(new Record<>(null)),
+                equalTo(RecordSizeEstimator.DEFAULT_RECORD_SIZE));
+    }
+
+    public static class SerializedSizeProvider {
+        public int getSerializedSize() {
+            return 7;
+        }
+    }
+}
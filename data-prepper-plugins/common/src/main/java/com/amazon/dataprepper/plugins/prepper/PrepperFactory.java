@@ -28,7 +28,7 @@ public class PrepperFactory extends PluginFactory {
         final Class<Prepper> clazz = PluginRepository.getPrepperClass(pluginSetting.getName());
         if (clazz.isAnnotationPresent(SingleThread.class)) {
             final List<Prepper> preppers = new ArrayList<>();
-            for (int i = 0; i < pluginSetting.getNumberOfProcessWorkers(); i++) {
+            for (int i = 0; i < pluginSetting.getMaxNumberOfProcessWorkers(); i++) {
                 preppers.add((Prepper) newPlugin(pluginSetting, clazz));
             }
             return preppers;
@@ -0,0 +1,442 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A DiskBuffer is a persistent implementation of {@link Buffer} which appends the records to memory-mapped segment
+ * files in a directory, so that the buffered records do not grow the heap and survive a restart of Data Prepper.
+ * Reads take views on the mapped pages of the entries and decode the records from them outside of the lock.
+ * <p>
+ * Each written record gets a sequence. The sequence up to which records have been checkpointed is stored in a
+ * checkpoint file next to the segments. Workers may checkpoint their batches in another order than they read them,
+ * so the checkpointed sequence only advances over batches whose records and all earlier records are checkpointed;
+ * batches checkpointed ahead of an earlier batch are kept aside until that batch is checkpointed. The segments
+ * holding only records before the checkpointed sequence are deleted. After a restart, reading resumes from the
+ * checkpointed sequence, so records which were read but not checkpointed before the restart are read again, as are
+ * batches which were checkpointed ahead of an earlier batch.
+ * <p>
+ * Recovery drops the entries of a segment from the first entry which fails its checksum. The sequences lost this way
+ * before the next segment are treated as checkpointed, and reads skip them.
+ * <p>
+ * Like the bounded_blocking buffer, capacity is released on checkpoint of any batch: writes wait while the number of
+ * written records not yet checkpointed is at {@link #ATTRIBUTE_BUFFER_CAPACITY}.
+ */
+@DataPrepperPlugin(name = "disk_buffer", pluginType = Buffer.class)
+public class DiskBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(DiskBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 1_000_000;
+    private static final int DEFAULT_BATCH_SIZE = 8;
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final boolean DEFAULT_FORCE_SYNC = false;
+    private static final String ATTRIBUTE_PATH = "path";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_SEGMENT_SIZE = "segment_size";
+    private static final String ATTRIBUTE_FORCE_SYNC = "force_sync";
+    static final String CHECKPOINT_FILE_NAME = "checkpoint";
+
+    private final Path directory;
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final int segmentSize;
+    private final boolean forceSync;
+    private final String pipelineName;
+    private final RecordCodec recordCodec = new RecordCodec();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final TreeMap<Long, Long> checkpointedRangesAhead = new TreeMap<>();
+    private final TreeMap<Long, Long> lostRanges = new TreeMap<>();
+    private final MappedByteBuffer checkpointFile;
+    private Segment writeSegment;
+    private Segment readSegment;
+    private int readPosition;
+    private long writeSequence;
+    private long readSequence;
+    private long checkpointedSequence;
+    private long checkpointedRecordsAhead;
+
+    /**
+     * Creates a DiskBuffer in the directory, recovering the records left in the directory by a previous instance.
+     *
+     * @param directory      directory of the segment files
+     * @param bufferCapacity the max number of unchecked records of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param segmentSize    the size of a segment file in bytes
+     * @param forceSync      whether every write is flushed to the storage device before it returns
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public DiskBuffer(final Path directory, final int bufferCapacity, final int batchSize, final int segmentSize,
+                      final boolean forceSync, final String pipelineName) {
+        super("DiskBuffer", pipelineName);
+        checkNotNull(directory, "path cannot be null");
+        checkArgument(bufferCapacity > 0, "buffer_size must be greater than 0");
+        checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        checkArgument(segmentSize > Segment.ENTRY_HEADER_SIZE, "segment_size must be greater than "
+                + Segment.ENTRY_HEADER_SIZE);
+        this.directory = directory;
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.segmentSize = segmentSize;
+        this.forceSync = forceSync;
+        this.pipelineName = pipelineName;
+
+        try {
+            Files.createDirectories(directory);
+            checkpointFile = openCheckpointFile();
+            recoverSegments();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to open disk buffer in %s",
+                    pipelineName, directory), e);
+        }
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to
+     * construct an instance of {@link DiskBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. The `path` setting is required, the other settings
+     * are optional and default values are used if they are not present.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public DiskBuffer(final PluginSetting pluginSetting) {
+        this(Paths.get(checkNotNull(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getStringOrDefault(ATTRIBUTE_PATH, null), "path cannot be null")),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_SEGMENT_SIZE, DEFAULT_SEGMENT_SIZE),
+                pluginSetting.getBooleanOrDefault(ATTRIBUTE_FORCE_SYNC, DEFAULT_FORCE_SYNC),
+                pluginSetting.getPipelineName());
+    }
+
+    private MappedByteBuffer openCheckpointFile() throws IOException {
+        try (final FileChannel fileChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+        }
+    }
+
+    private void recoverSegments() throws IOException {
+        checkpointedSequence = checkpointFile.getLong(0);
+        final List<Path> segmentPaths;
+        try (final Stream<Path> paths = Files.list(directory)) {
+            segmentPaths = paths.filter(Segment::isSegmentFile).collect(Collectors.toList());
+        }
+        for (final Path segmentPath : segmentPaths) {
+            final Segment segment = Segment.open(segmentPath);
+            segments.put(segment.getBaseSequence(), segment);
+        }
+
+        if (segments.isEmpty()) {
+            writeSequence = checkpointedSequence;
+            writeSegment = Segment.create(directory, writeSequence, segmentSize);
+            segments.put(writeSequence, writeSegment);
+        } else {
+            writeSegment = segments.lastEntry().getValue();
+            writeSequence = writeSegment.getEndSequence();
+        }
+        checkpointedSequence = Math.min(checkpointedSequence, writeSequence);
+        skipLostSequences();
+        deleteCheckpointedSegments();
+
+        readSequence = checkpointedSequence;
+        readSegment = segments.floorEntry(readSequence).getValue();
+        readPosition = 0;
+        for (long sequence = readSegment.getBaseSequence(); sequence < readSequence; sequence++) {
+            readPosition = readSegment.nextPosition(readPosition);
+        }
+        final long recoveredRecords = writeSequence - checkpointedSequence - checkpointedRecordsAhead;
+        if (recoveredRecords > 0) {
+            LOG.info("Pipeline [{}] - Recovered {} unchecked records from {}", pipelineName, recoveredRecords,
+                    directory);
+            recordRecordsRecovered(recoveredRecords);
+        }
+    }
+
+    /**
+     * Finds the sequences after the checkpointed sequence which no segment holds: those before the first segment,
+     * whose segments were already deleted, and those dropped at the end of a segment with a corrupt entry before the
+     * next segment. They are checkpointed ranges which reads skip, so that the checkpointed sequence advances over
+     * them and they do not take up capacity.
+     */
+    private void skipLostSequences() {
+        long nextSequence = checkpointedSequence;
+        for (final Segment segment : segments.values()) {
+            if (segment.getBaseSequence() > nextSequence) {
+                if (segment != segments.firstEntry().getValue()) {
+                    LOG.warn("Pipeline [{}] - Skipping {} records lost to a corrupt entry before segment {}",
+                            pipelineName, segment.getBaseSequence() - nextSequence, segment.getPath());
+                }
+                final Map.Entry<Long, Long> previousRange = lostRanges.lastEntry();
+                if (previousRange != null && previousRange.getValue() == nextSequence) {
+                    lostRanges.put(previousRange.getKey(), segment.getBaseSequence());
+                } else {
+                    lostRanges.put(nextSequence, segment.getBaseSequence());
+                }
+                checkpointedRecordsAhead += segment.getBaseSequence() - nextSequence;
+            }
+            nextSequence = Math.max(nextSequence, segment.getEndSequence());
+        }
+        checkpointedRangesAhead.putAll(lostRanges);
+        if (advanceCheckpointedSequence()) {
+            checkpointFile.putLong(0, checkpointedSequence);
+        }
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        final byte[] data = recordCodec.encode(record);
+        lock.lock();
+        try {
+            awaitCapacity(1, timeoutInMillis);
+            append(data);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
+        }
+        final List<byte[]> encodedRecords = new ArrayList<>(size);
+        for (final T record : records) {
+            encodedRecords.add(recordCodec.encode(checkNotNull(record, "record cannot be null")));
+        }
+        lock.lock();
+        try {
+            awaitCapacity(size, timeoutInMillis);
+            for (final byte[] data : encodedRecords) {
+                append(data);
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitCapacity(final int size, final int timeoutInMillis) throws TimeoutException {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        try {
+            while (writeSequence + size - checkpointedSequence - checkpointedRecordsAhead > bufferCapacity) {
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException(format("Pipeline [%s] - Buffer does not have enough capacity left for " +
+                            "the size of records: %d, timed out waiting for slots.", pipelineName, size));
+                }
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the records", pipelineName, ex);
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(format("Pipeline [%s] - Buffer is full, interrupted while waiting for slots",
+                    pipelineName));
+        }
+    }
+
+    private void append(final byte[] data) {
+        if (!writeSegment.append(data)) {
+            rollWriteSegment(data.length);
+            writeSegment.append(data);
+        }
+        if (forceSync) {
+            writeSegment.force();
+        }
+        writeSequence++;
+    }
+
+    private void rollWriteSegment(final int dataLength) {
+        if (forceSync) {
+            writeSegment.force();
+        }
+        try {
+            if (writeSegment.getBaseSequence() == writeSequence) {
+                // A recovered segment which is too small for the first record
+                segments.remove(writeSequence).delete();
+            }
+            writeSegment = Segment.create(directory, writeSequence,
+                    Math.max(segmentSize, Segment.ENTRY_HEADER_SIZE + dataLength));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to create a segment in %s",
+                    pipelineName, directory), e);
+        }
+        segments.put(writeSequence, writeSegment);
+    }
+
+    /**
+     * Retrieves the batch of records from the head of the buffer. The batch size is defined/determined by the
+     * configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis. The records stay on disk
+     * until they are checkpointed.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<ByteBuffer> entries = new ArrayList<>(batchSize);
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        long startSequence;
+        lock.lock();
+        try {
+            startSequence = readSequence;
+            while (entries.size() < batchSize) {
+                if (lostRanges.containsKey(readSequence)) {
+                    if (!entries.isEmpty()) {
+                        // The sequences of a batch are contiguous, so the batch ends before lost sequences
+                        break;
+                    }
+                    readSequence = lostRanges.get(readSequence);
+                    readSegment = segments.floorEntry(readSequence).getValue();
+                    readPosition = 0;
+                    startSequence = readSequence;
+                } else if (readSequence < writeSequence) {
+                    entries.add(nextEntry());
+                } else if (remainingNanos > 0) {
+                    remainingNanos = notEmpty.awaitNanos(remainingNanos);
+                } else {
+                    break;
+                }
+            }
+        } catch (final InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(ex);
+        } finally {
+            lock.unlock();
+        }
+
+        // The segments of the entries are only deleted once the entries are checkpointed, so they are decoded
+        // outside of the lock.
+        final List<T> records = new ArrayList<>(entries.size());
+        for (final ByteBuffer entry : entries) {
+            records.add(recordCodec.decode(entry));
+        }
+        final CheckpointState checkpointState = new SequenceCheckpointState(startSequence, records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    private ByteBuffer nextEntry() {
+        while (readSequence == readSegment.getEndSequence()) {
+            readSegment = segments.higherEntry(readSegment.getBaseSequence()).getValue();
+            readPosition = 0;
+        }
+        final ByteBuffer entry = readSegment.readEntry(readPosition);
+        readPosition = readSegment.nextPosition(readPosition);
+        readSequence++;
+        return entry;
+    }
+
+    /**
+     * Checkpoints the batch of the checkpoint state, which must have been returned by {@link #read(int)} of this
+     * buffer. The checkpointed sequence is persisted only when it advances.
+     */
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        checkArgument(checkpointState instanceof SequenceCheckpointState,
+                "checkpointState must be read from a disk_buffer");
+        final SequenceCheckpointState sequenceCheckpointState = (SequenceCheckpointState) checkpointState;
+        if (sequenceCheckpointState.getNumRecordsToBeChecked() == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            checkpointedRangesAhead.put(sequenceCheckpointState.getStartSequence(),
+                    sequenceCheckpointState.getEndSequence());
+            checkpointedRecordsAhead += sequenceCheckpointState.getNumRecordsToBeChecked();
+            if (advanceCheckpointedSequence()) {
+                checkpointFile.putLong(0, checkpointedSequence);
+                if (forceSync) {
+                    checkpointFile.force();
+                }
+                deleteCheckpointedSegments();
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the checkpointed sequence over the checkpointed ranges which follow it.
+     *
+     * @return whether the checkpointed sequence advanced
+     */
+    private boolean advanceCheckpointedSequence() {
+        final long previousCheckpointedSequence = checkpointedSequence;
+        while (!checkpointedRangesAhead.isEmpty() && checkpointedRangesAhead.firstKey() == checkpointedSequence) {
+            final long endSequence = checkpointedRangesAhead.pollFirstEntry().getValue();
+            checkpointedRecordsAhead -= endSequence - checkpointedSequence;
+            checkpointedSequence = endSequence;
+        }
+        return checkpointedSequence != previousCheckpointedSequence;
+    }
+
+    private void deleteCheckpointedSegments() {
+        while (segments.size() > 1 && segments.firstEntry().getValue().getEndSequence() <= checkpointedSequence) {
+            final Segment segment = segments.pollFirstEntry().getValue();
+            try {
+                segment.delete();
+            } catch (final IOException e) {
+                LOG.warn("Pipeline [{}] - Unable to delete checkpointed segment {}", pipelineName, segment.getPath(), e);
+            }
+        }
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return readSequence == writeSequence && getRecordsInFlight() == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
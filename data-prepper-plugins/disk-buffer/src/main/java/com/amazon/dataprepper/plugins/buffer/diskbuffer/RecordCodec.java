@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventMetadata;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.json.ObjectMappers;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.record.RecordMetadata;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Encodes {@link Record}s to the bytes stored in a {@link Segment} and decodes them back. The record data can be a
+ * {@link String}, an {@link Event} or any {@link Serializable} object; the record metadata is kept as JSON.
+ */
+class RecordCodec {
+    private static final byte STRING_DATA = 1;
+    private static final byte EVENT_DATA = 2;
+    private static final byte SERIALIZABLE_DATA = 3;
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMappers.getJsonMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
+
+    /**
+     * @param record the record to encode
+     * @return the encoded record
+     * @throws IllegalArgumentException if the record data cannot be encoded
+     */
+    byte[] encode(final Record<?> record) {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(byteArrayOutputStream)) {
+            writeString(output, OBJECT_MAPPER.writeValueAsString(record.getMetadata().getMetadataObject()));
+            final Object data = record.getData();
+            if (data instanceof String) {
+                output.writeByte(STRING_DATA);
+                writeString(output, (String) data);
+            } else if (data instanceof Event) {
+                final Event event = (Event) data;
+                final EventMetadata eventMetadata = event.getMetadata();
+                output.writeByte(EVENT_DATA);
+                writeString(output, eventMetadata.getEventType());
+                output.writeLong(eventMetadata.getTimeReceived().getEpochSecond());
+                output.writeInt(eventMetadata.getTimeReceived().getNano());
+                writeString(output, OBJECT_MAPPER.writeValueAsString(eventMetadata.getAttributes()));
+                writeBytes(output, event.toJsonBytes());
+            } else if (data instanceof Serializable) {
+                output.writeByte(SERIALIZABLE_DATA);
+                final ByteArrayOutputStream serializedData = new ByteArrayOutputStream();
+                try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(serializedData)) {
+                    objectOutputStream.writeObject(data);
+                }
+                output.writeInt(serializedData.size());
+                serializedData.writeTo(output);
+            } else {
+                throw new IllegalArgumentException(String.format("Record data of type %s cannot be written to disk",
+                        data == null ? null : data.getClass().getName()));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Decodes a record from the remaining bytes of the buffer. The buffer may be a view on a mapped file, in which
+     * case the strings are decoded straight from the mapped pages. The JSON data of an event is copied to the heap,
+     * since the event parses it lazily, possibly after its segment has been deleted.
+     *
+     * @param buffer the encoded record
+     * @return the decoded record
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Record<?>> T decode(final ByteBuffer buffer) {
+        try {
+            final RecordMetadata recordMetadata = RecordMetadata.of(OBJECT_MAPPER.readValue(readString(buffer),
+                    MAP_TYPE_REFERENCE));
+            final byte dataType = buffer.get();
+            final Object data;
+            switch (dataType) {
+                case STRING_DATA:
+                    data = readString(buffer);
+                    break;
+                case EVENT_DATA:
+                    final String eventType = readString(buffer);
+                    final Instant timeReceived = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+                    final Map<String, Object> attributes = OBJECT_MAPPER.readValue(readString(buffer), MAP_TYPE_REFERENCE);
+                    data = JacksonEvent.builder()
+                            .withEventType(eventType)
+                            .withTimeReceived(timeReceived)
+                            .withEventMetadataAttributes(attributes)
+                            .withJsonData(readBytes(buffer))
+                            .build();
+                    break;
+                case SERIALIZABLE_DATA:
+                    final byte[] serializedData = new byte[buffer.getInt()];
+                    buffer.get(serializedData);
+                    try (final ObjectInputStream objectInputStream =
+                                 new ObjectInputStream(new ByteArrayInputStream(serializedData))) {
+                        data = objectInputStream.readObject();
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown record data type: " + dataType);
+            }
+            return (T) new Record<>(data, recordMetadata);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to decode record data", e);
+        }
+    }
+
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        writeBytes(output, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(final DataOutputStream output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        final ByteBuffer slice = buffer.slice();
+        slice.limit(length);
+        buffer.position(buffer.position() + length);
+        return StandardCharsets.UTF_8.decode(slice).toString();
+    }
+
+    private static byte[] readBytes(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+
+/**
+ * A memory-mapped, append-only segment file of the {@link DiskBuffer}. The segment holds the records with the
+ * sequences from {@link #getBaseSequence()} to {@link #getEndSequence()} (exclusive). Each entry is laid out as
+ * <pre>
+ * | length (int) | crc32 of data (int) | data (length bytes) |
+ * </pre>
+ * The file is preallocated with zeros, so an entry with a length of zero marks the end of the written entries.
+ * <p>
+ * This class is not thread safe, the {@link DiskBuffer} guards it with its lock.
+ */
+class Segment {
+    static final String FILE_PREFIX = "segment-";
+    static final String FILE_SUFFIX = ".log";
+    static final int ENTRY_HEADER_SIZE = 8;
+
+    private final Path path;
+    private final long baseSequence;
+    private final FileChannel fileChannel;
+    private final MappedByteBuffer mappedByteBuffer;
+    private int writePosition;
+    private int recordCount;
+
+    private Segment(final Path path, final long baseSequence, final FileChannel fileChannel, final int size)
+            throws IOException {
+        this.path = path;
+        this.baseSequence = baseSequence;
+        this.fileChannel = fileChannel;
+        this.mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     * Creates a new, empty segment file in the directory.
+     *
+     * @param directory    directory of the segment files
+     * @param baseSequence sequence of the first record of the segment
+     * @param size         size of the segment file in bytes
+     * @return the new segment
+     * @throws IOException if the file cannot be created or mapped
+     */
+    static Segment create(final Path directory, final long baseSequence, final int size) throws IOException {
+        final Path path = directory.resolve(fileName(baseSequence));
+        final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        return new Segment(path, baseSequence, fileChannel, size);
+    }
+
+    /**
+     * Opens an existing segment file and scans its entries. The scan stops at the first entry which is incomplete or
+     * fails its checksum, which is where the next record will be written. The entries after it are dropped.
+     *
+     * @param path path of the segment file
+     * @return the opened segment
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    static Segment open(final Path path) throws IOException {
+        final long baseSequence = parseBaseSequence(path);
+        final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final Segment segment = new Segment(path, baseSequence, fileChannel, (int) fileChannel.size());
+        segment.recover();
+        return segment;
+    }
+
+    static boolean isSegmentFile(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return fileName.startsWith(FILE_PREFIX) && fileName.endsWith(FILE_SUFFIX);
+    }
+
+    static long parseBaseSequence(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+    }
+
+    private static String fileName(final long baseSequence) {
+        return format("%s%020d%s", FILE_PREFIX, baseSequence, FILE_SUFFIX);
+    }
+
+    private void recover() {
+        int position = 0;
+        while (entrySizeAt(position) > 0) {
+            position += entrySizeAt(position);
+            recordCount++;
+        }
+        writePosition = position;
+        // Clear a partially written entry so that it cannot be mistaken for an entry after the next append
+        if (writePosition + ENTRY_HEADER_SIZE <= mappedByteBuffer.capacity()) {
+            mappedByteBuffer.putLong(writePosition, 0L);
+        }
+    }
+
+    /**
+     * @return the size of the valid entry at the position including its header, or 0 if there is none
+     */
+    private int entrySizeAt(final int position) {
+        if (position + ENTRY_HEADER_SIZE > mappedByteBuffer.capacity()) {
+            return 0;
+        }
+        final int length = mappedByteBuffer.getInt(position);
+        if (length <= 0 || length > mappedByteBuffer.capacity() - position - ENTRY_HEADER_SIZE) {
+            return 0;
+        }
+        final CRC32 crc32 = new CRC32();
+        crc32.update(dataAt(position, length));
+        return (int) crc32.getValue() == mappedByteBuffer.getInt(position + 4) ? ENTRY_HEADER_SIZE + length : 0;
+    }
+
+    private ByteBuffer dataAt(final int position, final int length) {
+        final ByteBuffer data = mappedByteBuffer.duplicate();
+        data.position(position + ENTRY_HEADER_SIZE);
+        data.limit(position + ENTRY_HEADER_SIZE + length);
+        return data.slice();
+    }
+
+    /**
+     * Appends an entry to the segment.
+     *
+     * @param data the encoded record
+     * @return false if the segment does not have enough space left for the entry
+     */
+    boolean append(final byte[] data) {
+        if (remaining() < ENTRY_HEADER_SIZE + data.length) {
+            return false;
+        }
+        final CRC32 crc32 = new CRC32();
+        crc32.update(data, 0, data.length);
+        final ByteBuffer entry = mappedByteBuffer.duplicate();
+        entry.position(writePosition + 4);
+        entry.putInt((int) crc32.getValue());
+        entry.put(data);
+        // The length is written last, so that a reader never sees a length for incomplete data
+        mappedByteBuffer.putInt(writePosition, data.length);
+        writePosition += ENTRY_HEADER_SIZE + data.length;
+        recordCount++;
+        return true;
+    }
+
+    /**
+     * Returns a read-only view on the data of the entry at the position. The view shares the mapped pages of the
+     * file, no bytes are copied.
+     *
+     * @param position position of the entry, must be below {@link #getWritePosition()}
+     * @return the entry data
+     */
+    ByteBuffer readEntry(final int position) {
+        return dataAt(position, mappedByteBuffer.getInt(position)).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return the position of the entry after the entry at the position
+     */
+    int nextPosition(final int position) {
+        return position + ENTRY_HEADER_SIZE + mappedByteBuffer.getInt(position);
+    }
+
+    /**
+     * Flushes the written entries to the storage device.
+     */
+    void force() {
+        mappedByteBuffer.force();
+    }
+
+    /**
+     * Closes the file channel and deletes the segment file. The mapping itself is released by the garbage collector.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    void delete() throws IOException {
+        fileChannel.close();
+        Files.deleteIfExists(path);
+    }
+
+    int remaining() {
+        return mappedByteBuffer.capacity() - writePosition;
+    }
+
+    long getBaseSequence() {
+        return baseSequence;
+    }
+
+    long getEndSequence() {
+        return baseSequence + recordCount;
+    }
+
+    int getWritePosition() {
+        return writePosition;
+    }
+
+    Path getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+
+/**
+ * The {@link CheckpointState} of a batch read from a {@link DiskBuffer}, which also holds the sequences of the batch,
+ * so that the buffer can tell which records are checkpointed when batches are checkpointed out of order.
+ */
+class SequenceCheckpointState extends CheckpointState {
+    private final long startSequence;
+
+    /**
+     * @param startSequence the sequence of the first record of the batch
+     * @param numRecords    the number of records of the batch
+     */
+    SequenceCheckpointState(final long startSequence, final int numRecords) {
+        super(numRecords);
+        this.startSequence = startSequence;
+    }
+
+    long getStartSequence() {
+        return startSequence;
+    }
+
+    /**
+     * @return the sequence following the last record of the batch
+     */
+    long getEndSequence() {
+        return startSequence + getNumRecordsToBeChecked();
+    }
+}
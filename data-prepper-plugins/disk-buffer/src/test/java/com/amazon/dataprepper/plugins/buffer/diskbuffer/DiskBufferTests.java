@@ -0,0 +1,345 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.diskbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.JacksonEvent;
+import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.model.record.RecordMetadata;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DiskBufferTests {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_SEGMENT_SIZE = 256;
+    private static final int TEST_WRITE_TIMEOUT = 100;
+    private static final int TEST_BATCH_READ_TIMEOUT = 100;
+
+    @TempDir
+    Path directory;
+
+    private DiskBuffer<Record<String>> createObjectUnderTest() {
+        return new DiskBuffer<>(directory, TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_SEGMENT_SIZE, false,
+                TEST_PIPELINE_NAME);
+    }
+
+    @Test
+    public void testCreationUsingPluginSetting() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("path", directory.toString());
+        settings.put("buffer_size", TEST_BUFFER_SIZE);
+        final PluginSetting pluginSetting = new PluginSetting("disk_buffer", settings);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+
+        assertThat(new DiskBuffer<Record<String>>(pluginSetting), notNullValue());
+        assertTrue(Files.exists(directory.resolve(DiskBuffer.CHECKPOINT_FILE_NAME)));
+    }
+
+    @Test
+    public void testCreationWithoutPath() {
+        final PluginSetting pluginSetting = new PluginSetting("disk_buffer", new HashMap<>());
+        assertThrows(NullPointerException.class, () -> new DiskBuffer<Record<String>>(pluginSetting));
+    }
+
+    @Test
+    public void testInsertNull() {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        assertThrows(NullPointerException.class, () -> diskBuffer.write(null, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testWriteAllSizeOverflow() {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        assertThrows(SizeOverflowException.class,
+                () -> diskBuffer.writeAll(generateBatchRecords(TEST_BUFFER_SIZE + 1), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testWriteUnsupportedData() {
+        final DiskBuffer<Record<Object>> diskBuffer = new DiskBuffer<>(directory, TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_SEGMENT_SIZE, false, TEST_PIPELINE_NAME);
+        assertThrows(IllegalArgumentException.class, () -> diskBuffer.write(new Record<>(new Object()), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testNoEmptySpaceUntilCheckpoint() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        diskBuffer.writeAll(generateBatchRecords(TEST_BUFFER_SIZE), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThrows(TimeoutException.class,
+                () -> diskBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+
+        diskBuffer.checkpoint(readResult.getValue());
+        diskBuffer.write(new Record<>("FITS"), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    public void testBatchReadAcrossSegments() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        final List<Record<String>> records = generateBatchRecords(TEST_BUFFER_SIZE);
+        diskBuffer.writeAll(records, TEST_WRITE_TIMEOUT);
+        assertTrue(segmentFiles().size() > 1);
+
+        final List<String> readData = new ArrayList<>();
+        Map.Entry<Collection<Record<String>>, CheckpointState> readResult = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        while (!readResult.getKey().isEmpty()) {
+            assertTrue(readResult.getKey().size() <= TEST_BATCH_SIZE);
+            readResult.getKey().forEach(record -> readData.add(record.getData()));
+            readResult = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        }
+
+        assertThat(readData, equalTo(records.stream().map(Record::getData).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void testCheckpointDeletesSegments() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        diskBuffer.writeAll(generateBatchRecords(TEST_BUFFER_SIZE), TEST_WRITE_TIMEOUT);
+        final int segmentFilesBeforeCheckpoint = segmentFiles().size();
+
+        for (int i = 0; i < TEST_BUFFER_SIZE; i += TEST_BATCH_SIZE) {
+            diskBuffer.checkpoint(diskBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue());
+        }
+
+        assertTrue(diskBuffer.isEmpty());
+        assertTrue(segmentFiles().size() < segmentFilesBeforeCheckpoint);
+        assertThat(segmentFiles().size(), is(1));
+    }
+
+    @Test
+    public void testRestartResumesFromCheckpoint() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        final List<Record<String>> records = generateBatchRecords(10);
+        diskBuffer.writeAll(records, TEST_WRITE_TIMEOUT);
+        diskBuffer.checkpoint(diskBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue());
+        // Read but not checkpointed, so it is read again after the restart
+        diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final DiskBuffer<Record<String>> restartedBuffer = createObjectUnderTest();
+        assertFalse(restartedBuffer.isEmpty());
+        final List<String> readData = new ArrayList<>();
+        Map.Entry<Collection<Record<String>>, CheckpointState> readResult = restartedBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        while (!readResult.getKey().isEmpty()) {
+            readResult.getKey().forEach(record -> readData.add(record.getData()));
+            restartedBuffer.checkpoint(readResult.getValue());
+            readResult = restartedBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        }
+
+        assertThat(readData, equalTo(records.subList(TEST_BATCH_SIZE, records.size()).stream()
+                .map(Record::getData).collect(Collectors.toList())));
+        assertTrue(restartedBuffer.isEmpty());
+    }
+
+    @Test
+    public void testCheckpointsOutOfOrderKeepEarlierBatchOnRestart() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        final List<Record<String>> records = generateBatchRecords(2 * TEST_BATCH_SIZE);
+        diskBuffer.writeAll(records, TEST_WRITE_TIMEOUT);
+        final CheckpointState firstBatch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue();
+        final CheckpointState secondBatch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue();
+
+        diskBuffer.checkpoint(secondBatch);
+
+        final DiskBuffer<Record<String>> restartedBuffer = createObjectUnderTest();
+        assertThat(readAll(restartedBuffer), equalTo(records.stream().map(Record::getData).collect(Collectors.toList())));
+
+        diskBuffer.checkpoint(firstBatch);
+
+        assertTrue(diskBuffer.isEmpty());
+        assertTrue(createObjectUnderTest().isEmpty());
+    }
+
+    @Test
+    public void testCheckpointOutOfOrderReleasesCapacity() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        diskBuffer.writeAll(generateBatchRecords(TEST_BUFFER_SIZE), TEST_WRITE_TIMEOUT);
+        diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        final CheckpointState secondBatch = diskBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue();
+
+        diskBuffer.checkpoint(secondBatch);
+
+        diskBuffer.writeAll(generateBatchRecords(TEST_BATCH_SIZE), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class,
+                () -> diskBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testCheckpointRequiresDiskBufferCheckpointState() {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        assertThrows(IllegalArgumentException.class, () -> diskBuffer.checkpoint(new CheckpointState(1)));
+    }
+
+    @Test
+    public void testRestartIgnoresCorruptTail() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        diskBuffer.write(new Record<>("VALID"), TEST_WRITE_TIMEOUT);
+        diskBuffer.write(new Record<>("CORRUPT"), TEST_WRITE_TIMEOUT);
+
+        final Path segmentFile = segmentFiles().get(0);
+        try (final FileChannel fileChannel = FileChannel.open(segmentFile, StandardOpenOption.WRITE)) {
+            final long lastEntryDataPosition = firstFreePosition(segmentFile) - 1;
+            fileChannel.write(ByteBuffer.wrap(new byte[]{'X'}), lastEntryDataPosition);
+        }
+
+        final DiskBuffer<Record<String>> restartedBuffer = createObjectUnderTest();
+        final Collection<Record<String>> readRecords = restartedBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey();
+        assertThat(readRecords.size(), is(1));
+        assertThat(readRecords.iterator().next().getData(), equalTo("VALID"));
+    }
+
+    @Test
+    public void testRestartSkipsRecordsLostInCorruptMiddleSegment() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        final List<Record<String>> records = generateBatchRecords(10);
+        diskBuffer.writeAll(records, TEST_WRITE_TIMEOUT);
+
+        final List<Path> segmentFiles = segmentFiles();
+        assertTrue(segmentFiles.size() > 2);
+        final Path segmentFile = segmentFiles.get(0);
+        final int recordsInFirstSegment = recordCount(segmentFile);
+        try (final FileChannel fileChannel = FileChannel.open(segmentFile, StandardOpenOption.WRITE)) {
+            final long lastEntryDataPosition = firstFreePosition(segmentFile) - 1;
+            fileChannel.write(ByteBuffer.wrap(new byte[]{'X'}), lastEntryDataPosition);
+        }
+
+        final DiskBuffer<Record<String>> restartedBuffer = createObjectUnderTest();
+        final List<String> expectedData = records.stream().map(Record::getData).collect(Collectors.toList());
+        expectedData.remove(recordsInFirstSegment - 1);
+        assertThat(restartedBuffer.getRecordsInBuffer(), equalTo((long) expectedData.size()));
+
+        final List<String> readData = new ArrayList<>();
+        Map.Entry<Collection<Record<String>>, CheckpointState> readResult = restartedBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        while (!readResult.getKey().isEmpty()) {
+            readResult.getKey().forEach(record -> readData.add(record.getData()));
+            restartedBuffer.checkpoint(readResult.getValue());
+            readResult = restartedBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        }
+
+        assertThat(readData, equalTo(expectedData));
+        assertThat(restartedBuffer.getRecordsInBuffer(), equalTo(0L));
+        assertTrue(restartedBuffer.isEmpty());
+        assertTrue(createObjectUnderTest().isEmpty());
+        restartedBuffer.writeAll(generateBatchRecords(TEST_BUFFER_SIZE), TEST_WRITE_TIMEOUT);
+    }
+
+    @Test
+    public void testEventRecordsRoundTrip() throws Exception {
+        final DiskBuffer<Record<Event>> diskBuffer = new DiskBuffer<>(directory, TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_SEGMENT_SIZE * 4, false, TEST_PIPELINE_NAME);
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("message", "hello"))
+                .build();
+        final RecordMetadata recordMetadata = RecordMetadata.of(Collections.singletonMap(RecordMetadata.RECORD_TYPE, "LOG"));
+        diskBuffer.write(new Record<>(event, recordMetadata), TEST_WRITE_TIMEOUT);
+
+        final Record<Event> readRecord = diskBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().iterator().next();
+        assertThat(readRecord.getData().toJsonString(), equalTo(event.toJsonString()));
+        assertThat(readRecord.getData().getMetadata().getEventType(), equalTo("event"));
+        assertThat(readRecord.getData().getMetadata().getTimeReceived(), equalTo(event.getMetadata().getTimeReceived()));
+        assertThat(readRecord.getMetadata().getAsString(RecordMetadata.RECORD_TYPE), equalTo("LOG"));
+    }
+
+    @Test
+    public void testRecordLargerThanSegment() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        final String largeData = String.join("", Collections.nCopies(TEST_SEGMENT_SIZE * 2, "x"));
+        diskBuffer.write(new Record<>("SMALL"), TEST_WRITE_TIMEOUT);
+        diskBuffer.write(new Record<>(largeData), TEST_WRITE_TIMEOUT);
+
+        final List<Record<String>> readRecords = new ArrayList<>(diskBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey());
+        assertThat(readRecords.size(), is(2));
+        assertThat(readRecords.get(1).getData(), equalTo(largeData));
+    }
+
+    @Test
+    public void testBufferIsNotEmptyWhileRecordsAreInFlight() throws Exception {
+        final DiskBuffer<Record<String>> diskBuffer = createObjectUnderTest();
+        assertTrue(diskBuffer.isEmpty());
+        diskBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+        assertFalse(diskBuffer.isEmpty());
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertFalse(diskBuffer.isEmpty());
+
+        diskBuffer.checkpoint(readResult.getValue());
+        assertTrue(diskBuffer.isEmpty());
+    }
+
+    private static List<String> readAll(final DiskBuffer<Record<String>> diskBuffer) {
+        final List<String> readData = new ArrayList<>();
+        Map.Entry<Collection<Record<String>>, CheckpointState> readResult = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        while (!readResult.getKey().isEmpty()) {
+            readResult.getKey().forEach(record -> readData.add(record.getData()));
+            readResult = diskBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        }
+        return readData;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (final Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(Segment::isSegmentFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static int firstFreePosition(final Path segmentFile) throws IOException {
+        final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(segmentFile));
+        int position = 0;
+        while (position + Segment.ENTRY_HEADER_SIZE <= bytes.capacity() && bytes.getInt(position) > 0) {
+            position += Segment.ENTRY_HEADER_SIZE + bytes.getInt(position);
+        }
+        return position;
+    }
+
+    private static int recordCount(final Path segmentFile) throws IOException {
+        final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(segmentFile));
+        int position = 0;
+        int recordCount = 0;
+        while (position + Segment.ENTRY_HEADER_SIZE <= bytes.capacity() && bytes.getInt(position) > 0) {
+            position += Segment.ENTRY_HEADER_SIZE + bytes.getInt(position);
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    private List<Record<String>> generateBatchRecords(final int numRecords) {
+        final List<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>("TEST-RECORD-" + i));
+        }
+        return results;
+    }
+}
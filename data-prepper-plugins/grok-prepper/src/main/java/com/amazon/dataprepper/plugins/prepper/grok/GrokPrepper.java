@@ -10,6 +10,7 @@ import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.SingleThread;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.prepper.AbstractPrepper;
 import com.amazon.dataprepper.model.prepper.Prepper;
 import com.amazon.dataprepper.model.record.Record;
@@ -70,7 +71,8 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<EventKey, List<Grok>> fieldToGrok;
+    private final EventKey targetKey;
     private final GrokPrepperConfig grokPrepperConfig;
     private final Set<String> keysToOverwrite;
     private final ExecutorService executorService;
@@ -86,6 +88,7 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
         this.executorService = executorService;
+        this.targetKey = grokPrepperConfig.getTargetKey() == null ? null : EventKey.of(grokPrepperConfig.getTargetKey());
 
         grokProcessingMatchSuccessCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH_SUCCESS);
         grokProcessingMatchFailureCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH_FAILURE);
@@ -199,7 +202,7 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokPrepperConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            fieldToGrok.put(EventKey.of(entry.getKey()), entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokPrepperConfig.isNamedCapturesOnly()))
                             .collect(Collectors.toList()));
@@ -209,9 +212,9 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
+        for (final Map.Entry<EventKey, List<Grok>> entry : fieldToGrok.entrySet()) {
             for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
+                final String value = event.getString(entry.getKey());
                 if (value != null && !value.isEmpty()) {
                     final Match match = grok.match(value);
                     match.setKeepEmptyCaptures(grokPrepperConfig.isKeepEmptyCaptures());
@@ -229,8 +232,8 @@ public class GrokPrepper extends AbstractPrepper<Record<Event>, Record<Event>> {
             }
         }
 
-        if (grokPrepperConfig.getTargetKey() != null) {
-            event.put(grokPrepperConfig.getTargetKey(), grokkedCaptures);
+        if (targetKey != null) {
+            event.put(targetKey, grokkedCaptures);
         } else {
             mergeCaptures(event, grokkedCaptures);
         }
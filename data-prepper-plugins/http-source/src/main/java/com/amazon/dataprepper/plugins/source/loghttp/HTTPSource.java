@@ -12,6 +12,7 @@ import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.configuration.PluginModel;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.StringInterner;
 import com.amazon.dataprepper.model.plugin.PluginFactory;
 import com.amazon.dataprepper.model.log.Log;
 import com.amazon.dataprepper.model.record.Record;
@@ -19,6 +20,9 @@ import com.amazon.dataprepper.model.source.Source;
 import com.amazon.dataprepper.plugins.certificate.CertificateProvider;
 import com.amazon.dataprepper.plugins.certificate.model.Certificate;
 import com.amazon.dataprepper.plugins.source.loghttp.certificate.CertificateProviderFactory;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.Codec;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.JsonCodec;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.NdJsonCodec;
 import com.linecorp.armeria.server.Server;
 import com.linecorp.armeria.server.ServerBuilder;
 import com.linecorp.armeria.server.throttling.ThrottlingService;
@@ -35,6 +39,8 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 @DataPrepperPlugin(name = "http", pluginType = Source.class, pluginConfigurationType = HTTPSourceConfig.class)
 public class HTTPSource implements Source<Record<Log>> {
     private static final Logger LOG = LoggerFactory.getLogger(HTTPSource.class);
+    public static final String INTERNED_STRINGS = "internedStrings";
+    public static final String INTERNED_STRINGS_HIT_RATE = "internedStringsHitRate";
 
     private final HTTPSourceConfig sourceConfig;
     private final CertificateProviderFactory certificateProviderFactory;
@@ -97,16 +103,22 @@ public class HTTPSource implements Source<Record<Log>> {
             final int requestTimeoutInMillis = sourceConfig.getRequestTimeoutInMillis();
             // Allow 2*requestTimeoutInMillis to accommodate non-blocking operations other than buffer writing.
             sb.requestTimeout(Duration.ofMillis(2*requestTimeoutInMillis));
+            sb.maxRequestLength(sourceConfig.getMaxRequestLength());
             final int threads = sourceConfig.getThreadCount();
             final ScheduledThreadPoolExecutor blockingTaskExecutor = new ScheduledThreadPoolExecutor(threads);
             sb.blockingTaskExecutor(blockingTaskExecutor, true);
+            final StringInterner stringInterner = createStringInterner();
+            final Codec<Log> defaultCodec = HTTPSourceConfig.NDJSON_REQUEST_FORMAT.equals(sourceConfig.getRequestFormat()) ?
+                    new NdJsonCodec(stringInterner) : new JsonCodec(stringInterner);
+            final LogHTTPService logHTTPService = new LogHTTPService(requestTimeoutInMillis,
+                    sourceConfig.getBufferWriteBatchSize(), defaultCodec, buffer, pluginMetrics, stringInterner);
             final int maxPendingRequests = sourceConfig.getMaxPendingRequests();
-            final LogThrottlingStrategy logThrottlingStrategy = new LogThrottlingStrategy(
-                    maxPendingRequests, blockingTaskExecutor.getQueue());
+            // The log service decodes on the event loop, so its pending requests are counted by the service itself.
+            final LogThrottlingStrategy logThrottlingStrategy = new LogThrottlingStrategy(maxPendingRequests,
+                    logHTTPService::getPendingRequests, buffer, sourceConfig.getMaxBufferUsage(), requestTimeoutInMillis);
             final LogThrottlingRejectHandler logThrottlingRejectHandler = new LogThrottlingRejectHandler(maxPendingRequests, pluginMetrics);
             // TODO: allow customization on URI path for log ingestion
             sb.decorator(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, ThrottlingService.newDecorator(logThrottlingStrategy, logThrottlingRejectHandler));
-            final LogHTTPService logHTTPService = new LogHTTPService(requestTimeoutInMillis, buffer, pluginMetrics);
             sb.annotatedService(HTTPSourceConfig.DEFAULT_LOG_INGEST_URI, logHTTPService);
             // TODO: attach HealthCheckService
 
@@ -128,6 +140,17 @@ public class HTTPSource implements Source<Record<Log>> {
         LOG.info("Started http source...");
     }
 
+    private StringInterner createStringInterner() {
+        final int maximumSize = sourceConfig.getStringInterningMaxSize();
+        if (maximumSize <= 0) {
+            return null;
+        }
+        final StringInterner stringInterner = new StringInterner(maximumSize, sourceConfig.getInternedValueKeys());
+        pluginMetrics.gauge(INTERNED_STRINGS, stringInterner, StringInterner::size);
+        pluginMetrics.gauge(INTERNED_STRINGS_HIT_RATE, stringInterner, StringInterner::getHitRate);
+        return stringInterner;
+    }
+
     @Override
     public void stop() {
         if (server != null) {
@@ -13,6 +13,8 @@ import jakarta.validation.constraints.Min;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
 
 public class HTTPSourceConfig {
     static final String DEFAULT_LOG_INGEST_URI = "/log/ingest";
@@ -24,6 +26,13 @@ public class HTTPSourceConfig {
     static final int DEFAULT_THREAD_COUNT = 200;
     static final int DEFAULT_MAX_CONNECTION_COUNT = 500;
     static final int DEFAULT_MAX_PENDING_REQUESTS = 1024;
+    static final int DEFAULT_BUFFER_WRITE_BATCH_SIZE = 1000;
+    static final long DEFAULT_MAX_REQUEST_LENGTH = 64 * 1024 * 1024;
+    static final double DEFAULT_MAX_BUFFER_USAGE = 0.9;
+    static final int DEFAULT_STRING_INTERNING_MAX_SIZE = 0;
+    static final String REQUEST_FORMAT = "request_format";
+    static final String JSON_REQUEST_FORMAT = "json";
+    static final String NDJSON_REQUEST_FORMAT = "ndjson";
 
     @JsonProperty("port")
     @Min(0)
@@ -46,6 +55,27 @@ public class HTTPSourceConfig {
     @Min(0)
     private int maxPendingRequests = DEFAULT_MAX_PENDING_REQUESTS;
 
+    @JsonProperty("max_buffer_usage")
+    private double maxBufferUsage = DEFAULT_MAX_BUFFER_USAGE;
+
+    @JsonProperty("buffer_write_batch_size")
+    @Min(1)
+    private int bufferWriteBatchSize = DEFAULT_BUFFER_WRITE_BATCH_SIZE;
+
+    @JsonProperty("max_request_length")
+    @Min(0)
+    private long maxRequestLength = DEFAULT_MAX_REQUEST_LENGTH;
+
+    @JsonProperty(REQUEST_FORMAT)
+    private String requestFormat = JSON_REQUEST_FORMAT;
+
+    @JsonProperty("string_interning_max_size")
+    @Min(0)
+    private int stringInterningMaxSize = DEFAULT_STRING_INTERNING_MAX_SIZE;
+
+    @JsonProperty("interned_value_keys")
+    private List<String> internedValueKeys = Collections.emptyList();
+
     @JsonProperty(SSL)
     private boolean ssl;
 
@@ -70,6 +100,16 @@ public class HTTPSourceConfig {
         return !ssl || isValidFilePath(sslKeyFile);
     }
 
+    @AssertTrue(message = "request_format must be json or ndjson")
+    boolean isRequestFormatValidation() {
+        return JSON_REQUEST_FORMAT.equals(requestFormat) || NDJSON_REQUEST_FORMAT.equals(requestFormat);
+    }
+
+    @AssertTrue(message = "max_buffer_usage must be between 0 and 1")
+    boolean isMaxBufferUsageValidation() {
+        return maxBufferUsage >= 0 && maxBufferUsage <= 1;
+    }
+
     private static boolean isValidFilePath(final String filePath) {
         return filePath != null && !filePath.isEmpty() && Files.exists(Paths.get(filePath));
     }
@@ -95,6 +135,30 @@ public class HTTPSourceConfig {
         return maxPendingRequests;
     }
 
+    public double getMaxBufferUsage() {
+        return maxBufferUsage;
+    }
+
+    public int getBufferWriteBatchSize() {
+        return bufferWriteBatchSize;
+    }
+
+    public long getMaxRequestLength() {
+        return maxRequestLength;
+    }
+
+    public String getRequestFormat() {
+        return requestFormat;
+    }
+
+    public int getStringInterningMaxSize() {
+        return stringInterningMaxSize;
+    }
+
+    public List<String> getInternedValueKeys() {
+        return internedValueKeys;
+    }
+
     public boolean isSsl() {
         return ssl;
     }
@@ -7,30 +7,59 @@ package com.amazon.dataprepper.plugins.source.loghttp;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
-import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.event.StringInterner;
 import com.amazon.dataprepper.model.log.Log;
 import com.amazon.dataprepper.model.record.Record;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.Codec;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.ContentDecoder;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.GzipDecoder;
 import com.amazon.dataprepper.plugins.source.loghttp.codec.JsonCodec;
-import com.linecorp.armeria.common.AggregatedHttpRequest;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.NdJsonCodec;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
-import com.linecorp.armeria.server.annotation.Blocking;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
+import io.netty.channel.EventLoop;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /*
-* A HTTP service for log ingestion to be executed by BlockingTaskExecutor.
+* A HTTP service for log ingestion which decodes the request content on the event loop.
+*
+* The content is decoded as newline-delimited json when its Content-Type is one of the ndjson media types, as a json
+* array when it is json, and otherwise with the configured default codec. Content with a gzip Content-Encoding is
+* decompressed while it is decoded, so the decompressed content is never held in memory as a whole.
+*
+* The request is not aggregated. Each chunk of content is pushed to a non-blocking decoder as it arrives, and the
+* decoded records are written to the buffer in batches of at most bufferWriteBatchSize with Buffer#writeAllAsync. The
+* next chunk is requested once every batch but the last has been written, so a large request holds about one chunk of
+* content and one batch of records at a time, and neither a slow uploader nor a full buffer holds a thread. Batches
+* written before a malformed part of the content stay in the buffer.
 */
-@Blocking
 public class LogHTTPService {
     public static final String REQUESTS_RECEIVED = "requestsReceived";
     public static final String SUCCESS_REQUESTS = "successRequests";
@@ -39,21 +68,51 @@ public class LogHTTPService {
 
     private static final Logger LOG = LoggerFactory.getLogger(LogHTTPService.class);
 
-    // TODO: support other data-types as request body, e.g. json_lines, msgpack
-    private final JsonCodec jsonCodec = new JsonCodec();
+    private static final Set<String> NDJSON_SUBTYPES = new HashSet<>(
+            Arrays.asList("x-ndjson", "ndjson", "x-jsonlines", "jsonlines", "jsonl"));
+    private static final Set<String> GZIP_ENCODINGS = new HashSet<>(Arrays.asList("gzip", "x-gzip"));
+    private static final String IDENTITY_ENCODING = "identity";
+    private static final String BAD_REQUEST_MESSAGE =
+            "Bad request data format. Needs to be json array, or newline-delimited json objects for ndjson.";
+
+    // TODO: support other data-types as request body, e.g. msgpack
+    private final JsonCodec jsonCodec;
+    private final NdJsonCodec ndJsonCodec;
+    private final Codec<Log> defaultCodec;
     private final Buffer<Record<Log>> buffer;
     private final int bufferWriteTimeoutInMillis;
+    private final int bufferWriteBatchSize;
     private final RequestExceptionHandler requestExceptionHandler;
+    private final AtomicInteger pendingRequests = new AtomicInteger();
     private final Counter requestsReceivedCounter;
     private final Counter successRequestsCounter;
     private final DistributionSummary payloadSizeSummary;
     private final Timer requestProcessDuration;
 
     public LogHTTPService(final int bufferWriteTimeoutInMillis,
+                          final int bufferWriteBatchSize,
+                          final Codec<Log> defaultCodec,
                           final Buffer<Record<Log>> buffer,
                           final PluginMetrics pluginMetrics) {
+        this(bufferWriteTimeoutInMillis, bufferWriteBatchSize, defaultCodec, buffer, pluginMetrics, null);
+    }
+
+    /**
+     * @param stringInterner the interner for the string values of its value keys in the json and ndjson requests,
+     *                       or null to not intern them
+     */
+    public LogHTTPService(final int bufferWriteTimeoutInMillis,
+                          final int bufferWriteBatchSize,
+                          final Codec<Log> defaultCodec,
+                          final Buffer<Record<Log>> buffer,
+                          final PluginMetrics pluginMetrics,
+                          final StringInterner stringInterner) {
+        this.jsonCodec = new JsonCodec(stringInterner);
+        this.ndJsonCodec = new NdJsonCodec(stringInterner);
+        this.defaultCodec = defaultCodec;
         this.buffer = buffer;
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
+        this.bufferWriteBatchSize = bufferWriteBatchSize;
 
         requestExceptionHandler = new RequestExceptionHandler(pluginMetrics);
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
@@ -63,42 +122,209 @@ public class LogHTTPService {
     }
 
     @Post
-    public HttpResponse doPost(final AggregatedHttpRequest aggregatedHttpRequest) {
-        return requestProcessDuration.record(() -> processRequest(aggregatedHttpRequest));
+    public HttpResponse doPost(final ServiceRequestContext serviceRequestContext, final HttpRequest httpRequest) {
+        final long startTime = System.nanoTime();
+        pendingRequests.incrementAndGet();
+        return HttpResponse.from(processRequest(serviceRequestContext.eventLoop(), httpRequest)
+                .whenComplete((response, throwable) -> {
+                    pendingRequests.decrementAndGet();
+                    requestProcessDuration.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                }));
     }
 
-    private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) {
+    /**
+     * @return the number of requests which are being decoded or written to the buffer
+     */
+    public int getPendingRequests() {
+        return pendingRequests.get();
+    }
+
+    private CompletableFuture<HttpResponse> processRequest(final EventLoop eventLoop, final HttpRequest httpRequest) {
         requestsReceivedCounter.increment();
 
-        List<String> jsonList;
-        final HttpData content = aggregatedHttpRequest.content();
-        payloadSizeSummary.record(content.length());
-        try {
-            jsonList = jsonCodec.parse(content);
-        } catch (IOException e) {
-            LOG.error("Failed to write the request content [{}] due to:", content.toStringUtf8(), e);
-            return requestExceptionHandler.handleException(e, "Bad request data format. Needs to be json array.");
+        final RequestHeaders headers = httpRequest.headers();
+        final RequestContentSubscriber subscriber = new RequestContentSubscriber(eventLoop);
+        final ContentDecoder codecDecoder = selectCodec(headers.contentType()).newDecoder(subscriber.bufferWriter);
+        final String contentEncoding = headers.get(HttpHeaderNames.CONTENT_ENCODING);
+        final String encoding = contentEncoding == null ? "" : contentEncoding.trim().toLowerCase(Locale.ROOT);
+        if (encoding.isEmpty() || IDENTITY_ENCODING.equals(encoding)) {
+            subscriber.contentDecoder = codecDecoder;
+        } else if (GZIP_ENCODINGS.contains(encoding)) {
+            subscriber.contentDecoder = new GzipDecoder(codecDecoder);
+        } else {
+            httpRequest.abort();
+            payloadSizeSummary.record(0);
+            final IOException e = new IOException("Unsupported content encoding: " + contentEncoding);
+            LOG.error("Failed to read the request content due to:", e);
+            return CompletableFuture.completedFuture(requestExceptionHandler.handleException(e, BAD_REQUEST_MESSAGE));
         }
-        final List<Record<Log>> records = jsonList.stream()
-                .map(this::buildRecordLog)
-                .collect(Collectors.toList());
-        try {
-            buffer.writeAll(records, bufferWriteTimeoutInMillis);
-        } catch (Exception e) {
-            LOG.error("Failed to write the request content [{}] due to:", content.toStringUtf8(), e);
-            return requestExceptionHandler.handleException(e);
+        httpRequest.subscribe(subscriber, eventLoop);
+        return subscriber.response;
+    }
+
+    private Codec<Log> selectCodec(final MediaType contentType) {
+        if (contentType != null) {
+            if (NDJSON_SUBTYPES.contains(contentType.subtype())) {
+                return ndJsonCodec;
+            } else if (contentType.is(MediaType.JSON)) {
+                return jsonCodec;
+            }
         }
-        successRequestsCounter.increment();
-        return HttpResponse.of(HttpStatus.OK);
+        return defaultCodec;
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    /**
+     * Pushes each chunk of the request content to the decoder and requests the next chunk once the buffer writes
+     * allow it. Every signal and write completion is handled on the event loop of the request, so the state of the
+     * subscriber is confined to it.
+     */
+    private class RequestContentSubscriber implements Subscriber<HttpObject> {
+        private final CompletableFuture<HttpResponse> response = new CompletableFuture<>();
+        private final BatchingBufferWriter bufferWriter = new BatchingBufferWriter();
+        private final EventLoop eventLoop;
+        private ContentDecoder contentDecoder;
+        private Subscription subscription;
+        private long bytesReceived;
 
-        final JacksonLog log = JacksonLog.builder()
-                .withData(json)
-                .getThis()
-                .build();
+        RequestContentSubscriber(final EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(final HttpObject httpObject) {
+            if (response.isDone()) {
+                return;
+            }
+            if (!(httpObject instanceof HttpData)) {
+                // Trailers carry no content, so the next chunk is requested straight away.
+                subscription.request(1);
+                return;
+            }
+            final HttpData httpData = (HttpData) httpObject;
+            bytesReceived += httpData.length();
+            try {
+                contentDecoder.decode(httpData.array(), 0, httpData.length());
+            } catch (final IOException e) {
+                LOG.error("Failed to read the request content due to:", e);
+                fail(requestExceptionHandler.handleException(e, BAD_REQUEST_MESSAGE));
+                return;
+            }
+            bufferWriter.whenReadyForContent().whenCompleteAsync((ignored, throwable) -> {
+                if (throwable != null) {
+                    failWriting(throwable);
+                } else if (!response.isDone()) {
+                    subscription.request(1);
+                }
+            }, eventLoop);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            if (response.isDone()) {
+                return;
+            }
+            final IOException e = new IOException("Failed to receive request content", throwable);
+            LOG.error("Failed to read the request content due to:", e);
+            finish(requestExceptionHandler.handleException(e, BAD_REQUEST_MESSAGE));
+        }
+
+        @Override
+        public void onComplete() {
+            if (response.isDone()) {
+                return;
+            }
+            try {
+                contentDecoder.endOfContent();
+            } catch (final IOException e) {
+                LOG.error("Failed to read the request content due to:", e);
+                finish(requestExceptionHandler.handleException(e, BAD_REQUEST_MESSAGE));
+                return;
+            }
+            bufferWriter.flush().whenCompleteAsync((ignored, throwable) -> {
+                if (throwable != null) {
+                    failWriting(throwable);
+                } else {
+                    successRequestsCounter.increment();
+                    finish(HttpResponse.of(HttpStatus.OK));
+                }
+            }, eventLoop);
+        }
+
+        private void failWriting(final Throwable throwable) {
+            if (!response.isDone()) {
+                final Exception e = toException(
+                        throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                LOG.error("Failed to write the request content due to:", e);
+                fail(requestExceptionHandler.handleException(e));
+            }
+        }
+
+        /**
+         * Stops receiving the content, which has not been received in full.
+         */
+        private void fail(final HttpResponse httpResponse) {
+            subscription.cancel();
+            finish(httpResponse);
+        }
+
+        private void finish(final HttpResponse httpResponse) {
+            contentDecoder.close();
+            payloadSizeSummary.record(bytesReceived);
+            response.complete(httpResponse);
+        }
+    }
+
+    /**
+     * Collects the records decoded from a request and writes them to the buffer whenever a batch is full. Each batch is
+     * written once the previous one has been written, so the batches are chained without waiting on a thread.
+     */
+    private class BatchingBufferWriter implements Consumer<Log> {
+        private List<Record<Log>> records = new ArrayList<>();
+        private CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+        private CompletableFuture<Void> previousWrite = pendingWrite;
+
+        @Override
+        public void accept(final Log log) {
+            records.add(new Record<>(log));
+            if (records.size() >= bufferWriteBatchSize) {
+                writeBatch();
+            }
+        }
+
+        /**
+         * @return a future which completes once every batch but the last one has been written, so that at most one
+         * batch is being written while the next chunk of content is decoded
+         */
+        CompletableFuture<Void> whenReadyForContent() {
+            return previousWrite;
+        }
+
+        /**
+         * @return a future which completes once every record, including those of the last partial batch, has been
+         * written
+         */
+        CompletableFuture<Void> flush() {
+            if (!records.isEmpty()) {
+                writeBatch();
+            }
+            return pendingWrite;
+        }
+
+        private void writeBatch() {
+            final List<Record<Log>> batch = records;
+            records = new ArrayList<>();
+            previousWrite = pendingWrite;
+            pendingWrite = pendingWrite.thenCompose(ignored -> buffer.writeAllAsync(batch, bufferWriteTimeoutInMillis));
+        }
+    }
 
-        return new Record<>(log);
+    private static Exception toException(final Throwable throwable) {
+        return throwable instanceof Exception ? (Exception) throwable : new RuntimeException(throwable);
     }
 }
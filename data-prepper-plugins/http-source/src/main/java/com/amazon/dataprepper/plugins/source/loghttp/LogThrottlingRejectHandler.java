@@ -6,10 +6,13 @@
 package com.amazon.dataprepper.plugins.source.loghttp;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.server.Service;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.throttling.ThrottlingRejectHandler;
@@ -17,6 +20,10 @@ import io.micrometer.core.instrument.Counter;
 
 import javax.annotation.Nullable;
 
+/**
+ * Answers requests rejected by {@link LogThrottlingStrategy} with 429 and a Retry-After header, which is computed from
+ * the buffer write latency when the buffer rejected the request and is one second otherwise.
+ */
 public class LogThrottlingRejectHandler implements ThrottlingRejectHandler<HttpRequest, HttpResponse> {
     public static final String REQUESTS_REJECTED = "requestsRejected";
 
@@ -33,9 +40,16 @@ public class LogThrottlingRejectHandler implements ThrottlingRejectHandler<HttpR
     public HttpResponse handleRejected(final Service<HttpRequest, HttpResponse> delegate, final ServiceRequestContext ctx,
                                        final HttpRequest req, final @Nullable Throwable cause) throws Exception {
         rejectedRequestsCounter.increment();
-        return HttpResponse.of(HttpStatus.TOO_MANY_REQUESTS, MediaType.ANY_TYPE,
-                "The number of pending requests in the work queue reaches max_pending_requests:%d. Please retry later",
-                maxPendingRequests
-        );
+        LogThrottlingStrategy.Rejection rejection = ctx.attr(LogThrottlingStrategy.REJECTION);
+        if (rejection == null) {
+            rejection = new LogThrottlingStrategy.Rejection(String.format(
+                    "The number of pending requests in the work queue reaches max_pending_requests:%d. Please retry later",
+                    maxPendingRequests), 1);
+        }
+        final ResponseHeaders responseHeaders = ResponseHeaders.builder(HttpStatus.TOO_MANY_REQUESTS)
+                .contentType(MediaType.ANY_TYPE)
+                .setLong(HttpHeaderNames.RETRY_AFTER, rejection.getRetryAfterSeconds())
+                .build();
+        return HttpResponse.of(responseHeaders, HttpData.ofUtf8(rejection.getMessage()));
     }
 }
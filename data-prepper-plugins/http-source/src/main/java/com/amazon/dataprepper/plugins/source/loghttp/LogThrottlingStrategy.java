@@ -5,40 +5,96 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp;
 
+import com.amazon.dataprepper.model.buffer.Buffer;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.util.UnmodifiableFuture;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.throttling.ThrottlingStrategy;
+import io.netty.util.AttributeKey;
 
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletionStage;
+import java.util.function.IntSupplier;
 
+/**
+ * Rejects requests while max_pending_requests requests are pending, and while the buffer is at least max_buffer_usage
+ * full and recent buffer writes have taken at least half of the request timeout. The latter requests would most likely
+ * time out waiting for the buffer, so they are rejected before their content is decoded. The reason of a rejection by
+ * the buffer is attached to the request context as a {@link Rejection} under {@link #REJECTION}.
+ */
 public class LogThrottlingStrategy extends ThrottlingStrategy<HttpRequest> {
+    static final AttributeKey<Rejection> REJECTION = AttributeKey.valueOf(LogThrottlingStrategy.class, "REJECTION");
+
     private final int maxPendingRequests;
-    private final BlockingQueue<Runnable> queue;
+    private final IntSupplier pendingRequests;
+    private final Buffer<?> buffer;
+    private final double maxBufferUsage;
+    private final long maxWriteLatencyInMillis;
 
     public LogThrottlingStrategy(final int maxPendingRequests, final BlockingQueue<Runnable> queue) {
-        Objects.requireNonNull(queue);
+        this(maxPendingRequests, Objects.requireNonNull(queue)::size, null, 1.0, 0);
+    }
+
+    /**
+     * @param pendingRequests supplies the number of requests which are waiting or being processed
+     */
+    public LogThrottlingStrategy(final int maxPendingRequests, final IntSupplier pendingRequests,
+                                 final Buffer<?> buffer, final double maxBufferUsage,
+                                 final int bufferWriteTimeoutInMillis) {
+        Objects.requireNonNull(pendingRequests);
         this.maxPendingRequests = maxPendingRequests;
-        this.queue = queue;
+        this.pendingRequests = pendingRequests;
+        this.buffer = buffer;
+        this.maxBufferUsage = maxBufferUsage;
+        this.maxWriteLatencyInMillis = bufferWriteTimeoutInMillis / 2;
     }
 
     @Override
     public CompletionStage<Boolean> accept(ServiceRequestContext ctx, HttpRequest request) {
         /*
          * TODO:
-         * The current implementation based on the condition queue.size() < maxPendingRequests is loose, i.e.
-         * in case of high concurrency, multiple thread could pass this check concurrently and push their tasks into
-         * the queue. Thus the actual queue size could still exceed maxPendingRequests in high concurrency.
-         * There is no way to strictly deal with this issue at the ThrottlingStrategy level. Instead,
-         * we need to deal with it at the blockingExecutor level. Currently, the blockingExecutor of armeria server only accepts
-         * {@link java.util.concurrent.ScheduledExecutorService} which uses unbounded {@link java.util.concurrent.ScheduledThreadPoolExecutor.DelayedWorkQueue}.
-         * The potential workaround is in the discussion of https://github.com/line/armeria/issues/2694.
+         * The current implementation based on the condition pendingRequests < maxPendingRequests is loose, i.e.
+         * in case of high concurrency, multiple requests could pass this check concurrently. Thus the actual number of
+         * pending requests could still exceed maxPendingRequests in high concurrency.
          */
-        if (queue.size() < maxPendingRequests) {
-            return UnmodifiableFuture.completedFuture(true);
+        if (pendingRequests.getAsInt() >= maxPendingRequests) {
+            return UnmodifiableFuture.completedFuture(false);
+        }
+        if (buffer != null) {
+            // Buffers which do not track their capacity usage or write latency report -1 and are never throttled.
+            final double capacityUsage = buffer.getCapacityUsage();
+            final long writeLatencyInMillis = buffer.getWriteLatencyInMillis();
+            if (capacityUsage >= 0 && capacityUsage >= maxBufferUsage && writeLatencyInMillis >= 0
+                    && writeLatencyInMillis >= maxWriteLatencyInMillis) {
+                ctx.setAttr(REJECTION, new Rejection(String.format(
+                        "The buffer is %d%% full and writes to it take %dms. Please retry later",
+                        Math.round(capacityUsage * 100), writeLatencyInMillis),
+                        Math.max(1, (writeLatencyInMillis + 999) / 1000)));
+                return UnmodifiableFuture.completedFuture(false);
+            }
+        }
+        return UnmodifiableFuture.completedFuture(true);
+    }
+
+    /**
+     * The reason of a rejection and the number of seconds after which the client should retry.
+     */
+    static class Rejection {
+        private final String message;
+        private final long retryAfterSeconds;
+
+        Rejection(final String message, final long retryAfterSeconds) {
+            this.message = message;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        String getMessage() {
+            return message;
+        }
+
+        long getRetryAfterSeconds() {
+            return retryAfterSeconds;
         }
-        return UnmodifiableFuture.completedFuture(false);
     }
 }
@@ -8,6 +8,9 @@ package com.amazon.dataprepper.plugins.source.loghttp.codec;
 import com.linecorp.armeria.common.HttpData;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Codec parses the content of HTTP request into custom Java type.
@@ -15,10 +18,25 @@ import java.io.IOException;
  */
 public interface Codec<T> {
     /**
-     * parse the request into custom type
+     * create a decoder for the content of one request, which passes each item to the consumer as soon as it is decoded
+     *
+     * @param consumer The consumer of the decoded items
+     * @return The decoder, which is not thread-safe
+     */
+    ContentDecoder newDecoder(Consumer<T> consumer);
+
+    /**
+     * parse the request into a list of custom type
      *
      * @param httpData The content of the original HTTP request
-     * @return The target data type
+     * @return The decoded items
      */
-    T parse(HttpData httpData) throws IOException;
+    default List<T> parse(HttpData httpData) throws IOException {
+        final List<T> items = new ArrayList<>();
+        try (final ContentDecoder decoder = newDecoder(items::add)) {
+            decoder.decode(httpData.array(), 0, httpData.length());
+            decoder.endOfContent();
+        }
+        return items;
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import java.io.IOException;
+
+/**
+ * Decodes the content of a request which is pushed to it chunk by chunk as it arrives, so decoding never waits for
+ * content and can run on the event loop.
+ */
+public interface ContentDecoder extends AutoCloseable {
+    /**
+     * decode the next chunk of the content
+     *
+     * @param bytes The bytes of the chunk, which are not used after this method returns
+     * @param offset The offset of the chunk in the bytes
+     * @param length The length of the chunk
+     * @throws IOException if the content is malformed
+     */
+    void decode(byte[] bytes, int offset, int length) throws IOException;
+
+    /**
+     * signal that the content has been received in full
+     *
+     * @throws IOException if the content ends before the last item is complete
+     */
+    void endOfContent() throws IOException;
+
+    /**
+     * release the resources of the decoder, whether or not the content has been decoded in full
+     */
+    @Override
+    default void close() {
+    }
+}
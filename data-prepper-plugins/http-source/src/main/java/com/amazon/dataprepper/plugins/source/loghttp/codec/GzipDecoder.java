@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Decompresses gzip content chunk by chunk as it arrives and passes the decompressed chunks on to another decoder.
+ * Like {@link java.util.zip.GZIPInputStream}, it accepts concatenated gzip members and checks the trailer of each.
+ */
+public class GzipDecoder implements ContentDecoder {
+    private static final int HEADER_LENGTH = 10;
+    private static final int TRAILER_LENGTH = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int DEFLATE = 8;
+    private static final int INFLATED_CHUNK_SIZE = 8192;
+
+    private enum State { HEADER, DATA, TRAILER }
+
+    private final ContentDecoder decoder;
+    private final Inflater inflater = new Inflater(true);
+    private final CRC32 crc = new CRC32();
+    private final byte[] inflated = new byte[INFLATED_CHUNK_SIZE];
+    // The part of a header or trailer which has been received so far
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private State state = State.HEADER;
+    private boolean memberDecoded;
+
+    /**
+     * @param decoder The decoder of the decompressed content
+     */
+    public GzipDecoder(final ContentDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void decode(final byte[] bytes, final int offset, final int length) throws IOException {
+        final int end = offset + length;
+        int position = offset;
+        while (position < end) {
+            if (state == State.HEADER) {
+                position = readHeader(bytes, position, end);
+            } else if (state == State.DATA) {
+                position = inflate(bytes, position, end);
+            } else {
+                position = readTrailer(bytes, position, end);
+            }
+        }
+    }
+
+    @Override
+    public void endOfContent() throws IOException {
+        if (state != State.HEADER || pending.size() > 0 || !memberDecoded) {
+            throw new EOFException("Unexpected end of gzip content");
+        }
+        decoder.endOfContent();
+    }
+
+    @Override
+    public void close() {
+        inflater.end();
+        decoder.close();
+    }
+
+    /**
+     * @return the position after the header, or the end if the header continues in the next chunk
+     */
+    private int readHeader(final byte[] bytes, final int position, final int end) throws IOException {
+        final int received = pending.size();
+        pending.write(bytes, position, end - position);
+        final int headerLength = getHeaderLength(pending.toByteArray());
+        if (headerLength < 0) {
+            return end;
+        }
+        pending.reset();
+        inflater.reset();
+        crc.reset();
+        state = State.DATA;
+        return position + headerLength - received;
+    }
+
+    /**
+     * @return the length of the header, or -1 if the header is incomplete
+     */
+    private static int getHeaderLength(final byte[] header) throws IOException {
+        if (header.length < HEADER_LENGTH) {
+            return -1;
+        }
+        if ((header[0] & 0xff) != 0x1f || (header[1] & 0xff) != 0x8b) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (header[2] != DEFLATE) {
+            throw new ZipException("Unsupported compression method");
+        }
+        final int flags = header[3] & 0xff;
+        int length = HEADER_LENGTH;
+        if ((flags & FEXTRA) != 0) {
+            if (header.length < length + 2) {
+                return -1;
+            }
+            length += 2 + ((header[length] & 0xff) | (header[length + 1] & 0xff) << 8);
+        }
+        if ((flags & FNAME) != 0) {
+            length = skipZeroTerminated(header, length);
+        }
+        if ((flags & FCOMMENT) != 0) {
+            length = skipZeroTerminated(header, length);
+        }
+        if ((flags & FHCRC) != 0) {
+            length += 2;
+        }
+        return length <= header.length ? length : -1;
+    }
+
+    /**
+     * @return the position after the terminating zero, which is past the end of the header if it is not there yet
+     */
+    private static int skipZeroTerminated(final byte[] header, final int position) {
+        for (int i = position; i < header.length; i++) {
+            if (header[i] == 0) {
+                return i + 1;
+            }
+        }
+        return header.length + 1;
+    }
+
+    /**
+     * @return the position after the compressed data, or the end if the data continues in the next chunk
+     */
+    private int inflate(final byte[] bytes, final int position, final int end) throws IOException {
+        inflater.setInput(bytes, position, end - position);
+        try {
+            int count;
+            while ((count = inflater.inflate(inflated)) > 0) {
+                crc.update(inflated, 0, count);
+                decoder.decode(inflated, 0, count);
+            }
+        } catch (final DataFormatException e) {
+            throw new ZipException(e.getMessage() == null ? "Invalid gzip data" : e.getMessage());
+        }
+        if (!inflater.finished()) {
+            return end;
+        }
+        state = State.TRAILER;
+        return end - inflater.getRemaining();
+    }
+
+    /**
+     * @return the position after the trailer, or the end if the trailer continues in the next chunk
+     */
+    private int readTrailer(final byte[] bytes, final int position, final int end) throws IOException {
+        final int count = Math.min(TRAILER_LENGTH - pending.size(), end - position);
+        pending.write(bytes, position, count);
+        if (pending.size() == TRAILER_LENGTH) {
+            final byte[] trailer = pending.toByteArray();
+            pending.reset();
+            if (readInt(trailer, 0) != (int) crc.getValue() || readInt(trailer, 4) != (int) inflater.getBytesWritten()) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+            memberDecoded = true;
+            state = State.HEADER;
+        }
+        return position + count;
+    }
+
+    private static int readInt(final byte[] bytes, final int offset) {
+        return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8 | (bytes[offset + 2] & 0xff) << 16
+                | (bytes[offset + 3] & 0xff) << 24;
+    }
+}
@@ -5,35 +5,73 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp.codec;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.linecorp.armeria.common.HttpData;
+import com.amazon.dataprepper.model.event.StringInterner;
+import com.amazon.dataprepper.model.log.Log;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 /**
- * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;.
- * TODO: replace output List&lt;String&gt; with List&lt;InternalModel&gt; type
+ * JsonCodec parses the json array format HTTP data into {@link Log}s.
  * <p>
+ * The array is decoded chunk by chunk as the request content arrives, and each object of the array is passed on as
+ * soon as it is complete. Content after the end of the array is rejected.
  */
-public class JsonCodec implements Codec<List<String>> {
-    private static final ObjectMapper mapper = new ObjectMapper();
-    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAP_TYPE_REFERENCE =
-            new TypeReference<List<Map<String, Object>>>() {};
+public class JsonCodec implements Codec<Log> {
+    private final StringInterner stringInterner;
+
+    public JsonCodec() {
+        this(null);
+    }
+
+    /**
+     * @param stringInterner the interner for the string values of its value keys, or null to not intern them
+     */
+    public JsonCodec(final StringInterner stringInterner) {
+        this.stringInterner = stringInterner;
+    }
 
     @Override
-    public List<String> parse(HttpData httpData) throws IOException {
-        List<String> jsonList = new ArrayList<>();
-        final List<Map<String, Object>> logList = mapper.readValue(httpData.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
-        for (final Map<String, Object> log: logList) {
-            final String recordString = mapper.writeValueAsString(log);
-            jsonList.add(recordString);
+    public ContentDecoder newDecoder(final Consumer<Log> consumer) {
+        return new JsonArrayDecoder(consumer, stringInterner);
+    }
+
+    private static class JsonArrayDecoder extends JsonLogDecoder {
+        private boolean arrayStarted;
+        private boolean arrayEnded;
+
+        JsonArrayDecoder(final Consumer<Log> consumer, final StringInterner stringInterner) {
+            super(consumer, stringInterner);
         }
 
-        return jsonList;
+        @Override
+        boolean startsLog(final JsonParser parser, final JsonToken token) throws IOException {
+            if (arrayEnded) {
+                throw new JsonParseException(parser, "Unexpected content after the json array");
+            } else if (!arrayStarted) {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected a json array");
+                }
+                arrayStarted = true;
+                return false;
+            } else if (token == JsonToken.END_ARRAY) {
+                arrayEnded = true;
+                return false;
+            } else if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a json object as element of the array");
+            }
+            return true;
+        }
+
+        @Override
+        void checkEndOfContent(final JsonParser parser) throws IOException {
+            if (!arrayEnded) {
+                throw new JsonParseException(parser, arrayStarted ? "Unexpected end of content in the json array" :
+                        "Expected a json array");
+            }
+        }
     }
 }
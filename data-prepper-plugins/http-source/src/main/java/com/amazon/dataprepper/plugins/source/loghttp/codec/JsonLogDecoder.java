@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.amazon.dataprepper.model.event.StringInterner;
+import com.amazon.dataprepper.model.json.ObjectMappers;
+import com.amazon.dataprepper.model.log.JacksonLog;
+import com.amazon.dataprepper.model.log.Log;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Decodes json content into {@link Log}s with a non-blocking parser. The parser is fed each chunk of the content as
+ * it arrives, and the tree of each log is built from the tokens of the chunk, so a log may span any number of
+ * chunks. Subclasses check the tokens between the logs.
+ * <p>
+ * The field names come from the canonicalized symbol table of the parser factory, so the logs already share one
+ * instance of each field name. With a {@link StringInterner}, the string values of its value keys are interned while
+ * the tree is built, so that the logs held in the buffer share them too.
+ */
+abstract class JsonLogDecoder implements ContentDecoder {
+    private static final JsonNodeFactory NODE_FACTORY = ObjectMappers.getJsonMapper().getNodeFactory();
+
+    private final Consumer<Log> consumer;
+    private final StringInterner stringInterner;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final Deque<ContainerNode<?>> openNodes = new ArrayDeque<>();
+    private String fieldName;
+
+    JsonLogDecoder(final Consumer<Log> consumer, final StringInterner stringInterner) {
+        this.consumer = consumer;
+        this.stringInterner = stringInterner;
+        try {
+            parser = ObjectMappers.getJsonMapper().getFactory().createNonBlockingByteArrayParser();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Checks a token which is not part of a log.
+     *
+     * @return true if the token starts a log, which it may only do if it is {@link JsonToken#START_OBJECT}
+     */
+    abstract boolean startsLog(JsonParser parser, JsonToken token) throws IOException;
+
+    /**
+     * Checks that the content may end after the last complete log.
+     */
+    abstract void checkEndOfContent(JsonParser parser) throws IOException;
+
+    @Override
+    public void decode(final byte[] bytes, final int offset, final int length) throws IOException {
+        feeder.feedInput(bytes, offset, offset + length);
+        readTokens();
+    }
+
+    @Override
+    public void endOfContent() throws IOException {
+        feeder.endOfInput();
+        readTokens();
+        if (!openNodes.isEmpty()) {
+            throw new JsonParseException(parser, "Unexpected end of content in a json object");
+        }
+        checkEndOfContent(parser);
+    }
+
+    /**
+     * Reads every token of the content fed so far, which the feeder requires before it accepts the next chunk.
+     */
+    private void readTokens() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            if (!openNodes.isEmpty()) {
+                readLogToken(token);
+            } else if (startsLog(parser, token)) {
+                openNodes.push(NODE_FACTORY.objectNode());
+            }
+        }
+    }
+
+    private void readLogToken(final JsonToken token) throws IOException {
+        switch (token) {
+            case FIELD_NAME:
+                fieldName = parser.getCurrentName();
+                break;
+            case START_OBJECT:
+                openNodes.push(addNode(NODE_FACTORY.objectNode()));
+                break;
+            case START_ARRAY:
+                openNodes.push(addNode(NODE_FACTORY.arrayNode()));
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                final ContainerNode<?> node = openNodes.pop();
+                if (openNodes.isEmpty()) {
+                    consumer.accept(JacksonLog.builder()
+                            .withJsonNode(node)
+                            .getThis()
+                            .build());
+                }
+                break;
+            case VALUE_STRING:
+                addNode(NODE_FACTORY.textNode(readText()));
+                break;
+            case VALUE_NUMBER_INT:
+                addNode(readIntegralNumber());
+                break;
+            case VALUE_NUMBER_FLOAT:
+                addNode(NODE_FACTORY.numberNode(parser.getDoubleValue()));
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                addNode(NODE_FACTORY.booleanNode(token == JsonToken.VALUE_TRUE));
+                break;
+            default:
+                // VALUE_NULL is the only other token which json content yields
+                addNode(NODE_FACTORY.nullNode());
+        }
+    }
+
+    private String readText() throws IOException {
+        final String text = parser.getText();
+        if (stringInterner != null && openNodes.peek() instanceof ObjectNode && stringInterner.isValueKey(fieldName)) {
+            return stringInterner.intern(text);
+        }
+        return text;
+    }
+
+    /**
+     * Reads an integral number into the same node type as {@link com.fasterxml.jackson.databind.ObjectMapper#readTree}.
+     */
+    private JsonNode readIntegralNumber() throws IOException {
+        switch (parser.getNumberType()) {
+            case INT:
+                return NODE_FACTORY.numberNode(parser.getIntValue());
+            case LONG:
+                return NODE_FACTORY.numberNode(parser.getLongValue());
+            default:
+                return NODE_FACTORY.numberNode(parser.getBigIntegerValue());
+        }
+    }
+
+    private <T extends JsonNode> T addNode(final T node) {
+        final ContainerNode<?> parent = openNodes.peek();
+        if (parent instanceof ObjectNode) {
+            ((ObjectNode) parent).replace(fieldName, node);
+        } else {
+            ((ArrayNode) parent).add(node);
+        }
+        return node;
+    }
+}
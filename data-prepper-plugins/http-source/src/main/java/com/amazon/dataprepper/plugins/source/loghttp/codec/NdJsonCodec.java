@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.amazon.dataprepper.model.event.StringInterner;
+import com.amazon.dataprepper.model.log.Log;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * NdJsonCodec parses newline-delimited json HTTP data, with one json object per line, into {@link Log}s.
+ * <p>
+ * Each log is passed on as soon as its line is decoded, so the content is never held in memory as a whole. Blank lines
+ * are skipped.
+ */
+public class NdJsonCodec implements Codec<Log> {
+    private final StringInterner stringInterner;
+
+    public NdJsonCodec() {
+        this(null);
+    }
+
+    /**
+     * @param stringInterner the interner for the string values of its value keys, or null to not intern them
+     */
+    public NdJsonCodec(final StringInterner stringInterner) {
+        this.stringInterner = stringInterner;
+    }
+
+    @Override
+    public ContentDecoder newDecoder(final Consumer<Log> consumer) {
+        return new NdJsonDecoder(consumer, stringInterner);
+    }
+
+    private static class NdJsonDecoder extends JsonLogDecoder {
+        NdJsonDecoder(final Consumer<Log> consumer, final StringInterner stringInterner) {
+            super(consumer, stringInterner);
+        }
+
+        @Override
+        boolean startsLog(final JsonParser parser, final JsonToken token) throws IOException {
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a json object on each line");
+            }
+            return true;
+        }
+
+        @Override
+        void checkEndOfContent(final JsonParser parser) {
+        }
+    }
+}
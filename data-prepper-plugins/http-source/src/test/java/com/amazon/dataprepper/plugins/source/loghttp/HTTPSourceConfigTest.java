@@ -9,10 +9,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -31,6 +34,12 @@ public class HTTPSourceConfigTest {
         assertEquals(HTTPSourceConfig.DEFAULT_THREAD_COUNT, sourceConfig.getThreadCount());
         assertEquals(HTTPSourceConfig.DEFAULT_MAX_CONNECTION_COUNT, sourceConfig.getMaxConnectionCount());
         assertEquals(HTTPSourceConfig.DEFAULT_MAX_PENDING_REQUESTS, sourceConfig.getMaxPendingRequests());
+        assertEquals(HTTPSourceConfig.DEFAULT_BUFFER_WRITE_BATCH_SIZE, sourceConfig.getBufferWriteBatchSize());
+        assertEquals(HTTPSourceConfig.DEFAULT_MAX_REQUEST_LENGTH, sourceConfig.getMaxRequestLength());
+        assertEquals(HTTPSourceConfig.DEFAULT_MAX_BUFFER_USAGE, sourceConfig.getMaxBufferUsage());
+        assertEquals(HTTPSourceConfig.DEFAULT_STRING_INTERNING_MAX_SIZE, sourceConfig.getStringInterningMaxSize());
+        assertEquals(Collections.emptyList(), sourceConfig.getInternedValueKeys());
+        assertEquals(HTTPSourceConfig.JSON_REQUEST_FORMAT, sourceConfig.getRequestFormat());
     }
 
     @Nested
@@ -45,6 +54,45 @@ public class HTTPSourceConfigTest {
             file.createNewFile();
         }
 
+        @ParameterizedTest
+        @ValueSource(strings = {HTTPSourceConfig.JSON_REQUEST_FORMAT, HTTPSourceConfig.NDJSON_REQUEST_FORMAT})
+        void isRequestFormatValidation_should_return_true_for_supported_formats(final String requestFormat) throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "requestFormat", requestFormat);
+
+            assertThat(objectUnderTest.isRequestFormatValidation(), equalTo(true));
+        }
+
+        @Test
+        void isRequestFormatValidation_should_return_false_for_unsupported_format() throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "requestFormat", "msgpack");
+
+            assertThat(objectUnderTest.isRequestFormatValidation(), equalTo(false));
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {0.0, 0.8, 1.0})
+        void isMaxBufferUsageValidation_should_return_true_for_ratios(final double maxBufferUsage) throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "maxBufferUsage", maxBufferUsage);
+
+            assertThat(objectUnderTest.isMaxBufferUsageValidation(), equalTo(true));
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {-0.1, 1.1})
+        void isMaxBufferUsageValidation_should_return_false_outside_of_ratios(final double maxBufferUsage) throws NoSuchFieldException, IllegalAccessException {
+            final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
+
+            reflectivelySetField(objectUnderTest, "maxBufferUsage", maxBufferUsage);
+
+            assertThat(objectUnderTest.isMaxBufferUsageValidation(), equalTo(false));
+        }
+
         @Test
         void isSslCertificateFileValidation_should_return_true_if_ssl_is_false() throws NoSuchFieldException, IllegalAccessException {
             final HTTPSourceConfig objectUnderTest = new HTTPSourceConfig();
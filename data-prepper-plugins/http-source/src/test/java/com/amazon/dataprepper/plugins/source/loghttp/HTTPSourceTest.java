@@ -10,6 +10,7 @@ import com.amazon.dataprepper.metrics.MetricNames;
 import com.amazon.dataprepper.metrics.MetricsTestUtil;
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.log.Log;
 import com.amazon.dataprepper.model.plugin.PluginFactory;
@@ -20,6 +21,7 @@ import com.linecorp.armeria.client.ResponseTimeoutException;
 import com.linecorp.armeria.client.WebClient;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
@@ -49,6 +51,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -168,6 +171,9 @@ class HTTPSourceTest {
         lenient().when(sourceConfig.getThreadCount()).thenReturn(200);
         lenient().when(sourceConfig.getMaxConnectionCount()).thenReturn(500);
         lenient().when(sourceConfig.getMaxPendingRequests()).thenReturn(1024);
+        lenient().when(sourceConfig.getBufferWriteBatchSize()).thenReturn(1000);
+        lenient().when(sourceConfig.getMaxRequestLength()).thenReturn(10L * 1024 * 1024);
+        lenient().when(sourceConfig.getMaxBufferUsage()).thenReturn(1.0);
 
         MetricsTestUtil.initMetrics();
         pluginMetrics = PluginMetrics.fromNames(PLUGIN_NAME, TEST_PIPELINE_NAME);
@@ -245,6 +251,43 @@ class HTTPSourceTest {
         Assertions.assertEquals(testPayloadSize, payloadSizeMax.getValue());
     }
 
+    @Test
+    public void testHTTPJsonResponse200WithStringInterning() {
+        // Prepare
+        when(sourceConfig.getStringInterningMaxSize()).thenReturn(100);
+        when(sourceConfig.getInternedValueKeys()).thenReturn(Collections.singletonList("service"));
+        final String testData = "[{\"service\": \"a\", \"log\": \"somelog\"}, {\"service\": \"a\", \"log\": \"somelog\"}]";
+        HTTPSourceUnderTest.start(testBuffer);
+
+        // When
+        WebClient.of().execute(RequestHeaders.builder()
+                        .scheme(SessionProtocol.HTTP)
+                        .authority("127.0.0.1:2021")
+                        .method(HttpMethod.POST)
+                        .path("/log/ingest")
+                        .contentType(MediaType.JSON_UTF_8)
+                        .build(),
+                HttpData.ofUtf8(testData))
+                .aggregate()
+                .whenComplete((i, ex) -> assertSecureResponseWithStatusCode(i, HttpStatus.OK)).join();
+
+        // Then
+        final List<Record<Log>> records = new ArrayList<>(testBuffer.read(100).getKey());
+        Assertions.assertEquals(2, records.size());
+        final Log first = records.get(0).getData();
+        final Log second = records.get(1).getData();
+        Assertions.assertSame(first.getString("service"), second.getString("service"));
+        Assertions.assertNotSame(first.getString("log"), second.getString("log"));
+        final String metricNamePrefix = new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME).toString();
+        final List<Measurement> internedStringsMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(metricNamePrefix).add(HTTPSource.INTERNED_STRINGS).toString());
+        final List<Measurement> hitRateMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(metricNamePrefix).add(HTTPSource.INTERNED_STRINGS_HIT_RATE).toString());
+        Assertions.assertEquals(1.0, internedStringsMeasurements.get(0).getValue());
+        Assertions.assertEquals(0.5, hitRateMeasurements.get(0).getValue());
+    }
+
     @Test
     public void testHTTPJsonResponse400() {
         // Prepare
@@ -374,7 +417,7 @@ class HTTPSourceTest {
         final int testMaxPendingRequests = 1;
         final int testThreadCount = 1;
         final int clientTimeoutInMillis = 100;
-        final int serverTimeoutInMillis = (testMaxPendingRequests + testThreadCount + 1) * clientTimeoutInMillis;
+        final int serverTimeoutInMillis = (testMaxPendingRequests + 1) * clientTimeoutInMillis;
         when(sourceConfig.getRequestTimeoutInMillis()).thenReturn(serverTimeoutInMillis);
         when(sourceConfig.getMaxPendingRequests()).thenReturn(testMaxPendingRequests);
         when(sourceConfig.getThreadCount()).thenReturn(testThreadCount);
@@ -394,10 +437,10 @@ class HTTPSourceTest {
         WebClient.of().execute(testRequestHeaders, testHttpData).aggregate()
                 .whenComplete((i, ex) -> assertSecureResponseWithStatusCode(i, HttpStatus.OK)).join();
 
-        // Send requests to throttle the server when buffer is full
-        // Set the client timeout to be less than source serverTimeoutInMillis / (testMaxPendingRequests + testThreadCount)
+        // Send requests which stay pending on the source while the buffer is full
+        // Set the client timeout to be less than source serverTimeoutInMillis / (testMaxPendingRequests + 1)
         WebClient testWebClient = WebClient.builder().responseTimeoutMillis(clientTimeoutInMillis).build();
-        for (int i = 0; i < testMaxPendingRequests + testThreadCount; i++) {
+        for (int i = 0; i < testMaxPendingRequests; i++) {
             CompletionException actualException = Assertions.assertThrows(
                     CompletionException.class, () -> testWebClient.execute(testRequestHeaders, testHttpData).aggregate().join());
             assertThat(actualException.getCause(), instanceOf(ResponseTimeoutException.class));
@@ -407,7 +450,7 @@ class HTTPSourceTest {
         testWebClient.execute(testRequestHeaders, testHttpData).aggregate()
                 .whenComplete((i, ex) -> assertSecureResponseWithStatusCode(i, HttpStatus.TOO_MANY_REQUESTS)).join();
 
-        // Wait until source server timeout a request processing thread
+        // Wait until the source times out the pending requests
         Thread.sleep(serverTimeoutInMillis);
         // New request should timeout instead of being rejected
         CompletionException actualException = Assertions.assertThrows(
@@ -416,7 +459,7 @@ class HTTPSourceTest {
         // verify metrics
         final Measurement requestReceivedCount = MetricsTestUtil.getMeasurementFromList(
                 requestsReceivedMeasurements, Statistic.COUNT);
-        Assertions.assertEquals(testMaxPendingRequests + testThreadCount + 2, requestReceivedCount.getValue());
+        Assertions.assertEquals(testMaxPendingRequests + 2, requestReceivedCount.getValue());
         final Measurement successRequestsCount = MetricsTestUtil.getMeasurementFromList(
                 successRequestsMeasurements, Statistic.COUNT);
         Assertions.assertEquals(1.0, successRequestsCount.getValue());
@@ -425,6 +468,38 @@ class HTTPSourceTest {
         Assertions.assertEquals(1.0, rejectedRequestsCount.getValue());
     }
 
+    @Test
+    public void testHTTPJsonResponse429WithRetryAfterWhenBufferIsSlowBelowFullCapacity() {
+        // Prepare
+        when(sourceConfig.getMaxBufferUsage()).thenReturn(HTTPSourceConfig.DEFAULT_MAX_BUFFER_USAGE);
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> busyBuffer = mock(Buffer.class);
+        when(busyBuffer.getCapacityUsage()).thenReturn(0.95);
+        when(busyBuffer.getWriteLatencyInMillis()).thenReturn(6_500L);
+        HTTPSourceUnderTest = new HTTPSource(sourceConfig, pluginMetrics, pluginFactory);
+        HTTPSourceUnderTest.start(busyBuffer);
+        refreshMeasurements();
+
+        // When
+        final AggregatedHttpResponse response = WebClient.of().execute(RequestHeaders.builder()
+                        .scheme(SessionProtocol.HTTP)
+                        .authority("127.0.0.1:2021")
+                        .method(HttpMethod.POST)
+                        .path("/log/ingest")
+                        .contentType(MediaType.JSON_UTF_8)
+                        .build(),
+                HttpData.ofUtf8("[{\"log\": \"somelog\"}]"))
+                .aggregate()
+                .join();
+
+        // Then
+        assertSecureResponseWithStatusCode(response, HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.headers().get(HttpHeaderNames.RETRY_AFTER), equalTo("7"));
+        final Measurement rejectedRequestsCount = MetricsTestUtil.getMeasurementFromList(
+                rejectedRequestsMeasurements, Statistic.COUNT);
+        Assertions.assertEquals(1.0, rejectedRequestsCount.getValue());
+    }
+
     @Test
     public void testServerStartCertFileSuccess() throws IOException {
         try (MockedStatic<Server> armeriaServerMock = Mockito.mockStatic(Server.class)) {
@@ -10,17 +10,23 @@ import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.log.Log;
 import com.amazon.dataprepper.model.record.Record;
 import com.amazon.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.JsonCodec;
+import com.amazon.dataprepper.plugins.source.loghttp.codec.NdJsonCodec;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestWriter;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.RequestHeadersBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
@@ -28,21 +34,34 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.stubbing.Answer;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Supplier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -52,6 +71,8 @@ class LogHTTPServiceTest {
     private static final ObjectMapper mapper = new ObjectMapper();
     private static final int TEST_BUFFER_CAPACITY = 3;
     private static final int TEST_TIMEOUT_IN_MILLIS = 500;
+    private static final int TEST_BUFFER_WRITE_BATCH_SIZE = 1000;
+    private static final int TEST_BATCH_READ_TIMEOUT_IN_MILLIS = 5000;
 
     @Mock
     private PluginMetrics pluginMetrics;
@@ -80,6 +101,8 @@ class LogHTTPServiceTest {
     @Mock
     private Timer requestProcessDuration;
 
+    private Buffer<Record<Log>> blockingBuffer;
+
     private LogHTTPService logHTTPService;
 
     @BeforeEach
@@ -92,17 +115,10 @@ class LogHTTPServiceTest {
         when(pluginMetrics.counter(RequestExceptionHandler.INTERNAL_SERVER_ERROR)).thenReturn(internalServerErrorCounter);
         when(pluginMetrics.summary(LogHTTPService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
         when(pluginMetrics.timer(LogHTTPService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
-        when(requestProcessDuration.record(ArgumentMatchers.<Supplier<HttpResponse>>any())).thenAnswer(
-                (Answer<HttpResponse>) invocation -> {
-                    final Object[] args = invocation.getArguments();
-                    @SuppressWarnings("unchecked")
-                    final Supplier<HttpResponse> supplier = (Supplier<HttpResponse>) args[0];
-                    return supplier.get();
-                }
-        );
 
-        Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
-        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, pluginMetrics);
+        blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
+        logHTTPService = new LogHTTPService(
+                TEST_TIMEOUT_IN_MILLIS, TEST_BUFFER_WRITE_BATCH_SIZE, new JsonCodec(), blockingBuffer, pluginMetrics);
     }
 
     @Test
@@ -111,7 +127,7 @@ class LogHTTPServiceTest {
         AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(2);
 
         // When
-        AggregatedHttpResponse postResponse = logHTTPService.doPost(testRequest).aggregate().get();
+        AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
 
         // Then
         assertEquals(HttpStatus.OK, postResponse.status());
@@ -123,7 +139,7 @@ class LogHTTPServiceTest {
         final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
         verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
         assertEquals(testRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
-        verify(requestProcessDuration, times(1)).record(ArgumentMatchers.<Supplier<HttpResponse>>any());
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
     }
 
     @Test
@@ -132,7 +148,7 @@ class LogHTTPServiceTest {
         AggregatedHttpRequest testBadRequest = generateBadHTTPRequest();
 
         // When
-        AggregatedHttpResponse postResponse = logHTTPService.doPost(testBadRequest).aggregate().get();
+        AggregatedHttpResponse postResponse = post(testBadRequest.toHttpRequest()).aggregate().get();
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
@@ -144,7 +160,7 @@ class LogHTTPServiceTest {
         final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
         verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
         assertEquals(testBadRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
-        verify(requestProcessDuration, times(1)).record(ArgumentMatchers.<Supplier<HttpResponse>>any());
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
     }
 
     @Test
@@ -153,7 +169,7 @@ class LogHTTPServiceTest {
         AggregatedHttpRequest testTooLargeRequest = generateRandomValidHTTPRequest(TEST_BUFFER_CAPACITY + 1);
 
         // When
-        AggregatedHttpResponse postResponse = logHTTPService.doPost(testTooLargeRequest).aggregate().get();
+        AggregatedHttpResponse postResponse = post(testTooLargeRequest.toHttpRequest()).aggregate().get();
 
         // Then
         assertEquals(HttpStatus.REQUEST_ENTITY_TOO_LARGE, postResponse.status());
@@ -165,19 +181,19 @@ class LogHTTPServiceTest {
         final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
         verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
         assertEquals(testTooLargeRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
-        verify(requestProcessDuration, times(1)).record(ArgumentMatchers.<Supplier<HttpResponse>>any());
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
     }
 
     @Test
     public void testHTTPRequestTimeout() throws InterruptedException, ExecutionException, JsonProcessingException {
         // Prepare
         AggregatedHttpRequest populateDataRequest = generateRandomValidHTTPRequest(3);
-        AggregatedHttpResponse goodResponse = logHTTPService.doPost(populateDataRequest).aggregate().get();
+        AggregatedHttpResponse goodResponse = post(populateDataRequest.toHttpRequest()).aggregate().get();
         assertEquals(HttpStatus.OK, goodResponse.status());
         AggregatedHttpRequest timeoutRequest = generateRandomValidHTTPRequest(2);
 
         // When
-        AggregatedHttpResponse timeoutPostResponse = logHTTPService.doPost(timeoutRequest).aggregate().get();
+        AggregatedHttpResponse timeoutPostResponse = post(timeoutRequest.toHttpRequest()).aggregate().get();
 
         // Then
         assertEquals(HttpStatus.REQUEST_TIMEOUT, timeoutPostResponse.status());
@@ -189,7 +205,293 @@ class LogHTTPServiceTest {
         final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
         verify(payloadSizeSummary, times(2)).record(payloadLengthCaptor.capture());
         assertEquals(timeoutRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
-        verify(requestProcessDuration, times(2)).record(ArgumentMatchers.<Supplier<HttpResponse>>any());
+        verify(requestProcessDuration, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testHTTPRequestWithGzipContentEncodingSuccess() throws Exception {
+        // Prepare
+        final String content = mapper.writeValueAsString(Arrays.asList(
+                Collections.singletonMap("log", "first"), Collections.singletonMap("log", "second")));
+        final AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON, "gzip", gzip(content));
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        assertEquals(Arrays.asList("first", "second"), readLogsFromBuffer());
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPRequestWithNdJsonContentTypeSuccess() throws Exception {
+        // Prepare
+        final AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.parse("application/x-ndjson"), null,
+                "{\"log\":\"first\"}\n{\"log\":\"second\"}\n".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        assertEquals(Arrays.asList("first", "second"), readLogsFromBuffer());
+    }
+
+    @Test
+    public void testHTTPRequestWithGzipNdJsonAndDefaultCodecSuccess() throws Exception {
+        // Prepare
+        logHTTPService = new LogHTTPService(
+                TEST_TIMEOUT_IN_MILLIS, TEST_BUFFER_WRITE_BATCH_SIZE, new NdJsonCodec(), blockingBuffer, pluginMetrics);
+        final AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.PLAIN_TEXT_UTF_8, "gzip",
+                gzip("{\"log\":\"first\"}\n{\"log\":\"second\"}"));
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        assertEquals(Arrays.asList("first", "second"), readLogsFromBuffer());
+    }
+
+    @Test
+    public void testHTTPRequestWithJsonContentTypeAndNdJsonDefaultCodecSuccess() throws Exception {
+        // Prepare
+        logHTTPService = new LogHTTPService(
+                TEST_TIMEOUT_IN_MILLIS, TEST_BUFFER_WRITE_BATCH_SIZE, new NdJsonCodec(), blockingBuffer, pluginMetrics);
+        final AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(2);
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        assertEquals(2, readLogsFromBuffer().size());
+    }
+
+    @Test
+    public void testHTTPRequestWithUnsupportedContentEncodingBadRequest() throws Exception {
+        // Prepare
+        final AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON, "br",
+                "[{\"log\":\"first\"}]".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        verify(badRequestsCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestWithCorruptGzipContentBadRequest() throws Exception {
+        // Prepare
+        final AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON, "gzip",
+                "[{\"log\":\"first\"}]".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        verify(badRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPRequestWritesBufferInBatches() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        when(buffer.writeAllAsync(anyCollection(), anyInt())).thenReturn(CompletableFuture.completedFuture(null));
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, 2, new JsonCodec(), buffer, pluginMetrics);
+        final AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(5);
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<Record<Log>>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(buffer, times(3)).writeAllAsync(recordsCaptor.capture(), eq(TEST_TIMEOUT_IN_MILLIS));
+        assertEquals(Arrays.asList(2, 2, 1), recordsCaptor.getAllValues().stream()
+                .map(Collection::size)
+                .collect(Collectors.toList()));
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPRequestChainsBatchWritesWithoutWaiting() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        final CompletableFuture<Void> firstWrite = new CompletableFuture<>();
+        when(buffer.writeAllAsync(anyCollection(), anyInt()))
+                .thenReturn(firstWrite)
+                .thenReturn(CompletableFuture.completedFuture(null));
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, 2, new JsonCodec(), buffer, pluginMetrics);
+
+        // When
+        final CompletableFuture<AggregatedHttpResponse> response = post(
+                generateRandomValidHTTPRequest(5).toHttpRequest()).aggregate();
+
+        // Then
+        verify(buffer, timeout(TEST_TIMEOUT_IN_MILLIS).times(1)).writeAllAsync(anyCollection(), anyInt());
+        assertFalse(response.isDone());
+        firstWrite.complete(null);
+        assertEquals(HttpStatus.OK, response.get().status());
+        verify(buffer, times(3)).writeAllAsync(anyCollection(), eq(TEST_TIMEOUT_IN_MILLIS));
+    }
+
+    @Test
+    public void testHTTPRequestCompletesWhenBufferAcceptsRecords() throws Exception {
+        // Prepare
+        logHTTPService = new LogHTTPService(TEST_BATCH_READ_TIMEOUT_IN_MILLIS, TEST_BUFFER_WRITE_BATCH_SIZE,
+                new JsonCodec(), blockingBuffer, pluginMetrics);
+        final AggregatedHttpRequest fillRequest = generateRandomValidHTTPRequest(TEST_BUFFER_CAPACITY);
+        assertEquals(HttpStatus.OK, post(fillRequest.toHttpRequest()).aggregate().get().status());
+
+        // When
+        final CompletableFuture<AggregatedHttpResponse> waitingResponse = post(
+                generateRandomValidHTTPRequest(2).toHttpRequest()).aggregate();
+
+        // Then
+        assertFalse(waitingResponse.isDone());
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getValue());
+        assertEquals(HttpStatus.OK, waitingResponse.get().status());
+        verify(successRequestsCounter, times(2)).increment();
+        verify(requestProcessDuration, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testHTTPRequestWithChunkedContentSuccess() throws Exception {
+        // Prepare
+        final HttpRequestWriter testRequest = HttpRequest.streaming(RequestHeaders.builder()
+                .contentType(MediaType.JSON)
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build());
+        testRequest.write(HttpData.ofUtf8("[{\"log\":\"fir"));
+        testRequest.write(HttpData.ofUtf8("st\"},{\"lo"));
+        testRequest.write(HttpData.ofUtf8("g\":\"second\"}]"));
+        testRequest.close();
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        assertEquals(Arrays.asList("first", "second"), readLogsFromBuffer());
+        final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
+        verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
+        assertEquals(34, Math.round(payloadLengthCaptor.getValue()));
+    }
+
+    @Test
+    public void testHTTPRequestWithMalformedContentKeepsWrittenBatches() throws Exception {
+        // Prepare
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, 1, new JsonCodec(), blockingBuffer, pluginMetrics);
+        final AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON, null,
+                "[{\"log\":\"first\"},{".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        assertEquals(Collections.singletonList("first"), readLogsFromBuffer());
+        verify(badRequestsCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestWithContentAfterJsonArrayBadRequest() throws Exception {
+        // Prepare
+        final AggregatedHttpRequest testRequest = generateHTTPRequest(MediaType.JSON, null,
+                "[{\"log\":\"first\"}] {\"log\":\"second\"}".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest.toHttpRequest()).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, postResponse.status());
+        verify(badRequestsCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestWithChunkedGzipContentSuccess() throws Exception {
+        // Prepare
+        final byte[] content = gzip("[{\"log\":\"first\"},{\"log\":\"second\"}]");
+        final HttpRequestWriter testRequest = HttpRequest.streaming(RequestHeaders.builder()
+                .contentType(MediaType.JSON)
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .add(HttpHeaderNames.CONTENT_ENCODING, "gzip")
+                .build());
+        for (int offset = 0; offset < content.length; offset += 5) {
+            testRequest.write(HttpData.wrap(Arrays.copyOfRange(content, offset, Math.min(offset + 5, content.length))));
+        }
+        testRequest.close();
+
+        // When
+        final AggregatedHttpResponse postResponse = post(testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        assertEquals(Arrays.asList("first", "second"), readLogsFromBuffer());
+    }
+
+    @Test
+    public void testGetPendingRequestsCountsRequestsUntilTheyComplete() throws Exception {
+        // Prepare
+        final HttpRequestWriter testRequest = HttpRequest.streaming(RequestHeaders.builder()
+                .contentType(MediaType.JSON)
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build());
+        testRequest.write(HttpData.ofUtf8("[{\"log\":\"first\"}"));
+
+        // When
+        final CompletableFuture<AggregatedHttpResponse> response = post(testRequest).aggregate();
+
+        // Then
+        assertEquals(1, logHTTPService.getPendingRequests());
+        testRequest.write(HttpData.ofUtf8("]"));
+        testRequest.close();
+        assertEquals(HttpStatus.OK, response.get().status());
+        assertEquals(0, logHTTPService.getPendingRequests());
+    }
+
+    private HttpResponse post(final HttpRequest httpRequest) {
+        return logHTTPService.doPost(ServiceRequestContext.of(httpRequest), httpRequest);
+    }
+
+    private List<String> readLogsFromBuffer() {
+        return blockingBuffer.read(TEST_TIMEOUT_IN_MILLIS).getKey().stream()
+                .map(record -> record.getData().get("log", String.class))
+                .collect(Collectors.toList());
+    }
+
+    private static byte[] gzip(final String content) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private AggregatedHttpRequest generateHTTPRequest(final MediaType contentType, final String contentEncoding,
+                                                      final byte[] content) throws ExecutionException, InterruptedException {
+        final RequestHeadersBuilder requestHeadersBuilder = RequestHeaders.builder()
+                .contentType(contentType)
+                .method(HttpMethod.POST)
+                .path("/log/ingest");
+        if (contentEncoding != null) {
+            requestHeadersBuilder.add(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
+        }
+        return HttpRequest.of(requestHeadersBuilder.build(), HttpData.wrap(content)).aggregate().get();
     }
 
     private AggregatedHttpRequest generateRandomValidHTTPRequest(int numJson) throws JsonProcessingException,
@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.source.loghttp;
 
 import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
@@ -63,6 +64,25 @@ class LogThrottlingRejectHandlerTest {
         // Then
         assertEquals(HttpStatus.TOO_MANY_REQUESTS, aggregatedHttpResponse.status());
         assertTrue(aggregatedHttpResponse.contentUtf8().contains(String.format("max_pending_requests:%d", TEST_MAX_PENDING_REQUEST)));
+        assertEquals("1", aggregatedHttpResponse.headers().get(HttpHeaderNames.RETRY_AFTER));
         verify(rejectedRequestsCounter, times(1)).increment();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testHandleRejectedByBuffer() throws Exception {
+        // Prepare
+        objectUnderTest = new LogThrottlingRejectHandler(TEST_MAX_PENDING_REQUEST, pluginMetrics);
+        when(serviceRequestContext.attr(LogThrottlingStrategy.REJECTION))
+                .thenReturn(new LogThrottlingStrategy.Rejection("The buffer is full", 5));
+
+        // When
+        HttpResponse httpResponse = objectUnderTest.handleRejected(service, serviceRequestContext, httpRequest, null);
+        AggregatedHttpResponse aggregatedHttpResponse = httpResponse.aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, aggregatedHttpResponse.status());
+        assertEquals("The buffer is full", aggregatedHttpResponse.contentUtf8());
+        assertEquals("5", aggregatedHttpResponse.headers().get(HttpHeaderNames.RETRY_AFTER));
+        verify(rejectedRequestsCounter, times(1)).increment();
+    }
+}
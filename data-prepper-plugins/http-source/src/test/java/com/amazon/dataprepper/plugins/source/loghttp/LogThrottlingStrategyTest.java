@@ -5,12 +5,14 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp;
 
+import com.amazon.dataprepper.model.buffer.Buffer;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.util.UnmodifiableFuture;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -20,10 +22,17 @@ import java.util.concurrent.LinkedBlockingQueue;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class LogThrottlingStrategyTest {
     private static final int TEST_MAX_PENDING_REQUEST = 1;
+    private static final double TEST_MAX_BUFFER_USAGE = 0.8;
+    private static final int TEST_BUFFER_WRITE_TIMEOUT = 2_000;
     private BlockingQueue<Runnable> testQueue;
 
     @Mock
@@ -32,6 +41,9 @@ class LogThrottlingStrategyTest {
     @Mock
     private HttpRequest httpRequest;
 
+    @Mock
+    private Buffer<?> buffer;
+
     private LogThrottlingStrategy objectUnderTest;
 
     @BeforeEach
@@ -65,4 +77,86 @@ class LogThrottlingStrategyTest {
         // Then
         assertEquals(UnmodifiableFuture.completedFuture(false), completionStage);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testAcceptSuccessWhenBufferHasCapacity() {
+        // Prepare
+        objectUnderTest = createObjectUnderTestWithBuffer();
+        when(buffer.getCapacityUsage()).thenReturn(0.5);
+        when(buffer.getWriteLatencyInMillis()).thenReturn(5_000L);
+
+        // When
+        CompletionStage<Boolean> completionStage = objectUnderTest.accept(serviceRequestContext, httpRequest);
+
+        // Then
+        assertEquals(UnmodifiableFuture.completedFuture(true), completionStage);
+    }
+
+    @Test
+    public void testAcceptSuccessWhenBufferWritesAreFast() {
+        // Prepare
+        objectUnderTest = createObjectUnderTestWithBuffer();
+        when(buffer.getCapacityUsage()).thenReturn(0.9);
+        when(buffer.getWriteLatencyInMillis()).thenReturn(999L);
+
+        // When
+        CompletionStage<Boolean> completionStage = objectUnderTest.accept(serviceRequestContext, httpRequest);
+
+        // Then
+        assertEquals(UnmodifiableFuture.completedFuture(true), completionStage);
+        verify(serviceRequestContext, never()).setAttr(eq(LogThrottlingStrategy.REJECTION), any());
+    }
+
+    @Test
+    public void testAcceptSuccessWhenBufferDoesNotTrackUsage() {
+        // Prepare
+        objectUnderTest = new LogThrottlingStrategy(TEST_MAX_PENDING_REQUEST, testQueue::size, buffer, 0.0, 0);
+        when(buffer.getCapacityUsage()).thenReturn(-1.0);
+        when(buffer.getWriteLatencyInMillis()).thenReturn(-1L);
+
+        // When
+        CompletionStage<Boolean> completionStage = objectUnderTest.accept(serviceRequestContext, httpRequest);
+
+        // Then
+        assertEquals(UnmodifiableFuture.completedFuture(true), completionStage);
+    }
+
+    @Test
+    public void testAcceptFailWhenBufferIsFullAndSlow() {
+        // Prepare
+        objectUnderTest = createObjectUnderTestWithBuffer();
+        when(buffer.getCapacityUsage()).thenReturn(0.8);
+        when(buffer.getWriteLatencyInMillis()).thenReturn(2_500L);
+
+        // When
+        CompletionStage<Boolean> completionStage = objectUnderTest.accept(serviceRequestContext, httpRequest);
+
+        // Then
+        assertEquals(UnmodifiableFuture.completedFuture(false), completionStage);
+        final ArgumentCaptor<LogThrottlingStrategy.Rejection> rejectionCaptor =
+                ArgumentCaptor.forClass(LogThrottlingStrategy.Rejection.class);
+        verify(serviceRequestContext).setAttr(eq(LogThrottlingStrategy.REJECTION), rejectionCaptor.capture());
+        assertEquals(3, rejectionCaptor.getValue().getRetryAfterSeconds());
+        assertEquals("The buffer is 80% full and writes to it take 2500ms. Please retry later",
+                rejectionCaptor.getValue().getMessage());
+    }
+
+    @Test
+    public void testAcceptFailWhenWorkQueueIsFullDoesNotCheckBuffer() {
+        // Prepare
+        objectUnderTest = createObjectUnderTestWithBuffer();
+        testQueue.add(() -> { });
+
+        // When
+        CompletionStage<Boolean> completionStage = objectUnderTest.accept(serviceRequestContext, httpRequest);
+
+        // Then
+        assertEquals(UnmodifiableFuture.completedFuture(false), completionStage);
+        verify(buffer, never()).getCapacityUsage();
+    }
+
+    private LogThrottlingStrategy createObjectUnderTestWithBuffer() {
+        return new LogThrottlingStrategy(TEST_MAX_PENDING_REQUEST, testQueue::size, buffer, TEST_MAX_BUFFER_USAGE,
+                TEST_BUFFER_WRITE_TIMEOUT);
+    }
+}
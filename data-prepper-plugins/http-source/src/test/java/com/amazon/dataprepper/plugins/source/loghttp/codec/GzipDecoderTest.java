@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GzipDecoderTest {
+    private static final String CONTENT = "{\"a\":\"b\"}\n{\"c\":\"d\"}\n";
+
+    @Test
+    public void testDecodeInChunksOfEverySizeSuccess() throws IOException {
+        final byte[] compressed = gzip(CONTENT);
+        for (int chunkSize = 1; chunkSize <= compressed.length; chunkSize++) {
+            assertEquals(CONTENT, decode(compressed, chunkSize));
+        }
+    }
+
+    @Test
+    public void testDecodeConcatenatedMembersSuccess() throws IOException {
+        final ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        concatenated.write(gzip("{\"a\":\"b\"}\n"));
+        concatenated.write(gzip("{\"c\":\"d\"}\n"));
+
+        assertEquals(CONTENT, decode(concatenated.toByteArray(), 3));
+    }
+
+    @Test
+    public void testDecodeHeaderWithOptionalFieldsSuccess() throws IOException {
+        final byte[] compressed = gzip(CONTENT);
+        final ByteArrayOutputStream withOptionalFields = new ByteArrayOutputStream();
+        // FHCRC | FEXTRA | FNAME | FCOMMENT
+        withOptionalFields.write(new byte[] {0x1f, (byte) 0x8b, 8, 2 | 4 | 8 | 16, 0, 0, 0, 0, 0, 0});
+        withOptionalFields.write(new byte[] {3, 0, 'x', 'y', 'z'});
+        withOptionalFields.write("name\0comment\0".getBytes(StandardCharsets.UTF_8));
+        withOptionalFields.write(new byte[] {0, 0});
+        withOptionalFields.write(compressed, 10, compressed.length - 10);
+
+        assertEquals(CONTENT, decode(withOptionalFields.toByteArray(), 1));
+    }
+
+    @Test
+    public void testDecodeNonGzipContentFailure() {
+        assertThrows(ZipException.class, () -> decode(CONTENT.getBytes(StandardCharsets.UTF_8), 4));
+    }
+
+    @Test
+    public void testDecodeCorruptTrailerFailure() throws IOException {
+        final byte[] compressed = gzip(CONTENT);
+        compressed[compressed.length - 5] ^= 1;
+
+        assertThrows(ZipException.class, () -> decode(compressed, 4));
+    }
+
+    @Test
+    public void testDecodeTruncatedContentFailure() throws IOException {
+        final byte[] compressed = gzip(CONTENT);
+
+        assertThrows(EOFException.class, () -> decode(Arrays.copyOf(compressed, compressed.length - 3), 4));
+    }
+
+    @Test
+    public void testDecodeEmptyContentFailure() {
+        assertThrows(EOFException.class, () -> decode(new byte[0], 4));
+    }
+
+    private static String decode(final byte[] compressed, final int chunkSize) throws IOException {
+        final StringBuilder decompressed = new StringBuilder();
+        try (final GzipDecoder objectUnderTest = new GzipDecoder(new StringDecoder(decompressed))) {
+            for (int offset = 0; offset < compressed.length; offset += chunkSize) {
+                objectUnderTest.decode(compressed, offset, Math.min(chunkSize, compressed.length - offset));
+            }
+            objectUnderTest.endOfContent();
+        }
+        return decompressed.toString();
+    }
+
+    private static byte[] gzip(final String content) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static class StringDecoder implements ContentDecoder {
+        private final StringBuilder decoded;
+
+        StringDecoder(final StringBuilder decoded) {
+            this.decoded = decoded;
+        }
+
+        @Override
+        public void decode(final byte[] bytes, final int offset, final int length) {
+            decoded.append(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void endOfContent() {
+        }
+    }
+}
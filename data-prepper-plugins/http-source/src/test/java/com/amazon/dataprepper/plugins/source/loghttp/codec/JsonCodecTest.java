@@ -5,13 +5,20 @@
 
 package com.amazon.dataprepper.plugins.source.loghttp.codec;
 
+import com.amazon.dataprepper.model.event.StringInterner;
+import com.amazon.dataprepper.model.log.Log;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class JsonCodecTest {
@@ -19,16 +26,62 @@ class JsonCodecTest {
     private final HttpData badTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
     private final HttpData badTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}{\"c\":\"d\"}");
     private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private final HttpData badTestDataNonObjectElement = HttpData.ofUtf8("[{\"a\":\"b\"}, 1]");
+    private final HttpData badTestDataUnclosedArray = HttpData.ofUtf8("[{\"a\":\"b\"}");
+    private final HttpData badTestDataContentAfterArray = HttpData.ofUtf8("[{\"a\":\"b\"}] {\"c\":\"d\"}");
     private final JsonCodec objectUnderTest = new JsonCodec();
 
     @Test
     public void testParseSuccess() throws IOException {
         // When
-        List<String> res = objectUnderTest.parse(goodTestData);
+        List<Log> res = objectUnderTest.parse(goodTestData);
 
         // Then
         assertEquals(2, res.size());
-        assertEquals("{\"a\":\"b\"}", res.get(0));
+        assertEquals("{\"a\":\"b\"}", res.get(0).toJsonString());
+        assertEquals("d", res.get(1).get("c", String.class));
+    }
+
+    @Test
+    public void testDecodeContentSplitAtEveryPositionSuccess() throws IOException {
+        final byte[] content = ("[{\"a\":\"b\",\"c\":[1,12345678901,123456789012345678901,1.5,true,false,null,{}]}," +
+                "{\"d\":\"e\"}]").getBytes(StandardCharsets.UTF_8);
+        for (int split = 0; split <= content.length; split++) {
+            // When
+            final List<Log> logs = new ArrayList<>();
+            final ContentDecoder decoder = objectUnderTest.newDecoder(logs::add);
+            decoder.decode(content, 0, split);
+            decoder.decode(content, split, content.length - split);
+            decoder.endOfContent();
+
+            // Then
+            assertEquals(2, logs.size());
+            assertEquals("{\"a\":\"b\",\"c\":[1,12345678901,123456789012345678901,1.5,true,false,null,{}]}",
+                    logs.get(0).toJsonString());
+            assertEquals("e", logs.get(1).get("d", String.class));
+        }
+    }
+
+    @Test
+    public void testParseWithStringInternerSharesValuesOfValueKeys() throws IOException {
+        // Given
+        final StringInterner stringInterner = new StringInterner(10, Collections.singletonList("a"));
+        final JsonCodec internerCodec = new JsonCodec(stringInterner);
+
+        // When
+        final List<Log> first = internerCodec.parse(HttpData.ofUtf8("[{\"a\":\"b\",\"c\":\"d\",\"e\":[\"b\"]}]"));
+        final List<Log> second = internerCodec.parse(HttpData.ofUtf8("[{\"a\":\"b\",\"c\":\"d\",\"e\":[\"b\"]}]"));
+
+        // Then
+        assertSame(first.get(0).getString("a"), second.get(0).getString("a"));
+        assertNotSame(first.get(0).getString("c"), second.get(0).getString("c"));
+        assertNotSame(first.get(0).getString("e/0"), second.get(0).getString("e/0"));
+        assertEquals(1, stringInterner.size());
+    }
+
+    @Test
+    public void testParseEmptyArraySuccess() throws IOException {
+        assertEquals(0, objectUnderTest.parse(HttpData.ofUtf8("[]")).size());
     }
 
     @Test
@@ -45,4 +98,29 @@ class JsonCodecTest {
     public void testParseNonJsonFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
     }
+
+    @Test
+    public void testParseNonObjectElementFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonObjectElement));
+    }
+
+    @Test
+    public void testParseUnclosedArrayFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataUnclosedArray));
+    }
+
+    @Test
+    public void testParseEmptyContentFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8("")));
+    }
+
+    @Test
+    public void testParseUnclosedElementFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8("[{\"a\":")));
+    }
+
+    @Test
+    public void testParseContentAfterArrayFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataContentAfterArray));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.source.loghttp.codec;
+
+import com.amazon.dataprepper.model.log.Log;
+import com.linecorp.armeria.common.HttpData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NdJsonCodecTest {
+    private final HttpData goodTestData = HttpData.ofUtf8("{\"a\":\"b\"}\n\n{\"c\":\"d\"}\r\n");
+    private final HttpData badTestDataJsonArray = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}]");
+    private final HttpData badTestDataNonObjectLine = HttpData.ofUtf8("{\"a\":\"b\"}\n1\n");
+    private final HttpData badTestDataTruncatedLine = HttpData.ofUtf8("{\"a\":\"b\"}\n{\"c\":");
+    private final NdJsonCodec objectUnderTest = new NdJsonCodec();
+
+    @Test
+    public void testParseSuccess() throws IOException {
+        // When
+        List<Log> res = objectUnderTest.parse(goodTestData);
+
+        // Then
+        assertEquals(2, res.size());
+        assertEquals("{\"a\":\"b\"}", res.get(0).toJsonString());
+        assertEquals("d", res.get(1).get("c", String.class));
+    }
+
+    @Test
+    public void testParseEmptyContentSuccess() throws IOException {
+        assertEquals(0, objectUnderTest.parse(HttpData.ofUtf8("")).size());
+    }
+
+    @Test
+    public void testParsePassesLogsBeforeFailure() {
+        final List<Log> logs = new ArrayList<>();
+
+        final ContentDecoder decoder = objectUnderTest.newDecoder(logs::add);
+
+        assertThrows(IOException.class, () -> {
+            decoder.decode(badTestDataTruncatedLine.array(), 0, badTestDataTruncatedLine.length());
+            decoder.endOfContent();
+        });
+        assertEquals(1, logs.size());
+    }
+
+    @Test
+    public void testParseJsonArrayFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataJsonArray));
+    }
+
+    @Test
+    public void testParseNonObjectLineFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonObjectLine));
+    }
+}
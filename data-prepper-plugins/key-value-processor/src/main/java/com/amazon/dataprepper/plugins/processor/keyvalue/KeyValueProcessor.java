@@ -9,6 +9,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import com.amazon.dataprepper.model.event.Event;
+import com.amazon.dataprepper.model.event.EventKey;
 import com.amazon.dataprepper.model.processor.AbstractProcessor;
 import com.amazon.dataprepper.model.processor.Processor;
 import com.amazon.dataprepper.model.record.Record;
@@ -32,6 +33,8 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
 
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
+    private final EventKey sourceKey;
+    private final EventKey destinationKey;
 
     @DataPrepperPluginConstructor
     public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig) {
@@ -87,6 +90,9 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         if(!validateRegex(keyValueProcessorConfig.getDeleteValueRegex())) {
             throw new PatternSyntaxException("delete_value_regex is not a valid regex string", keyValueProcessorConfig.getDeleteValueRegex(), -1);
         }
+
+        sourceKey = EventKey.of(keyValueProcessorConfig.getSource());
+        destinationKey = EventKey.of(keyValueProcessorConfig.getDestination());
     }
 
     private String buildRegexFromCharacters(String s) {
@@ -124,7 +130,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             final Map<String, Object> parsedMap = new HashMap<>();
             final Event recordEvent = record.getData();
 
-            final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
+            final String groupsRaw = recordEvent.getString(sourceKey);
             final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
             for(final String group : groups) {
                 final String[] terms = keyValueDelimiterPattern.split(group, 2);
@@ -153,7 +159,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
                 addKeyValueToMap(parsedMap, key, value);
             }
 
-            recordEvent.put(keyValueProcessorConfig.getDestination(), parsedMap);
+            recordEvent.put(destinationKey, parsedMap);
         }
 
         return records;
@@ -33,6 +33,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
@@ -117,7 +118,13 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
     }
     BulkRequest bulkRequest = bulkRequestSupplier.get();
     for (final Record<Object> record : records) {
-      final String document = getDocument(record.getData());
+      // Plan the bulk boundary from the estimated document size, before the document is serialized
+      final long estimatedBytesBeforeAdd = bulkRequest.estimatedSizeInBytes() + estimateSizeInBytes(record.getData());
+      if (bulkSize >= 0 && estimatedBytesBeforeAdd >= bulkSize && bulkRequest.numberOfActions() > 0) {
+        flushBatch(bulkRequest);
+        bulkRequest = bulkRequestSupplier.get();
+      }
+      final byte[] document = getDocument(record.getData());
       final IndexRequest indexRequest = new IndexRequest().source(document, XContentType.JSON);
       try {
         final Map<String, Object> source = getMapFromJson(document);
@@ -125,11 +132,6 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
         if (docId != null) {
           indexRequest.id(docId);
         }
-        final long estimatedBytesBeforeAdd = bulkRequest.estimatedSizeInBytes() + calcEstimatedSizeInBytes(indexRequest);
-        if (bulkSize >= 0 && estimatedBytesBeforeAdd >= bulkSize && bulkRequest.numberOfActions() > 0) {
-          flushBatch(bulkRequest);
-          bulkRequest = bulkRequestSupplier.get();
-        }
         bulkRequest.add(indexRequest);
       } catch (final IOException e) {
         throw new RuntimeException(e.getMessage(), e);
@@ -145,19 +147,27 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
 
   // Temporary function to support both trace and log ingestion pipelines.
   // TODO: This function should be removed with the completion of: https://github.com/opensearch-project/data-prepper/issues/546
-  private String getDocument(final Object object) {
+  private byte[] getDocument(final Object object) {
     if (object instanceof String) {
-      return (String) object;
+      return ((String) object).getBytes(StandardCharsets.UTF_8);
     } else if (object instanceof Event) {
-      return ((Event) object).toJsonString();
+      return ((Event) object).toJsonBytes();
     } else {
       throw new RuntimeException("Invalid record type. OpenSearch sink only supports String and Events");
     }
   }
 
-  private long calcEstimatedSizeInBytes(final IndexRequest indexRequest) {
+  private long estimateSizeInBytes(final Object object) {
     // From BulkRequest#internalAdd(IndexRequest request)
-    return (indexRequest.source() != null ? indexRequest.source().length() : 0) + REQUEST_OVERHEAD;
+    final long documentSize;
+    if (object instanceof String) {
+      documentSize = ((String) object).length();
+    } else if (object instanceof Event) {
+      documentSize = ((Event) object).estimatedSizeInBytes();
+    } else {
+      documentSize = 0;
+    }
+    return documentSize + REQUEST_OVERHEAD;
   }
 
   private void flushBatch(final BulkRequest bulkRequest) {
@@ -173,7 +183,7 @@ public class OpenSearchSink extends AbstractSink<Record<Object>> {
     });
   }
 
-  private Map<String, Object> getMapFromJson(final String documentJson) throws IOException {
+  private Map<String, Object> getMapFromJson(final byte[] documentJson) throws IOException {
     final XContentParser parser = XContentFactory.xContent(XContentType.JSON)
             .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, documentJson);
     return parser.map();
@@ -6,8 +6,8 @@
 package com.amazon.dataprepper.plugins.sink.opensearch.index;
 
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.json.ObjectMappers;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -180,7 +180,7 @@ public class IndexConfiguration {
                 templateURL = new File(templateFile).toURI().toURL();
             }
             if (templateURL != null) {
-                return new ObjectMapper().readValue(templateURL, new TypeReference<Map<String, Object>>() {
+                return ObjectMappers.getJsonMapper().readValue(templateURL, new TypeReference<Map<String, Object>>() {
                 });
             } else {
                 return new HashMap<>();
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.plugins.sink.opensearch.index;
 
+import com.amazon.dataprepper.model.json.ObjectMappers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -164,7 +165,7 @@ class IsmPolicyManagement implements IsmPolicyManagementStrategy {
     }
 
     private String dropIsmTemplateFromPolicy(final String policyJsonString) throws JsonProcessingException {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = ObjectMappers.getJsonMapper();
         final JsonNode jsonNode = mapper.readTree(policyJsonString);
         ((ObjectNode)jsonNode.get(POLICY_FILE_ROOT_KEY)).remove(POLICY_FILE_ISM_TEMPLATE_KEY);
         return jsonNode.toString();
@@ -7,6 +7,7 @@ package com.amazon.dataprepper.plugins.prepper.oteltrace;
 
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.event.StringInterner;
 import com.amazon.dataprepper.model.prepper.AbstractPrepper;
 import com.amazon.dataprepper.model.prepper.Prepper;
 import com.amazon.dataprepper.model.record.Record;
@@ -24,6 +25,7 @@ import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.trace.v1.InstrumentationLibrarySpans;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import io.opentelemetry.proto.trace.v1.Span;
+import org.apache.commons.codec.binary.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +49,8 @@ public class OTelTraceRawPrepper extends AbstractPrepper<Record<ExportTraceServi
     public static final String SPAN_PROCESSING_ERRORS = "spanProcessingErrors";
     public static final String RESOURCE_SPANS_PROCESSING_ERRORS = "resourceSpansProcessingErrors";
     public static final String TOTAL_PROCESSING_ERRORS = "totalProcessingErrors";
+    public static final String INTERNED_STRINGS = "internedStrings";
+    public static final String INTERNED_STRINGS_HIT_RATE = "internedStringsHitRate";
 
     private final long traceFlushInterval;
 
@@ -58,6 +62,8 @@ public class OTelTraceRawPrepper extends AbstractPrepper<Record<ExportTraceServi
 
     private final Cache<String, TraceGroup> traceIdTraceGroupCache;
 
+    private final StringInterner stringInterner;
+
     private long lastTraceFlushTime = 0L;
 
     private final ReentrantLock traceFlushLock = new ReentrantLock();
@@ -69,7 +75,7 @@ public class OTelTraceRawPrepper extends AbstractPrepper<Record<ExportTraceServi
         super(pluginSetting);
         traceFlushInterval = SEC_TO_MILLIS * pluginSetting.getLongOrDefault(
                 OtelTraceRawPrepperConfig.TRACE_FLUSH_INTERVAL, OtelTraceRawPrepperConfig.DEFAULT_TG_FLUSH_INTERVAL_SEC);
-        final int numProcessWorkers = pluginSetting.getNumberOfProcessWorkers();
+        final int numProcessWorkers = pluginSetting.getMaxNumberOfProcessWorkers();
         traceIdTraceGroupCache = CacheBuilder.newBuilder()
                 .concurrencyLevel(numProcessWorkers)
                 .maximumSize(OtelTraceRawPrepperConfig.MAX_TRACE_ID_CACHE_SIZE)
@@ -78,6 +84,20 @@ public class OTelTraceRawPrepper extends AbstractPrepper<Record<ExportTraceServi
         spanErrorsCounter = pluginMetrics.counter(SPAN_PROCESSING_ERRORS);
         resourceSpanErrorsCounter = pluginMetrics.counter(RESOURCE_SPANS_PROCESSING_ERRORS);
         totalProcessingErrorsCounter = pluginMetrics.counter(TOTAL_PROCESSING_ERRORS);
+        stringInterner = createStringInterner(pluginSetting);
+    }
+
+    private StringInterner createStringInterner(final PluginSetting pluginSetting) {
+        final int maximumSize = pluginSetting.getIntegerOrDefault(
+                OtelTraceRawPrepperConfig.STRING_INTERNING_MAX_SIZE, OtelTraceRawPrepperConfig.DEFAULT_STRING_INTERNING_MAX_SIZE);
+        if (maximumSize <= 0) {
+            return null;
+        }
+        final StringInterner interner = new StringInterner(maximumSize,
+                pluginSetting.getTypedList(OtelTraceRawPrepperConfig.INTERNED_ATTRIBUTE_KEYS, String.class));
+        pluginMetrics.gauge(INTERNED_STRINGS, interner, StringInterner::size);
+        pluginMetrics.gauge(INTERNED_STRINGS_HIT_RATE, interner, StringInterner::getHitRate);
+        return interner;
     }
 
     /**
@@ -99,6 +119,7 @@ public class OTelTraceRawPrepper extends AbstractPrepper<Record<ExportTraceServi
                     for (InstrumentationLibrarySpans is : rs.getInstrumentationLibrarySpansList()) {
                         for (Span sp : is.getSpansList()) {
                             final RawSpan rawSpan = new RawSpanBuilder()
+                                    .setStringInterner(isHeldUntilRootSpan(sp) ? stringInterner : null)
                                     .setFromSpan(sp, is.getInstrumentationLibrary(), serviceName, resourceAttributes)
                                     .build();
 
@@ -118,6 +139,18 @@ public class OTelTraceRawPrepper extends AbstractPrepper<Record<ExportTraceServi
         return convertRawSpansToJsonRecords(rawSpans);
     }
 
+    /**
+     * Spans are only interned when they are likely to be held in memory until their root span arrives, since the other
+     * spans are serialized and dropped within the same call.
+     *
+     * @param span Span to be evaluated
+     * @return true if the span is a child span whose trace group is not known yet
+     */
+    private boolean isHeldUntilRootSpan(final Span span) {
+        return stringInterner != null && !span.getParentSpanId().isEmpty() &&
+                traceIdTraceGroupCache.getIfPresent(Hex.encodeHexString(span.getTraceId().toByteArray())) == null;
+    }
+
     /**
      * Branching logic to handle root and child spans.
      * A root span is the first span of a trace, it has no parentSpanId.
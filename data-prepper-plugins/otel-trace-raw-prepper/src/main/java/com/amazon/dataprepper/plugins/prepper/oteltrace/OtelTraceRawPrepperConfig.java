@@ -10,4 +10,7 @@ public class OtelTraceRawPrepperConfig {
     static final long DEFAULT_TG_FLUSH_INTERVAL_SEC = 180L;
     static final long DEFAULT_TRACE_ID_TTL_SEC = 15L;
     static final long MAX_TRACE_ID_CACHE_SIZE = 1000_000L;
+    static final String STRING_INTERNING_MAX_SIZE = "string_interning_max_size";
+    static final int DEFAULT_STRING_INTERNING_MAX_SIZE = 0;
+    static final String INTERNED_ATTRIBUTE_KEYS = "interned_attribute_keys";
 }
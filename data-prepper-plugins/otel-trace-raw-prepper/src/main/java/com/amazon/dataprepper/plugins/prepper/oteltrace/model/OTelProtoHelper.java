@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.plugins.prepper.oteltrace.model;
 
+import com.amazon.dataprepper.model.json.ObjectMappers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentelemetry.proto.common.v1.AnyValue;
@@ -22,7 +23,7 @@ import java.util.stream.Collectors;
 
 public final class OTelProtoHelper {
 
-    private static final ObjectMapper OBJECT_MAPPER =  new ObjectMapper();
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMappers.getJsonMapper();
     private static final String SERVICE_NAME = "service.name";
     private static final String SPAN_ATTRIBUTES = "span.attributes";
     static final String RESOURCE_ATTRIBUTES = "resource.attributes";
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.plugins.prepper.oteltrace.model;
 
+import com.amazon.dataprepper.model.json.ObjectMappers;
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -15,7 +16,7 @@ import java.util.Map;
 
 
 public final class RawSpan {
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMappers.getJsonMapper();
     /**
      * HexString representation of the trace_id in the @see <a href="https://github.com/open-telemetry/opentelemetry-proto/blob/master/opentelemetry/proto/trace/v1/trace.proto#L75">OpenTelemetry spec</a>
      */
@@ -5,6 +5,7 @@
 
 package com.amazon.dataprepper.plugins.prepper.oteltrace.model;
 
+import com.amazon.dataprepper.model.event.StringInterner;
 import io.opentelemetry.proto.common.v1.InstrumentationLibrary;
 import io.opentelemetry.proto.trace.v1.Span;
 import org.apache.commons.codec.binary.Hex;
@@ -35,11 +36,25 @@ public final class RawSpanBuilder {
     int droppedEventsCount;
     int droppedLinksCount;
     TraceGroup traceGroup;
-
+    private StringInterner stringInterner;
 
     public RawSpanBuilder() {
     }
 
+    /**
+     * Sets the interner for the low-cardinality fields and the attributes of the spans built from
+     * {@link #setFromSpan}. Attribute keys are always interned and attribute values only for the value keys of the
+     * interner.
+     */
+    public RawSpanBuilder setStringInterner(final StringInterner stringInterner) {
+        this.stringInterner = stringInterner;
+        return this;
+    }
+
+    private String intern(final String string) {
+        return stringInterner == null ? string : stringInterner.intern(string);
+    }
+
     private RawSpanBuilder setTraceId(final String traceId) {
         this.traceId = traceId;
         return this;
@@ -120,6 +135,14 @@ public final class RawSpanBuilder {
         this.attributes.putAll(resourceAttributes);
         this.attributes.putAll(instrumentationAttributes);
         this.attributes.putAll(statusAttributes);
+        if (stringInterner != null) {
+            final Map<String, Object> internedAttributes = new HashMap<>(attributes.size());
+            for (final Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                final String key = stringInterner.intern(attribute.getKey());
+                internedAttributes.put(key, stringInterner.internValue(key, attribute.getValue()));
+            }
+            this.attributes = internedAttributes;
+        }
         return this;
     }
 
@@ -142,14 +165,14 @@ public final class RawSpanBuilder {
         return this
                 .setTraceId(Hex.encodeHexString(span.getTraceId().toByteArray()))
                 .setSpanId(Hex.encodeHexString(span.getSpanId().toByteArray()))
-                .setTraceState(span.getTraceState())
+                .setTraceState(intern(span.getTraceState()))
                 .setParentSpanId(Hex.encodeHexString(span.getParentSpanId().toByteArray()))
-                .setName(span.getName())
-                .setKind(span.getKind().name())
+                .setName(intern(span.getName()))
+                .setKind(intern(span.getKind().name()))
                 .setStartTime(OTelProtoHelper.getStartTimeISO8601(span))
                 .setEndTime(OTelProtoHelper.getEndTimeISO8601(span))
                 .setDurationInNanos(span.getEndTimeUnixNano() - span.getStartTimeUnixNano())
-                .setServiceName(serviceName)
+                .setServiceName(intern(serviceName))
                 .setSpanAttributes(OTelProtoHelper.getSpanAttributes(span),
                         resourceAttributes,
                         OTelProtoHelper.getInstrumentationLibraryAttributes(instrumentationLibrary),
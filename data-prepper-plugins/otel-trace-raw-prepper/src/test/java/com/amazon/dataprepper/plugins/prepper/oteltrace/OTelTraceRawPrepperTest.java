@@ -141,6 +141,34 @@ public class OTelTraceRawPrepperTest {
         Assertions.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords)).isEqualTo(0);
     }
 
+    @Test
+    public void testExportRequestWithStringInterningOfHeldSpans() throws IOException {
+        final PluginSetting interningPluginSetting = new PluginSetting(
+                "OTelTraceInterning",
+                new HashMap<String, Object>() {{
+                    put(OtelTraceRawPrepperConfig.TRACE_FLUSH_INTERVAL, TEST_TRACE_FLUSH_INTERVAL);
+                    put(OtelTraceRawPrepperConfig.STRING_INTERNING_MAX_SIZE, 100);
+                    put(OtelTraceRawPrepperConfig.INTERNED_ATTRIBUTE_KEYS, Collections.singletonList("resource.attributes.service@name"));
+                }});
+        interningPluginSetting.setPipelineName("pipelineOTelTrace");
+        final OTelTraceRawPrepper interningPrepper = new OTelTraceRawPrepper(interningPluginSetting);
+        final ExportTraceServiceRequest exportTraceServiceRequest = buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_TWO_TRACE_GROUP_MISSING_ROOTS_JSON_FILE);
+
+        final List<Record<String>> processedRecords = (List<Record<String>>) interningPrepper.doExecute(
+                Collections.singletonList(new Record<>(exportTraceServiceRequest)));
+        interningPrepper.shutdown();
+
+        Assertions.assertThat(processedRecords).isEmpty();
+        final List<Measurement> internedStringsMeasurement = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add("pipelineOTelTrace").add("OTelTraceInterning")
+                        .add(OTelTraceRawPrepper.INTERNED_STRINGS).toString());
+        final List<Measurement> hitRateMeasurement = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add("pipelineOTelTrace").add("OTelTraceInterning")
+                        .add(OTelTraceRawPrepper.INTERNED_STRINGS_HIT_RATE).toString());
+        Assertions.assertThat(internedStringsMeasurement.get(0).getValue()).isGreaterThan(0);
+        Assertions.assertThat(hitRateMeasurement.get(0).getValue()).isGreaterThan(0);
+    }
+
     @Test
     public void testExportRequestFlushByParentSpanMultiThread() throws IOException, InterruptedException, ExecutionException {
         final ExportTraceServiceRequest exportTraceServiceRequest1 = buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_TWO_TRACE_GROUP_INTERLEAVED_JSON_FILE_1);
@@ -5,7 +5,9 @@
 
 package com.amazon.dataprepper.plugins.prepper.oteltrace.model;
 
+import com.amazon.dataprepper.model.event.StringInterner;
 import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.common.v1.AnyValue;
 import io.opentelemetry.proto.common.v1.InstrumentationLibrary;
 import io.opentelemetry.proto.common.v1.KeyValue;
 import io.opentelemetry.proto.trace.v1.Span;
@@ -88,4 +90,42 @@ public class RawBuilderTest {
         final RawSpan rawSpan = new RawSpanBuilder().setFromSpan(Span.newBuilder().build(), InstrumentationLibrary.newBuilder().build(), null, Collections.EMPTY_MAP).build();
         assertThat(rawSpan.getSpanId()).isEmpty();
     }
+
+    @Test
+    public void testRawSpanWithStringInterner() {
+        final StringInterner stringInterner = new StringInterner(100,
+                Collections.singletonList(OTelProtoHelper.SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply("http.method")));
+        final RawSpan first = buildRawSpanWithStringInterner(stringInterner);
+        final RawSpan second = buildRawSpanWithStringInterner(stringInterner);
+
+        final String methodKey = OTelProtoHelper.SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply("http.method");
+        final String pathKey = OTelProtoHelper.SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply("http.path");
+        assertThat(second.getName()).isSameAs(first.getName());
+        assertThat(second.getKind()).isSameAs(first.getKind());
+        assertThat(second.getServiceName()).isSameAs(first.getServiceName());
+        assertThat(second.getAttributes().get(methodKey)).isEqualTo("GET").isSameAs(first.getAttributes().get(methodKey));
+        assertThat(second.getAttributes().get(pathKey)).isEqualTo("/path").isNotSameAs(first.getAttributes().get(pathKey));
+        assertThat(second.getAttributes().keySet().stream().filter(methodKey::equals).findFirst().get())
+                .isSameAs(first.getAttributes().keySet().stream().filter(methodKey::equals).findFirst().get());
+        assertThat(stringInterner.getHitRate()).isGreaterThan(0);
+    }
+
+    private static RawSpan buildRawSpanWithStringInterner(final StringInterner stringInterner) {
+        final Span span = Span.newBuilder()
+                .setTraceId(ByteString.copyFrom(TestUtils.getRandomBytes(16)))
+                .setSpanId(ByteString.copyFrom(TestUtils.getRandomBytes(8)))
+                .setName(new String("test-span"))
+                .setKind(Span.SpanKind.SPAN_KIND_SERVER)
+                .addAttributes(KeyValue.newBuilder()
+                        .setKey(new String("http.method"))
+                        .setValue(AnyValue.newBuilder().setStringValue(new String("GET")).build()))
+                .addAttributes(KeyValue.newBuilder()
+                        .setKey(new String("http.path"))
+                        .setValue(AnyValue.newBuilder().setStringValue(new String("/path")).build()))
+                .build();
+        return new RawSpanBuilder()
+                .setStringInterner(stringInterner)
+                .setFromSpan(span, InstrumentationLibrary.newBuilder().build(), new String("some-service"), Collections.emptyMap())
+                .build();
+    }
 }
@@ -18,8 +18,14 @@ import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.concurrent.TimeoutException;
 
+/**
+ * Writes each export request to the buffer with {@link Buffer#writeAllAsync(java.util.Collection, int)} and completes
+ * the response once the buffer has accepted it, so that requests waiting for a full buffer do not hold threads of the
+ * blocking task executor.
+ */
 public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase {
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceGrpcService.class);
 
@@ -54,16 +60,22 @@ public class OTelTraceGrpcService extends TraceServiceGrpc.TraceServiceImplBase
             return;
         }
 
-        try {
-            buffer.write(new Record<>(request), bufferWriteTimeoutInMillis);
-            responseObserver.onNext(ExportTraceServiceResponse.newBuilder().build());
-            responseObserver.onCompleted();
-        } catch (TimeoutException e) {
-            LOG.error("Buffer is full, unable to write");
-            requestTimeoutCounter.increment();
-            responseObserver
-                    .onError(Status.RESOURCE_EXHAUSTED.withDescription("Buffer is full, request timed out.")
-                            .asException());
-        }
+        buffer.writeAllAsync(Collections.singletonList(new Record<>(request)), bufferWriteTimeoutInMillis)
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable == null) {
+                        responseObserver.onNext(ExportTraceServiceResponse.newBuilder().build());
+                        responseObserver.onCompleted();
+                    } else if (throwable instanceof TimeoutException) {
+                        LOG.error("Buffer is full, unable to write");
+                        requestTimeoutCounter.increment();
+                        responseObserver
+                                .onError(Status.RESOURCE_EXHAUSTED.withDescription("Buffer is full, request timed out.")
+                                        .asException());
+                    } else {
+                        LOG.error("Failed to write the request to the buffer", throwable);
+                        responseObserver.onError(Status.INTERNAL.withDescription(throwable.getMessage())
+                                .withCause(throwable).asException());
+                    }
+                });
     }
 }
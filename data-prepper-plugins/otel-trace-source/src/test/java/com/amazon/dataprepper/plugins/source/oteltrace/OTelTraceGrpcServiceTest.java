@@ -9,6 +9,7 @@ import com.amazon.dataprepper.metrics.PluginMetrics;
 import com.amazon.dataprepper.model.buffer.Buffer;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
 import com.amazon.dataprepper.model.record.Record;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import io.micrometer.core.instrument.Counter;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -24,13 +25,15 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -57,7 +60,9 @@ public class OTelTraceGrpcServiceTest {
     Buffer buffer;
 
     @Captor
-    ArgumentCaptor<Record> recordCaptor;
+    ArgumentCaptor<Collection> recordsCaptor;
+    @Captor
+    ArgumentCaptor<Throwable> statusExceptionCaptor;
 
     private OTelTraceGrpcService sut;
 
@@ -76,28 +81,61 @@ public class OTelTraceGrpcServiceTest {
 
     @Test
     public void export_Success_responseObserverOnCompleted() throws Exception {
+        when(buffer.writeAllAsync(anyCollection(), anyInt())).thenReturn(CompletableFuture.completedFuture(null));
+
         sut.export(SUCCESS_REQUEST, responseObserver);
 
-        verify(buffer, times(1)).write(recordCaptor.capture(), anyInt());
+        verify(buffer, times(1)).writeAllAsync(recordsCaptor.capture(), anyInt());
         verify(responseObserver, times(1)).onNext(ExportTraceServiceResponse.newBuilder().build());
         verify(responseObserver, times(1)).onCompleted();
         verify(requestsReceivedCounter, times(1)).increment();
         verifyNoInteractions(timeoutCounter);
 
-        Record capturedRecord = recordCaptor.getValue();
+        Record capturedRecord = (Record) recordsCaptor.getValue().iterator().next();
         assertEquals(SUCCESS_REQUEST, capturedRecord.getData());
     }
 
+    @Test
+    public void export_BufferFull_responseObserverOnCompletedAfterWrite() throws Exception {
+        final CompletableFuture<Void> writeFuture = new CompletableFuture<>();
+        when(buffer.writeAllAsync(anyCollection(), anyInt())).thenReturn(writeFuture);
+
+        sut.export(SUCCESS_REQUEST, responseObserver);
+
+        verifyNoInteractions(responseObserver);
+        writeFuture.complete(null);
+        verify(responseObserver, times(1)).onNext(ExportTraceServiceResponse.newBuilder().build());
+        verify(responseObserver, times(1)).onCompleted();
+    }
+
     @Test
     public void export_BufferTimeout_responseObserverOnError() throws Exception {
-        doThrow(new TimeoutException()).when(buffer).write(any(Record.class), anyInt());
+        final CompletableFuture<Void> writeFuture = new CompletableFuture<>();
+        writeFuture.completeExceptionally(new TimeoutException());
+        when(buffer.writeAllAsync(anyCollection(), anyInt())).thenReturn(writeFuture);
 
         sut.export(SUCCESS_REQUEST, responseObserver);
 
-        verify(buffer, times(1)).write(any(Record.class), anyInt());
+        verify(buffer, times(1)).writeAllAsync(anyCollection(), anyInt());
         verify(responseObserver, times(0)).onNext(any());
         verify(responseObserver, times(0)).onCompleted();
+        verify(responseObserver, times(1)).onError(statusExceptionCaptor.capture());
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(statusExceptionCaptor.getValue()).getCode());
         verify(timeoutCounter, times(1)).increment();
         verify(requestsReceivedCounter, times(1)).increment();
     }
+
+    @Test
+    public void export_BufferWriteFailure_responseObserverOnInternalError() throws Exception {
+        final CompletableFuture<Void> writeFuture = new CompletableFuture<>();
+        writeFuture.completeExceptionally(new IllegalStateException());
+        when(buffer.writeAllAsync(anyCollection(), anyInt())).thenReturn(writeFuture);
+
+        sut.export(SUCCESS_REQUEST, responseObserver);
+
+        verify(responseObserver, times(0)).onCompleted();
+        verify(responseObserver, times(1)).onError(statusExceptionCaptor.capture());
+        assertEquals(Status.Code.INTERNAL, Status.fromThrowable(statusExceptionCaptor.getValue()).getCode());
+        verifyNoInteractions(timeoutCounter);
+    }
 }
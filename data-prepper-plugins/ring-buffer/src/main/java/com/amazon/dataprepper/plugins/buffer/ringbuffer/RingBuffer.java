@@ -0,0 +1,260 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.amazon.dataprepper.plugins.buffer.ringbuffer;
+
+import com.amazon.dataprepper.model.CheckpointState;
+import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
+import com.amazon.dataprepper.model.buffer.AbstractBuffer;
+import com.amazon.dataprepper.model.buffer.Buffer;
+import com.amazon.dataprepper.model.buffer.SizeOverflowException;
+import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded RingBuffer is a lock-free implementation of {@link Buffer} on top of a preallocated multi-producer,
+ * multi-consumer ring of slots. Producers and consumers claim ranges of slots by advancing the write and read sequences
+ * with compare-and-set, and each slot carries its own sequence which tells whether it holds a published record or is
+ * free for the next write. No node is allocated per record.
+ * <p>
+ * Like the bounded_blocking buffer, capacity is released on {@link #checkpoint(CheckpointState)} and not on
+ * {@link #read(int)}: a producer may only claim a slot while the number of written records not yet checkpointed is
+ * below {@link #ATTRIBUTE_BUFFER_CAPACITY}. Writers and readers waiting on a full or empty ring back off with
+ * {@link LockSupport#parkNanos(long)} instead of blocking on a lock.
+ */
+@DataPrepperPlugin(name = "ring_buffer", pluginType = Buffer.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 512;
+    private static final int DEFAULT_BATCH_SIZE = 8;
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final String pipelineName;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    /**
+     * The sequence of each slot. A slot at index i is free for the write of sequence s when its value is s, and holds
+     * the published record of sequence s when its value is s + 1.
+     */
+    private final AtomicLongArray slotSequences;
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final AtomicLong readSequence = new AtomicLong();
+    private final AtomicLong checkpointedSequence = new AtomicLong();
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        super("RingBuffer", pipelineName);
+        checkArgument(bufferCapacity > 0, "buffer_size must be greater than 0");
+        checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.pipelineName = pipelineName;
+
+        final int ringSize = ringSizeFor(bufferCapacity);
+        this.mask = ringSize - 1;
+        this.slots = new AtomicReferenceArray<>(ringSize);
+        this.slotSequences = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            slotSequences.set(i, i);
+        }
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to
+     * construct an instance of {@link RingBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer_size` and `batch_size` are
+     * optional and can be passed via {@link PluginSetting}, if not present default values will be used to create the
+     * buffer.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public RingBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                pluginSetting.getPipelineName());
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        final long sequence = claimWriteSequences(1, timeoutInMillis);
+        publish(sequence, record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
+        }
+        if (size == 0) {
+            return;
+        }
+        records.forEach(record -> checkNotNull(record, "record cannot be null"));
+
+        long sequence = claimWriteSequences(size, timeoutInMillis);
+        for (final T record : records) {
+            publish(sequence++, record);
+        }
+    }
+
+    /**
+     * Claims size consecutive write sequences, waiting up to timeoutInMillis for enough capacity to be checkpointed.
+     *
+     * @return the first claimed sequence
+     */
+    private long claimWriteSequences(final int size, final int timeoutInMillis) throws TimeoutException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        long backoffNanos = MIN_BACKOFF_NANOS;
+        while (true) {
+            final long currentWriteSequence = writeSequence.get();
+            if (currentWriteSequence + size - checkpointedSequence.get() <= bufferCapacity) {
+                if (writeSequence.compareAndSet(currentWriteSequence, currentWriteSequence + size)) {
+                    return currentWriteSequence;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer does not have enough capacity left for the " +
+                        "size of records: %d, timed out waiting for slots.", pipelineName, size));
+            }
+            if (Thread.interrupted()) {
+                LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the records", pipelineName);
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, interrupted while waiting for slots",
+                        pipelineName));
+            }
+            backoffNanos = backoff(backoffNanos);
+        }
+    }
+
+    private void publish(final long sequence, final T record) {
+        final int index = (int) sequence & mask;
+        // The capacity check guarantees the previous record in this slot has been read. Its reader may still be
+        // releasing the slot, which only takes a few instructions.
+        while (slotSequences.get(index) != sequence) {
+            Thread.yield();
+        }
+        slots.lazySet(index, record);
+        slotSequences.set(index, sequence + 1);
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined/determined by
+     * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        long backoffNanos = MIN_BACKOFF_NANOS;
+        while (records.size() < batchSize) {
+            if (readAvailable(records) > 0) {
+                backoffNanos = MIN_BACKOFF_NANOS;
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                break;
+            }
+            if (Thread.interrupted()) {
+                LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+                throw new RuntimeException(new InterruptedException());
+            }
+            backoffNanos = backoff(backoffNanos);
+        }
+        final CheckpointState checkpointState = new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    /**
+     * Claims the published records at the head of the ring, up to the space left in the batch, and adds them to
+     * records.
+     *
+     * @return the number of records added
+     */
+    private int readAvailable(final List<T> records) {
+        final int maxRecords = batchSize - records.size();
+        while (true) {
+            final long currentReadSequence = readSequence.get();
+            int available = 0;
+            while (available < maxRecords && isPublished(currentReadSequence + available)) {
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (readSequence.compareAndSet(currentReadSequence, currentReadSequence + available)) {
+                for (long sequence = currentReadSequence; sequence < currentReadSequence + available; sequence++) {
+                    final int index = (int) sequence & mask;
+                    records.add(slots.get(index));
+                    slots.lazySet(index, null);
+                    slotSequences.set(index, sequence + mask + 1);
+                }
+                return available;
+            }
+        }
+    }
+
+    private boolean isPublished(final long sequence) {
+        return slotSequences.get((int) sequence & mask) == sequence + 1;
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        checkpointedSequence.addAndGet(checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readSequence.get() == writeSequence.get() && getRecordsInFlight() == 0;
+    }
+
+    private static long backoff(final long backoffNanos) {
+        LockSupport.parkNanos(backoffNanos);
+        return Math.min(backoffNanos * 2, MAX_BACKOFF_NANOS);
+    }
+
+    private static int ringSizeFor(final int bufferCapacity) {
+        checkArgument(bufferCapacity <= 1 << 30, "buffer_size cannot be larger than " + (1 << 30));
+        return bufferCapacity == 1 ? 1 : Integer.highestOneBit(bufferCapacity - 1) << 1;
+    }
+}
@@ -8,6 +8,7 @@ package com.amazon.dataprepper.plugins.prepper;
 import com.amazon.dataprepper.model.annotations.DataPrepperPlugin;
 import com.amazon.dataprepper.model.annotations.SingleThread;
 import com.amazon.dataprepper.model.configuration.PluginSetting;
+import com.amazon.dataprepper.model.json.ObjectMappers;
 import com.amazon.dataprepper.model.prepper.AbstractPrepper;
 import com.amazon.dataprepper.model.prepper.Prepper;
 import com.amazon.dataprepper.model.record.Record;
@@ -41,7 +42,7 @@ public class ServiceMapStatefulPrepper extends AbstractPrepper<Record<ExportTrac
 
     private static final Logger LOG = LoggerFactory.getLogger(ServiceMapStatefulPrepper.class);
     private static final String EMPTY_SUFFIX = "-empty";
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMappers.getJsonMapper();
     private static final Collection<Record<String>> EMPTY_COLLECTION = Collections.emptySet();
     private static final Integer TO_MILLIS = 1_000;
 
@@ -66,10 +67,24 @@ public class ServiceMapStatefulPrepper extends AbstractPrepper<Record<ExportTrac
         this(pluginSetting.getIntegerOrDefault(ServiceMapPrepperConfig.WINDOW_DURATION, ServiceMapPrepperConfig.DEFAULT_WINDOW_DURATION) * TO_MILLIS,
                 new File(ServiceMapPrepperConfig.DEFAULT_DB_PATH),
                 Clock.systemUTC(),
-                pluginSetting.getNumberOfProcessWorkers(),
+                getFixedProcessWorkers(pluginSetting),
                 pluginSetting);
     }
 
+    /**
+     * Every instance waits for all the others at the end of each window, so the pipeline must run exactly one worker
+     * per instance for as long as it runs. Workers which max_workers adds and retires would leave the barrier waiting
+     * on instances that no worker drives.
+     */
+    private static int getFixedProcessWorkers(final PluginSetting pluginSetting) {
+        if (pluginSetting.getMaxNumberOfProcessWorkers() != pluginSetting.getNumberOfProcessWorkers()) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid configuration for pipeline [%s], max_workers cannot be greater than workers with the %s prepper",
+                    pluginSetting.getPipelineName(), pluginSetting.getName()));
+        }
+        return pluginSetting.getNumberOfProcessWorkers();
+    }
+
     public ServiceMapStatefulPrepper(final long windowDurationMillis,
                                      final File databasePath,
                                      final Clock clock,
@@ -90,6 +90,16 @@ public class ServiceMapStatefulPrepperTest {
         final ServiceMapStatefulPrepper serviceMapStatefulPrepper = new ServiceMapStatefulPrepper(pluginSetting);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testPluginSettingConstructorRejectsMaxWorkersAboveWorkers() {
+        final PluginSetting pluginSetting = new PluginSetting("testPluginSetting", Collections.emptyMap());
+        pluginSetting.setProcessWorkers(2);
+        pluginSetting.setMaxProcessWorkers(4);
+        pluginSetting.setPipelineName("TestPipeline");
+
+        new ServiceMapStatefulPrepper(pluginSetting);
+    }
+
     @Test
     public void testTraceGroups() throws Exception {
         final Clock clock = Mockito.mock(Clock.class);